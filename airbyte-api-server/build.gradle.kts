@@ -15,6 +15,7 @@ dependencies {
 
     kaptTest(platform(libs.micronaut.bom))
     kaptTest(libs.bundles.micronaut.test.annotation.processor)
+    kaptTest(libs.jmh.annotations)
 
     annotationProcessor(platform(libs.micronaut.bom))
     annotationProcessor(libs.bundles.micronaut.annotation.processor)
@@ -52,6 +53,7 @@ dependencies {
     testImplementation(libs.platform.testcontainers.postgresql)
     testImplementation(libs.mockwebserver)
     testImplementation(libs.mockito.inline)
+    testImplementation(libs.jmh.core)
 
     implementation(libs.airbyte.protocol)
 }
@@ -47,8 +47,8 @@ import io.airbyte.api.client.model.generated.WorkspaceUpdate
 import io.airbyte.api.server.constants.ANALYTICS_HEADER
 import io.airbyte.api.server.constants.ANALYTICS_HEADER_VALUE
 import io.airbyte.api.server.constants.AUTH_HEADER
+import io.airbyte.api.server.constants.CONFIG_API_CLIENT_ID
 import io.airbyte.api.server.constants.ENDPOINT_API_USER_INFO_HEADER
-import io.airbyte.api.server.constants.INTERNAL_API_HOST
 import io.micronaut.http.HttpHeaders
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.MediaType
@@ -66,8 +66,13 @@ import io.micronaut.http.client.annotation.Client
  * Worth noting that status codes > 400 will throw an HttpClientResponseException EXCEPT 404s which
  * will just return an HttpResponse with statusCode 404
  * https://docs.micronaut.io/latest/guide/index.html#clientError
+ *
+ * Every call is forwarded to the config server over HTTP, the api-server does not call the config
+ * server handlers in-process. The client is configured under micronaut.http.services.config-api,
+ * which keeps a pool of keep-alive connections to the config server so that forwarded calls do not
+ * pay for a new connection each time.
  */
-@Client(INTERNAL_API_HOST)
+@Client(id = CONFIG_API_CLIENT_ID)
 @Header(name = HttpHeaders.USER_AGENT, value = "Micronaut HTTP Client")
 @Header(name = HttpHeaders.ACCEPT, value = MediaType.APPLICATION_JSON)
 @Header(name = ANALYTICS_HEADER, value = ANALYTICS_HEADER_VALUE)
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.api.server.forwardingClient
+
+import io.airbyte.api.client.model.generated.ListConnectionsForWorkspacesRequestBody
+import io.airbyte.api.client.model.generated.ListResourcesForWorkspacesRequestBody
+import io.airbyte.api.client.model.generated.Pagination
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.HttpResponse
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import java.util.UUID
+import java.util.concurrent.TimeUnit
+
+/**
+ * Latency the forwarding client adds to the list endpoints, against a config server that answers
+ * immediately. Compare runs with CONFIG_API_CLIENT_POOL_ENABLED set to true and false to see the
+ * cost of opening a connection per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+open class ConfigApiClientBenchmark {
+  private lateinit var configServer: MockWebServer
+  private lateinit var context: ApplicationContext
+  private lateinit var configApiClient: ConfigApiClient
+
+  private val workspaceIds = listOf(UUID.randomUUID())
+  private val pagination = Pagination().pageSize(20).rowOffset(0)
+  private val listResources = ListResourcesForWorkspacesRequestBody().workspaceIds(workspaceIds).pagination(pagination)
+  private val listConnections = ListConnectionsForWorkspacesRequestBody().workspaceIds(workspaceIds).pagination(pagination)
+
+  @Setup(Level.Trial)
+  fun setup() {
+    configServer =
+      MockWebServer().apply {
+        dispatcher =
+          object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+              val body =
+                when (request.path) {
+                  "/api/v1/connections/list_paginated" -> "{\"connections\":[]}"
+                  "/api/v1/sources/list_paginated" -> "{\"sources\":[]}"
+                  "/api/v1/destinations/list_paginated" -> "{\"destinations\":[]}"
+                  else -> "{\"workspaces\":[]}"
+                }
+              return MockResponse().setHeader("Content-Type", "application/json").setBody(body)
+            }
+          }
+        start()
+      }
+    context = ApplicationContext.run(mapOf("airbyte.internal.api.host" to configServer.url("/").toString().removeSuffix("/")))
+    configApiClient = context.getBean(ConfigApiClient::class.java)
+  }
+
+  @TearDown(Level.Trial)
+  fun tearDown() {
+    context.close()
+    configServer.shutdown()
+  }
+
+  @Benchmark
+  fun listConnections(): HttpResponse<*> {
+    return configApiClient.listConnectionsForWorkspaces(listConnections, null, null)
+  }
+
+  @Benchmark
+  fun listSources(): HttpResponse<*> {
+    return configApiClient.listSourcesForWorkspaces(listResources, null, null)
+  }
+
+  @Benchmark
+  fun listDestinations(): HttpResponse<*> {
+    return configApiClient.listDestinationsForWorkspaces(listResources, null, null)
+  }
+
+  @Benchmark
+  fun listWorkspaces(): HttpResponse<*> {
+    return configApiClient.listWorkspaces(listResources, null, null)
+  }
+}
+
+fun main() {
+  org.openjdk.jmh.Main.main(arrayOf(ConfigApiClientBenchmark::class.java.simpleName))
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.api.server.forwardingClient
+
+import io.airbyte.api.client.model.generated.ListResourcesForWorkspacesRequestBody
+import io.airbyte.api.client.model.generated.Pagination
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest
+import io.micronaut.test.support.TestPropertyProvider
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestInstance
+import java.util.UUID
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConfigApiClientTest : TestPropertyProvider {
+  companion object {
+    private const val CALLS = 5
+  }
+
+  private val configServer = MockWebServer().apply { start() }
+
+  override fun getProperties(): Map<String, String> {
+    return mapOf("airbyte.internal.api.host" to configServer.url("/").toString().removeSuffix("/"))
+  }
+
+  @AfterAll
+  fun tearDown() {
+    configServer.shutdown()
+  }
+
+  @Test
+  fun testForwardedCallsReuseTheConnection(configApiClient: ConfigApiClient) {
+    repeat(CALLS) {
+      configServer.enqueue(MockResponse().setHeader("Content-Type", "application/json").setBody("{\"workspaces\":[]}"))
+    }
+    val requestBody =
+      ListResourcesForWorkspacesRequestBody()
+        .workspaceIds(listOf(UUID.randomUUID()))
+        .pagination(Pagination().pageSize(20).rowOffset(0))
+
+    repeat(CALLS) {
+      assertEquals(200, configApiClient.listWorkspaces(requestBody, null, null).status.code)
+    }
+
+    // the sequence number of a request is its index on the connection it was sent on, sequential
+    // calls sent on a single pooled connection are numbered 0 to CALLS - 1
+    val sequenceNumbers = (0 until CALLS).map { configServer.takeRequest().sequenceNumber }
+    assertEquals((0 until CALLS).toList(), sequenceNumbers)
+  }
+}
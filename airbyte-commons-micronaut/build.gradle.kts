@@ -14,6 +14,8 @@ dependencies {
 
     implementation(project(":airbyte-commons"))
     implementation(project(":airbyte-config:config-models"))
+    // only needed by the applications that read from a read replica, which bring it themselves
+    compileOnly(project(":airbyte-db:db-lib"))
 
     testAnnotationProcessor(platform(libs.micronaut.bom))
     testAnnotationProcessor(libs.bundles.micronaut.test.annotation.processor)
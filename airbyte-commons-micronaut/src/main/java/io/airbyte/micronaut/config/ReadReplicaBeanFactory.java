@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.micronaut.config;
+
+import io.airbyte.db.ReadReplica;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.factory.DatabaseDriver;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+
+/**
+ * Bean Factory for the read replica of the config database, shared by the applications that read
+ * from it.
+ * <p>
+ * The replica is only created when {@code airbyte.database.read-replica.url} is set, e.g. with the
+ * AIRBYTE_DATABASE_READ_REPLICA_URL environment variable. Its lag settings default to 5 seconds and
+ * can be set with AIRBYTE_DATABASE_READ_REPLICA_MAX_LAG and
+ * AIRBYTE_DATABASE_READ_REPLICA_LAG_CHECK_INTERVAL.
+ */
+@Factory
+@Requires(classes = ReadReplica.class)
+public class ReadReplicaBeanFactory {
+
+  @Singleton
+  @Bean(preDestroy = "close")
+  @Requires(property = "airbyte.database.read-replica.url",
+            pattern = ".+")
+  public ReadReplica readReplica(@Value("${airbyte.database.read-replica.url}") final String url,
+                                 @Value("${datasources.config.username}") final String username,
+                                 @Value("${datasources.config.password}") final String password,
+                                 @Value("${airbyte.database.read-replica.max-lag:5s}") final Duration maxLag,
+                                 @Value("${airbyte.database.read-replica.lag-check-interval:5s}") final Duration lagCheckInterval) {
+    return new ReadReplica(DataSourceFactory.create(username, password, DatabaseDriver.POSTGRESQL.getDriverClassName(), url), maxLag,
+        lagCheckInterval);
+  }
+
+}
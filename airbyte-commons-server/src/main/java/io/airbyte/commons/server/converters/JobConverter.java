@@ -6,6 +6,7 @@ package io.airbyte.commons.server.converters;
 
 import io.airbyte.api.model.generated.AttemptFailureSummary;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusRead;
 import io.airbyte.api.model.generated.AttemptRead;
 import io.airbyte.api.model.generated.AttemptStats;
@@ -23,6 +24,7 @@ import io.airbyte.api.model.generated.JobOptionalRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobStatus;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogMetadataRead;
 import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.ResetConfig;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
@@ -43,9 +45,12 @@ import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.Job;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -63,10 +68,25 @@ public class JobConverter {
 
   private final WorkerEnvironment workerEnvironment;
   private final LogConfigs logConfigs;
+  private final boolean inlineAttemptLogs;
 
   public JobConverter(final WorkerEnvironment workerEnvironment, final LogConfigs logConfigs) {
+    this(workerEnvironment, logConfigs, true);
+  }
+
+  /**
+   * Create a job converter.
+   *
+   * @param inlineAttemptLogs whether attempt reads embed the tail of the attempt log, otherwise they
+   *        only carry its metadata and the log is read with {@link #getAttemptLogsRead}
+   */
+  @Inject
+  public JobConverter(final WorkerEnvironment workerEnvironment,
+                      final LogConfigs logConfigs,
+                      @Value("${airbyte.server.inline-attempt-logs:true}") final boolean inlineAttemptLogs) {
     this.workerEnvironment = workerEnvironment;
     this.logConfigs = logConfigs;
+    this.inlineAttemptLogs = inlineAttemptLogs;
   }
 
   public JobInfoRead getJobInfoRead(final Job job) {
@@ -152,6 +172,11 @@ public class JobConverter {
   }
 
   public AttemptInfoRead getAttemptInfoRead(final Attempt attempt) {
+    if (!inlineAttemptLogs) {
+      return new AttemptInfoRead()
+          .attempt(getAttemptRead(attempt))
+          .logMetadata(getLogMetadataRead(attempt.getLogPath()));
+    }
     return new AttemptInfoRead()
         .attempt(getAttemptRead(attempt))
         .logs(getLogRead(attempt.getLogPath()));
@@ -244,6 +269,27 @@ public class JobConverter {
     }
   }
 
+  public LogMetadataRead getLogMetadataRead(final Path logPath) {
+    try {
+      return new LogMetadataRead().sizeBytes(LogClientSingleton.getInstance().getJobLogSize(workerEnvironment, logConfigs, logPath));
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public AttemptLogsRead getAttemptLogsRead(final Path logPath, final String cursor, final int limit, final boolean backward) {
+    try {
+      final LogPage page = LogClientSingleton.getInstance().getJobLogPage(workerEnvironment, logConfigs, logPath, cursor, limit, backward);
+      return new AttemptLogsRead()
+          .logLines(page.lines())
+          .previousCursor(page.previousCursor())
+          .nextCursor(page.nextCursor())
+          .sizeBytes(page.sizeBytes());
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static FailureReason getFailureReason(final @Nullable io.airbyte.config.FailureReason failureReason) {
     if (failureReason == null) {
       return null;
@@ -5,9 +5,12 @@
 package io.airbyte.commons.server.handlers;
 
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
+import io.airbyte.api.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.InternalOperationResult;
+import io.airbyte.api.model.generated.LogReadDirection;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SaveStatsRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
@@ -27,6 +30,7 @@ import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.Job;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -44,6 +48,9 @@ import org.slf4j.LoggerFactory;
 public class AttemptHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AttemptHandler.class);
+  private static final int DEFAULT_LOG_PAGE_SIZE = 1000;
+  // the maximum of the api spec, larger pages are clamped rather than read in full
+  private static final int MAX_LOG_PAGE_SIZE = 10000;
 
   private final JobPersistence jobPersistence;
 
@@ -91,6 +98,26 @@ public class AttemptHandler {
     return read.get();
   }
 
+  public AttemptLogsRead getAttemptLogs(final AttemptLogsRequestBody requestBody) throws IOException {
+    final int limit = requestBody.getLimit() == null ? DEFAULT_LOG_PAGE_SIZE : requestBody.getLimit();
+    if (limit < 1) {
+      throw new BadRequestException(String.format("Invalid log page limit %d, it must be at least 1", limit));
+    }
+    final long jobId = requestBody.getJobId();
+    final int attemptNo = requestBody.getAttemptNumber();
+    final Attempt attempt = jobPersistence.getAttemptForJob(jobId, attemptNo)
+        .orElseThrow(() -> new IdNotFoundKnownException(
+            String.format("Could not find attempt for job_id: %d and attempt no: %d", jobId, attemptNo),
+            String.format("%d_%d", jobId, attemptNo)));
+
+    try {
+      return jobConverter.getAttemptLogsRead(attempt.getLogPath(), requestBody.getCursor(), Math.min(limit, MAX_LOG_PAGE_SIZE),
+          requestBody.getDirection() == LogReadDirection.BACKWARD);
+    } catch (final IllegalArgumentException e) {
+      throw new BadRequestException(e.getMessage(), e);
+    }
+  }
+
   public AttemptStats getAttemptCombinedStats(final long jobId, final int attemptNo) throws IOException {
     final SyncStats stats = jobPersistence.getAttemptCombinedStats(jobId, attemptNo);
 
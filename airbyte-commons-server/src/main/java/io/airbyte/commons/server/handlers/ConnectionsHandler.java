@@ -633,6 +633,31 @@ public class ConnectionsHandler {
     return updatedRead;
   }
 
+  /**
+   * Apply patches to several connections and persist them in a single transaction. Every patch is
+   * validated before any connection is written, so an invalid patch leaves all connections
+   * unchanged.
+   *
+   * @param connectionPatches patches, at most one per connection
+   */
+  public void updateConnections(final List<ConnectionUpdate> connectionPatches)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final List<StandardSync> syncs = new ArrayList<>(connectionPatches.size());
+    for (final ConnectionUpdate connectionPatch : connectionPatches) {
+      final StandardSync sync = configRepository.getStandardSync(connectionPatch.getConnectionId());
+      validateConnectionPatch(workspaceHelper, sync, connectionPatch);
+      applyPatchToStandardSync(sync, connectionPatch);
+      syncs.add(sync);
+    }
+
+    LOGGER.debug("persisting {} patched connections", syncs.size());
+    configRepository.writeStandardSyncs(syncs);
+
+    for (final StandardSync sync : syncs) {
+      eventRunner.update(sync.getConnectionId());
+    }
+  }
+
   private void validateConnectionPatch(final WorkspaceHelper workspaceHelper, final StandardSync persistedSync, final ConnectionUpdate patch) {
     // sanity check that we're updating the right connection
     Preconditions.checkArgument(persistedSync.getConnectionId().equals(patch.getConnectionId()));
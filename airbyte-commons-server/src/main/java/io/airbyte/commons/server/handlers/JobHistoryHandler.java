@@ -59,6 +59,7 @@ import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
 import io.airbyte.validation.json.JsonValidationException;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -92,9 +93,9 @@ public class JobHistoryHandler {
   private final TemporalClient temporalClient;
   private final FeatureFlagClient featureFlagClient;
 
+  @Inject
   public JobHistoryHandler(final JobPersistence jobPersistence,
-                           final WorkerEnvironment workerEnvironment,
-                           final LogConfigs logConfigs,
+                           final JobConverter jobConverter,
                            final ConnectionsHandler connectionsHandler,
                            final SourceHandler sourceHandler,
                            final SourceDefinitionsHandler sourceDefinitionsHandler,
@@ -104,7 +105,7 @@ public class JobHistoryHandler {
                            final TemporalClient temporalClient,
                            final FeatureFlagClient featureFlagClient) {
     this.featureFlagClient = featureFlagClient;
-    jobConverter = new JobConverter(workerEnvironment, logConfigs);
+    this.jobConverter = jobConverter;
     workflowStateConverter = new WorkflowStateConverter();
     this.jobPersistence = jobPersistence;
     this.connectionsHandler = connectionsHandler;
@@ -116,6 +117,21 @@ public class JobHistoryHandler {
     this.temporalClient = temporalClient;
   }
 
+  public JobHistoryHandler(final JobPersistence jobPersistence,
+                           final WorkerEnvironment workerEnvironment,
+                           final LogConfigs logConfigs,
+                           final ConnectionsHandler connectionsHandler,
+                           final SourceHandler sourceHandler,
+                           final SourceDefinitionsHandler sourceDefinitionsHandler,
+                           final DestinationHandler destinationHandler,
+                           final DestinationDefinitionsHandler destinationDefinitionsHandler,
+                           final AirbyteVersion airbyteVersion,
+                           final TemporalClient temporalClient,
+                           final FeatureFlagClient featureFlagClient) {
+    this(jobPersistence, new JobConverter(workerEnvironment, logConfigs), connectionsHandler, sourceHandler, sourceDefinitionsHandler,
+        destinationHandler, destinationDefinitionsHandler, airbyteVersion, temporalClient, featureFlagClient);
+  }
+
   @Deprecated(forRemoval = true)
   public JobHistoryHandler(final JobPersistence jobPersistence,
                            final WorkerEnvironment workerEnvironment,
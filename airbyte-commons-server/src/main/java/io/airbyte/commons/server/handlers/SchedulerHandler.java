@@ -9,14 +9,13 @@ import static io.airbyte.config.helpers.ResourceRequirementsUtils.getResourceReq
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import io.airbyte.api.model.generated.CatalogDiff;
 import io.airbyte.api.model.generated.CheckConnectionRead;
 import io.airbyte.api.model.generated.CheckConnectionRead.StatusEnum;
+import io.airbyte.api.model.generated.ConnectionBulkSyncResultRead;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
@@ -24,6 +23,7 @@ import io.airbyte.api.model.generated.ConnectionStatus;
 import io.airbyte.api.model.generated.ConnectionStream;
 import io.airbyte.api.model.generated.ConnectionStreamRequestBody;
 import io.airbyte.api.model.generated.ConnectionUpdate;
+import io.airbyte.api.model.generated.ConnectionsSyncRequestBody;
 import io.airbyte.api.model.generated.DestinationCoreConfig;
 import io.airbyte.api.model.generated.DestinationDefinitionIdWithWorkspaceId;
 import io.airbyte.api.model.generated.DestinationIdRequestBody;
@@ -52,14 +52,19 @@ import io.airbyte.commons.server.errors.ValueConflictKnownException;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper.UpdateSchemaResult;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
+import io.airbyte.commons.server.handlers.helpers.ConfigFingerprint;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache.CachedCatalog;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache.Freshness;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.scheduler.DiscoveredCatalog;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.commons.server.scheduler.SynchronousResponse;
 import io.airbyte.commons.server.scheduler.SynchronousSchedulerClient;
+import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.airbyte.commons.temporal.ErrorCode;
 import io.airbyte.commons.temporal.TemporalClient.ManualOperationResult;
 import io.airbyte.commons.version.Version;
-import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.JobTypeResourceLimit.JobType;
@@ -113,13 +118,24 @@ import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
@@ -134,10 +150,19 @@ import org.slf4j.LoggerFactory;
 public class SchedulerHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerHandler.class);
-  private static final HashFunction HASH_FUNCTION = Hashing.md5();
 
   private static final ImmutableSet<ErrorCode> VALUE_CONFLICT_EXCEPTION_ERROR_CODE_SET =
       ImmutableSet.of(ErrorCode.WORKFLOW_DELETED, ErrorCode.WORKFLOW_RUNNING);
+  private static final String INACTIVE_CONNECTION_SYNC_MESSAGE = "Can only sync an active connection";
+
+  /**
+   * Update to apply to a connection when propagating a schema change. The update and its result are
+   * null when the change is not propagated to the connection.
+   */
+  private record SchemaPropagation(ConnectionRead connection, CatalogDiff diff, ConnectionUpdate update, UpdateSchemaResult result) {}
+
+  private record DiffKey(io.airbyte.api.model.generated.AirbyteCatalog previousCatalog,
+                         io.airbyte.api.model.generated.AirbyteCatalog syncCatalog) {}
 
   private final ConnectionsHandler connectionsHandler;
   private final ConfigRepository configRepository;
@@ -160,6 +185,9 @@ public class SchedulerHandler {
   private final ConnectorDefinitionSpecificationHandler connectorDefinitionSpecificationHandler;
   private final WorkspaceService workspaceService;
   private final SecretPersistenceConfigService secretPersistenceConfigService;
+  private final DiscoveredCatalogCache discoveredCatalogCache;
+  private final ExecutorService schemaPropagationExecutor;
+  private final ExecutorService bulkSyncExecutor;
 
   @VisibleForTesting
   public SchedulerHandler(final ConfigRepository configRepository,
@@ -183,7 +211,10 @@ public class SchedulerHandler {
                           final JobTracker jobTracker,
                           final ConnectorDefinitionSpecificationHandler connectorDefinitionSpecificationHandler,
                           final WorkspaceService workspaceService,
-                          final SecretPersistenceConfigService secretPersistenceConfigService) {
+                          final SecretPersistenceConfigService secretPersistenceConfigService,
+                          final DiscoveredCatalogCache discoveredCatalogCache,
+                          @Named(AirbyteTaskExecutors.SCHEMA_PROPAGATION) final ExecutorService schemaPropagationExecutor,
+                          @Named(AirbyteTaskExecutors.BULK_SYNC) final ExecutorService bulkSyncExecutor) {
     this.configRepository = configRepository;
     this.secretsRepositoryWriter = secretsRepositoryWriter;
     this.synchronousSchedulerClient = synchronousSchedulerClient;
@@ -204,6 +235,9 @@ public class SchedulerHandler {
     this.connectorDefinitionSpecificationHandler = connectorDefinitionSpecificationHandler;
     this.workspaceService = workspaceService;
     this.secretPersistenceConfigService = secretPersistenceConfigService;
+    this.discoveredCatalogCache = discoveredCatalogCache;
+    this.schemaPropagationExecutor = schemaPropagationExecutor;
+    this.bulkSyncExecutor = bulkSyncExecutor;
     this.jobCreationAndStatusUpdateHelper = new JobCreationAndStatusUpdateHelper(
         jobPersistence,
         configRepository,
@@ -354,14 +388,18 @@ public class SchedulerHandler {
     final ResourceRequirements resourceRequirements =
         getResourceRequirementsForJobType(sourceDef.getResourceRequirements(), JobType.DISCOVER_SCHEMA).orElse(null);
 
-    final String configHash = HASH_FUNCTION.hashBytes(Jsons.serialize(source.getConfiguration()).getBytes(
-        Charsets.UTF_8)).toString();
+    final String configHash = ConfigFingerprint.fingerprint(source.getConfiguration());
     final String connectorVersion = sourceVersion.getDockerImageTag();
-    final Optional<ActorCatalog> currentCatalog =
-        configRepository.getActorCatalog(discoverSchemaRequestBody.getSourceId(), connectorVersion, configHash);
     final boolean bustActorCatalogCache = discoverSchemaRequestBody.getDisableCache() != null && discoverSchemaRequestBody.getDisableCache();
-    if (currentCatalog.isEmpty() || bustActorCatalogCache) {
-      final SynchronousResponse<UUID> persistedCatalogId =
+    final Optional<CachedCatalog> cachedCatalog;
+    if (bustActorCatalogCache) {
+      discoveredCatalogCache.recordBypass();
+      cachedCatalog = Optional.empty();
+    } else {
+      cachedCatalog = discoveredCatalogCache.get(sourceId, connectorVersion, configHash);
+    }
+    if (cachedCatalog.isEmpty()) {
+      final SynchronousResponse<DiscoveredCatalog> persistedCatalogId =
           synchronousSchedulerClient.createDiscoverSchemaJob(
               source,
               sourceVersion,
@@ -376,7 +414,14 @@ public class SchedulerHandler {
 
       return discoveredSchema;
     }
-    final AirbyteCatalog airbyteCatalog = Jsons.object(currentCatalog.get().getCatalog(), AirbyteCatalog.class);
+    if (cachedCatalog.get().freshness() == Freshness.STALE) {
+      // serve the stale catalog right away, the next lookup gets the refreshed one
+      discoveredCatalogCache.refreshInBackground(sourceId, () -> {
+        if (!synchronousSchedulerClient.createDiscoverSchemaJob(source, sourceVersion, isCustomConnector, resourceRequirements).isSuccess()) {
+          throw new IllegalStateException("Discover job failed");
+        }
+      });
+    }
     final SynchronousJobRead emptyJob = new SynchronousJobRead()
         .configId("NoConfiguration")
         .configType(JobConfigType.DISCOVER_SCHEMA)
@@ -386,9 +431,9 @@ public class SchedulerHandler {
         .logs(new LogRead().logLines(new ArrayList<>()))
         .succeeded(true);
     return new SourceDiscoverSchemaRead()
-        .catalog(CatalogConverter.toApi(airbyteCatalog, sourceVersion))
+        .catalog(CatalogConverter.toApi(cachedCatalog.get().catalog(), sourceVersion))
         .jobInfo(emptyJob)
-        .catalogId(currentCatalog.get().getId());
+        .catalogId(cachedCatalog.get().catalogId());
   }
 
   public void applySchemaChangeForSource(final SourceAutoPropagateChange sourceAutoPropagateChange)
@@ -411,59 +456,137 @@ public class SchedulerHandler {
       return;
     }
 
+    final long startNanos = System.nanoTime();
     final StandardWorkspace workspace = configRepository.getStandardWorkspaceNoSecrets(sourceAutoPropagateChange.getWorkspaceId(), true);
     final SourceConnection source = configRepository.getSourceConnection(sourceAutoPropagateChange.getSourceId());
     final NotificationSettings notificationSettings = workspace.getNotificationSettings();
     final ConnectionReadList connectionsForSource =
         connectionsHandler.listConnectionsForSource(sourceAutoPropagateChange.getSourceId(), false);
-    for (final ConnectionRead connectionRead : connectionsForSource.getConnections()) {
-      final Optional<io.airbyte.api.model.generated.AirbyteCatalog> catalogUsedToMakeConfiguredCatalog = connectionsHandler
-          .getConnectionAirbyteCatalog(connectionRead.getConnectionId());
-      final io.airbyte.api.model.generated.@NotNull AirbyteCatalog syncCatalog =
-          connectionRead.getSyncCatalog();
-      final CatalogDiff diff =
-          connectionsHandler.getDiff(catalogUsedToMakeConfiguredCatalog.orElse(syncCatalog),
-              sourceAutoPropagateChange.getCatalog(),
-              CatalogConverter.toConfiguredProtocol(syncCatalog));
 
-      final ConnectionUpdate updateObject =
-          new ConnectionUpdate().connectionId(connectionRead.getConnectionId());
-      final UUID destinationDefinitionId =
-          configRepository.getDestinationDefinitionFromConnection(connectionRead.getConnectionId()).getDestinationDefinitionId();
-      final var supportedDestinationSyncModes =
-          connectorDefinitionSpecificationHandler
-              .getDestinationSpecification(new DestinationDefinitionIdWithWorkspaceId().destinationDefinitionId(destinationDefinitionId)
-                  .workspaceId(sourceAutoPropagateChange.getWorkspaceId()))
-              .getSupportedDestinationSyncModes();
-
-      if (AutoPropagateSchemaChangeHelper.shouldAutoPropagate(diff, connectionRead)) {
-        final UpdateSchemaResult result = applySchemaChange(updateObject.getConnectionId(),
-            updateObject,
-            syncCatalog,
-            sourceAutoPropagateChange.getCatalog(),
-            diff.getTransforms(),
-            sourceAutoPropagateChange.getCatalogId(),
-            connectionRead.getNonBreakingChangesPreference(), supportedDestinationSyncModes);
-        connectionsHandler.updateConnection(updateObject);
-        connectionsHandler.trackSchemaChange(sourceAutoPropagateChange.getWorkspaceId(),
-            updateObject.getConnectionId(), result);
+    final List<SchemaPropagation> propagations =
+        computeSchemaPropagations(sourceAutoPropagateChange, connectionsForSource.getConnections()).stream()
+            .filter(propagation -> propagation.update() != null)
+            .toList();
+
+    if (!propagations.isEmpty()) {
+      connectionsHandler.updateConnections(propagations.stream().map(SchemaPropagation::update).toList());
+
+      final boolean newNotificationsEnabled = featureFlagClient.boolVariation(
+          UseNewSchemaUpdateNotification.INSTANCE, new Workspace(sourceAutoPropagateChange.getWorkspaceId()));
+      for (final SchemaPropagation propagation : propagations) {
+        final ConnectionRead connectionRead = propagation.connection();
+        final UpdateSchemaResult result = propagation.result();
+        connectionsHandler.trackSchemaChange(sourceAutoPropagateChange.getWorkspaceId(), connectionRead.getConnectionId(), result);
         LOGGER.info("Propagating changes for connectionId: '{}', new catalogId '{}'",
             connectionRead.getConnectionId(), sourceAutoPropagateChange.getCatalogId());
-        final boolean newNotificationsEnabled = featureFlagClient.boolVariation(
-            UseNewSchemaUpdateNotification.INSTANCE, new Workspace(sourceAutoPropagateChange.getWorkspaceId()));
         if (notificationSettings != null
             && newNotificationsEnabled
             && notificationSettings.getSendOnConnectionUpdate() != null
             && !result.appliedDiff().getTransforms().isEmpty()
             && (Boolean.TRUE == connectionRead.getNotifySchemaChanges())) {
-          notifySchemaPropagated(notificationSettings, diff, workspace, connectionRead, source,
+          notifySchemaPropagated(notificationSettings, propagation.diff(), workspace, connectionRead, source,
               workspace.getEmail(), result);
         }
-      } else {
-        LOGGER.info("Not propagating changes for connectionId: '{}', new catalogId '{}'",
-            connectionRead.getConnectionId(), sourceAutoPropagateChange.getCatalogId());
       }
     }
+
+    final long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    MetricClientFactory.getMetricClient().distribution(OssMetricsRegistry.SCHEMA_CHANGE_PROPAGATION_LATENCY, latencyMillis);
+    LOGGER.info("Propagated schema changes for source '{}' to {} of {} connections in {} ms",
+        sourceAutoPropagateChange.getSourceId(), propagations.size(), connectionsForSource.getConnections().size(), latencyMillis);
+  }
+
+  /**
+   * Compute the update of every connection of the source in parallel. Connections of a source often
+   * share a destination definition or a sync catalog, so each destination spec is fetched and each
+   * diff is computed only once.
+   */
+  private List<SchemaPropagation> computeSchemaPropagations(final SourceAutoPropagateChange sourceAutoPropagateChange,
+                                                            final List<ConnectionRead> connections)
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final Map<UUID, FutureTask<List<DestinationSyncMode>>> supportedDestinationSyncModes = new ConcurrentHashMap<>();
+    final Map<DiffKey, FutureTask<CatalogDiff>> diffs = new ConcurrentHashMap<>();
+
+    final List<Future<SchemaPropagation>> futures = new ArrayList<>(connections.size());
+    for (final ConnectionRead connectionRead : connections) {
+      futures.add(schemaPropagationExecutor.submit(
+          () -> computeSchemaPropagation(sourceAutoPropagateChange, connectionRead, supportedDestinationSyncModes, diffs)));
+    }
+
+    final List<SchemaPropagation> propagations = new ArrayList<>(connections.size());
+    try {
+      for (final Future<SchemaPropagation> future : futures) {
+        propagations.add(future.get());
+      }
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      Throwables.throwIfInstanceOf(cause, IOException.class);
+      Throwables.throwIfInstanceOf(cause, JsonValidationException.class);
+      Throwables.throwIfInstanceOf(cause, ConfigNotFoundException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new RuntimeException(cause);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while propagating schema changes", e);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    return propagations;
+  }
+
+  private SchemaPropagation computeSchemaPropagation(final SourceAutoPropagateChange sourceAutoPropagateChange,
+                                                     final ConnectionRead connectionRead,
+                                                     final Map<UUID, FutureTask<List<DestinationSyncMode>>> supportedDestinationSyncModes,
+                                                     final Map<DiffKey, FutureTask<CatalogDiff>> diffs)
+      throws Exception {
+    final io.airbyte.api.model.generated.@NotNull AirbyteCatalog syncCatalog = connectionRead.getSyncCatalog();
+    final io.airbyte.api.model.generated.AirbyteCatalog catalogUsedToMakeConfiguredCatalog = connectionsHandler
+        .getConnectionAirbyteCatalog(connectionRead.getConnectionId())
+        .orElse(syncCatalog);
+    final CatalogDiff diff = memoized(diffs, new DiffKey(catalogUsedToMakeConfiguredCatalog, syncCatalog),
+        () -> connectionsHandler.getDiff(catalogUsedToMakeConfiguredCatalog,
+            sourceAutoPropagateChange.getCatalog(),
+            CatalogConverter.toConfiguredProtocol(syncCatalog)));
+
+    if (!AutoPropagateSchemaChangeHelper.shouldAutoPropagate(diff, connectionRead)) {
+      LOGGER.info("Not propagating changes for connectionId: '{}', new catalogId '{}'",
+          connectionRead.getConnectionId(), sourceAutoPropagateChange.getCatalogId());
+      return new SchemaPropagation(connectionRead, diff, null, null);
+    }
+
+    final UUID destinationDefinitionId =
+        configRepository.getDestinationDefinitionFromConnection(connectionRead.getConnectionId()).getDestinationDefinitionId();
+    final List<DestinationSyncMode> destinationSyncModes = memoized(supportedDestinationSyncModes, destinationDefinitionId,
+        () -> connectorDefinitionSpecificationHandler
+            .getDestinationSpecification(new DestinationDefinitionIdWithWorkspaceId().destinationDefinitionId(destinationDefinitionId)
+                .workspaceId(sourceAutoPropagateChange.getWorkspaceId()))
+            .getSupportedDestinationSyncModes());
+
+    final ConnectionUpdate updateObject = new ConnectionUpdate().connectionId(connectionRead.getConnectionId());
+    final UpdateSchemaResult result = applySchemaChange(updateObject.getConnectionId(),
+        updateObject,
+        syncCatalog,
+        sourceAutoPropagateChange.getCatalog(),
+        diff.getTransforms(),
+        sourceAutoPropagateChange.getCatalogId(),
+        connectionRead.getNonBreakingChangesPreference(), destinationSyncModes);
+    return new SchemaPropagation(connectionRead, diff, updateObject, result);
+  }
+
+  /**
+   * Get the value for the key, computing it on the first call only. Concurrent callers for the same
+   * key wait for the first computation rather than repeating it.
+   */
+  private static <K, V> V memoized(final Map<K, FutureTask<V>> cache, final K key, final Callable<V> compute) throws Exception {
+    final FutureTask<V> task = cache.computeIfAbsent(key, k -> new FutureTask<>(compute));
+    // no-op if the task is already running or done
+    task.run();
+    try {
+      return task.get();
+    } catch (final ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw (Exception) e.getCause();
+    }
   }
 
   public void notifySchemaPropagated(final NotificationSettings notificationSettings,
@@ -536,7 +659,7 @@ public class SchedulerHandler {
         .withSourceDefinitionId(sourceCreate.getSourceDefinitionId())
         .withConfiguration(partialConfig)
         .withWorkspaceId(sourceCreate.getWorkspaceId());
-    final SynchronousResponse<UUID> response = synchronousSchedulerClient.createDiscoverSchemaJob(
+    final SynchronousResponse<DiscoveredCatalog> response = synchronousSchedulerClient.createDiscoverSchemaJob(
         source,
         sourceVersion,
         isCustomConnector,
@@ -544,17 +667,20 @@ public class SchedulerHandler {
     return retrieveDiscoveredSchema(response, sourceVersion);
   }
 
-  private SourceDiscoverSchemaRead retrieveDiscoveredSchema(final SynchronousResponse<UUID> response, final ActorDefinitionVersion sourceVersion)
+  private SourceDiscoverSchemaRead retrieveDiscoveredSchema(final SynchronousResponse<DiscoveredCatalog> response,
+                                                            final ActorDefinitionVersion sourceVersion)
       throws ConfigNotFoundException, IOException {
     final SourceDiscoverSchemaRead sourceDiscoverSchemaRead = new SourceDiscoverSchemaRead()
         .jobInfo(jobConverter.getSynchronousJobRead(response));
 
     if (response.isSuccess()) {
-      final ActorCatalog catalog = configRepository.getActorCatalogById(response.getOutput());
-      final AirbyteCatalog persistenceCatalog = Jsons.object(catalog.getCatalog(),
-          io.airbyte.protocol.models.AirbyteCatalog.class);
+      final UUID catalogId = response.getOutput().catalogId();
+      final Optional<AirbyteCatalog> inlineCatalog = response.getOutput().inlineCatalog();
+      final AirbyteCatalog persistenceCatalog = inlineCatalog.isPresent()
+          ? inlineCatalog.get()
+          : Jsons.object(configRepository.getActorCatalogById(catalogId).getCatalog(), AirbyteCatalog.class);
       sourceDiscoverSchemaRead.catalog(CatalogConverter.toApi(persistenceCatalog, sourceVersion));
-      sourceDiscoverSchemaRead.catalogId(response.getOutput());
+      sourceDiscoverSchemaRead.catalogId(catalogId);
     }
 
     return sourceDiscoverSchemaRead;
@@ -565,6 +691,60 @@ public class SchedulerHandler {
     return submitManualSyncToWorker(connectionIdRequestBody.getConnectionId());
   }
 
+  /**
+   * Start a manual sync of many connections at once. The connections are read in a single query and
+   * their syncs are started in parallel on the {@value AirbyteTaskExecutors#BULK_SYNC} executor. A
+   * connection that cannot be synced does not prevent the others from syncing: its result holds the
+   * reason instead of a job.
+   */
+  public List<ConnectionBulkSyncResultRead> syncConnections(final ConnectionsSyncRequestBody connectionsSyncRequestBody) throws IOException {
+    final List<UUID> connectionIds = connectionsSyncRequestBody.getConnectionIds().stream().distinct().toList();
+    final Map<UUID, StandardSync> connections = configRepository.listConnectionsByIds(connectionIds).stream()
+        .collect(Collectors.toMap(StandardSync::getConnectionId, Function.identity()));
+
+    final List<Future<ConnectionBulkSyncResultRead>> futures = new ArrayList<>(connectionIds.size());
+    for (final UUID connectionId : connectionIds) {
+      futures.add(bulkSyncExecutor.submit(() -> submitManualSync(connectionId, connections.get(connectionId))));
+    }
+
+    final List<ConnectionBulkSyncResultRead> results = new ArrayList<>(connectionIds.size());
+    try {
+      for (final Future<ConnectionBulkSyncResultRead> future : futures) {
+        results.add(future.get());
+      }
+    } catch (final ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while starting syncs", e);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    return results;
+  }
+
+  private ConnectionBulkSyncResultRead submitManualSync(final UUID connectionId, @Nullable final StandardSync sync) {
+    final ConnectionBulkSyncResultRead result = new ConnectionBulkSyncResultRead().connectionId(connectionId);
+    if (sync == null) {
+      return result.failureMessage("Connection not found");
+    }
+    if (!sync.getStatus().equals(StandardSync.Status.ACTIVE)) {
+      return result.failureMessage(INACTIVE_CONNECTION_SYNC_MESSAGE);
+    }
+
+    try {
+      final ManualOperationResult manualSyncResult = eventRunner.startNewManualSync(connectionId);
+      if (manualSyncResult.getFailingReason().isPresent()) {
+        return result.failureMessage(manualSyncResult.getFailingReason().get());
+      }
+      return result.job(JobConverter.getJobRead(jobPersistence.getJob(manualSyncResult.getJobId().get())));
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.warn("Could not start a sync of connection {}", connectionId, e);
+      return result.failureMessage(e.getMessage());
+    }
+  }
+
   public JobInfoRead resetConnection(final ConnectionIdRequestBody connectionIdRequestBody)
       throws IOException, JsonValidationException, ConfigNotFoundException {
     return submitResetConnectionToWorker(connectionIdRequestBody.getConnectionId());
@@ -767,7 +947,7 @@ public class SchedulerHandler {
     // get standard sync to validate connection id before submitting sync to temporal
     final var sync = configRepository.getStandardSync(connectionId);
     if (!sync.getStatus().equals(StandardSync.Status.ACTIVE)) {
-      throw new IllegalStateException("Can only sync an active connection");
+      throw new IllegalStateException(INACTIVE_CONNECTION_SYNC_MESSAGE);
     }
     final ManualOperationResult manualSyncResult = eventRunner.startNewManualSync(connectionId);
 
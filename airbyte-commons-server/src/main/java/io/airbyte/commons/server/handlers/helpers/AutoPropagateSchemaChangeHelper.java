@@ -114,8 +114,10 @@ public class AutoPropagateSchemaChangeHelper {
                                                     final NonBreakingChangesPreference nonBreakingChangesPreference,
                                                     final List<DestinationSyncMode> supportedDestinationSyncModes) {
     final AirbyteCatalog copiedOldCatalog = Jsons.clone(oldCatalog);
+    // added streams get configured for this connection, the new catalog is shared between connections
+    final AirbyteCatalog copiedNewCatalog = Jsons.clone(newCatalog);
     final Map<StreamDescriptor, AirbyteStreamAndConfiguration> oldCatalogPerStream = extractStreamAndConfigPerStreamDescriptor(copiedOldCatalog);
-    final Map<StreamDescriptor, AirbyteStreamAndConfiguration> newCatalogPerStream = extractStreamAndConfigPerStreamDescriptor(newCatalog);
+    final Map<StreamDescriptor, AirbyteStreamAndConfiguration> newCatalogPerStream = extractStreamAndConfigPerStreamDescriptor(copiedNewCatalog);
 
     final List<String> changes = new ArrayList<>();
     final CatalogDiff appliedDiff = new CatalogDiff();
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fingerprint of a connector configuration, used to find the catalog discovered with the same
+ * configuration.
+ * <p>
+ * Two configurations that only differ by the order of their keys have the same fingerprint. Secrets
+ * are fingerprinted by their full coordinate, version included: rotating a secret writes it under a
+ * new version, so a catalog discovered with the previous value is not reused. Saving a secret
+ * without changing its value also bumps the version, which only costs a new discovery.
+ */
+public final class ConfigFingerprint {
+
+  private static final HashFunction HASH_FUNCTION = Hashing.md5();
+
+  private ConfigFingerprint() {}
+
+  public static String fingerprint(final JsonNode config) {
+    return HASH_FUNCTION.hashBytes(Jsons.serialize(canonicalize(config)).getBytes(StandardCharsets.UTF_8)).toString();
+  }
+
+  private static JsonNode canonicalize(final JsonNode node) {
+    if (node == null) {
+      return JsonNodeFactory.instance.nullNode();
+    }
+    if (node.isObject()) {
+      final List<String> fieldNames = new ArrayList<>();
+      node.fieldNames().forEachRemaining(fieldNames::add);
+      Collections.sort(fieldNames);
+
+      final ObjectNode canonical = JsonNodeFactory.instance.objectNode();
+      for (final String fieldName : fieldNames) {
+        canonical.set(fieldName, canonicalize(node.get(fieldName)));
+      }
+      return canonical;
+    }
+    if (node.isArray()) {
+      final ArrayNode canonical = JsonNodeFactory.instance.arrayNode();
+      node.forEach(element -> canonical.add(canonicalize(element)));
+      return canonical;
+    }
+    return node;
+  }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
+import io.airbyte.config.ActorCatalogFetchEvent;
+import io.airbyte.config.persistence.ConfigNotFoundException;
+import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the catalogs of previous discovers of a source, with stale-while-revalidate semantics.
+ * <p>
+ * A catalog discovered with the same connector version and config fingerprint is fresh until
+ * {@code refresh-after}. After that it is stale: it is still served, and the caller is expected to
+ * refresh it in the background with {@link #refreshInBackground(UUID, Refresh)}. Once older than
+ * {@code expire-after} it is not served anymore.
+ * <p>
+ * The catalogs themselves are persisted in the actor catalog table, which is shared by all server
+ * instances. This keeps the deserialized catalogs of the latest lookups in memory, so that serving a
+ * hit does not read and parse the whole catalog again.
+ */
+@Singleton
+public class DiscoveredCatalogCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DiscoveredCatalogCache.class);
+  private static final int MAX_PENDING_REFRESHES = 100;
+
+  /**
+   * Whether a cached catalog should be refreshed.
+   */
+  public enum Freshness {
+    FRESH,
+    STALE
+  }
+
+  /**
+   * A catalog served from the cache.
+   *
+   * @param catalogId id of the actor catalog
+   * @param catalog the catalog. It is shared between lookups and must not be modified.
+   * @param freshness whether the catalog should be refreshed
+   */
+  public record CachedCatalog(UUID catalogId, AirbyteCatalog catalog, Freshness freshness) {}
+
+  /**
+   * Discovers the catalog of a source again and persists it.
+   */
+  @FunctionalInterface
+  public interface Refresh {
+
+    void run() throws Exception;
+
+  }
+
+  private final ConfigRepository configRepository;
+  private final Duration refreshAfter;
+  private final Duration expireAfter;
+  private final Clock clock;
+  private final Cache<UUID, AirbyteCatalog> catalogsById;
+  private final Set<UUID> refreshingSources = ConcurrentHashMap.newKeySet();
+  private final ExecutorService refreshExecutor;
+
+  @Inject
+  public DiscoveredCatalogCache(final ConfigRepository configRepository,
+                                @Value("${airbyte.server.discover-cache.refresh-after:24h}") final Duration refreshAfter,
+                                @Value("${airbyte.server.discover-cache.expire-after:30d}") final Duration expireAfter,
+                                @Value("${airbyte.server.discover-cache.max-catalogs:200}") final int maxCatalogs,
+                                @Named(AirbyteTaskExecutors.DISCOVER_CACHE_REFRESH) final ExecutorService refreshExecutor) {
+    this(configRepository, refreshAfter, expireAfter, maxCatalogs, refreshExecutor, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  DiscoveredCatalogCache(final ConfigRepository configRepository,
+                         final Duration refreshAfter,
+                         final Duration expireAfter,
+                         final int maxCatalogs,
+                         final ExecutorService refreshExecutor,
+                         final Clock clock) {
+    this.configRepository = configRepository;
+    this.refreshAfter = refreshAfter;
+    this.expireAfter = expireAfter;
+    this.clock = clock;
+    this.catalogsById = CacheBuilder.newBuilder().maximumSize(maxCatalogs).build();
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  /**
+   * Get the catalog discovered last with this connector version and config fingerprint, unless it
+   * has expired.
+   *
+   * @param sourceId source id
+   * @param connectorVersion docker image tag of the source
+   * @param configFingerprint {@link ConfigFingerprint} of the source config
+   * @return the cached catalog, empty if the source has to be discovered
+   */
+  public Optional<CachedCatalog> get(final UUID sourceId, final String connectorVersion, final String configFingerprint)
+      throws IOException, ConfigNotFoundException {
+    final Optional<ActorCatalogFetchEvent> fetchEvent =
+        configRepository.getMostRecentActorCatalogFetchEvent(sourceId, connectorVersion, configFingerprint);
+    if (fetchEvent.isEmpty()) {
+      recordLookup("miss");
+      return Optional.empty();
+    }
+
+    final Duration age = Duration.between(Instant.ofEpochSecond(fetchEvent.get().getCreatedAt()), clock.instant());
+    if (age.compareTo(expireAfter) >= 0) {
+      recordLookup("expired");
+      return Optional.empty();
+    }
+
+    final UUID catalogId = fetchEvent.get().getActorCatalogId();
+    // actor catalogs are immutable, a catalog id always maps to the same catalog
+    AirbyteCatalog catalog = catalogsById.getIfPresent(catalogId);
+    if (catalog == null) {
+      catalog = Jsons.object(configRepository.getActorCatalogById(catalogId).getCatalog(), AirbyteCatalog.class);
+      catalogsById.put(catalogId, catalog);
+    }
+
+    final Freshness freshness = age.compareTo(refreshAfter) >= 0 ? Freshness.STALE : Freshness.FRESH;
+    recordLookup(freshness == Freshness.STALE ? "stale_hit" : "hit");
+    return Optional.of(new CachedCatalog(catalogId, catalog, freshness));
+  }
+
+  /**
+   * Record that a discover was requested without looking up the cache.
+   */
+  public void recordBypass() {
+    recordLookup("bypassed");
+  }
+
+  /**
+   * Refresh the catalog of a source in the background. Does nothing if the source is already being
+   * refreshed or if too many refreshes are queued: the catalog stays stale and the next lookup tries
+   * again.
+   *
+   * @param sourceId source id
+   * @param refresh discovers and persists the catalog of the source
+   */
+  public void refreshInBackground(final UUID sourceId, final Refresh refresh) {
+    if (!refreshingSources.add(sourceId)) {
+      return;
+    }
+    // the sources being refreshed are the queued and running refreshes, the executor queue is unbounded
+    if (refreshingSources.size() > MAX_PENDING_REFRESHES) {
+      skipRefresh(sourceId);
+      return;
+    }
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          refresh.run();
+          recordRefresh("succeeded");
+        } catch (final Exception e) {
+          LOGGER.warn("Failed to refresh the catalog of source {} in the background", sourceId, e);
+          recordRefresh("failed");
+        } finally {
+          refreshingSources.remove(sourceId);
+        }
+      });
+    } catch (final RejectedExecutionException e) {
+      skipRefresh(sourceId);
+    }
+  }
+
+  private void skipRefresh(final UUID sourceId) {
+    refreshingSources.remove(sourceId);
+    LOGGER.info("Not refreshing the catalog of source {}, too many refreshes are queued", sourceId);
+    recordRefresh("skipped");
+  }
+
+  private static void recordLookup(final String status) {
+    MetricClientFactory.getMetricClient().count(OssMetricsRegistry.DISCOVER_CATALOG_CACHE_LOOKUP, 1,
+        new MetricAttribute(MetricTags.STATUS, status));
+  }
+
+  private static void recordRefresh(final String status) {
+    MetricClientFactory.getMetricClient().count(OssMetricsRegistry.DISCOVER_CATALOG_CACHE_REFRESH, 1,
+        new MetricAttribute(MetricTags.STATUS, status));
+  }
+
+}
@@ -6,11 +6,8 @@ package io.airbyte.commons.server.scheduler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
+import io.airbyte.commons.server.handlers.helpers.ConfigFingerprint;
 import io.airbyte.commons.server.handlers.helpers.ContextBuilder;
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.commons.temporal.TemporalJobType;
@@ -54,8 +51,6 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSynchronousSchedulerClient.class);
 
-  private static final HashFunction HASH_FUNCTION = Hashing.md5();
-
   private final TemporalClient temporalClient;
   private final JobTracker jobTracker;
   private final JobErrorReporter jobErrorReporter;
@@ -160,10 +155,10 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
   }
 
   @Override
-  public SynchronousResponse<UUID> createDiscoverSchemaJob(final SourceConnection source,
-                                                           final ActorDefinitionVersion sourceVersion,
-                                                           final boolean isCustomConnector,
-                                                           final ResourceRequirements actorDefinitionResourceRequirements)
+  public SynchronousResponse<DiscoveredCatalog> createDiscoverSchemaJob(final SourceConnection source,
+                                                                        final ActorDefinitionVersion sourceVersion,
+                                                                        final boolean isCustomConnector,
+                                                                        final ResourceRequirements actorDefinitionResourceRequirements)
       throws IOException {
     final String dockerImage = ActorDefinitionVersionHelper.getDockerImageName(sourceVersion);
     final JsonNode sourceConfiguration = oAuthConfigSupplier.injectSourceOAuthParameters(
@@ -176,8 +171,7 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
         .withDockerImage(dockerImage)
         .withProtocolVersion(new Version(sourceVersion.getProtocolVersion()))
         .withSourceId(source.getSourceId().toString())
-        .withConfigHash(HASH_FUNCTION.hashBytes(Jsons.serialize(source.getConfiguration()).getBytes(
-            Charsets.UTF_8)).toString())
+        .withConfigHash(ConfigFingerprint.fingerprint(source.getConfiguration()))
         .withConnectorVersion(sourceVersion.getDockerImageTag())
         .withIsCustomConnector(isCustomConnector)
         .withResourceRequirements(actorDefinitionResourceRequirements);
@@ -194,7 +188,7 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
         jobReportingContext,
         source.getSourceDefinitionId(),
         () -> temporalClient.submitDiscoverSchema(jobId, 0, source.getWorkspaceId(), taskQueue, jobDiscoverCatalogConfig, context),
-        ConnectorJobOutput::getDiscoverCatalogId,
+        DiscoveredCatalog::fromJobOutput,
         source.getWorkspaceId(),
         source.getSourceId());
   }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.scheduler;
+
+import io.airbyte.config.ConnectorJobOutput;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import java.util.Optional;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+/**
+ * Output of a discover job.
+ *
+ * @param catalogId id of the actor catalog persisted by the job
+ * @param catalog the persisted catalog, if the job returned it inline. Large catalogs are only
+ *        persisted and have to be read back with their id.
+ */
+public record DiscoveredCatalog(UUID catalogId, @Nullable AirbyteCatalog catalog) {
+
+  public Optional<AirbyteCatalog> inlineCatalog() {
+    return Optional.ofNullable(catalog);
+  }
+
+  static DiscoveredCatalog fromJobOutput(final ConnectorJobOutput jobOutput) {
+    if (jobOutput.getDiscoverCatalogId() == null) {
+      return null;
+    }
+    return new DiscoveredCatalog(jobOutput.getDiscoverCatalogId(), jobOutput.getDiscoverCatalog());
+  }
+
+}
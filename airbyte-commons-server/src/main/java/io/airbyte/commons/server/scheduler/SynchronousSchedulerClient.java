@@ -31,10 +31,10 @@ public interface SynchronousSchedulerClient {
                                                                                          ResourceRequirements actorDefinitionResourceRequirements)
       throws IOException;
 
-  SynchronousResponse<UUID> createDiscoverSchemaJob(SourceConnection source,
-                                                    ActorDefinitionVersion sourceVersion,
-                                                    boolean isCustomConnector,
-                                                    ResourceRequirements actorDefinitionResourceRequirements)
+  SynchronousResponse<DiscoveredCatalog> createDiscoverSchemaJob(SourceConnection source,
+                                                                 ActorDefinitionVersion sourceVersion,
+                                                                 boolean isCustomConnector,
+                                                                 ResourceRequirements actorDefinitionResourceRequirements)
       throws IOException;
 
   SynchronousResponse<ConnectorSpecification> createGetSpecJob(String dockerImage, boolean isCustomConnector, final UUID workspaceId)
@@ -23,4 +23,28 @@ public interface AirbyteTaskExecutors extends TaskExecutors {
    */
   String SCHEDULER = "scheduler";
 
+  /**
+   * The name of the {@link java.util.concurrent.ExecutorService} used to compute the updates of the
+   * connections of a source when propagating its schema changes.
+   */
+  String SCHEMA_PROPAGATION = "schema-propagation";
+
+  /**
+   * The name of the {@link java.util.concurrent.ExecutorService} used to start the syncs of a bulk
+   * manual sync.
+   */
+  String BULK_SYNC = "bulk-sync";
+
+  /**
+   * The name of the {@link java.util.concurrent.ExecutorService} used to deliver notifications in
+   * the background.
+   */
+  String NOTIFICATION_DISPATCH = "notification-dispatch";
+
+  /**
+   * The name of the {@link java.util.concurrent.ExecutorService} used to refresh stale discovered
+   * catalogs in the background.
+   */
+  String DISCOVER_CACHE_REFRESH = "discover-cache-refresh";
+
 }
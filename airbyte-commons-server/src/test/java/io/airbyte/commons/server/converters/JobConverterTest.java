@@ -23,6 +23,7 @@ import io.airbyte.api.model.generated.JobInfoLightRead;
 import io.airbyte.api.model.generated.JobInfoRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogMetadataRead;
 import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.ResetConfig;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
@@ -239,6 +240,16 @@ class JobConverterTest {
       assertEquals(JOB_DEBUG_INFO, JobConverter.getDebugJobInfoRead(JOB_INFO, sourceDefinitionRead, destinationDefinitionRead, airbyteVersion));
     }
 
+    @Test
+    void testGetJobInfoReadWithoutInlineAttemptLogs() {
+      final JobInfoRead jobInfoRead = new JobConverter(WorkerEnvironment.DOCKER, LogConfigs.EMPTY, false).getJobInfoRead(job);
+
+      assertEquals(JOB_INFO.getJob(), jobInfoRead.getJob());
+      assertNull(jobInfoRead.getAttempts().get(0).getLogs());
+      // the log file does not exist
+      assertEquals(new LogMetadataRead().sizeBytes(0L), jobInfoRead.getAttempts().get(0).getLogMetadata());
+    }
+
     @Test
     void testGetJobWithAttemptsRead() {
       assertEquals(JOB_WITH_ATTEMPTS_READ, JobConverter.getJobWithAttemptsRead(job));
@@ -18,6 +18,8 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
+import io.airbyte.api.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.AttemptSyncConfig;
 import io.airbyte.api.model.generated.ConnectionState;
@@ -25,6 +27,7 @@ import io.airbyte.api.model.generated.ConnectionStateType;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.GlobalState;
 import io.airbyte.api.model.generated.LogRead;
+import io.airbyte.api.model.generated.LogReadDirection;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
 import io.airbyte.commons.json.Jsons;
@@ -64,6 +67,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
@@ -266,6 +270,66 @@ class AttemptHandlerTest {
     assertEquals(logs, result.getLogs());
   }
 
+  @Test
+  void getAttemptLogsThrowsNotFound() throws Exception {
+    when(jobPersistence.getAttemptForJob(anyLong(), anyInt())).thenReturn(Optional.empty());
+
+    assertThrows(IdNotFoundKnownException.class,
+        () -> handler.getAttemptLogs(new AttemptLogsRequestBody().jobId(1L).attemptNumber(2)));
+  }
+
+  @Test
+  void getAttemptLogsReadsAPageOfTheAttemptLog() throws Exception {
+    final Path logPath = Path.of("/tmp/logs/all/the/way/down");
+    final var attempt = new Attempt(2, 214L, logPath, null, null, AttemptStatus.SUCCEEDED, null, null,
+        Instant.now().getEpochSecond(), Instant.now().getEpochSecond(), Instant.now().getEpochSecond());
+    final var page = new AttemptLogsRead().logLines(List.of("log line 2")).previousCursor("previous").nextCursor("next").sizeBytes(22L);
+
+    when(jobPersistence.getAttemptForJob(214L, 2)).thenReturn(Optional.of(attempt));
+    when(jobConverter.getAttemptLogsRead(logPath, "cursor", 1, true)).thenReturn(page);
+
+    assertEquals(page, handler.getAttemptLogs(new AttemptLogsRequestBody()
+        .jobId(214L)
+        .attemptNumber(2)
+        .cursor("cursor")
+        .limit(1)
+        .direction(LogReadDirection.BACKWARD)));
+  }
+
+  @Test
+  void getAttemptLogsRejectsInvalidCursors() throws Exception {
+    final Path logPath = Path.of("/tmp/logs/all/the/way/down");
+    final var attempt = new Attempt(2, 214L, logPath, null, null, AttemptStatus.SUCCEEDED, null, null,
+        Instant.now().getEpochSecond(), Instant.now().getEpochSecond(), Instant.now().getEpochSecond());
+
+    when(jobPersistence.getAttemptForJob(214L, 2)).thenReturn(Optional.of(attempt));
+    when(jobConverter.getAttemptLogsRead(logPath, "not a cursor", 1000, false)).thenThrow(new IllegalArgumentException("Invalid log cursor"));
+
+    assertThrows(BadRequestException.class,
+        () -> handler.getAttemptLogs(new AttemptLogsRequestBody().jobId(214L).attemptNumber(2).cursor("not a cursor")));
+  }
+
+  @Test
+  void getAttemptLogsClampsTheLimit() throws Exception {
+    final Path logPath = Path.of("/tmp/logs/all/the/way/down");
+    final var attempt = new Attempt(2, 214L, logPath, null, null, AttemptStatus.SUCCEEDED, null, null,
+        Instant.now().getEpochSecond(), Instant.now().getEpochSecond(), Instant.now().getEpochSecond());
+    final var page = new AttemptLogsRead().logLines(List.of()).sizeBytes(0L);
+
+    when(jobPersistence.getAttemptForJob(214L, 2)).thenReturn(Optional.of(attempt));
+    when(jobConverter.getAttemptLogsRead(logPath, null, 10000, false)).thenReturn(page);
+
+    assertEquals(page, handler.getAttemptLogs(new AttemptLogsRequestBody().jobId(214L).attemptNumber(2).limit(Integer.MAX_VALUE)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void getAttemptLogsRejectsLimitsBelowOne(final int limit) throws Exception {
+    assertThrows(BadRequestException.class,
+        () -> handler.getAttemptLogs(new AttemptLogsRequestBody().jobId(214L).attemptNumber(2).limit(limit)));
+    Mockito.verify(jobPersistence, never()).getAttemptForJob(anyLong(), anyInt());
+  }
+
   @Test
   void getAttemptCombinedStatsThrowsNotFound() throws Exception {
     when(jobPersistence.getAttemptCombinedStats(anyLong(), anyInt())).thenReturn(null);
@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -1477,6 +1478,42 @@ class ConnectionsHandlerTest {
         assertThrows(IllegalArgumentException.class, () -> connectionsHandler.updateConnection(connectionUpdate));
       }
 
+      @Test
+      void testUpdateConnectionsWritesAllPatchesTogether() throws Exception {
+        final StandardSync otherSync = Jsons.clone(standardSync).withConnectionId(UUID.randomUUID());
+        when(configRepository.getStandardSync(standardSync.getConnectionId())).thenReturn(standardSync);
+        when(configRepository.getStandardSync(otherSync.getConnectionId())).thenReturn(otherSync);
+
+        connectionsHandler.updateConnections(List.of(
+            new ConnectionUpdate().connectionId(standardSync.getConnectionId()).name("newName"),
+            new ConnectionUpdate().connectionId(otherSync.getConnectionId()).name("otherName")));
+
+        verify(configRepository).writeStandardSyncs(List.of(
+            Jsons.clone(standardSync).withName("newName"),
+            Jsons.clone(otherSync).withName("otherName")));
+        verify(configRepository, never()).writeStandardSync(any());
+        verify(eventRunner).update(standardSync.getConnectionId());
+        verify(eventRunner).update(otherSync.getConnectionId());
+      }
+
+      @Test
+      void testUpdateConnectionsWithAnInvalidPatchWritesNothing() throws Exception {
+        final StandardSync otherSync = Jsons.clone(standardSync).withConnectionId(UUID.randomUUID());
+        when(configRepository.getStandardSync(standardSync.getConnectionId())).thenReturn(standardSync);
+        when(configRepository.getStandardSync(otherSync.getConnectionId())).thenReturn(otherSync);
+
+        final List<ConnectionUpdate> patches = List.of(
+            new ConnectionUpdate().connectionId(standardSync.getConnectionId()).name("newName"),
+            new ConnectionUpdate().connectionId(otherSync.getConnectionId())
+                .scheduleType(ConnectionScheduleType.MANUAL)
+                .scheduleData(new ConnectionScheduleData().basicSchedule(
+                    new ConnectionScheduleDataBasicSchedule().timeUnit(TimeUnitEnum.DAYS).units(1L))));
+
+        assertThrows(IllegalArgumentException.class, () -> connectionsHandler.updateConnections(patches));
+        verify(configRepository, never()).writeStandardSyncs(any());
+        verify(eventRunner, never()).update(any());
+      }
+
     }
 
   }
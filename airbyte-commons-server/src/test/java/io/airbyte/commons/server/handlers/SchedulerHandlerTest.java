@@ -30,6 +30,7 @@ import io.airbyte.api.model.generated.AirbyteStreamAndConfiguration;
 import io.airbyte.api.model.generated.AirbyteStreamConfiguration;
 import io.airbyte.api.model.generated.CatalogDiff;
 import io.airbyte.api.model.generated.CheckConnectionRead;
+import io.airbyte.api.model.generated.ConnectionBulkSyncResultRead;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
@@ -37,6 +38,7 @@ import io.airbyte.api.model.generated.ConnectionStatus;
 import io.airbyte.api.model.generated.ConnectionStream;
 import io.airbyte.api.model.generated.ConnectionStreamRequestBody;
 import io.airbyte.api.model.generated.ConnectionUpdate;
+import io.airbyte.api.model.generated.ConnectionsSyncRequestBody;
 import io.airbyte.api.model.generated.DestinationCoreConfig;
 import io.airbyte.api.model.generated.DestinationDefinitionSpecificationRead;
 import io.airbyte.api.model.generated.DestinationIdRequestBody;
@@ -71,8 +73,13 @@ import io.airbyte.commons.server.converters.ConfigurationUpdate;
 import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.errors.ValueConflictKnownException;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
+import io.airbyte.commons.server.handlers.helpers.ConfigFingerprint;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache.CachedCatalog;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache.Freshness;
 import io.airbyte.commons.server.helpers.DestinationHelpers;
 import io.airbyte.commons.server.helpers.SourceHelpers;
+import io.airbyte.commons.server.scheduler.DiscoveredCatalog;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.commons.server.scheduler.SynchronousJobMetadata;
 import io.airbyte.commons.server.scheduler.SynchronousResponse;
@@ -87,6 +94,7 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.ConnectorJobOutput;
 import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobTypeResourceLimit;
 import io.airbyte.config.JobTypeResourceLimit.JobType;
@@ -140,8 +148,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -264,6 +275,9 @@ class SchedulerHandlerTest {
   private ConnectorDefinitionSpecificationHandler connectorDefinitionSpecificationHandler;
   private WorkspaceService workspaceService;
   private SecretPersistenceConfigService secretPersistenceConfigService;
+  private DiscoveredCatalogCache discoveredCatalogCache;
+  private ExecutorService schemaPropagationExecutor;
+  private ExecutorService bulkSyncExecutor;
 
   @BeforeEach
   void setup() throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -307,6 +321,9 @@ class SchedulerHandlerTest {
     featureFlagClient = mock(TestClient.class);
     workspaceService = mock(WorkspaceService.class);
     secretPersistenceConfigService = mock(SecretPersistenceConfigService.class);
+    discoveredCatalogCache = mock(DiscoveredCatalogCache.class);
+    schemaPropagationExecutor = Executors.newFixedThreadPool(2);
+    bulkSyncExecutor = Executors.newFixedThreadPool(2);
 
     when(connectorDefinitionSpecificationHandler.getDestinationSpecification(any())).thenReturn(new DestinationDefinitionSpecificationRead()
         .supportedDestinationSyncModes(
@@ -334,7 +351,16 @@ class SchedulerHandlerTest {
         jobTracker,
         connectorDefinitionSpecificationHandler,
         workspaceService,
-        secretPersistenceConfigService);
+        secretPersistenceConfigService,
+        discoveredCatalogCache,
+        schemaPropagationExecutor,
+        bulkSyncExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    schemaPropagationExecutor.shutdownNow();
+    bulkSyncExecutor.shutdownNow();
   }
 
   @Test
@@ -735,10 +761,10 @@ class SchedulerHandlerTest {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
 
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(UUID.randomUUID());
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(UUID.randomUUID(), null));
     final ActorCatalog actorCatalog = new ActorCatalog()
         .withCatalog(Jsons.jsonNode(airbyteCatalog))
         .withCatalogHash("")
@@ -764,32 +790,69 @@ class SchedulerHandlerTest {
     when(actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId()))
         .thenReturn(sourceVersion);
     when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
-    when(configRepository.getActorCatalog(any(), any(), any())).thenReturn(Optional.empty());
+    when(discoveredCatalogCache.get(any(), any(), any())).thenReturn(Optional.empty());
     when(synchronousSchedulerClient.createDiscoverSchemaJob(source, sourceVersion, false, RESOURCE_REQUIREMENT))
         .thenReturn(discoverResponse);
 
     final SourceDiscoverSchemaRead actual = schedulerHandler.discoverSchemaForSourceFromSourceId(request);
 
     assertNotNull(actual.getCatalog());
-    assertEquals(actual.getCatalogId(), discoverResponse.getOutput());
+    assertEquals(actual.getCatalogId(), discoverResponse.getOutput().catalogId());
     assertNotNull(actual.getJobInfo());
     assertTrue(actual.getJobInfo().getSucceeded());
     verify(configRepository).getSourceConnection(source.getSourceId());
-    verify(configRepository).getActorCatalog(eq(request.getSourceId()), eq(SOURCE_DOCKER_TAG), any());
+    verify(discoveredCatalogCache).get(eq(request.getSourceId()), eq(SOURCE_DOCKER_TAG), any());
     verify(actorDefinitionVersionHelper).getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId());
     verify(synchronousSchedulerClient).createDiscoverSchemaJob(source, sourceVersion, false, RESOURCE_REQUIREMENT);
   }
 
+  @Test
+  void testDiscoverSchemaForSourceFromSourceIdInlineCatalog() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
+    final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
+
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
+    final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
+    final UUID discoveredCatalogId = UUID.randomUUID();
+    when(discoverResponse.isSuccess()).thenReturn(true);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, airbyteCatalog));
+    when(discoverResponse.getMetadata()).thenReturn(metadata);
+    when(metadata.isSucceeded()).thenReturn(true);
+
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(source.getSourceDefinitionId());
+    when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
+        .thenReturn(sourceDefinition);
+    final ActorDefinitionVersion sourceVersion = new ActorDefinitionVersion()
+        .withDockerRepository(SOURCE_DOCKER_REPO)
+        .withDockerImageTag(SOURCE_DOCKER_TAG)
+        .withProtocolVersion(SOURCE_PROTOCOL_VERSION);
+    when(actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId()))
+        .thenReturn(sourceVersion);
+    when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
+    when(discoveredCatalogCache.get(any(), any(), any())).thenReturn(Optional.empty());
+    when(synchronousSchedulerClient.createDiscoverSchemaJob(source, sourceVersion, false, null))
+        .thenReturn(discoverResponse);
+
+    final SourceDiscoverSchemaRead actual = schedulerHandler.discoverSchemaForSourceFromSourceId(request);
+
+    assertEquals(CatalogConverter.toApi(airbyteCatalog, sourceVersion), actual.getCatalog());
+    assertEquals(discoveredCatalogId, actual.getCatalogId());
+    assertTrue(actual.getJobInfo().getSucceeded());
+    // the catalog returned by the job is not read back
+    verify(configRepository, never()).getActorCatalogById(any());
+  }
+
   @Test
   void testDiscoverSchemaForSourceFromSourceIdCachedCatalog() throws IOException, JsonValidationException, ConfigNotFoundException {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
 
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
     final UUID thisCatalogId = UUID.randomUUID();
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(thisCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(thisCatalogId, null));
     when(discoverResponse.getMetadata()).thenReturn(metadata);
     when(metadata.isSucceeded()).thenReturn(true);
 
@@ -800,35 +863,103 @@ class SchedulerHandlerTest {
     when(actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId()))
         .thenReturn(new ActorDefinitionVersion().withDockerRepository(SOURCE_DOCKER_REPO).withDockerImageTag(SOURCE_DOCKER_TAG));
     when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
-    final ActorCatalog actorCatalog = new ActorCatalog()
-        .withCatalog(Jsons.jsonNode(airbyteCatalog))
-        .withCatalogHash("")
-        .withId(thisCatalogId);
-    when(configRepository.getActorCatalog(any(), any(), any())).thenReturn(Optional.of(actorCatalog));
+    when(discoveredCatalogCache.get(any(), any(), any()))
+        .thenReturn(Optional.of(new CachedCatalog(thisCatalogId, airbyteCatalog, Freshness.FRESH)));
 
     final SourceDiscoverSchemaRead actual = schedulerHandler.discoverSchemaForSourceFromSourceId(request);
 
     assertNotNull(actual.getCatalog());
     assertNotNull(actual.getJobInfo());
-    assertEquals(actual.getCatalogId(), discoverResponse.getOutput());
+    assertEquals(actual.getCatalogId(), discoverResponse.getOutput().catalogId());
     assertTrue(actual.getJobInfo().getSucceeded());
     verify(configRepository).getSourceConnection(source.getSourceId());
-    verify(configRepository).getActorCatalog(eq(request.getSourceId()), any(), any());
+    verify(discoveredCatalogCache).get(eq(request.getSourceId()), any(), any());
+    verify(discoveredCatalogCache, never()).refreshInBackground(any(), any());
     verify(configRepository, never()).writeActorCatalogFetchEvent(any(), any(), any(), any());
     verify(actorDefinitionVersionHelper).getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId());
     verify(synchronousSchedulerClient, never()).createDiscoverSchemaJob(any(), any(), anyBoolean(), any());
   }
 
+  @Test
+  void testDiscoverSchemaForSourceFromSourceIdAfterSecretRotation() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final String coordinate = "airbyte_workspace_e0eb0554-ffe0-4e9c-9dc0-ed7f52023eb2_secret_9eba44d8-51e7-48f1-bde2-619af0e42c22";
+    final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID())
+        .withConfiguration(Jsons.deserialize("{\"password\": {\"_secret\": \"" + coordinate + "_v1\"}}"));
+    final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
+
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
+    final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
+    when(discoverResponse.isSuccess()).thenReturn(true);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(UUID.randomUUID(), airbyteCatalog));
+    when(discoverResponse.getMetadata()).thenReturn(metadata);
+    when(metadata.isSucceeded()).thenReturn(true);
+
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(source.getSourceDefinitionId());
+    when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
+        .thenReturn(sourceDefinition);
+    when(actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId()))
+        .thenReturn(new ActorDefinitionVersion()
+            .withDockerRepository(SOURCE_DOCKER_REPO)
+            .withDockerImageTag(SOURCE_DOCKER_TAG)
+            .withProtocolVersion(SOURCE_PROTOCOL_VERSION));
+    when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
+    // the catalog was discovered before the secret was rotated
+    when(discoveredCatalogCache.get(source.getSourceId(), SOURCE_DOCKER_TAG, ConfigFingerprint.fingerprint(source.getConfiguration())))
+        .thenReturn(Optional.of(new CachedCatalog(UUID.randomUUID(), airbyteCatalog, Freshness.FRESH)));
+    when(synchronousSchedulerClient.createDiscoverSchemaJob(any(), any(), anyBoolean(), any())).thenReturn(discoverResponse);
+
+    source.setConfiguration(Jsons.deserialize("{\"password\": {\"_secret\": \"" + coordinate + "_v2\"}}"));
+    schedulerHandler.discoverSchemaForSourceFromSourceId(request);
+
+    verify(synchronousSchedulerClient).createDiscoverSchemaJob(eq(source), any(), anyBoolean(), any());
+  }
+
+  @Test
+  void testDiscoverSchemaForSourceFromSourceIdStaleCachedCatalog() throws Exception {
+    final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
+    final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
+
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(source.getSourceDefinitionId());
+    when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
+        .thenReturn(sourceDefinition);
+    final ActorDefinitionVersion sourceVersion = new ActorDefinitionVersion()
+        .withDockerRepository(SOURCE_DOCKER_REPO)
+        .withDockerImageTag(SOURCE_DOCKER_TAG);
+    when(actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId()))
+        .thenReturn(sourceVersion);
+    when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
+    final UUID cachedCatalogId = UUID.randomUUID();
+    when(discoveredCatalogCache.get(any(), any(), any()))
+        .thenReturn(Optional.of(new CachedCatalog(cachedCatalogId, airbyteCatalog, Freshness.STALE)));
+    when(synchronousSchedulerClient.createDiscoverSchemaJob(source, sourceVersion, false, null))
+        .thenReturn((SynchronousResponse<DiscoveredCatalog>) jobResponse);
+    when(jobResponse.isSuccess()).thenReturn(true);
+
+    final SourceDiscoverSchemaRead actual = schedulerHandler.discoverSchemaForSourceFromSourceId(request);
+
+    // the stale catalog is returned without waiting for a discover
+    assertEquals(cachedCatalogId, actual.getCatalogId());
+    assertTrue(actual.getJobInfo().getSucceeded());
+    verify(synchronousSchedulerClient, never()).createDiscoverSchemaJob(any(), any(), anyBoolean(), any());
+
+    final ArgumentCaptor<DiscoveredCatalogCache.Refresh> refreshCaptor = ArgumentCaptor.forClass(DiscoveredCatalogCache.Refresh.class);
+    verify(discoveredCatalogCache).refreshInBackground(eq(source.getSourceId()), refreshCaptor.capture());
+    refreshCaptor.getValue().run();
+    verify(synchronousSchedulerClient).createDiscoverSchemaJob(source, sourceVersion, false, null);
+  }
+
   @Test
   void testDiscoverSchemaForSourceFromSourceIdDisableCache() throws IOException, JsonValidationException, ConfigNotFoundException {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).disableCache(true);
 
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
     when(discoverResponse.isSuccess()).thenReturn(true);
     final UUID discoveredCatalogId = UUID.randomUUID();
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
     when(discoverResponse.getMetadata()).thenReturn(metadata);
     when(metadata.isSucceeded()).thenReturn(true);
 
@@ -857,7 +988,8 @@ class SchedulerHandlerTest {
     assertNotNull(actual.getJobInfo());
     assertTrue(actual.getJobInfo().getSucceeded());
     verify(configRepository).getSourceConnection(source.getSourceId());
-    verify(configRepository).getActorCatalog(eq(request.getSourceId()), any(), any());
+    verify(discoveredCatalogCache).recordBypass();
+    verify(discoveredCatalogCache, never()).get(any(), any(), any());
     verify(actorDefinitionVersionHelper).getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId());
     verify(synchronousSchedulerClient).createDiscoverSchemaJob(source, sourceVersion, false, null);
   }
@@ -879,7 +1011,7 @@ class SchedulerHandlerTest {
         .thenReturn(sourceVersion);
     when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
     when(synchronousSchedulerClient.createDiscoverSchemaJob(source, sourceVersion, false, null))
-        .thenReturn((SynchronousResponse<UUID>) jobResponse);
+        .thenReturn((SynchronousResponse<DiscoveredCatalog>) jobResponse);
     when(job.getSuccessOutput()).thenReturn(Optional.empty());
     when(job.getStatus()).thenReturn(JobStatus.FAILED);
 
@@ -899,7 +1031,7 @@ class SchedulerHandlerTest {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final UUID connectionId = UUID.randomUUID();
     final UUID discoveredCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SourceDiscoverSchemaRequestBody request =
         new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).connectionId(connectionId).disableCache(true).notifySchemaChange(true);
     final StreamTransform streamTransform = new StreamTransform().transformType(TransformTypeEnum.REMOVE_STREAM)
@@ -921,7 +1053,7 @@ class SchedulerHandlerTest {
     when(webUrlHelper.getConnectionReplicationPageUrl(source.getWorkspaceId(), connectionId)).thenReturn(CONNECTION_URL);
 
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
 
     final AirbyteCatalog airbyteCatalogCurrent = new AirbyteCatalog().withStreams(Lists.newArrayList(
         CatalogHelpers.createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
@@ -959,7 +1091,7 @@ class SchedulerHandlerTest {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final UUID connectionId = UUID.randomUUID();
     final UUID discoveredCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SourceDiscoverSchemaRequestBody request =
         new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).connectionId(connectionId).disableCache(true).notifySchemaChange(true);
     final StreamTransform streamTransform = new StreamTransform().transformType(TransformTypeEnum.REMOVE_STREAM)
@@ -982,7 +1114,7 @@ class SchedulerHandlerTest {
     when(webUrlHelper.getConnectionReplicationPageUrl(source.getWorkspaceId(), connectionId)).thenReturn(CONNECTION_URL);
 
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
 
     final AirbyteCatalog airbyteCatalogCurrent = new AirbyteCatalog().withStreams(Lists.newArrayList(
         CatalogHelpers.createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
@@ -1020,7 +1152,7 @@ class SchedulerHandlerTest {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final UUID connectionId = UUID.randomUUID();
     final UUID discoveredCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SourceDiscoverSchemaRequestBody request =
         new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).connectionId(connectionId).disableCache(true).notifySchemaChange(true);
     final StreamTransform streamTransform = new StreamTransform().transformType(TransformTypeEnum.REMOVE_STREAM)
@@ -1043,7 +1175,7 @@ class SchedulerHandlerTest {
         .thenReturn(discoverResponse);
 
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
 
     final AirbyteCatalog airbyteCatalogCurrent = new AirbyteCatalog().withStreams(Lists.newArrayList(
         CatalogHelpers.createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
@@ -1083,7 +1215,7 @@ class SchedulerHandlerTest {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final UUID connectionId = UUID.randomUUID();
     final UUID discoveredCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SourceDiscoverSchemaRequestBody request =
         new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).connectionId(connectionId).disableCache(true).notifySchemaChange(true);
     final StreamTransform streamTransform = new StreamTransform().transformType(TransformTypeEnum.UPDATE_STREAM)
@@ -1106,7 +1238,7 @@ class SchedulerHandlerTest {
     when(webUrlHelper.getConnectionReplicationPageUrl(source.getWorkspaceId(), connectionId)).thenReturn(CONNECTION_URL);
 
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
 
     final AirbyteCatalog airbyteCatalogCurrent = new AirbyteCatalog().withStreams(Lists.newArrayList(
         CatalogHelpers.createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
@@ -1148,7 +1280,7 @@ class SchedulerHandlerTest {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final UUID connectionId = UUID.randomUUID();
     final UUID discoveredCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SourceDiscoverSchemaRequestBody request =
         new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).connectionId(connectionId).disableCache(true).notifySchemaChange(true);
     final StreamTransform streamTransform = new StreamTransform().transformType(TransformTypeEnum.UPDATE_STREAM)
@@ -1172,7 +1304,7 @@ class SchedulerHandlerTest {
     when(webUrlHelper.getConnectionReplicationPageUrl(source.getWorkspaceId(), connectionId)).thenReturn(CONNECTION_URL);
 
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
 
     final AirbyteCatalog airbyteCatalogCurrent = new AirbyteCatalog().withStreams(Lists.newArrayList(
         CatalogHelpers.createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
@@ -1213,7 +1345,7 @@ class SchedulerHandlerTest {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
     final UUID connectionId = UUID.randomUUID();
     final UUID discoveredCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SourceDiscoverSchemaRequestBody request =
         new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).connectionId(connectionId).disableCache(true).notifySchemaChange(true);
     final CatalogDiff catalogDiff = new CatalogDiff();
@@ -1233,7 +1365,7 @@ class SchedulerHandlerTest {
         .thenReturn(discoverResponse);
 
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
 
     final AirbyteCatalog airbyteCatalogCurrent = new AirbyteCatalog().withStreams(Lists.newArrayList(
         CatalogHelpers.createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
@@ -1274,7 +1406,7 @@ class SchedulerHandlerTest {
     final UUID connectionId2 = UUID.randomUUID();
     final UUID connectionId3 = UUID.randomUUID();
     final UUID discoveredCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SourceDiscoverSchemaRequestBody request =
         new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).connectionId(connectionId).disableCache(true).notifySchemaChange(true);
 
@@ -1309,7 +1441,7 @@ class SchedulerHandlerTest {
     when(webUrlHelper.getConnectionReplicationPageUrl(source.getWorkspaceId(), connectionId3)).thenReturn(CONNECTION_URL);
 
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(discoveredCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(discoveredCatalogId, null));
 
     final AirbyteCatalog airbyteCatalogCurrent = new AirbyteCatalog().withStreams(Lists.newArrayList(
         CatalogHelpers.createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
@@ -1381,7 +1513,7 @@ class SchedulerHandlerTest {
     // Mock the source itself.
     when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
     // Mock the Discover job results.
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
     when(discoverResponse.isSuccess()).thenReturn(false);
     when(discoverResponse.getMetadata()).thenReturn(metadata);
@@ -1404,10 +1536,10 @@ class SchedulerHandlerTest {
         .withConfiguration(SOURCE.getConfiguration())
         .withWorkspaceId(SOURCE.getWorkspaceId());
 
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(UUID.randomUUID());
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(UUID.randomUUID(), null));
     when(discoverResponse.getMetadata()).thenReturn(metadata);
     when(metadata.isSucceeded()).thenReturn(true);
 
@@ -1441,7 +1573,7 @@ class SchedulerHandlerTest {
 
     assertNotNull(actual.getCatalog());
     assertNotNull(actual.getJobInfo());
-    assertEquals(actual.getCatalogId(), discoverResponse.getOutput());
+    assertEquals(actual.getCatalogId(), discoverResponse.getOutput().catalogId());
     assertTrue(actual.getJobInfo().getSucceeded());
     verify(synchronousSchedulerClient).createDiscoverSchemaJob(source, sourceVersion, false, null);
     verify(actorDefinitionVersionHelper).getSourceVersion(sourceDefinition, source.getWorkspaceId(), null);
@@ -1469,7 +1601,7 @@ class SchedulerHandlerTest {
     when(actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, source.getWorkspaceId(), null))
         .thenReturn(sourceVersion);
     when(synchronousSchedulerClient.createDiscoverSchemaJob(source, sourceVersion, false, null))
-        .thenReturn((SynchronousResponse<UUID>) jobResponse);
+        .thenReturn((SynchronousResponse<DiscoveredCatalog>) jobResponse);
     when(secretsRepositoryWriter.statefulSplitSecretsToDefaultSecretPersistence(
         eq(source.getConfiguration()),
         any())).thenReturn(source.getConfiguration());
@@ -1545,6 +1677,44 @@ class SchedulerHandlerTest {
     assertThrows(IllegalStateException.class, () -> schedulerHandler.syncConnection(new ConnectionIdRequestBody().connectionId(connectionId)));
   }
 
+  @Test
+  void testSyncConnections() throws IOException {
+    final UUID syncedConnectionId = UUID.randomUUID();
+    final UUID runningConnectionId = UUID.randomUUID();
+    final UUID inactiveConnectionId = UUID.randomUUID();
+    final UUID missingConnectionId = UUID.randomUUID();
+    final long jobId = 123L;
+
+    when(configRepository.listConnectionsByIds(List.of(syncedConnectionId, runningConnectionId, inactiveConnectionId, missingConnectionId)))
+        .thenReturn(List.of(
+            new StandardSync().withConnectionId(syncedConnectionId).withStatus(StandardSync.Status.ACTIVE),
+            new StandardSync().withConnectionId(runningConnectionId).withStatus(StandardSync.Status.ACTIVE),
+            new StandardSync().withConnectionId(inactiveConnectionId).withStatus(StandardSync.Status.INACTIVE)));
+    when(eventRunner.startNewManualSync(syncedConnectionId))
+        .thenReturn(ManualOperationResult.builder().failingReason(Optional.empty()).jobId(Optional.of(jobId)).build());
+    when(eventRunner.startNewManualSync(runningConnectionId))
+        .thenReturn(ManualOperationResult.builder().failingReason(Optional.of("another sync running")).jobId(Optional.empty())
+            .errorCode(Optional.of(ErrorCode.WORKFLOW_RUNNING)).build());
+    when(jobPersistence.getJob(jobId)).thenReturn(new Job(jobId, ConfigType.SYNC, syncedConnectionId.toString(),
+        new JobConfig().withConfigType(ConfigType.SYNC), List.of(), JobStatus.PENDING, null, 1000L, 1000L));
+
+    // duplicated ids are synced once
+    final List<ConnectionBulkSyncResultRead> results = schedulerHandler.syncConnections(new ConnectionsSyncRequestBody()
+        .connectionIds(List.of(syncedConnectionId, runningConnectionId, inactiveConnectionId, missingConnectionId, syncedConnectionId)));
+
+    assertEquals(List.of(syncedConnectionId, runningConnectionId, inactiveConnectionId, missingConnectionId),
+        results.stream().map(ConnectionBulkSyncResultRead::getConnectionId).toList());
+    assertEquals(jobId, results.get(0).getJob().getId());
+    assertNull(results.get(0).getFailureMessage());
+    assertEquals("another sync running", results.get(1).getFailureMessage());
+    assertNull(results.get(1).getJob());
+    assertNotNull(results.get(2).getFailureMessage());
+    assertNotNull(results.get(3).getFailureMessage());
+    verify(eventRunner, times(1)).startNewManualSync(syncedConnectionId);
+    verify(eventRunner, never()).startNewManualSync(inactiveConnectionId);
+    verify(eventRunner, never()).startNewManualSync(missingConnectionId);
+  }
+
   @Test
   void testResetConnection() throws IOException, JsonValidationException, ConfigNotFoundException {
     final UUID connectionId = UUID.randomUUID();
@@ -1660,10 +1830,64 @@ class SchedulerHandlerTest {
 
     schedulerHandler.applySchemaChangeForSource(request);
 
-    verify(connectionsHandler).updateConnection(
+    // the new stream is configured for the connection without modifying the discovered catalog
+    final io.airbyte.api.model.generated.AirbyteCatalog expectedCatalog = Jsons.clone(catalogWithDiff);
+    expectedCatalog.getStreams().get(1).getConfig()
+        .syncMode(SyncMode.FULL_REFRESH)
+        .destinationSyncMode(io.airbyte.api.model.generated.DestinationSyncMode.OVERWRITE);
+    verify(connectionsHandler).updateConnections(List.of(
         new ConnectionUpdate().connectionId(connection.getConnectionId())
-            .syncCatalog(catalogWithDiff)
-            .sourceCatalogId(discoveredSourceId));
+            .syncCatalog(expectedCatalog)
+            .sourceCatalogId(discoveredSourceId)));
+  }
+
+  @Test
+  void testAutoPropagateSchemaChangeToSeveralConnections() throws IOException, ConfigNotFoundException, JsonValidationException {
+    // Connections of a source are updated together, and what they share is only fetched once.
+    final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
+    final ActorDefinitionVersion sourceVersion = new ActorDefinitionVersion()
+        .withProtocolVersion(SOURCE_PROTOCOL_VERSION);
+    final UUID discoveredSourceId = UUID.randomUUID();
+
+    final List<ConnectionRead> connections = List.of(
+        new ConnectionRead().connectionId(UUID.randomUUID()).syncCatalog(CatalogConverter.toApi(airbyteCatalog, sourceVersion))
+            .nonBreakingChangesPreference(NonBreakingChangesPreference.PROPAGATE_FULLY),
+        new ConnectionRead().connectionId(UUID.randomUUID()).syncCatalog(CatalogConverter.toApi(airbyteCatalog, sourceVersion))
+            .nonBreakingChangesPreference(NonBreakingChangesPreference.PROPAGATE_FULLY),
+        new ConnectionRead().connectionId(UUID.randomUUID()).syncCatalog(CatalogConverter.toApi(airbyteCatalog, sourceVersion))
+            .nonBreakingChangesPreference(NonBreakingChangesPreference.IGNORE));
+    when(connectionsHandler.listConnectionsForSource(source.getSourceId(), false)).thenReturn(new ConnectionReadList().connections(connections));
+    mockNewStreamDiff();
+    when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
+
+    final io.airbyte.api.model.generated.AirbyteCatalog catalogWithDiff =
+        CatalogConverter.toApi(Jsons.clone(airbyteCatalog), sourceVersion);
+    catalogWithDiff.addStreamsItem(new AirbyteStreamAndConfiguration().stream(new AirbyteStream().name(A_DIFFERENT_STREAM)
+        .supportedSyncModes(List.of(SyncMode.FULL_REFRESH)))
+        .config(new AirbyteStreamConfiguration().selected(true)));
+    final io.airbyte.api.model.generated.AirbyteCatalog discoveredCatalog = Jsons.clone(catalogWithDiff);
+
+    final UUID workspaceId = source.getWorkspaceId();
+    when(configRepository.getStandardWorkspaceNoSecrets(workspaceId, true)).thenReturn(new StandardWorkspace().withWorkspaceId(workspaceId));
+
+    final SourceAutoPropagateChange request = new SourceAutoPropagateChange()
+        .sourceId(source.getSourceId())
+        .workspaceId(workspaceId)
+        .catalogId(discoveredSourceId)
+        .catalog(catalogWithDiff);
+
+    schedulerHandler.applySchemaChangeForSource(request);
+
+    final ArgumentCaptor<List<ConnectionUpdate>> updatesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(connectionsHandler).updateConnections(updatesCaptor.capture());
+    assertEquals(List.of(connections.get(0).getConnectionId(), connections.get(1).getConnectionId()),
+        updatesCaptor.getValue().stream().map(ConnectionUpdate::getConnectionId).toList());
+    updatesCaptor.getValue().forEach(update -> assertEquals(discoveredSourceId, update.getSourceCatalogId()));
+    verify(connectionsHandler, never()).updateConnection(any());
+    verify(connectionsHandler, times(2)).trackSchemaChange(eq(workspaceId), any(), any());
+    verify(connectionsHandler).getDiff(any(), any(), any());
+    verify(connectorDefinitionSpecificationHandler).getDestinationSpecification(any());
+    assertEquals(discoveredCatalog, catalogWithDiff);
   }
 
   @Test
@@ -1698,10 +1922,10 @@ class SchedulerHandlerTest {
 
     schedulerHandler.applySchemaChangeForSource(request);
 
-    verify(connectionsHandler).updateConnection(
+    verify(connectionsHandler).updateConnections(List.of(
         new ConnectionUpdate().connectionId(connection.getConnectionId())
             .syncCatalog(catalogWithDiff)
-            .sourceCatalogId(discoveredSourceId));
+            .sourceCatalogId(discoveredSourceId)));
   }
 
   @Test
@@ -1736,10 +1960,10 @@ class SchedulerHandlerTest {
 
     schedulerHandler.applySchemaChangeForSource(request);
 
-    verify(connectionsHandler).updateConnection(
+    verify(connectionsHandler).updateConnections(List.of(
         new ConnectionUpdate().connectionId(connection.getConnectionId())
             .syncCatalog(catalogWithDiff)
-            .sourceCatalogId(discoveredSourceId));
+            .sourceCatalogId(discoveredSourceId)));
   }
 
   @Test
@@ -1776,10 +2000,10 @@ class SchedulerHandlerTest {
 
     schedulerHandler.applySchemaChangeForSource(request);
 
-    verify(connectionsHandler).updateConnection(
+    verify(connectionsHandler).updateConnections(List.of(
         new ConnectionUpdate().connectionId(connection.getConnectionId())
             .syncCatalog(catalogWithNewColumn)
-            .sourceCatalogId(discoveredSourceId));
+            .sourceCatalogId(discoveredSourceId)));
   }
 
   @Test
@@ -1814,7 +2038,7 @@ class SchedulerHandlerTest {
 
     schedulerHandler.applySchemaChangeForSource(request);
 
-    verify(connectionsHandler, times(0)).updateConnection(any());
+    verify(connectionsHandler, never()).updateConnections(any());
   }
 
   @Test
@@ -1885,7 +2109,7 @@ class SchedulerHandlerTest {
         .catalogId(catalogId)
         .catalog(newCatalog);
     spySchedulerHandler.applySchemaChangeForSource(request);
-    verify(connectionsHandler).updateConnection(any());
+    verify(connectionsHandler).updateConnections(any());
     verify(spySchedulerHandler, never()).notifySchemaPropagated(any(), any(), any(), any(), any(), any(), any());
   }
 
@@ -1921,10 +2145,10 @@ class SchedulerHandlerTest {
 
     schedulerHandler.applySchemaChangeForSource(request);
 
-    verify(connectionsHandler).updateConnection(
+    verify(connectionsHandler).updateConnections(List.of(
         new ConnectionUpdate().connectionId(connection.getConnectionId())
             .syncCatalog(discoveredCatalog)
-            .sourceCatalogId(discoveredSourceId));
+            .sourceCatalogId(discoveredSourceId)));
   }
 
   private SourceAutoPropagateChange getMockedSourceAutoPropagateChange() {
@@ -1949,10 +2173,10 @@ class SchedulerHandlerTest {
   private UUID mockSuccessfulDiscoverJob(final SourceConnection source, final ActorDefinitionVersion sourceVersion)
       throws ConfigNotFoundException, IOException {
     final UUID newSourceCatalogId = UUID.randomUUID();
-    final SynchronousResponse<UUID> discoverResponse = (SynchronousResponse<UUID>) jobResponse;
+    final SynchronousResponse<DiscoveredCatalog> discoverResponse = (SynchronousResponse<DiscoveredCatalog>) jobResponse;
     final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
     when(discoverResponse.isSuccess()).thenReturn(true);
-    when(discoverResponse.getOutput()).thenReturn(newSourceCatalogId);
+    when(discoverResponse.getOutput()).thenReturn(new DiscoveredCatalog(newSourceCatalogId, null));
     final ActorCatalog actorCatalog = new ActorCatalog()
         .withCatalog(Jsons.jsonNode(airbyteCatalog))
         .withCatalogHash("")
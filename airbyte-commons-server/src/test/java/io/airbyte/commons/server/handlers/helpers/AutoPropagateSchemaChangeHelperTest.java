@@ -169,6 +169,25 @@ class AutoPropagateSchemaChangeHelperTest {
     Assertions.assertThat(stream1.getConfig().getDestinationSyncMode()).isEqualTo(DestinationSyncMode.OVERWRITE);
   }
 
+  @Test
+  void applyAddDoesNotModifyNewCatalog() {
+    final AirbyteCatalog oldAirbyteCatalog = createAirbyteCatalogWithSchema(NAME1, Jsons.deserialize(OLD_SCHEMA));
+    final AirbyteCatalog newAirbyteCatalog = createAirbyteCatalogWithSchema(NAME2, Jsons.deserialize(NEW_SCHEMA));
+    newAirbyteCatalog.getStreams().get(0).getConfig().selected(false);
+    final AirbyteCatalog newAirbyteCatalogCopy = Jsons.clone(newAirbyteCatalog);
+
+    final StreamTransform transform = new StreamTransform()
+        .streamDescriptor(new StreamDescriptor().name(NAME2))
+        .transformType(StreamTransform.TransformTypeEnum.ADD_STREAM);
+
+    final AirbyteCatalog result =
+        getUpdatedSchema(oldAirbyteCatalog, newAirbyteCatalog, List.of(transform), NonBreakingChangesPreference.PROPAGATE_FULLY,
+            SUPPORTED_DESTINATION_SYNC_MODES).catalog();
+
+    Assertions.assertThat(result.getStreams().get(1).getConfig().getSelected()).isTrue();
+    Assertions.assertThat(newAirbyteCatalog).isEqualTo(newAirbyteCatalogCopy);
+  }
+
   @Test
   void applyAddWithSourceDefinedCursor() {
     final JsonNode oldSchema = Jsons.deserialize(OLD_SCHEMA);
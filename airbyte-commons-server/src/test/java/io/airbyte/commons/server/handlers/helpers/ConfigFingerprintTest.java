@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import io.airbyte.commons.json.Jsons;
+import org.junit.jupiter.api.Test;
+
+class ConfigFingerprintTest {
+
+  @Test
+  void testKeyOrderIsIgnored() {
+    assertEquals(
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"host\": \"localhost\", \"port\": 5432, \"ssl\": {\"mode\": \"require\", \"ca\": \"x\"}}")),
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"ssl\": {\"ca\": \"x\", \"mode\": \"require\"}, \"port\": 5432, \"host\": \"localhost\"}")));
+  }
+
+  @Test
+  void testRotatedSecretChangesTheFingerprint() {
+    final String coordinate = "airbyte_workspace_e0eb0554-ffe0-4e9c-9dc0-ed7f52023eb2_secret_9eba44d8-51e7-48f1-bde2-619af0e42c22";
+    assertNotEquals(
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"password\": {\"_secret\": \"" + coordinate + "_v1\"}}")),
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"password\": {\"_secret\": \"" + coordinate + "_v2\"}}")));
+  }
+
+  @Test
+  void testDifferentConfigsHaveDifferentFingerprints() {
+    assertNotEquals(
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"host\": \"localhost\", \"schemas\": [\"a\", \"b\"]}")),
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"host\": \"localhost\", \"schemas\": [\"b\", \"a\"]}")));
+    assertNotEquals(
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"password\": {\"_secret\": \"airbyte_workspace_1_secret_1_v1\"}}")),
+        ConfigFingerprint.fingerprint(Jsons.deserialize("{\"password\": {\"_secret\": \"airbyte_workspace_1_secret_2_v1\"}}")));
+  }
+
+}
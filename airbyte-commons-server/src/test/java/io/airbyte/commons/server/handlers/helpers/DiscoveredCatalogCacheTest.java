@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache.CachedCatalog;
+import io.airbyte.commons.server.handlers.helpers.DiscoveredCatalogCache.Freshness;
+import io.airbyte.config.ActorCatalog;
+import io.airbyte.config.ActorCatalogFetchEvent;
+import io.airbyte.config.persistence.ConfigNotFoundException;
+import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DiscoveredCatalogCacheTest {
+
+  private static final UUID SOURCE_ID = UUID.randomUUID();
+  private static final UUID CATALOG_ID = UUID.randomUUID();
+  private static final String VERSION = "1.0.0";
+  private static final String FINGERPRINT = "fingerprint";
+  private static final Instant NOW = Instant.parse("2024-01-31T12:00:00Z");
+  private static final AirbyteCatalog CATALOG = new AirbyteCatalog().withStreams(List.of(
+      CatalogHelpers.createAirbyteStream("users", Field.of("id", JsonSchemaType.NUMBER))));
+
+  private ConfigRepository configRepository;
+  private ExecutorService refreshExecutor;
+  private DiscoveredCatalogCache cache;
+
+  @BeforeEach
+  void setup() throws IOException, ConfigNotFoundException {
+    configRepository = mock(ConfigRepository.class);
+    when(configRepository.getActorCatalogById(CATALOG_ID))
+        .thenReturn(new ActorCatalog().withId(CATALOG_ID).withCatalog(Jsons.jsonNode(CATALOG)).withCatalogHash(""));
+    refreshExecutor = Executors.newSingleThreadExecutor();
+    cache = new DiscoveredCatalogCache(configRepository, Duration.ofHours(24), Duration.ofDays(30), 10, refreshExecutor,
+        Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @AfterEach
+  void tearDown() {
+    refreshExecutor.shutdownNow();
+  }
+
+  @Test
+  void testMiss() throws IOException, ConfigNotFoundException {
+    when(configRepository.getMostRecentActorCatalogFetchEvent(SOURCE_ID, VERSION, FINGERPRINT)).thenReturn(Optional.empty());
+
+    assertTrue(cache.get(SOURCE_ID, VERSION, FINGERPRINT).isEmpty());
+  }
+
+  @Test
+  void testFreshHit() throws IOException, ConfigNotFoundException {
+    mockFetchEvent(Duration.ofHours(1));
+
+    assertEquals(Optional.of(new CachedCatalog(CATALOG_ID, CATALOG, Freshness.FRESH)), cache.get(SOURCE_ID, VERSION, FINGERPRINT));
+  }
+
+  @Test
+  void testStaleHit() throws IOException, ConfigNotFoundException {
+    mockFetchEvent(Duration.ofDays(2));
+
+    assertEquals(Optional.of(new CachedCatalog(CATALOG_ID, CATALOG, Freshness.STALE)), cache.get(SOURCE_ID, VERSION, FINGERPRINT));
+  }
+
+  @Test
+  void testExpired() throws IOException, ConfigNotFoundException {
+    mockFetchEvent(Duration.ofDays(31));
+
+    assertTrue(cache.get(SOURCE_ID, VERSION, FINGERPRINT).isEmpty());
+    verify(configRepository, never()).getActorCatalogById(CATALOG_ID);
+  }
+
+  @Test
+  void testCatalogIsReadOnce() throws IOException, ConfigNotFoundException {
+    mockFetchEvent(Duration.ofHours(1));
+
+    cache.get(SOURCE_ID, VERSION, FINGERPRINT);
+    cache.get(SOURCE_ID, VERSION, FINGERPRINT);
+
+    verify(configRepository, times(2)).getMostRecentActorCatalogFetchEvent(SOURCE_ID, VERSION, FINGERPRINT);
+    verify(configRepository, times(1)).getActorCatalogById(CATALOG_ID);
+  }
+
+  @Test
+  void testRefreshesOfTheSameSourceAreDeduplicated() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger refreshes = new AtomicInteger();
+
+    cache.refreshInBackground(SOURCE_ID, () -> {
+      refreshes.incrementAndGet();
+      started.countDown();
+      release.await();
+    });
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    // already being refreshed
+    cache.refreshInBackground(SOURCE_ID, refreshes::incrementAndGet);
+    assertEquals(1, refreshes.get());
+    release.countDown();
+
+    // once the first refresh is done, the source can be refreshed again
+    final CountDownLatch done = new CountDownLatch(1);
+    awaitRefresh(() -> cache.refreshInBackground(SOURCE_ID, done::countDown), done);
+  }
+
+  @Test
+  void testRefreshesAreSkippedWhenTooManyArePending() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger refreshes = new AtomicInteger();
+
+    // one refresh runs and blocks the executor, the others are queued behind it
+    for (int i = 0; i < 100; i++) {
+      cache.refreshInBackground(UUID.randomUUID(), () -> {
+        refreshes.incrementAndGet();
+        release.await();
+      });
+    }
+    // over the limit of pending refreshes
+    cache.refreshInBackground(UUID.randomUUID(), refreshes::incrementAndGet);
+    release.countDown();
+    refreshExecutor.shutdown();
+    assertTrue(refreshExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(100, refreshes.get());
+  }
+
+  private void mockFetchEvent(final Duration age) throws IOException {
+    when(configRepository.getMostRecentActorCatalogFetchEvent(SOURCE_ID, VERSION, FINGERPRINT))
+        .thenReturn(Optional.of(new ActorCatalogFetchEvent()
+            .withActorId(SOURCE_ID)
+            .withActorCatalogId(CATALOG_ID)
+            .withCreatedAt(NOW.minus(age).getEpochSecond())));
+  }
+
+  private static void awaitRefresh(final Runnable schedule, final CountDownLatch done) throws InterruptedException {
+    // the source is released right after the previous refresh completes, retry until it is
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (done.getCount() > 0 && System.nanoTime() < deadline) {
+      schedule.run();
+      done.await(50, TimeUnit.MILLISECONDS);
+    }
+    assertEquals(0, done.getCount());
+  }
+
+}
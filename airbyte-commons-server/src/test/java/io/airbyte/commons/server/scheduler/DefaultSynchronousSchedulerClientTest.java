@@ -295,9 +295,9 @@ class DefaultSynchronousSchedulerClientTest {
               any(
                   ActorContext.class)))
                       .thenReturn(new TemporalResponse<>(jobOutput, createMetadata(true)));
-      final SynchronousResponse<UUID> response =
+      final SynchronousResponse<DiscoveredCatalog> response =
           schedulerClient.createDiscoverSchemaJob(SOURCE_CONNECTION, ACTOR_DEFINITION_VERSION, false, null);
-      assertEquals(expectedCatalogId, response.getOutput());
+      assertEquals(new DiscoveredCatalog(expectedCatalogId, null), response.getOutput());
       verify(configInjector).injectConfig(any(), eq(SOURCE_CONNECTION.getSourceDefinitionId()));
     }
 
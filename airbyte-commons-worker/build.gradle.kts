@@ -84,6 +84,7 @@ dependencies {
     testImplementation(libs.docker.java)
     testImplementation(libs.docker.java.transport.httpclient5)
     testImplementation(libs.reactor.test)
+    testImplementation(libs.kubernetes.server.mock)
     testImplementation(libs.mockk)
 
     testCompileOnly(libs.lombok)
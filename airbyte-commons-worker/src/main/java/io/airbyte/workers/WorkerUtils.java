@@ -5,8 +5,11 @@
 package io.airbyte.workers;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.config.ConnectorJobOutput.OutputType;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.WorkerDestinationConfig;
@@ -36,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +52,8 @@ public class WorkerUtils {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkerUtils.class);
 
+  private static final double CONNECTOR_LOG_MAX_LINES_PER_SECOND = new EnvVariableFeatureFlags().connectorLogMaxLinesPerSecond();
+
   /**
    * Waits until process ends or until time elapses.
    *
@@ -122,6 +128,34 @@ public class WorkerUtils {
     closeProcess(process, Duration.of(10, ChronoUnit.SECONDS));
   }
 
+  /**
+   * Log the output of a connector process, dropping the lines over the connector log rate limit.
+   *
+   * @param is output of the process
+   * @param consumer consumer of the lines
+   * @param caller name of the caller
+   * @param mdcScopeBuilder mdc scope to be used during consumption
+   * @return the gobbler draining the output, null if there is no output
+   */
+  public static LineGobbler gobbleConnectorLogs(final InputStream is,
+                                                final Consumer<String> consumer,
+                                                final String caller,
+                                                final MdcScope.Builder mdcScopeBuilder) {
+    return LineGobbler.gobble(is, consumer, caller, mdcScopeBuilder, CONNECTOR_LOG_MAX_LINES_PER_SECOND);
+  }
+
+  /**
+   * Log how much a connector process wrote to the output drained by a gobbler.
+   *
+   * @param gobbler gobbler draining the output, may be null
+   * @param caller name of the caller
+   */
+  public static void logConnectorLogVolume(final LineGobbler gobbler, final String caller) {
+    if (gobbler != null) {
+      LOGGER.info("{} logged {} line(s), {} byte(s)", caller, gobbler.getLinesRead(), gobbler.getBytesRead());
+    }
+  }
+
   /**
    * Translates a StandardSyncInput into a WorkerSourceConfig. WorkerSourceConfig is a subset of
    * StandardSyncInput.
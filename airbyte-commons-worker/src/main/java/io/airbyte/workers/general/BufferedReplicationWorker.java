@@ -8,6 +8,7 @@ import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import datadog.trace.api.Trace;
 import io.airbyte.commons.concurrency.BoundedConcurrentLinkedQueue;
+import io.airbyte.commons.concurrency.ExecutorFactory;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.timer.Stopwatch;
 import io.airbyte.config.PerformanceMetrics;
@@ -39,7 +40,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -56,6 +56,8 @@ import org.slf4j.MDC;
 public class BufferedReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BufferedReplicationWorker.class);
+  // the stopwatches of the steps that run for every record only time 1 in N records
+  private static final int PER_RECORD_STOPWATCH_SAMPLING_RATE = 16;
 
   private final String jobId;
   private final Integer attempt;
@@ -100,6 +102,21 @@ public class BufferedReplicationWorker implements ReplicationWorker {
                                    final ReplicationFeatureFlagReader replicationFeatureFlagReader,
                                    final ReplicationWorkerHelper replicationWorkerHelper,
                                    final DestinationTimeoutMonitor destinationTimeoutMonitor) {
+    this(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator, srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader,
+        replicationWorkerHelper, destinationTimeoutMonitor, ExecutorFactory.platform());
+  }
+
+  public BufferedReplicationWorker(final String jobId,
+                                   final int attempt,
+                                   final AirbyteSource source,
+                                   final AirbyteDestination destination,
+                                   final SyncPersistence syncPersistence,
+                                   final RecordSchemaValidator recordSchemaValidator,
+                                   final HeartbeatTimeoutChaperone srcHeartbeatTimeoutChaperone,
+                                   final ReplicationFeatureFlagReader replicationFeatureFlagReader,
+                                   final ReplicationWorkerHelper replicationWorkerHelper,
+                                   final DestinationTimeoutMonitor destinationTimeoutMonitor,
+                                   final ExecutorFactory executorFactory) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -114,8 +131,8 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     this.messagesForDestinationQueue = new BoundedConcurrentLinkedQueue<>(destinationMaxBufferSize);
     // readFromSource + processMessage + writeToDestination + readFromDestination +
     // source heartbeat + dest timeout monitor + workload heartbeat = 7 threads
-    this.executors = Executors.newFixedThreadPool(7);
-    this.scheduledExecutors = Executors.newSingleThreadScheduledExecutor();
+    this.executors = executorFactory.newFixedThreadPool("replication-worker", 7);
+    this.scheduledExecutors = executorFactory.newSingleThreadScheduledExecutor("replication-worker-metrics");
     this.isReadFromDestRunning = true;
     this.writeToDestFailed = false;
 
@@ -123,9 +140,9 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     this.destMessagesSent = new AtomicLong();
     this.sourceMessagesRead = new AtomicLong();
 
-    this.readFromSourceStopwatch = new Stopwatch();
-    this.processFromSourceStopwatch = new Stopwatch();
-    this.writeToDestStopwatch = new Stopwatch();
+    this.readFromSourceStopwatch = new Stopwatch(PER_RECORD_STOPWATCH_SAMPLING_RATE);
+    this.processFromSourceStopwatch = new Stopwatch(PER_RECORD_STOPWATCH_SAMPLING_RATE);
+    this.writeToDestStopwatch = new Stopwatch(PER_RECORD_STOPWATCH_SAMPLING_RATE);
     this.readFromDestStopwatch = new Stopwatch();
     this.processFromDestStopwatch = new Stopwatch();
   }
@@ -14,6 +14,7 @@ import io.airbyte.commons.converters.ConnectorConfigUpdater;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.config.ConnectorJobOutput;
 import io.airbyte.config.ConnectorJobOutput.OutputType;
 import io.airbyte.config.FailureReason;
@@ -76,7 +77,7 @@ public class DefaultCheckConnectionWorker implements CheckConnectionWorker {
       final ConnectorJobOutput jobOutput = new ConnectorJobOutput()
           .withOutputType(OutputType.CHECK_CONNECTION);
 
-      LineGobbler.gobble(process.getErrorStream(), LOGGER::error);
+      WorkerUtils.gobbleConnectorLogs(process.getErrorStream(), LOGGER::error, "airbyte-check", MdcScope.DEFAULT_BUILDER);
 
       final Map<Type, List<AirbyteMessage>> messagesByType = WorkerUtils.getMessagesByType(process, streamFactory, 30);
       final Optional<AirbyteConnectionStatus> connectionStatus = messagesByType
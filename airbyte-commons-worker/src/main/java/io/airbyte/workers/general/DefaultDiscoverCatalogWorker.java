@@ -10,6 +10,7 @@ import static io.airbyte.metrics.lib.ApmTraceConstants.Tags.SOURCE_ID_KEY;
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import datadog.trace.api.Trace;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.model.generated.DiscoverCatalogResult;
@@ -17,8 +18,9 @@ import io.airbyte.api.client.model.generated.SourceDiscoverSchemaWriteRequestBod
 import io.airbyte.commons.constants.WorkerConstants;
 import io.airbyte.commons.converters.CatalogClientConverters;
 import io.airbyte.commons.converters.ConnectorConfigUpdater;
-import io.airbyte.commons.io.LineGobbler;
+import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.config.ConnectorJobOutput;
 import io.airbyte.config.ConnectorJobOutput.OutputType;
 import io.airbyte.config.FailureReason;
@@ -34,6 +36,8 @@ import io.airbyte.workers.WorkerUtils;
 import io.airbyte.workers.exception.WorkerException;
 import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.process.IntegrationLauncher;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -53,6 +57,10 @@ public class DefaultDiscoverCatalogWorker implements DiscoverCatalogWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDiscoverCatalogWorker.class);
   private static final String WRITE_DISCOVER_CATALOG_LOGS_TAG = "call to write discover schema result";
+  // the job output is the result of the temporal workflow, which is limited to 2MB and shared with
+  // the rest of the output
+  private static final int MAX_INLINE_CATALOG_BYTES = 256 * 1024;
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
 
   private final IntegrationLauncher integrationLauncher;
   private final AirbyteStreamFactory streamFactory;
@@ -84,7 +92,7 @@ public class DefaultDiscoverCatalogWorker implements DiscoverCatalogWorker {
       final ConnectorJobOutput jobOutput = new ConnectorJobOutput()
           .withOutputType(OutputType.DISCOVER_CATALOG_ID);
 
-      LineGobbler.gobble(process.getErrorStream(), LOGGER::error);
+      WorkerUtils.gobbleConnectorLogs(process.getErrorStream(), LOGGER::error, "airbyte-discover", MdcScope.DEFAULT_BUILDER);
 
       final Map<Type, List<AirbyteMessage>> messagesByType = WorkerUtils.getMessagesByType(process, streamFactory, 30);
 
@@ -121,11 +129,18 @@ public class DefaultDiscoverCatalogWorker implements DiscoverCatalogWorker {
         if (!error.isEmpty()) {
           WorkerUtils.throwWorkerException(error, process);
         }
+        final SourceDiscoverSchemaWriteRequestBody requestBody = buildSourceDiscoverSchemaWriteRequestBody(discoverSchemaInput, catalog.get());
         final DiscoverCatalogResult result =
-            AirbyteApiClient.retryWithJitter(() -> airbyteApiClient.getSourceApi()
-                .writeDiscoverCatalogResult(buildSourceDiscoverSchemaWriteRequestBody(discoverSchemaInput, catalog.get())),
+            AirbyteApiClient.retryWithJitter(() -> airbyteApiClient.getSourceApi().writeDiscoverCatalogResult(requestBody),
                 WRITE_DISCOVER_CATALOG_LOGS_TAG);
         jobOutput.setDiscoverCatalogId(result.getCatalogId());
+        // lets the server answer without reading the catalog it just persisted. The catalog is converted
+        // back from the request the same way the server converts it before persisting it, so that the
+        // fields the API does not carry are dropped from both.
+        final AirbyteCatalog persistedCatalog = CatalogClientConverters.toAirbyteProtocol(requestBody.getCatalog());
+        if (fitsInline(persistedCatalog)) {
+          jobOutput.setDiscoverCatalog(persistedCatalog);
+        }
       } else if (failureReasonOptional.isEmpty()) {
         WorkerUtils.throwWorkerException("Integration failed to output a catalog struct and did not output a failure reason", process);
       }
@@ -139,6 +154,52 @@ public class DefaultDiscoverCatalogWorker implements DiscoverCatalogWorker {
     }
   }
 
+  /**
+   * Whether the catalog serializes to at most {@link #MAX_INLINE_CATALOG_BYTES} bytes of UTF-8. The
+   * serialization is abandoned as soon as the limit is reached, large catalogs are not serialized in
+   * full.
+   */
+  private static boolean fitsInline(final AirbyteCatalog catalog) {
+    try {
+      MAPPER.writeValue(new BoundedByteCounter(MAX_INLINE_CATALOG_BYTES), catalog);
+      return true;
+    } catch (final IOException e) {
+      // thrown by the counter when the limit is reached
+      return false;
+    }
+  }
+
+  /**
+   * Discards what is written to it, failing once more than {@code maxBytes} were written.
+   */
+  private static final class BoundedByteCounter extends OutputStream {
+
+    private final long maxBytes;
+    private long count;
+
+    private BoundedByteCounter(final long maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      add(1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      add(len);
+    }
+
+    private void add(final int bytes) throws IOException {
+      count += bytes;
+      if (count > maxBytes) {
+        throw new IOException("More than " + maxBytes + " bytes were written");
+      }
+    }
+
+  }
+
   // NOTE: This logic is getting moved as part of a bug fix, but appears to be missing functionality.
   // TODO: This logic should validate the path is traversable and not just that the keys exist in the
   // schema.
@@ -9,7 +9,7 @@ import static io.airbyte.metrics.lib.ApmTraceConstants.Tags.JOB_ROOT_KEY;
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import datadog.trace.api.Trace;
-import io.airbyte.commons.io.LineGobbler;
+import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.config.ConnectorJobOutput;
 import io.airbyte.config.ConnectorJobOutput.OutputType;
 import io.airbyte.config.FailureReason;
@@ -55,7 +55,7 @@ public class DefaultGetSpecWorker implements GetSpecWorker {
       process = integrationLauncher.spec(jobRoot);
 
       final ConnectorJobOutput jobOutput = new ConnectorJobOutput().withOutputType(OutputType.SPEC);
-      LineGobbler.gobble(process.getErrorStream(), LOGGER::error);
+      WorkerUtils.gobbleConnectorLogs(process.getErrorStream(), LOGGER::error, "airbyte-spec", MdcScope.DEFAULT_BUILDER);
 
       final Map<Type, List<AirbyteMessage>> messagesByType = WorkerUtils.getMessagesByType(process, streamFactory, 30);
 
@@ -12,14 +12,17 @@ import io.airbyte.api.client.generated.SourceDefinitionApi;
 import io.airbyte.api.client.invoker.generated.ApiException;
 import io.airbyte.api.client.model.generated.SourceDefinitionIdRequestBody;
 import io.airbyte.api.client.model.generated.SourceIdRequestBody;
+import io.airbyte.commons.concurrency.ExecutorFactory;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.converters.ThreadedTimeTracker;
 import io.airbyte.commons.features.FeatureFlags;
+import io.airbyte.featureflag.CachingFeatureFlagClient;
 import io.airbyte.featureflag.ConcurrentSourceStreamRead;
 import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.Context;
 import io.airbyte.featureflag.Destination;
 import io.airbyte.featureflag.DestinationTimeoutSeconds;
+import io.airbyte.featureflag.EvaluationScope;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.FieldSelectionEnabled;
 import io.airbyte.featureflag.Multi;
@@ -29,6 +32,7 @@ import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.featureflag.Source;
 import io.airbyte.featureflag.SourceDefinition;
 import io.airbyte.featureflag.SourceType;
+import io.airbyte.featureflag.UseVirtualThreadsForReplication;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
@@ -134,46 +138,53 @@ public class ReplicationWorkerFactory {
                                   final VoidCallable onReplicationRunning,
                                   final Optional<String> workloadId)
       throws ApiException {
-    final UUID sourceDefinitionId = AirbyteApiClient.retryWithJitter(
-        () -> sourceApi.getSource(
-            new SourceIdRequestBody().sourceId(replicationInput.getSourceId())).getSourceDefinitionId(),
-        "get the source definition for feature flag checks");
-    final HeartbeatMonitor heartbeatMonitor = createHeartbeatMonitor(sourceDefinitionId, sourceDefinitionApi);
-    final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = createHeartbeatTimeoutChaperone(heartbeatMonitor,
-        featureFlagClient, replicationInput, sourceLauncherConfig.getDockerImage(), metricClient);
-    final DestinationTimeoutMonitor destinationTimeout = createDestinationTimeout(featureFlagClient, replicationInput, metricClient);
-    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
+    // the flags read while setting up the replication are resolved once
+    try (final EvaluationScope ignored = CachingFeatureFlagClient.openEvaluationScope(featureFlagClient)) {
+      final UUID sourceDefinitionId = AirbyteApiClient.retryWithJitter(
+          () -> sourceApi.getSource(
+              new SourceIdRequestBody().sourceId(replicationInput.getSourceId())).getSourceDefinitionId(),
+          "get the source definition for feature flag checks");
+      final ExecutorFactory executorFactory =
+          ExecutorFactory.of(featureFlagClient.boolVariation(UseVirtualThreadsForReplication.INSTANCE, getFeatureFlagContext(replicationInput)));
+      log.info("Replication uses virtual threads? {}", executorFactory.usesVirtualThreads());
+      final HeartbeatMonitor heartbeatMonitor = createHeartbeatMonitor(sourceDefinitionId, sourceDefinitionApi);
+      final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = createHeartbeatTimeoutChaperone(heartbeatMonitor,
+          featureFlagClient, replicationInput, sourceLauncherConfig.getDockerImage(), metricClient, executorFactory);
+      final DestinationTimeoutMonitor destinationTimeout =
+          createDestinationTimeout(featureFlagClient, replicationInput, metricClient, executorFactory);
+      final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
 
-    // Enable concurrent stream reads for testing purposes
-    maybeEnableConcurrentStreamReads(sourceLauncherConfig, replicationInput);
+      // Enable concurrent stream reads for testing purposes
+      maybeEnableConcurrentStreamReads(sourceLauncherConfig, replicationInput);
 
-    log.info("Setting up source...");
-    // reset jobs use an empty source to induce resetting all data in destination.
-    final var airbyteSource = replicationInput.getIsReset()
-        ? new EmptyAirbyteSource()
-        : airbyteIntegrationLauncherFactory.createAirbyteSource(sourceLauncherConfig,
-            replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), heartbeatMonitor);
+      log.info("Setting up source...");
+      // reset jobs use an empty source to induce resetting all data in destination.
+      final var airbyteSource = replicationInput.getIsReset()
+          ? new EmptyAirbyteSource()
+          : airbyteIntegrationLauncherFactory.createAirbyteSource(sourceLauncherConfig,
+              replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), heartbeatMonitor);
 
-    log.info("Setting up destination...");
-    final var airbyteDestination = airbyteIntegrationLauncherFactory.createAirbyteDestination(destinationLauncherConfig,
-        replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), destinationTimeout);
+      log.info("Setting up destination...");
+      final var airbyteDestination = airbyteIntegrationLauncherFactory.createAirbyteDestination(destinationLauncherConfig,
+          replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), destinationTimeout);
 
-    final WorkerMetricReporter metricReporter = new WorkerMetricReporter(metricClient, sourceLauncherConfig.getDockerImage());
+      final WorkerMetricReporter metricReporter = new WorkerMetricReporter(metricClient, sourceLauncherConfig.getDockerImage());
 
-    final AnalyticsMessageTracker analyticsMessageTracker = new AnalyticsMessageTracker(trackingClient);
+      final AnalyticsMessageTracker analyticsMessageTracker = new AnalyticsMessageTracker(trackingClient);
 
-    final FieldSelector fieldSelector =
-        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
+      final FieldSelector fieldSelector =
+          createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
 
-    log.info("Setting up replication worker...");
-    final SyncPersistence syncPersistence = createSyncPersistence(syncPersistenceFactory, replicationInput, sourceLauncherConfig);
-    final AirbyteMessageTracker messageTracker = createMessageTracker(syncPersistence, featureFlags, replicationInput, featureFlagClient);
+      log.info("Setting up replication worker...");
+      final SyncPersistence syncPersistence = createSyncPersistence(syncPersistenceFactory, replicationInput, sourceLauncherConfig);
+      final AirbyteMessageTracker messageTracker = createMessageTracker(syncPersistence, featureFlags, replicationInput, featureFlagClient);
 
-    return createReplicationWorker(airbyteSource, airbyteDestination, messageTracker,
-        syncPersistence, recordSchemaValidator, fieldSelector, heartbeatTimeoutChaperone,
-        featureFlagClient, jobRunConfig, replicationInput, airbyteMessageDataExtractor, replicationAirbyteMessageEventPublishingHelper,
-        onReplicationRunning, metricClient, destinationTimeout, workloadApi, workloadEnabled, analyticsMessageTracker,
-        workloadId);
+      return createReplicationWorker(airbyteSource, airbyteDestination, messageTracker,
+          syncPersistence, recordSchemaValidator, fieldSelector, heartbeatTimeoutChaperone,
+          featureFlagClient, jobRunConfig, replicationInput, airbyteMessageDataExtractor, replicationAirbyteMessageEventPublishingHelper,
+          onReplicationRunning, metricClient, destinationTimeout, workloadApi, workloadEnabled, analyticsMessageTracker,
+          workloadId, executorFactory);
+    }
   }
 
   /**
@@ -234,19 +245,22 @@ public class ReplicationWorkerFactory {
                                                                            final FeatureFlagClient featureFlagClient,
                                                                            final ReplicationInput replicationInput,
                                                                            final String sourceDockerImage,
-                                                                           final MetricClient metricClient) {
+                                                                           final MetricClient metricClient,
+                                                                           final ExecutorFactory executorFactory) {
     return new HeartbeatTimeoutChaperone(heartbeatMonitor,
         HeartbeatTimeoutChaperone.DEFAULT_TIMEOUT_CHECK_DURATION,
         featureFlagClient,
         replicationInput.getWorkspaceId(),
         replicationInput.getConnectionId(),
         sourceDockerImage,
-        metricClient);
+        metricClient,
+        executorFactory);
   }
 
   private static DestinationTimeoutMonitor createDestinationTimeout(final FeatureFlagClient featureFlagClient,
                                                                     final ReplicationInput replicationInput,
-                                                                    final MetricClient metricClient) {
+                                                                    final MetricClient metricClient,
+                                                                    final ExecutorFactory executorFactory) {
     final Context context = new Multi(List.of(new Workspace(replicationInput.getWorkspaceId()), new Connection(replicationInput.getConnectionId())));
     final boolean throwExceptionOnDestinationTimeout = featureFlagClient.boolVariation(ShouldFailSyncOnDestinationTimeout.INSTANCE, context);
     final int destinationTimeoutSeconds = featureFlagClient.intVariation(DestinationTimeoutSeconds.INSTANCE, context);
@@ -256,7 +270,8 @@ public class ReplicationWorkerFactory {
         replicationInput.getConnectionId(),
         metricClient,
         Duration.ofSeconds(destinationTimeoutSeconds),
-        throwExceptionOnDestinationTimeout);
+        throwExceptionOnDestinationTimeout,
+        executorFactory);
   }
 
   /**
@@ -313,7 +328,8 @@ public class ReplicationWorkerFactory {
                                                            final WorkloadApi workloadApi,
                                                            final boolean workloadEnabled,
                                                            final AnalyticsMessageTracker analyticsMessageTracker,
-                                                           final Optional<String> workloadId) {
+                                                           final Optional<String> workloadId,
+                                                           final ExecutorFactory executorFactory) {
     final Context flagContext = getFeatureFlagContext(replicationInput);
     final String workerImpl = featureFlagClient.stringVariation(ReplicationWorkerImpl.INSTANCE, flagContext);
     return buildReplicationWorkerInstance(
@@ -340,7 +356,8 @@ public class ReplicationWorkerFactory {
         workloadApi,
         workloadEnabled,
         analyticsMessageTracker,
-        workloadId);
+        workloadId,
+        executorFactory);
   }
 
   private static Context getFeatureFlagContext(final ReplicationInput replicationInput) {
@@ -385,7 +402,8 @@ public class ReplicationWorkerFactory {
                                                                   final WorkloadApi workloadApi,
                                                                   final boolean workloadEnabled,
                                                                   final AnalyticsMessageTracker analyticsMessageTracker,
-                                                                  final Optional<String> workloadId) {
+                                                                  final Optional<String> workloadId,
+                                                                  final ExecutorFactory executorFactory) {
     final ReplicationWorkerHelper replicationWorkerHelper =
         new ReplicationWorkerHelper(airbyteMessageDataExtractor, fieldSelector, mapper, messageTracker, syncPersistence,
             messageEventPublishingHelper, new ThreadedTimeTracker(), onReplicationRunning, workloadApi,
@@ -393,7 +411,7 @@ public class ReplicationWorkerFactory {
     if ("buffered".equals(workerImpl)) {
       metricClient.count(OssMetricsRegistry.REPLICATION_WORKER_CREATED, 1, new MetricAttribute(MetricTags.IMPLEMENTATION, workerImpl));
       return new BufferedReplicationWorker(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator,
-          srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader, replicationWorkerHelper, destinationTimeout);
+          srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader, replicationWorkerHelper, destinationTimeout, executorFactory);
     } else {
       metricClient.count(OssMetricsRegistry.REPLICATION_WORKER_CREATED, 1, new MetricAttribute(MetricTags.IMPLEMENTATION, "default"));
       return new DefaultReplicationWorker(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator,
@@ -60,6 +60,7 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   private final AtomicBoolean inputHasEnded = new AtomicBoolean(false);
 
   private Process destinationProcess = null;
+  private LineGobbler logGobbler = null;
   private AirbyteMessageBufferedWriter writer = null;
   private Iterator<AirbyteMessage> messageIterator = null;
   private Integer exitValue = null;
@@ -105,7 +106,8 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
         WorkerConstants.DESTINATION_CATALOG_JSON_FILENAME,
         protocolSerializer.serialize(destinationConfig.getCatalog()));
     // stdout logs are logged elsewhere since stdout also contains data
-    LineGobbler.gobble(destinationProcess.getErrorStream(), LOGGER::error, "airbyte-destination", CONTAINER_LOG_MDC_BUILDER);
+    logGobbler = WorkerUtils.gobbleConnectorLogs(destinationProcess.getErrorStream(), LOGGER::error, "airbyte-destination",
+        CONTAINER_LOG_MDC_BUILDER);
 
     writer = messageWriterFactory.createWriter(new BufferedWriter(new OutputStreamWriter(destinationProcess.getOutputStream(), Charsets.UTF_8)));
 
@@ -160,6 +162,7 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
 
     LOGGER.debug("Closing destination process");
     WorkerUtils.gentleClose(destinationProcess, 1, TimeUnit.MINUTES);
+    WorkerUtils.logConnectorLogVolume(logGobbler, "airbyte-destination");
     if (destinationProcess.isAlive() || !IGNORED_EXIT_CODES.contains(getExitValue())) {
       final String message =
           destinationProcess.isAlive() ? "Destination has not terminated " : "Destination process exit with code " + getExitValue();
@@ -61,6 +61,7 @@ public class DefaultAirbyteSource implements AirbyteSource {
   private final HeartbeatMonitor heartbeatMonitor;
 
   private Process sourceProcess = null;
+  private LineGobbler logGobbler = null;
   private Iterator<AirbyteMessage> messageIterator = null;
   private Integer exitValue = null;
   private final boolean featureFlagLogConnectorMsgs;
@@ -90,7 +91,7 @@ public class DefaultAirbyteSource implements AirbyteSource {
         // TODO We should be passing a typed state here and use the protocolSerializer
         sourceConfig.getState() == null ? null : Jsons.serialize(sourceConfig.getState().getState()));
     // stdout logs are logged elsewhere since stdout also contains data
-    LineGobbler.gobble(sourceProcess.getErrorStream(), LOGGER::error, "airbyte-source", CONTAINER_LOG_MDC_BUILDER);
+    logGobbler = WorkerUtils.gobbleConnectorLogs(sourceProcess.getErrorStream(), LOGGER::error, "airbyte-source", CONTAINER_LOG_MDC_BUILDER);
 
     logInitialStateAsJSON(sourceConfig);
 
@@ -152,6 +153,7 @@ public class DefaultAirbyteSource implements AirbyteSource {
         sourceProcess,
         GRACEFUL_SHUTDOWN_DURATION.toMillis(),
         TimeUnit.MILLISECONDS);
+    WorkerUtils.logConnectorLogVolume(logGobbler, "airbyte-source");
 
     if (sourceProcess.isAlive() || !IGNORED_EXIT_CODES.contains(getExitValue())) {
       final String message = sourceProcess.isAlive() ? "Source has not terminated " : "Source process exit with code " + getExitValue();
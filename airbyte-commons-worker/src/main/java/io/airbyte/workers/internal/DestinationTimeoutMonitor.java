@@ -7,6 +7,8 @@ package io.airbyte.workers.internal;
 import static java.lang.Thread.sleep;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.concurrency.ExecutorFactory;
+import io.airbyte.commons.timer.CoarseClock;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
@@ -17,9 +19,8 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,10 +45,15 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
   private static final Logger LOGGER = LoggerFactory.getLogger(DestinationTimeoutMonitor.class);
   private static final Duration POLL_INTERVAL = Duration.ofMinutes(1);
 
-  private final AtomicReference<Long> currentAcceptCallStartTime = new AtomicReference<>(null);
-  private final AtomicReference<Long> currentNotifyEndOfInputCallStartTime = new AtomicReference<>(null);
+  // start times are read from the shared coarse clock, accept is timed for every record
+  private static final long NOT_STARTED = Long.MIN_VALUE;
+
+  private final CoarseClock clock = CoarseClock.getDefault();
+  private final AtomicLong currentAcceptCallStartTime = new AtomicLong(NOT_STARTED);
+  private final AtomicLong currentNotifyEndOfInputCallStartTime = new AtomicLong(NOT_STARTED);
   private final UUID workspaceId;
   private ExecutorService lazyExecutorService;
+  private final ExecutorFactory executorFactory;
   private final UUID connectionId;
   private final MetricClient metricClient;
   private final Duration pollInterval;
@@ -61,12 +67,23 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
                                    final Duration timeout,
                                    final boolean throwExceptionOnTimeout,
                                    final Duration pollInterval) {
+    this(workspaceId, connectionId, metricClient, timeout, throwExceptionOnTimeout, pollInterval, ExecutorFactory.platform());
+  }
+
+  public DestinationTimeoutMonitor(final UUID workspaceId,
+                                   final UUID connectionId,
+                                   final MetricClient metricClient,
+                                   final Duration timeout,
+                                   final boolean throwExceptionOnTimeout,
+                                   final Duration pollInterval,
+                                   final ExecutorFactory executorFactory) {
     this.workspaceId = workspaceId;
     this.connectionId = connectionId;
     this.metricClient = metricClient;
     this.timeout = timeout;
     this.throwExceptionOnTimeout = throwExceptionOnTimeout;
     this.pollInterval = pollInterval;
+    this.executorFactory = executorFactory;
   }
 
   public DestinationTimeoutMonitor(final UUID workspaceId,
@@ -77,6 +94,15 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
     this(workspaceId, connectionId, metricClient, timeout, throwExceptionOnTimeout, POLL_INTERVAL);
   }
 
+  public DestinationTimeoutMonitor(final UUID workspaceId,
+                                   final UUID connectionId,
+                                   final MetricClient metricClient,
+                                   final Duration timeout,
+                                   final boolean throwExceptionOnTimeout,
+                                   final ExecutorFactory executorFactory) {
+    this(workspaceId, connectionId, metricClient, timeout, throwExceptionOnTimeout, POLL_INTERVAL, executorFactory);
+  }
+
   /**
    * Keeps track of two tasks:
    *
@@ -146,7 +172,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * {@link io.airbyte.workers.internal.AirbyteDestination#accept} call.
    */
   public void startAcceptTimer() {
-    currentAcceptCallStartTime.set(System.currentTimeMillis());
+    currentAcceptCallStartTime.set(clock.millis());
   }
 
   /**
@@ -155,7 +181,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * sense if there's a previous call to {@link #startAcceptTimer}.
    */
   public void resetAcceptTimer() {
-    currentAcceptCallStartTime.set(null);
+    currentAcceptCallStartTime.set(NOT_STARTED);
   }
 
   /**
@@ -172,7 +198,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * first {@link io.airbyte.workers.internal.AirbyteDestination#notifyEndOfInput} call.
    */
   public void startNotifyEndOfInputTimer() {
-    currentNotifyEndOfInputCallStartTime.set(System.currentTimeMillis());
+    currentNotifyEndOfInputCallStartTime.set(clock.millis());
   }
 
   /**
@@ -181,7 +207,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * makes sense if there's a previous call to {@link #startNotifyEndOfInputTimer}.
    */
   public void resetNotifyEndOfInputTimer() {
-    currentNotifyEndOfInputCallStartTime.set(null);
+    currentNotifyEndOfInputCallStartTime.set(NOT_STARTED);
   }
 
   private void onTimeout(final CompletableFuture<Void> runnableFuture) {
@@ -222,13 +248,13 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
   }
 
   private boolean hasTimedOutOnAccept() {
-    final Long startTime = currentAcceptCallStartTime.get();
+    final long startTime = currentAcceptCallStartTime.get();
 
-    if (startTime != null) {
+    if (startTime != NOT_STARTED) {
       // by the time we get here, currentAcceptCallStartTime might have already been reset.
       // this won't be a problem since we are not getting the start time from currentAcceptCallStartTime
       // but from startTime
-      if (System.currentTimeMillis() - startTime > timeout.toMillis()) {
+      if (clock.millis() - startTime > timeout.toMillis()) {
         LOGGER.error("Destination has timed out on accept call");
         metricClient.count(OssMetricsRegistry.WORKER_DESTINATION_ACCEPT_TIMEOUT, 1,
             new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
@@ -239,13 +265,13 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
   }
 
   private boolean hasTimedOutOnNotifyEndOfInput() {
-    final Long startTime = currentNotifyEndOfInputCallStartTime.get();
+    final long startTime = currentNotifyEndOfInputCallStartTime.get();
 
-    if (startTime != null) {
+    if (startTime != NOT_STARTED) {
       // by the time we get here, currentNotifyEndOfInputCallStartTime might have already been reset.
       // this won't be a problem since we are not getting the start time from
       // currentNotifyEndOfInputCallStartTime but from startTime
-      if (System.currentTimeMillis() - startTime > timeout.toMillis()) {
+      if (clock.millis() - startTime > timeout.toMillis()) {
         LOGGER.error("Destination has timed out on notifyEndOfInput call");
         metricClient.count(OssMetricsRegistry.WORKER_DESTINATION_NOTIFY_END_OF_INPUT_TIMEOUT, 1,
             new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
@@ -281,7 +307,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    */
   private ExecutorService getLazyExecutorService() {
     if (lazyExecutorService == null) {
-      lazyExecutorService = Executors.newFixedThreadPool(1);
+      lazyExecutorService = executorFactory.newFixedThreadPool("destination-timeout-monitor", 1);
     }
 
     return lazyExecutorService;
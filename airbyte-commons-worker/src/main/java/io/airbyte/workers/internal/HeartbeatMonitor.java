@@ -5,10 +5,12 @@
 package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.timer.CoarseClock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import lombok.Getter;
 
@@ -16,32 +18,41 @@ import lombok.Getter;
  * Tracks heartbeats and, when asked, says if it has been too long since the last heartbeat. He's
  * dead Jim!
  *
- * It is ThreadSafe.
+ * It is ThreadSafe. {@link #beat()} is called for every message, so by default it reads the shared
+ * {@link CoarseClock} and only stores a primitive.
  */
 public class HeartbeatMonitor {
 
+  private static final long NEVER = Long.MIN_VALUE;
+
   @Getter
   private final Duration heartbeatFreshnessThreshold;
-  private final Supplier<Instant> nowSupplier;
-  private final AtomicReference<Instant> lastBeat;
+  private final LongSupplier nowMillisSupplier;
+  private final AtomicLong lastBeatMillis;
 
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold) {
-    this(heartbeatFreshnessThreshold, Instant::now);
+    this(heartbeatFreshnessThreshold, CoarseClock.getDefault()::millis);
   }
 
   @VisibleForTesting
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final Supplier<Instant> nowSupplier) {
+    this(heartbeatFreshnessThreshold, () -> {
+      final Instant now = nowSupplier.get();
+      return now == null ? NEVER : now.toEpochMilli();
+    });
+  }
+
+  private HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final LongSupplier nowMillisSupplier) {
     this.heartbeatFreshnessThreshold = heartbeatFreshnessThreshold;
-    this.nowSupplier = nowSupplier;
-    this.lastBeat = new AtomicReference<>(null);
-    lastBeat.set(nowSupplier.get());
+    this.nowMillisSupplier = nowMillisSupplier;
+    this.lastBeatMillis = new AtomicLong(nowMillisSupplier.getAsLong());
   }
 
   /**
    * Register a heartbeat.
    */
   public void beat() {
-    lastBeat.set(nowSupplier.get());
+    lastBeatMillis.set(nowMillisSupplier.getAsLong());
   }
 
   /**
@@ -58,12 +69,12 @@ public class HeartbeatMonitor {
    * Return the time since the last beat. It returns empty is no beat has been performed.
    */
   public Optional<Duration> getTimeSinceLastBeat() {
-    final Instant instantFetched = lastBeat.get();
+    final long lastBeat = lastBeatMillis.get();
 
-    if (instantFetched == null) {
+    if (lastBeat == NEVER) {
       return Optional.empty();
     } else {
-      return Optional.ofNullable(Duration.between(lastBeat.get(), nowSupplier.get()));
+      return Optional.of(Duration.ofMillis(nowMillisSupplier.getAsLong() - lastBeat));
     }
   }
 
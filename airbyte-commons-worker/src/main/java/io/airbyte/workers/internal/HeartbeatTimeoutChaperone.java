@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import static java.lang.Thread.sleep;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.concurrency.ExecutorFactory;
 import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Multi;
@@ -23,7 +24,6 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +50,7 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
   private final FeatureFlagClient featureFlagClient;
   private final UUID workspaceId;
   private ExecutorService lazyExecutorService;
+  private final ExecutorFactory executorFactory;
   private final Optional<Runnable> customMonitor;
   private final UUID connectionId;
   private final String sourceDockerImage;
@@ -62,6 +63,18 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
                                    final UUID connectionId,
                                    final String sourceDockerImage,
                                    final MetricClient metricClient) {
+    this(heartbeatMonitor, timeoutCheckDuration, featureFlagClient, workspaceId, connectionId, sourceDockerImage, metricClient,
+        ExecutorFactory.platform());
+  }
+
+  public HeartbeatTimeoutChaperone(final HeartbeatMonitor heartbeatMonitor,
+                                   final Duration timeoutCheckDuration,
+                                   final FeatureFlagClient featureFlagClient,
+                                   final UUID workspaceId,
+                                   final UUID connectionId,
+                                   final String sourceDockerImage,
+                                   final MetricClient metricClient,
+                                   final ExecutorFactory executorFactory) {
     this.timeoutCheckDuration = timeoutCheckDuration;
     this.heartbeatMonitor = heartbeatMonitor;
     this.featureFlagClient = featureFlagClient;
@@ -69,6 +82,7 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
     this.connectionId = connectionId;
     this.sourceDockerImage = sourceDockerImage;
     this.metricClient = metricClient;
+    this.executorFactory = executorFactory;
     this.customMonitor = Optional.empty();
   }
 
@@ -89,6 +103,7 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
     this.connectionId = connectionId;
     this.sourceDockerImage = "docker image";
     this.metricClient = metricClient;
+    this.executorFactory = ExecutorFactory.platform();
   }
 
   /**
@@ -196,7 +211,7 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
    */
   private ExecutorService getLazyExecutorService() {
     if (lazyExecutorService == null) {
-      lazyExecutorService = Executors.newFixedThreadPool(2);
+      lazyExecutorService = executorFactory.newFixedThreadPool("heartbeat-timeout-chaperone", 2);
     }
 
     return lazyExecutorService;
@@ -8,6 +8,7 @@ import static io.airbyte.commons.constants.WorkerConstants.KubeConstants.INIT_CO
 import static io.airbyte.commons.constants.WorkerConstants.KubeConstants.INIT_CONTAINER_TERMINATION_TIMEOUT;
 import static io.airbyte.commons.constants.WorkerConstants.KubeConstants.POD_READY_TIMEOUT;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.list.Lists;
@@ -23,6 +24,7 @@ import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.workers.helper.ConnectorApmSupportHelper;
 import io.airbyte.workers.models.SecretMetadata;
+import io.airbyte.workers.process.MultiplexedStdioConnection.Stream;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
@@ -49,6 +51,7 @@ import io.fabric8.kubernetes.client.readiness.Readiness;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.ProcessHandle.Info;
 import java.net.ServerSocket;
 import java.net.Socket;
@@ -66,6 +69,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -106,6 +110,11 @@ import org.slf4j.MDC;
  * The docker image used for this pod process must expose a AIRBYTE_ENTRYPOINT which contains the
  * entrypoint we will wrap when creating the main container in the pod.
  * <p>
+ * When a stdio relay image is given, the socat side cars are replaced by a single
+ * {@link MultiplexedStdioRelay} side car, which connects to the parent process and carries stdin,
+ * stdout and stderr over one {@link MultiplexedStdioConnection}. The parent process then listens on
+ * the stdout port only and does not connect to the pod.
+ * <p>
  * See the constructor for more information.
  */
 
@@ -123,6 +132,7 @@ public class KubePodProcess implements KubePod {
   public static final String MAIN_CONTAINER_NAME = "main";
   public static final String SIDECAR_CONTAINER_NAME = "connector-sidecar";
   public static final String INIT_CONTAINER_NAME = "init";
+  public static final String STDIO_RELAY_CONTAINER_NAME = "relay-stdio";
 
   private static final String PIPES_DIR = "/pipes";
   private static final String STDIN_PIPE_FILE = PIPES_DIR + "/stdin";
@@ -166,6 +176,7 @@ public class KubePodProcess implements KubePod {
   private final int stdoutLocalPort;
   private final ServerSocket stderrServerSocket;
   private final int stderrLocalPort;
+  private CompletableFuture<MultiplexedStdioConnection> stdioConnection;
   private final ExecutorService executorService;
   private final CompletableFuture<Integer> exitCodeFuture;
   private final SharedIndexInformer<Pod> podInformer;
@@ -290,6 +301,33 @@ public class KubePodProcess implements KubePod {
     return containerBuilder.build();
   }
 
+  /**
+   * Side car relaying all the stdio of the main container over one connection to the parent process.
+   *
+   * @param image image of an airbyte application, which ships {@link MultiplexedStdioRelay}
+   * @param processRunnerHost host of the parent process
+   * @param stdioLocalPort port the parent process accepts the connection on
+   * @param usesStdin whether the main container reads stdin
+   * @return the relay container
+   */
+  @VisibleForTesting
+  static Container getStdioRelay(final String image,
+                                 final String imagePullPolicy,
+                                 final String processRunnerHost,
+                                 final int stdioLocalPort,
+                                 final boolean usesStdin,
+                                 final List<VolumeMount> volumeMounts,
+                                 final ResourceRequirements resourceRequirements) {
+    return new ContainerBuilder()
+        .withName(STDIO_RELAY_CONTAINER_NAME)
+        .withImage(image)
+        .withCommand(MultiplexedStdioRelay.command(processRunnerHost, stdioLocalPort, PIPES_DIR, usesStdin))
+        .withVolumeMounts(volumeMounts)
+        .withResources(getResourceRequirementsBuilder(resourceRequirements).build())
+        .withImagePullPolicy(imagePullPolicy)
+        .build();
+  }
+
   /**
    * Create port list for pod.
    *
@@ -443,19 +481,25 @@ public class KubePodProcess implements KubePod {
                         final String busyboxImage,
                         final String curlImage,
                         final boolean runSocatInMainContainer,
+                        final String stdioRelayImage,
                         final Map<String, String> envMap,
                         final Map<String, SecretMetadata> secretMap,
                         final Map<Integer, Integer> internalToExternalPorts,
                         final String... args)
       throws IOException, InterruptedException {
     try {
+      final boolean multiplexStdio = stdioRelayImage != null;
       this.fabricClient = fabricClient;
       this.stdoutLocalPort = stdoutLocalPort;
       this.stderrLocalPort = stderrLocalPort;
       this.stdoutServerSocket = new ServerSocket(stdoutLocalPort);
-      this.stderrServerSocket = new ServerSocket(stderrLocalPort);
-      this.executorService = Executors.newFixedThreadPool(2);
-      setupStdOutAndStdErrListeners();
+      this.stderrServerSocket = multiplexStdio ? null : new ServerSocket(stderrLocalPort);
+      this.executorService = Executors.newFixedThreadPool(multiplexStdio ? 1 : 2);
+      if (multiplexStdio) {
+        this.stdioConnection = acceptStdioConnection();
+      } else {
+        setupStdOutAndStdErrListeners();
+      }
 
       if (entrypointOverride != null) {
         LOGGER.info("Found entrypoint override: {}", entrypointOverride);
@@ -539,7 +583,11 @@ public class KubePodProcess implements KubePod {
       final List<Container> socatContainers;
       final String socatCommands;
 
-      if (runSocatInMainContainer) {
+      if (multiplexStdio) {
+        socatContainers = List.of(getStdioRelay(stdioRelayImage, sidecarImagePullPolicy, processRunnerHost, stdoutLocalPort, usesStdin,
+            List.of(pipeVolumeMount, terminationVolumeMount), podResourceRequirements.stdOut()));
+        socatCommands = "";
+      } else if (runSocatInMainContainer) {
         socatContainers = List.of();
 
         final var socatStdinCmd = usesStdin ? String.format("socat -d -d TCP-L:9001 STDOUT > %s &", STDIN_PIPE_FILE) : "";
@@ -675,7 +723,13 @@ public class KubePodProcess implements KubePod {
       final var podIp = getPodIP(fabricClient, podName, namespace);
       LOGGER.info("Pod IP: {}", podIp);
 
-      if (usesStdin) {
+      if (multiplexStdio) {
+        LOGGER.info("Waiting for the stdio relay to connect...");
+        final MultiplexedStdioConnection connection = awaitStdioConnection(stdioConnection);
+        this.stdout = connection.getInputStream(Stream.STDOUT);
+        this.stderr = connection.getInputStream(Stream.STDERR);
+        this.stdin = usesStdin ? connection.getOutputStream(Stream.STDIN) : NullOutputStream.NULL_OUTPUT_STREAM;
+      } else if (usesStdin) {
         LOGGER.info("Creating stdin socket...");
         final var socketToDestStdIo = new Socket(podIp, STDIN_REMOTE_PORT);
         this.stdin = socketToDestStdIo.getOutputStream();
@@ -690,6 +744,31 @@ public class KubePodProcess implements KubePod {
     }
   }
 
+  private CompletableFuture<MultiplexedStdioConnection> acceptStdioConnection() {
+    final var context = MDC.getCopyOfContextMap();
+    return CompletableFuture.supplyAsync(() -> {
+      MDC.setContextMap(context);
+      try {
+        LOGGER.info("Creating stdio socket server...");
+        return MultiplexedStdioConnection.accept(stdoutServerSocket, MultiplexedStdioConnection.DEFAULT_WINDOW_SIZE);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, executorService);
+  }
+
+  // the relay connects as soon as it starts, which is before the pod is ready
+  private static MultiplexedStdioConnection awaitStdioConnection(final CompletableFuture<MultiplexedStdioConnection> connection)
+      throws IOException, InterruptedException {
+    try {
+      return connection.get(POD_READY_TIMEOUT.toMinutes(), TimeUnit.MINUTES);
+    } catch (final ExecutionException e) {
+      throw new IOException("The stdio relay could not connect", e.getCause());
+    } catch (final TimeoutException e) {
+      throw new IOException("The stdio relay did not connect within " + POD_READY_TIMEOUT, e);
+    }
+  }
+
   private void setupStdOutAndStdErrListeners() {
     final var context = MDC.getCopyOfContextMap();
     executorService.submit(() -> {
@@ -819,6 +898,11 @@ public class KubePodProcess implements KubePod {
       Exceptions.swallow(this.stderr::close);
     }
 
+    if (this.stdioConnection != null) {
+      // also closes a connection accepted after the constructor failed
+      this.stdioConnection.thenAccept(MultiplexedStdioConnection::close);
+    }
+
     if (this.stdoutServerSocket != null) {
       Exceptions.swallow(this.stdoutServerSocket::close);
     }
@@ -833,7 +917,10 @@ public class KubePodProcess implements KubePod {
     }
 
     KubePortManagerSingleton.getInstance().offer(stdoutLocalPort);
-    KubePortManagerSingleton.getInstance().offer(stderrLocalPort);
+    // no stderr port is taken when the stdio is multiplexed
+    if (stderrLocalPort > 0) {
+      KubePortManagerSingleton.getInstance().offer(stderrLocalPort);
+    }
 
     if (podDefinition != null) {
       LOGGER.info(prependPodInfo("Closed all resources for pod", podDefinition.getMetadata().getNamespace(), podDefinition.getMetadata().getName()));
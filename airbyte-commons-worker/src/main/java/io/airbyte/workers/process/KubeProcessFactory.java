@@ -26,6 +26,7 @@ import io.airbyte.featureflag.ImageVersion;
 import io.airbyte.featureflag.InjectAwsSecretsToConnectorPods;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.RunSocatInConnectorContainer;
+import io.airbyte.featureflag.StdioRelayImage;
 import io.airbyte.featureflag.UseCustomK8sScheduler;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.workers.exception.WorkerException;
@@ -139,7 +140,9 @@ public class KubeProcessFactory implements ProcessFactory {
       final int stdoutLocalPort = KubePortManagerSingleton.getInstance().take();
       LOGGER.info("{} stdoutLocalPort = {}", podName, stdoutLocalPort);
 
-      final int stderrLocalPort = KubePortManagerSingleton.getInstance().take();
+      // the multiplexed relay carries stderr over the stdout connection
+      final String stdioRelayImage = getStdioRelayImage(imageName, connectionId, workspaceId);
+      final int stderrLocalPort = stdioRelayImage == null ? KubePortManagerSingleton.getInstance().take() : 0;
       LOGGER.info("{} stderrLocalPort = {}", podName, stderrLocalPort);
 
       final WorkerConfigs workerConfigs = workerConfigsProvider.getConfig(resourceType);
@@ -189,6 +192,7 @@ public class KubeProcessFactory implements ProcessFactory {
           workerConfigs.getJobBusyboxImage(),
           workerConfigs.getJobCurlImage(),
           runSocatInMainContainer,
+          stdioRelayImage,
           MoreMaps.merge(jobMetadata, workerConfigs.getEnvMap(), additionalEnvironmentVariables, buildAwsEnvVars(workspaceId)),
           buildSecretMetadataMap(workspaceId),
           internalToExternalPorts,
@@ -260,6 +264,16 @@ public class KubeProcessFactory implements ProcessFactory {
   }
 
   private boolean shouldRunSocatInMainContainer(final String imageName, final UUID connectionId, final UUID workspaceId) {
+    return featureFlagClient.boolVariation(RunSocatInConnectorContainer.INSTANCE, createStdioFlagContext(imageName, connectionId, workspaceId));
+  }
+
+  // null when the stdio is relayed by socat
+  private String getStdioRelayImage(final String imageName, final UUID connectionId, final UUID workspaceId) {
+    final String image = featureFlagClient.stringVariation(StdioRelayImage.INSTANCE, createStdioFlagContext(imageName, connectionId, workspaceId));
+    return image == null || image.isBlank() ? null : image;
+  }
+
+  private static Multi createStdioFlagContext(final String imageName, final UUID connectionId, final UUID workspaceId) {
     final String imageNameWithoutVersion;
     final String imageVersion;
     if (imageName == null) {
@@ -275,12 +289,11 @@ public class KubeProcessFactory implements ProcessFactory {
     final var connectionContext = connectionId != null ? connectionId : UUID_EMPTY;
     final var workspaceContext = workspaceId != null ? workspaceId : UUID_EMPTY;
 
-    return featureFlagClient.boolVariation(RunSocatInConnectorContainer.INSTANCE,
-        new Multi(List.of(
-            new ImageName(imageNameContext),
-            new ImageVersion(imageVersionContext),
-            new Connection(connectionContext),
-            new Workspace(workspaceContext))));
+    return new Multi(List.of(
+        new ImageName(imageNameContext),
+        new ImageVersion(imageVersionContext),
+        new Connection(connectionContext),
+        new Workspace(workspaceContext)));
   }
 
   private Map<String, SecretMetadata> buildSecretMetadataMap(final UUID workspaceId) {
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import io.airbyte.commons.lang.Exceptions;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carries the stdin, stdout and stderr of a connector over a single framed TCP socket, instead of
+ * one socat relay and one socket per stream.
+ * <p>
+ * Each frame is <code>[type: 1 byte][stream: 1 byte][length: 4 bytes][payload: length bytes]</code>.
+ * DATA frames carry stream bytes, CLOSE frames signal the end of a stream and WINDOW frames grant
+ * the peer the right to send more bytes on a stream. Every inbound stream is backed by a bounded
+ * buffer and the peer may never have more unacknowledged bytes in flight than the buffer can hold,
+ * so a slow stdout consumer applies back pressure to stdout only and never blocks stderr.
+ * <p>
+ * The protocol is symmetric: the worker reads {@link Stream#STDOUT} and {@link Stream#STDERR} and
+ * writes {@link Stream#STDIN}, the wrapper running next to the connector does the opposite.
+ */
+@Slf4j
+public class MultiplexedStdioConnection implements AutoCloseable {
+
+  public static final int DEFAULT_WINDOW_SIZE = 1024 * 1024;
+
+  private static final byte FRAME_DATA = 0;
+  private static final byte FRAME_CLOSE = 1;
+  private static final byte FRAME_WINDOW = 2;
+
+  /**
+   * Streams carried by a connection.
+   */
+  public enum Stream {
+
+    STDIN,
+    STDOUT,
+    STDERR;
+
+    byte id() {
+      return (byte) ordinal();
+    }
+
+    static Stream fromId(final byte id) throws IOException {
+      if (id < 0 || id >= values().length) {
+        throw new IOException("Unknown stdio stream id " + id);
+      }
+      return values()[id];
+    }
+
+  }
+
+  private final Socket socket;
+  private final DataInputStream socketIn;
+  private final DataOutputStream socketOut;
+  private final Map<Stream, InboundBuffer> inbound = new EnumMap<>(Stream.class);
+  private final Map<Stream, OutboundStream> outbound = new EnumMap<>(Stream.class);
+  private final Thread readerThread;
+
+  /**
+   * Worker side of a connection: waits for the connector wrapper to connect on the server socket.
+   *
+   * @param serverSocket socket the wrapper connects to
+   * @param windowSize size of the buffer of each inbound stream
+   * @return a connection reading stdout and stderr and writing stdin
+   * @throws IOException if the connection cannot be established
+   */
+  public static MultiplexedStdioConnection accept(final ServerSocket serverSocket, final int windowSize) throws IOException {
+    final Socket socket = serverSocket.accept();
+    socket.setKeepAlive(true);
+    return new MultiplexedStdioConnection(socket, Set.of(Stream.STDOUT, Stream.STDERR), Set.of(Stream.STDIN), windowSize);
+  }
+
+  public MultiplexedStdioConnection(final Socket socket,
+                                    final Set<Stream> inboundStreams,
+                                    final Set<Stream> outboundStreams,
+                                    final int windowSize)
+      throws IOException {
+    this.socket = socket;
+    this.socketIn = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    this.socketOut = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    for (final Stream stream : outboundStreams) {
+      outbound.put(stream, new OutboundStream(stream));
+    }
+    for (final Stream stream : inboundStreams) {
+      inbound.put(stream, new InboundBuffer(stream, windowSize));
+      // grant the peer the whole buffer up front
+      writeFrame(FRAME_WINDOW, stream, intToBytes(windowSize), 4);
+    }
+    this.readerThread = Thread.ofVirtual().name("stdio-mux-reader").start(this::readFrames);
+  }
+
+  /**
+   * Stream of bytes received from the peer on the given stream.
+   */
+  public InputStream getInputStream(final Stream stream) {
+    return requireInbound(stream);
+  }
+
+  /**
+   * Stream of bytes sent to the peer on the given stream. Closing it signals end of stream to the
+   * peer.
+   */
+  public OutputStream getOutputStream(final Stream stream) {
+    final OutboundStream out = outbound.get(stream);
+    if (out == null) {
+      throw new IllegalArgumentException(stream + " is not an outbound stream of this connection");
+    }
+    return out;
+  }
+
+  /**
+   * Number of payload bytes received on the given stream.
+   */
+  public long getBytesReceived(final Stream stream) {
+    return requireInbound(stream).bytesReceived.get();
+  }
+
+  /**
+   * Number of payload bytes sent on the given stream.
+   */
+  public long getBytesSent(final Stream stream) {
+    final OutboundStream out = outbound.get(stream);
+    return out == null ? 0 : out.bytesSent.get();
+  }
+
+  /**
+   * Waits for the peer to close the connection. Called once every outbound stream is closed, so that
+   * closing the socket does not reset the connection while the peer still has bytes to read.
+   *
+   * @param timeout how long to wait
+   * @return true if the peer closed the connection in time
+   */
+  public boolean awaitPeerClose(final Duration timeout) throws InterruptedException {
+    return readerThread.join(timeout);
+  }
+
+  @Override
+  public void close() {
+    Exceptions.swallow(socket::close);
+    readerThread.interrupt();
+    inbound.values().forEach(buffer -> buffer.fail(new EOFException("stdio connection closed")));
+    outbound.values().forEach(OutboundStream::abort);
+  }
+
+  private InboundBuffer requireInbound(final Stream stream) {
+    final InboundBuffer buffer = inbound.get(stream);
+    if (buffer == null) {
+      throw new IllegalArgumentException(stream + " is not an inbound stream of this connection");
+    }
+    return buffer;
+  }
+
+  private void readFrames() {
+    try {
+      while (true) {
+        final byte type;
+        try {
+          type = socketIn.readByte();
+        } catch (final EOFException e) {
+          break;
+        }
+        final Stream stream = Stream.fromId(socketIn.readByte());
+        final int length = socketIn.readInt();
+        switch (type) {
+          case FRAME_DATA -> {
+            final InboundBuffer buffer = requireInboundFrame(stream);
+            buffer.receive(socketIn, length);
+          }
+          case FRAME_CLOSE -> requireInboundFrame(stream).closeFromPeer();
+          case FRAME_WINDOW -> {
+            final int credits = socketIn.readInt();
+            final OutboundStream out = outbound.get(stream);
+            if (out != null) {
+              out.grant(credits);
+            }
+          }
+          default -> throw new IOException("Unknown stdio frame type " + type);
+        }
+      }
+      inbound.values().forEach(InboundBuffer::closeFromPeer);
+    } catch (final IOException e) {
+      if (!socket.isClosed()) {
+        log.warn("Stdio connection failed: {}", e.getMessage());
+      }
+      inbound.values().forEach(buffer -> buffer.fail(e));
+    } finally {
+      outbound.values().forEach(OutboundStream::abort);
+    }
+  }
+
+  private InboundBuffer requireInboundFrame(final Stream stream) throws IOException {
+    final InboundBuffer buffer = inbound.get(stream);
+    if (buffer == null) {
+      throw new IOException("Received a frame for " + stream + " which is not an inbound stream");
+    }
+    return buffer;
+  }
+
+  private void writeFrame(final byte type, final Stream stream, final byte[] payload, final int length) throws IOException {
+    writeFrame(type, stream, payload, 0, length);
+  }
+
+  private void writeFrame(final byte type, final Stream stream, final byte[] payload, final int offset, final int length) throws IOException {
+    synchronized (socketOut) {
+      socketOut.writeByte(type);
+      socketOut.writeByte(stream.id());
+      socketOut.writeInt(length);
+      socketOut.write(payload, offset, length);
+      socketOut.flush();
+    }
+  }
+
+  private static byte[] intToBytes(final int value) {
+    return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+  }
+
+  /**
+   * Bounded ring buffer holding bytes received on a stream until they are read. Bytes read are
+   * granted back to the peer once half of the window has been consumed, to avoid one WINDOW frame
+   * per read.
+   */
+  private final class InboundBuffer extends InputStream {
+
+    private final Stream stream;
+    private final byte[] buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private int head;
+    private int size;
+    private int unacknowledged;
+    private boolean eof;
+    private IOException failure;
+
+    InboundBuffer(final Stream stream, final int capacity) {
+      this.stream = stream;
+      this.buffer = new byte[capacity];
+    }
+
+    void receive(final DataInputStream in, final int length) throws IOException {
+      lock.lock();
+      try {
+        if (size + length > buffer.length) {
+          throw new IOException("Peer exceeded the " + stream + " window");
+        }
+        int remaining = length;
+        while (remaining > 0) {
+          final int tail = (head + size) % buffer.length;
+          final int chunk = Math.min(remaining, buffer.length - tail);
+          in.readFully(buffer, tail, chunk);
+          size += chunk;
+          remaining -= chunk;
+        }
+        bytesReceived.addAndGet(length);
+        notEmpty.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void closeFromPeer() {
+      lock.lock();
+      try {
+        eof = true;
+        notEmpty.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void fail(final IOException e) {
+      lock.lock();
+      try {
+        if (!eof && failure == null) {
+          failure = e;
+        }
+        notEmpty.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      final byte[] single = new byte[1];
+      final int read = read(single, 0, 1);
+      return read == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      final int read;
+      final int toAcknowledge;
+      lock.lock();
+      try {
+        while (size == 0) {
+          if (failure != null) {
+            throw failure;
+          }
+          if (eof) {
+            return -1;
+          }
+          notEmpty.await();
+        }
+        read = Math.min(len, size);
+        final int firstChunk = Math.min(read, buffer.length - head);
+        System.arraycopy(buffer, head, b, off, firstChunk);
+        System.arraycopy(buffer, 0, b, off + firstChunk, read - firstChunk);
+        head = (head + read) % buffer.length;
+        size -= read;
+        unacknowledged += read;
+        if (unacknowledged >= buffer.length / 2 && !eof) {
+          toAcknowledge = unacknowledged;
+          unacknowledged = 0;
+        } else {
+          toAcknowledge = 0;
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while reading " + stream);
+      } finally {
+        lock.unlock();
+      }
+      if (toAcknowledge > 0) {
+        writeFrame(FRAME_WINDOW, stream, intToBytes(toAcknowledge), 4);
+      }
+      return read;
+    }
+
+    @Override
+    public int available() {
+      lock.lock();
+      try {
+        return size;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+  }
+
+  /**
+   * Output stream that only sends as many bytes as the peer granted for the stream.
+   */
+  private final class OutboundStream extends OutputStream {
+
+    private final Stream stream;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition creditsAvailable = lock.newCondition();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private long credits;
+    private boolean closed;
+
+    OutboundStream(final Stream stream) {
+      this.stream = stream;
+    }
+
+    void grant(final int granted) {
+      lock.lock();
+      try {
+        credits += granted;
+        creditsAvailable.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void abort() {
+      lock.lock();
+      try {
+        closed = true;
+        creditsAvailable.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      int offset = off;
+      int remaining = len;
+      while (remaining > 0) {
+        final int chunk = acquire(remaining);
+        writeFrame(FRAME_DATA, stream, b, offset, chunk);
+        bytesSent.addAndGet(chunk);
+        offset += chunk;
+        remaining -= chunk;
+      }
+    }
+
+    private int acquire(final int wanted) throws IOException {
+      lock.lock();
+      try {
+        while (credits == 0 && !closed) {
+          creditsAvailable.await();
+        }
+        if (closed) {
+          throw new IOException(stream + " is closed");
+        }
+        final int granted = (int) Math.min(wanted, credits);
+        credits -= granted;
+        return granted;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while writing " + stream);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      lock.lock();
+      try {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        creditsAvailable.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      writeFrame(FRAME_CLOSE, stream, new byte[0], 0);
+    }
+
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import io.airbyte.workers.process.MultiplexedStdioConnection.Stream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-pod side of a {@link MultiplexedStdioConnection}: relays the stdio named pipes of a connector
+ * pod to the worker over one socket, in place of one socat relay container and one worker port per
+ * stream.
+ * <p>
+ * It runs as the only relay container of the pod and connects to the worker, so the worker no
+ * longer has to reach the pod on a stdin port. It ends once the connector closed stdout and stderr
+ * and the worker read them, or after {@link #PEER_CLOSE_TIMEOUT} if the worker went away.
+ * <p>
+ * Usage: <code>MultiplexedStdioRelay &lt;worker host&gt; &lt;worker port&gt; &lt;pipes dir&gt;
+ * &lt;uses stdin&gt;</code>
+ */
+@Slf4j
+public final class MultiplexedStdioRelay {
+
+  static final String STDIN_PIPE = "stdin";
+  static final String STDOUT_PIPE = "stdout";
+  static final String STDERR_PIPE = "stderr";
+
+  // the worker starts listening before it creates the pod, it may only be briefly unreachable
+  private static final Duration CONNECT_TIMEOUT = Duration.ofMinutes(2);
+  private static final Duration CONNECT_RETRY_DELAY = Duration.ofSeconds(1);
+  // same as the -t 60 of the socat relays
+  private static final Duration PEER_CLOSE_TIMEOUT = Duration.ofSeconds(60);
+
+  private MultiplexedStdioRelay() {}
+
+  /**
+   * Command of the relay container.
+   *
+   * @param workerHost host of the worker
+   * @param workerPort port the worker accepts the connection on
+   * @param pipesDir directory of the stdio named pipes
+   * @param usesStdin whether the connector reads stdin
+   * @return the command
+   */
+  static List<String> command(final String workerHost, final int workerPort, final String pipesDir, final boolean usesStdin) {
+    // the relay runs from an airbyte application image, whose libraries include this class
+    return List.of("java", "-cp", "/app/airbyte-app/lib/*", MultiplexedStdioRelay.class.getName(),
+        workerHost, String.valueOf(workerPort), pipesDir, String.valueOf(usesStdin));
+  }
+
+  public static void main(final String[] args) throws Exception {
+    if (args.length != 4) {
+      throw new IllegalArgumentException("Usage: MultiplexedStdioRelay <worker host> <worker port> <pipes dir> <uses stdin>");
+    }
+    run(args[0], Integer.parseInt(args[1]), Path.of(args[2]), Boolean.parseBoolean(args[3]));
+  }
+
+  static void run(final String workerHost, final int workerPort, final Path pipesDir, final boolean usesStdin)
+      throws IOException, InterruptedException {
+    try (final MultiplexedStdioConnection connection = new MultiplexedStdioConnection(
+        connect(workerHost, workerPort),
+        usesStdin ? Set.of(Stream.STDIN) : Set.of(),
+        Set.of(Stream.STDOUT, Stream.STDERR),
+        MultiplexedStdioConnection.DEFAULT_WINDOW_SIZE)) {
+      if (usesStdin) {
+        // not joined: the connector may exit without reading all of its input
+        Thread.ofPlatform().name("relay-stdin").daemon(true)
+            .start(() -> relay(connection.getInputStream(Stream.STDIN), pipesDir.resolve(STDIN_PIPE), Stream.STDIN));
+      }
+      final Thread stdout = Thread.ofPlatform().name("relay-stdout")
+          .start(() -> relay(pipesDir.resolve(STDOUT_PIPE), connection.getOutputStream(Stream.STDOUT), Stream.STDOUT));
+      final Thread stderr = Thread.ofPlatform().name("relay-stderr")
+          .start(() -> relay(pipesDir.resolve(STDERR_PIPE), connection.getOutputStream(Stream.STDERR), Stream.STDERR));
+      stdout.join();
+      stderr.join();
+
+      if (!connection.awaitPeerClose(PEER_CLOSE_TIMEOUT)) {
+        log.warn("The worker did not close the stdio connection within {}", PEER_CLOSE_TIMEOUT);
+      }
+      log.info("Relayed {} stdin, {} stdout and {} stderr bytes",
+          usesStdin ? connection.getBytesReceived(Stream.STDIN) : 0,
+          connection.getBytesSent(Stream.STDOUT),
+          connection.getBytesSent(Stream.STDERR));
+    }
+  }
+
+  private static Socket connect(final String host, final int port) throws IOException, InterruptedException {
+    final Instant deadline = Instant.now().plus(CONNECT_TIMEOUT);
+    while (true) {
+      try {
+        final Socket socket = new Socket(host, port);
+        socket.setKeepAlive(true);
+        return socket;
+      } catch (final IOException e) {
+        if (Instant.now().isAfter(deadline)) {
+          throw e;
+        }
+        log.info("Could not connect to the worker at {}:{}, retrying: {}", host, port, e.getMessage());
+        Thread.sleep(CONNECT_RETRY_DELAY);
+      }
+    }
+  }
+
+  // connector output: from the pipe to the worker, ends when the connector closes the pipe
+  private static void relay(final Path pipe, final OutputStream out, final Stream stream) {
+    try (final InputStream in = Files.newInputStream(pipe); out) {
+      in.transferTo(out);
+    } catch (final IOException e) {
+      log.warn("Stopped relaying {}: {}", stream, e.getMessage());
+    }
+  }
+
+  // connector input: from the worker to the pipe, opening the pipe waits for the connector to read it
+  private static void relay(final InputStream in, final Path pipe, final Stream stream) {
+    try (in; final OutputStream out = Files.newOutputStream(pipe)) {
+      in.transferTo(out);
+    } catch (final IOException e) {
+      log.warn("Stopped relaying {}: {}", stream, e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import io.airbyte.commons.timer.CoarseClock;
+import io.airbyte.commons.timer.Stopwatch;
+import io.airbyte.workers.internal.HeartbeatMonitor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-record overhead of the clock reads done on the replication hot path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class PerRecordTimingBenchmark {
+
+  private final CoarseClock coarseClock = CoarseClock.getDefault();
+  private final HeartbeatMonitor heartbeatMonitor = new HeartbeatMonitor(Duration.ofMinutes(1));
+  private final HeartbeatMonitor instantHeartbeatMonitor = new HeartbeatMonitor(Duration.ofMinutes(1), Instant::now);
+  private final Stopwatch stopwatch = new Stopwatch();
+  private final Stopwatch sampledStopwatch = new Stopwatch(100);
+
+  @Benchmark
+  public Instant instantNow() {
+    return Instant.now();
+  }
+
+  @Benchmark
+  public long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  @Benchmark
+  public long coarseClockMillis() {
+    return coarseClock.millis();
+  }
+
+  @Benchmark
+  public void heartbeatWithInstant() {
+    instantHeartbeatMonitor.beat();
+  }
+
+  @Benchmark
+  public void heartbeatWithCoarseClock() {
+    heartbeatMonitor.beat();
+  }
+
+  @Benchmark
+  public void stopwatch() {
+    try (final var ignored = stopwatch.start()) {
+      // measures the stopwatch itself
+    }
+  }
+
+  @Benchmark
+  public void sampledStopwatch() {
+    try (final var ignored = sampledStopwatch.start()) {
+      // measures the stopwatch itself
+    }
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {PerRecordTimingBenchmark.class.getSimpleName()});
+  }
+
+}
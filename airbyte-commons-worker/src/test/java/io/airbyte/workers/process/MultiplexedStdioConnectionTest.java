@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.workers.process.MultiplexedStdioConnection.Stream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(value = 30,
+         unit = TimeUnit.SECONDS)
+class MultiplexedStdioConnectionTest {
+
+  private static final int WINDOW_SIZE = 64;
+
+  private ServerSocket serverSocket;
+  private MultiplexedStdioConnection worker;
+  private MultiplexedStdioConnection connector;
+
+  @BeforeEach
+  void setup() throws Exception {
+    serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    final CompletableFuture<MultiplexedStdioConnection> accepted = CompletableFuture.supplyAsync(() -> {
+      try {
+        return MultiplexedStdioConnection.accept(serverSocket, WINDOW_SIZE);
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    final Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+    connector = new MultiplexedStdioConnection(socket, Set.of(Stream.STDIN), Set.of(Stream.STDOUT, Stream.STDERR), WINDOW_SIZE);
+    worker = accepted.get(10, TimeUnit.SECONDS);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    worker.close();
+    connector.close();
+    serverSocket.close();
+  }
+
+  @Test
+  void testStreamsAreCarriedOverOneSocket() throws Exception {
+    try (final OutputStream stdin = worker.getOutputStream(Stream.STDIN)) {
+      stdin.write("config".getBytes(StandardCharsets.UTF_8));
+    }
+    try (final OutputStream stdout = connector.getOutputStream(Stream.STDOUT)) {
+      stdout.write("record".getBytes(StandardCharsets.UTF_8));
+    }
+    try (final OutputStream stderr = connector.getOutputStream(Stream.STDERR)) {
+      stderr.write("log".getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertEquals("config", new String(connector.getInputStream(Stream.STDIN).readAllBytes(), StandardCharsets.UTF_8));
+    assertEquals("record", new String(worker.getInputStream(Stream.STDOUT).readAllBytes(), StandardCharsets.UTF_8));
+    assertEquals("log", new String(worker.getInputStream(Stream.STDERR).readAllBytes(), StandardCharsets.UTF_8));
+    assertEquals(6, worker.getBytesReceived(Stream.STDOUT));
+    assertEquals(6, worker.getBytesSent(Stream.STDIN));
+  }
+
+  @Test
+  void testPayloadLargerThanWindowIsFlowControlled() throws Exception {
+    final byte[] payload = new byte[WINDOW_SIZE * 100];
+    Arrays.fill(payload, (byte) 'x');
+
+    final CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+      try (final OutputStream stdout = connector.getOutputStream(Stream.STDOUT)) {
+        stdout.write(payload);
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    assertArrayEquals(payload, worker.getInputStream(Stream.STDOUT).readAllBytes());
+    writer.get(10, TimeUnit.SECONDS);
+    assertEquals(payload.length, connector.getBytesSent(Stream.STDOUT));
+  }
+
+  @Test
+  void testSlowStdoutDoesNotBlockStderr() throws Exception {
+    final byte[] payload = new byte[WINDOW_SIZE * 10];
+    // nobody reads stdout, so this writer stalls once the window is exhausted
+    CompletableFuture.runAsync(() -> {
+      try {
+        connector.getOutputStream(Stream.STDOUT).write(payload);
+      } catch (final IOException ignored) {
+        // the connection is closed at the end of the test
+      }
+    });
+
+    try (final OutputStream stderr = connector.getOutputStream(Stream.STDERR)) {
+      stderr.write("still flowing".getBytes(StandardCharsets.UTF_8));
+    }
+    assertEquals("still flowing", new String(worker.getInputStream(Stream.STDERR).readAllBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testReadFailsOnceTheConnectionIsClosed() throws IOException {
+    final InputStream stdout = worker.getInputStream(Stream.STDOUT);
+    worker.close();
+
+    assertThrows(IOException.class, stdout::read);
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.ResourceRequirements;
+import io.airbyte.workers.process.MultiplexedStdioConnection.Stream;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Creates a connector pod with a stdio relay on the fabric8 mock server, then runs the relay the
+ * pod spec describes against a worker listening on a loopback socket.
+ */
+@EnableKubernetesMockClient(crud = true)
+@Timeout(value = 30,
+         unit = TimeUnit.SECONDS)
+class MultiplexedStdioRelayTest {
+
+  private static final String NAMESPACE = "default";
+  private static final String HOST = InetAddress.getLoopbackAddress().getHostAddress();
+  private static final String IMAGE = "airbyte/container-orchestrator:dev";
+
+  static KubernetesClient client;
+
+  @TempDir
+  Path pipesDir;
+
+  @Test
+  void testPodRelaysStdioOverOneConnection() throws Exception {
+    try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      final List<String> command = createPod(serverSocket.getLocalPort(), true).getCommand();
+      assertEquals(MultiplexedStdioRelay.class.getName(), command.get(3));
+      final List<String> args = command.subList(4, command.size());
+      assertEquals(List.of(HOST, String.valueOf(serverSocket.getLocalPort()), "/pipes", "true"), args);
+
+      Files.writeString(pipesDir.resolve(MultiplexedStdioRelay.STDOUT_PIPE), "{\"type\":\"RECORD\"}\n");
+      Files.writeString(pipesDir.resolve(MultiplexedStdioRelay.STDERR_PIPE), "connector log\n");
+      final CompletableFuture<Void> relay = runRelay(args.get(0), Integer.parseInt(args.get(1)), Boolean.parseBoolean(args.get(3)));
+
+      try (final MultiplexedStdioConnection worker = MultiplexedStdioConnection.accept(serverSocket, MultiplexedStdioConnection.DEFAULT_WINDOW_SIZE)) {
+        try (final OutputStream stdin = worker.getOutputStream(Stream.STDIN)) {
+          stdin.write("{\"type\":\"STATE\"}\n".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals("{\"type\":\"RECORD\"}\n", new String(worker.getInputStream(Stream.STDOUT).readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals("connector log\n", new String(worker.getInputStream(Stream.STDERR).readAllBytes(), StandardCharsets.UTF_8));
+        awaitContent(pipesDir.resolve(MultiplexedStdioRelay.STDIN_PIPE), "{\"type\":\"STATE\"}\n");
+      }
+      // the relay ends once the worker closed the connection
+      relay.get(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void testPodWithoutStdinOnlyRelaysOutput() throws Exception {
+    try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      final List<String> command = createPod(serverSocket.getLocalPort(), false).getCommand();
+      assertEquals("false", command.get(command.size() - 1));
+
+      Files.writeString(pipesDir.resolve(MultiplexedStdioRelay.STDOUT_PIPE), "spec\n");
+      Files.writeString(pipesDir.resolve(MultiplexedStdioRelay.STDERR_PIPE), "");
+      final CompletableFuture<Void> relay = runRelay(HOST, serverSocket.getLocalPort(), false);
+
+      try (final MultiplexedStdioConnection worker = MultiplexedStdioConnection.accept(serverSocket, MultiplexedStdioConnection.DEFAULT_WINDOW_SIZE)) {
+        assertEquals("spec\n", new String(worker.getInputStream(Stream.STDOUT).readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(0, worker.getInputStream(Stream.STDERR).readAllBytes().length);
+        assertEquals(5, worker.getBytesReceived(Stream.STDOUT));
+      }
+      relay.get(10, TimeUnit.SECONDS);
+      assertTrue(Files.notExists(pipesDir.resolve(MultiplexedStdioRelay.STDIN_PIPE)));
+    }
+  }
+
+  // the relay container of the pod, as read back from the API
+  private Container createPod(final int stdioLocalPort, final boolean usesStdin) {
+    final Container relay = KubePodProcess.getStdioRelay(IMAGE, "IfNotPresent", HOST, stdioLocalPort, usesStdin,
+        List.of(new VolumeMountBuilder().withName("airbyte-pipes").withMountPath("/pipes").build()), new ResourceRequirements());
+    final String podName = "source-relay-" + stdioLocalPort;
+    client.pods().inNamespace(NAMESPACE).resource(new PodBuilder()
+        .withNewMetadata().withName(podName).endMetadata()
+        .withNewSpec().withContainers(relay).endSpec()
+        .build()).create();
+
+    final Pod pod = client.pods().inNamespace(NAMESPACE).withName(podName).get();
+    final List<Container> containers = pod.getSpec().getContainers();
+    assertEquals(1, containers.size());
+    assertEquals(KubePodProcess.STDIO_RELAY_CONTAINER_NAME, containers.get(0).getName());
+    assertEquals(IMAGE, containers.get(0).getImage());
+    return containers.get(0);
+  }
+
+  // runs the relay with the pipes of the test instead of those of the pod
+  private CompletableFuture<Void> runRelay(final String host, final int port, final boolean usesStdin) {
+    return CompletableFuture.runAsync(() -> {
+      try {
+        MultiplexedStdioRelay.run(host, port, pipesDir, usesStdin);
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private static void awaitContent(final Path file, final String expected) throws IOException, InterruptedException {
+    final Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+    while (!(Files.exists(file) && expected.equals(Files.readString(file))) && Instant.now().isBefore(deadline)) {
+      Thread.sleep(50);
+    }
+    assertEquals(expected, Files.readString(file));
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Hands out executors for tasks that spend most of their time blocked on I/O or sleeping
+ * (replication stages, heartbeats, timeout monitors).
+ * <p>
+ * With {@link #platform()} the executors are the usual platform thread pools. With
+ * {@link #virtual()} every task runs on its own virtual thread, so the pool size only documents the
+ * expected concurrency and a blocked task no longer holds an OS thread. Cancellation and interrupt
+ * semantics are the same in both modes: {@link ExecutorService#shutdownNow()} interrupts the running
+ * tasks.
+ */
+public final class ExecutorFactory {
+
+  private static final ExecutorFactory PLATFORM = new ExecutorFactory(false);
+  private static final ExecutorFactory VIRTUAL = new ExecutorFactory(true);
+
+  private final boolean useVirtualThreads;
+
+  private ExecutorFactory(final boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+  public static ExecutorFactory platform() {
+    return PLATFORM;
+  }
+
+  public static ExecutorFactory virtual() {
+    return VIRTUAL;
+  }
+
+  public static ExecutorFactory of(final boolean useVirtualThreads) {
+    return useVirtualThreads ? VIRTUAL : PLATFORM;
+  }
+
+  public boolean usesVirtualThreads() {
+    return useVirtualThreads;
+  }
+
+  /**
+   * Executor running at most nThreads tasks concurrently on platform threads, or one virtual thread
+   * per task.
+   *
+   * @param name prefix of the thread names
+   * @param nThreads number of platform threads
+   * @return the executor
+   */
+  public ExecutorService newFixedThreadPool(final String name, final int nThreads) {
+    if (useVirtualThreads) {
+      return Executors.newThreadPerTaskExecutor(threadFactory(name));
+    }
+    return Executors.newFixedThreadPool(nThreads, threadFactory(name));
+  }
+
+  /**
+   * Single-threaded scheduled executor. In virtual mode the scheduled tasks run on virtual threads.
+   *
+   * @param name prefix of the thread names
+   * @return the executor
+   */
+  public ScheduledExecutorService newSingleThreadScheduledExecutor(final String name) {
+    return new ScheduledThreadPoolExecutor(1, threadFactory(name));
+  }
+
+  private ThreadFactory threadFactory(final String name) {
+    if (useVirtualThreads) {
+      return Thread.ofVirtual().name(name + "-", 0).factory();
+    }
+    return Thread.ofPlatform().name(name + "-", 0).factory();
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the places where a virtual thread stayed pinned to its carrier thread (typically blocking
+ * inside a synchronized block) for longer than a threshold. Relies on the JFR
+ * <code>jdk.VirtualThreadPinned</code> event, so it can be enabled in production without restarting
+ * the JVM with <code>-Djdk.tracePinnedThreads</code>.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int MAX_FRAMES = 8;
+
+  private final RecordingStream recordingStream;
+  private final AtomicLong pinnedCount = new AtomicLong();
+
+  public VirtualThreadPinningMonitor(final Duration threshold) {
+    this.recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+  }
+
+  /**
+   * Start listening for pinning events in the background.
+   */
+  public void start() {
+    recordingStream.startAsync();
+  }
+
+  /**
+   * Number of pinning events seen since the monitor started.
+   */
+  public long getPinnedCount() {
+    return pinnedCount.get();
+  }
+
+  private void onPinned(final RecordedEvent event) {
+    pinnedCount.incrementAndGet();
+    final String stack = event.getStackTrace() == null ? "unknown"
+        : event.getStackTrace().getFrames().stream()
+            .limit(MAX_FRAMES)
+            .map(VirtualThreadPinningMonitor::formatFrame)
+            .collect(Collectors.joining("\n\tat "));
+    LOGGER.warn("Virtual thread {} was pinned for {} ms at:\n\tat {}",
+        event.getThread() == null ? "unknown" : event.getThread().getJavaName(),
+        event.getDuration().toMillis(),
+        stack);
+  }
+
+  private static String formatFrame(final RecordedFrame frame) {
+    return String.format("%s.%s(line %d)",
+        frame.getMethod().getType().getName(),
+        frame.getMethod().getName(),
+        frame.getLineNumber());
+  }
+
+  @Override
+  public void close() {
+    recordingStream.close();
+  }
+
+}
@@ -22,6 +22,7 @@ public class EnvVariableFeatureFlags implements FeatureFlags {
   public static final String APPLY_FIELD_SELECTION = "APPLY_FIELD_SELECTION";
 
   public static final String FIELD_SELECTION_WORKSPACES = "FIELD_SELECTION_WORKSPACES";
+  public static final String CONNECTOR_LOG_MAX_LINES_PER_SECOND = "CONNECTOR_LOG_MAX_LINES_PER_SECOND";
 
   public static final String PROCESS_IN_GCP_DATA_PLANE = "PROCESS_IN_GCP_DATA_PLANE";
   public static final String PROCESS_IN_GCP_DATA_PLANE_WORKSPACE_IDS = "PROCESS_IN_GCP_DATA_PLANE_WORKSPACE_IDS";
@@ -58,6 +59,11 @@ public class EnvVariableFeatureFlags implements FeatureFlags {
     return getEnvOrDefault(FIELD_SELECTION_WORKSPACES, "", (arg) -> arg);
   }
 
+  @Override
+  public double connectorLogMaxLinesPerSecond() {
+    return getEnvOrDefault(CONNECTOR_LOG_MAX_LINES_PER_SECOND, 0.0, Double::parseDouble);
+  }
+
   /**
    * Get env variable.
    *
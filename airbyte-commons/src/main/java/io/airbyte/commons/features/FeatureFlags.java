@@ -33,4 +33,11 @@ public interface FeatureFlags {
    */
   String fieldSelectionWorkspaces();
 
+  /**
+   * Get the maximum number of log lines per second kept from the output of a connector process.
+   *
+   * @return the maximum line rate, 0 for no limit
+   */
+  double connectorLogMaxLinesPerSecond();
+
 }
@@ -4,6 +4,8 @@
 
 package io.airbyte.commons.io;
 
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.RateLimiter;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.logging.MdcScope;
 import java.io.BufferedReader;
@@ -11,9 +13,13 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +33,18 @@ public class LineGobbler implements VoidCallable {
   private static final Logger LOGGER = LoggerFactory.getLogger(LineGobbler.class);
   private static final String GENERIC = "generic";
 
+  /**
+   * Value for the line rate limit that disables it.
+   */
+  public static final double UNLIMITED = 0;
+
+  /**
+   * Every gobbled stream gets its own virtual thread: draining a stream is a blocking read loop, so
+   * this keeps ordering per stream without parking a platform thread for each process output.
+   */
+  private static final ExecutorService SHARED_EXECUTOR =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("line-gobbler-", 0).factory());
+
   /**
    * Connect an input stream to be consumed by consumer.
    *
@@ -68,13 +86,36 @@ public class LineGobbler implements VoidCallable {
    * @param mdcScopeBuilder mdc scope to be used during consumption
    */
   public static void gobble(final InputStream is, final Consumer<String> consumer, final String caller, final MdcScope.Builder mdcScopeBuilder) {
+    gobble(is, consumer, caller, mdcScopeBuilder, UNLIMITED);
+  }
+
+  /**
+   * Connect an input stream to be consumed by consumer with an {@link MdcScope}, caller label and a
+   * maximum line rate. Streams are drained on the shared gobbler executor, one task per stream, so
+   * lines of a given stream are always delivered in order. Lines exceeding the rate limit are dropped
+   * and a summary of how many lines were dropped is delivered once the rate allows it again.
+   *
+   * @param is input stream
+   * @param consumer consumer
+   * @param caller name of caller
+   * @param mdcScopeBuilder mdc scope to be used during consumption
+   * @param maxLinesPerSecond maximum number of lines per second delivered to the consumer, or
+   *        {@link #UNLIMITED}
+   * @return the gobbler draining the stream, or null if the input stream is null
+   */
+  public static LineGobbler gobble(final InputStream is,
+                                   final Consumer<String> consumer,
+                                   final String caller,
+                                   final MdcScope.Builder mdcScopeBuilder,
+                                   final double maxLinesPerSecond) {
     if (is != null) {
-      final ExecutorService executor = Executors.newSingleThreadExecutor();
       final Map<String, String> mdc = MDC.getCopyOfContextMap();
-      final var gobbler = new LineGobbler(is, consumer, executor, mdc, caller, mdcScopeBuilder);
-      executor.submit(gobbler);
+      final var gobbler = new LineGobbler(is, consumer, null, mdc, caller, mdcScopeBuilder, maxLinesPerSecond);
+      SHARED_EXECUTOR.submit(gobbler);
+      return gobbler;
     } else {
       LOGGER.warn("Unable to gobble line(s) from input stream provided by {}:  input stream is null.", caller);
+      return null;
     }
   }
 
@@ -107,12 +148,17 @@ public class LineGobbler implements VoidCallable {
     gobble("\r\n----- END " + message + " -----\r\n\r\n");
   }
 
+  private final CountingInputStream countingInputStream;
   private final BufferedReader is;
   private final Consumer<String> consumer;
   private final ExecutorService executor;
   private final Map<String, String> mdc;
   private final String caller;
   private final MdcScope.Builder containerLogMdcBuilder;
+  private final RateLimiter rateLimiter;
+  private final AtomicLong linesRead = new AtomicLong();
+  private final AtomicLong linesDropped = new AtomicLong();
+  private final CountDownLatch done = new CountDownLatch(1);
 
   LineGobbler(final InputStream is,
               final Consumer<String> consumer,
@@ -135,32 +181,100 @@ public class LineGobbler implements VoidCallable {
               final Map<String, String> mdc,
               final String caller,
               final MdcScope.Builder mdcScopeBuilder) {
-    this.is = IOs.newBufferedReader(is);
+    this(is, consumer, executor, mdc, caller, mdcScopeBuilder, UNLIMITED);
+  }
+
+  /**
+   * Create a gobbler.
+   *
+   * @param executor executor owned by this gobbler that is shut down once the stream is drained, or
+   *        null if the gobbler runs on a shared executor
+   */
+  LineGobbler(final InputStream is,
+              final Consumer<String> consumer,
+              final ExecutorService executor,
+              final Map<String, String> mdc,
+              final String caller,
+              final MdcScope.Builder mdcScopeBuilder,
+              final double maxLinesPerSecond) {
+    this.countingInputStream = new CountingInputStream(is);
+    this.is = IOs.newBufferedReader(countingInputStream);
     this.consumer = consumer;
     this.executor = executor;
     this.mdc = mdc;
     this.caller = caller;
     this.containerLogMdcBuilder = mdcScopeBuilder;
+    this.rateLimiter = maxLinesPerSecond > 0 ? RateLimiter.create(maxLinesPerSecond) : null;
   }
 
   @Override
   public void voidCall() {
-    MDC.setContextMap(mdc);
-    try {
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
+    // the scope only depends on the builder, so it is opened once for the whole stream rather than for
+    // every line.
+    try (final var mdcScope = containerLogMdcBuilder.build()) {
       String line = is.readLine();
       while (line != null) {
-        try (final var mdcScope = containerLogMdcBuilder.build()) {
-          consumer.accept(line);
-        }
+        linesRead.incrementAndGet();
+        deliver(line);
         line = is.readLine();
       }
+      reportDroppedLines();
     } catch (final IOException i) {
       LOGGER.warn("{} gobbler IOException: {}. Typically happens when cancelling a job.", caller, i.getMessage());
     } catch (final Exception e) {
       LOGGER.error("{} gobbler error when reading stream", caller, e);
     } finally {
-      executor.shutdown();
+      done.countDown();
+      if (executor != null) {
+        executor.shutdown();
+      }
+    }
+  }
+
+  private void deliver(final String line) {
+    if (rateLimiter == null) {
+      consumer.accept(line);
+    } else if (rateLimiter.tryAcquire()) {
+      reportDroppedLines();
+      consumer.accept(line);
+    } else {
+      linesDropped.incrementAndGet();
+    }
+  }
+
+  private void reportDroppedLines() {
+    final long dropped = linesDropped.getAndSet(0);
+    if (dropped > 0) {
+      consumer.accept(String.format("... %d line(s) dropped by the %s gobbler rate limit ...", dropped, caller));
     }
   }
 
+  /**
+   * Number of bytes read from the stream so far.
+   */
+  public long getBytesRead() {
+    return countingInputStream.getCount();
+  }
+
+  /**
+   * Number of lines read from the stream so far, including the dropped ones.
+   */
+  public long getLinesRead() {
+    return linesRead.get();
+  }
+
+  /**
+   * Wait for the stream to be fully drained.
+   *
+   * @param timeout maximum time to wait
+   * @return true if the stream was drained before the timeout elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean awaitCompletion(final Duration timeout) throws InterruptedException {
+    return done.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Monotonic clock with a coarse resolution, meant for hot paths that read the time once per record
+ * (heartbeats, timeouts) and only need millisecond-ish precision.
+ * <p>
+ * A single daemon ticker thread refreshes the time every {@code resolution}; readers get a
+ * primitive long from a volatile field instead of calling {@link System#nanoTime()} or allocating
+ * an {@link java.time.Instant}. Values are only comparable with values of the same clock.
+ */
+public class CoarseClock implements AutoCloseable {
+
+  /**
+   * Resolution of the shared clock, overridable with the {@code AIRBYTE_COARSE_CLOCK_RESOLUTION_MS}
+   * environment variable.
+   */
+  public static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(10);
+  private static final String RESOLUTION_ENV_VAR = "AIRBYTE_COARSE_CLOCK_RESOLUTION_MS";
+
+  private final long resolutionNanos;
+  private final long originNanos;
+  private final Thread ticker;
+  private volatile long currentNanos;
+  private volatile boolean running = true;
+
+  public CoarseClock(final Duration resolution) {
+    if (resolution.isNegative() || resolution.isZero()) {
+      throw new IllegalArgumentException("The clock resolution must be positive, got " + resolution);
+    }
+    this.resolutionNanos = resolution.toNanos();
+    this.originNanos = System.nanoTime();
+    this.currentNanos = 0;
+    this.ticker = Thread.ofPlatform()
+        .name("coarse-clock-ticker")
+        .daemon(true)
+        .start(this::tick);
+  }
+
+  /**
+   * Shared clock of the process, started on first use.
+   */
+  public static CoarseClock getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Current time in milliseconds, accurate to the clock resolution.
+   */
+  public long millis() {
+    return TimeUnit.NANOSECONDS.toMillis(currentNanos);
+  }
+
+  /**
+   * Current time in nanoseconds, accurate to the clock resolution.
+   */
+  public long nanos() {
+    return currentNanos;
+  }
+
+  public Duration getResolution() {
+    return Duration.ofNanos(resolutionNanos);
+  }
+
+  private void tick() {
+    while (running) {
+      currentNanos = System.nanoTime() - originNanos;
+      LockSupport.parkNanos(resolutionNanos);
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(ticker);
+  }
+
+  private static final class Holder {
+
+    private static final CoarseClock INSTANCE = new CoarseClock(resolveDefaultResolution());
+
+    private static Duration resolveDefaultResolution() {
+      final String configured = System.getenv(RESOLUTION_ENV_VAR);
+      if (configured != null && !configured.isBlank()) {
+        try {
+          final long millis = Long.parseLong(configured.trim());
+          if (millis > 0) {
+            return Duration.ofMillis(millis);
+          }
+        } catch (final NumberFormatException e) {
+          // fall back to the default resolution
+        }
+      }
+      return DEFAULT_RESOLUTION;
+    }
+
+  }
+
+}
@@ -22,6 +22,11 @@ import java.util.concurrent.atomic.AtomicLong;
  * }
  * System.out.println(sw); // print the summary
  * </pre>
+ * <p>
+ * On hot paths, a stopwatch can be created with a sampling rate N so that only 1 in N calls is
+ * actually timed. The other calls only increment the execution count and return a shared no-op
+ * instance, so they neither allocate nor read the clock. Elapsed time is then extrapolated from the
+ * sampled calls.
  */
 public class Stopwatch {
 
@@ -33,23 +38,58 @@ public class Stopwatch {
 
     @Override
     public void close() {
-      parent.stop(this);
+      if (parent != null) {
+        parent.stop(this);
+      }
     }
 
   }
 
+  private static final StopwatchInstance NOT_SAMPLED = new StopwatchInstance(null, 0);
+
+  private final int samplingRate;
   private final AtomicLong elapsedTimeInNanos = new AtomicLong();
   private final AtomicLong executionCount = new AtomicLong();
+  private final AtomicLong sampledExecutionCount = new AtomicLong();
+
+  public Stopwatch() {
+    this(1);
+  }
+
+  /**
+   * Create a stopwatch that only times 1 in samplingRate executions.
+   *
+   * @param samplingRate sampling rate, 1 to time every execution
+   */
+  public Stopwatch(final int samplingRate) {
+    if (samplingRate < 1) {
+      throw new IllegalArgumentException("samplingRate must be at least 1, got " + samplingRate);
+    }
+    this.samplingRate = samplingRate;
+  }
 
   /**
    * Start a timer instance.
    */
   public StopwatchInstance start() {
+    if (samplingRate == 1) {
+      return new StopwatchInstance(this, currentTime());
+    }
+    if (executionCount.getAndIncrement() % samplingRate != 0) {
+      return NOT_SAMPLED;
+    }
     return new StopwatchInstance(this, currentTime());
   }
 
+  /**
+   * Time spent across all executions. Extrapolated from the sampled executions when sampling.
+   */
   public long getElapsedTimeInNanos() {
-    return elapsedTimeInNanos.get();
+    final long sampled = sampledExecutionCount.get();
+    if (samplingRate == 1 || sampled == 0) {
+      return elapsedTimeInNanos.get();
+    }
+    return (long) ((double) elapsedTimeInNanos.get() * executionCount.get() / sampled);
   }
 
   public long getExecutionCount() {
@@ -57,7 +97,7 @@ public class Stopwatch {
   }
 
   public double getAvgExecTimeInNanos() {
-    return (double) getElapsedTimeInNanos() / getExecutionCount();
+    return (double) elapsedTimeInNanos.get() / sampledExecutionCount.get();
   }
 
   @Override
@@ -74,7 +114,10 @@ public class Stopwatch {
 
   private void stop(final StopwatchInstance t) {
     final long delta = currentTime() - t.startTime;
-    executionCount.incrementAndGet();
+    if (samplingRate == 1) {
+      executionCount.incrementAndGet();
+    }
+    sampledExecutionCount.incrementAndGet();
     elapsedTimeInNanos.addAndGet(delta);
   }
 
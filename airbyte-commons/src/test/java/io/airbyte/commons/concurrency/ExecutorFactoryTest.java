@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExecutorFactoryTest {
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testThreadKind(final boolean useVirtualThreads) throws Exception {
+    final ExecutorService executor = ExecutorFactory.of(useVirtualThreads).newFixedThreadPool("test", 2);
+    try {
+      final Future<Boolean> isVirtual = executor.submit(() -> Thread.currentThread().isVirtual());
+      assertEquals(useVirtualThreads, isVirtual.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testShutdownNowInterruptsBlockedTasks(final boolean useVirtualThreads) throws Exception {
+    final ExecutorService executor = ExecutorFactory.of(useVirtualThreads).newFixedThreadPool("test", 2);
+    final CountDownLatch started = new CountDownLatch(1);
+    final AtomicBoolean interrupted = new AtomicBoolean(false);
+    executor.submit(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(5));
+      } catch (final InterruptedException e) {
+        interrupted.set(true);
+      }
+    });
+
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    executor.shutdownNow();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(interrupted.get());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testCancelInterruptsTask(final boolean useVirtualThreads) throws Exception {
+    final ExecutorService executor = ExecutorFactory.of(useVirtualThreads).newFixedThreadPool("test", 2);
+    try {
+      final CountDownLatch started = new CountDownLatch(1);
+      final CountDownLatch interrupted = new CountDownLatch(1);
+      final Future<?> future = executor.submit(() -> {
+        started.countDown();
+        try {
+          Thread.sleep(TimeUnit.MINUTES.toMillis(5));
+        } catch (final InterruptedException e) {
+          interrupted.countDown();
+        }
+      });
+
+      assertTrue(started.await(10, TimeUnit.SECONDS));
+      future.cancel(true);
+      assertThrows(CancellationException.class, future::get);
+      assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testCompletableFutureCancellationDoesNotInterrupt(final boolean useVirtualThreads) throws Exception {
+    // CompletableFuture#cancel never interrupts, the replication worker relies on shutdownNow for that.
+    final ExecutorService executor = ExecutorFactory.of(useVirtualThreads).newFixedThreadPool("test", 2);
+    final CountDownLatch started = new CountDownLatch(1);
+    final AtomicBoolean interrupted = new AtomicBoolean(false);
+    final CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(5));
+      } catch (final InterruptedException e) {
+        interrupted.set(true);
+      }
+    }, executor);
+
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    future.cancel(true);
+    assertTrue(future.isCancelled());
+    executor.shutdownNow();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(interrupted.get());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testScheduledExecutor(final boolean useVirtualThreads) throws Exception {
+    final ScheduledExecutorService executor = ExecutorFactory.of(useVirtualThreads).newSingleThreadScheduledExecutor("test");
+    try {
+      final CountDownLatch ran = new CountDownLatch(3);
+      executor.scheduleAtFixedRate(ran::countDown, 0, 10, TimeUnit.MILLISECONDS);
+
+      assertTrue(ran.await(10, TimeUnit.SECONDS));
+      assertEquals(useVirtualThreads, executor.submit(() -> Thread.currentThread().isVirtual()).get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+}
@@ -5,6 +5,8 @@
 package io.airbyte.commons.io;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -17,8 +19,13 @@ import io.airbyte.commons.logging.MdcScope.Builder;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -80,4 +87,33 @@ class LineGobblerTest {
     verify(consumer, times(0)).accept(anyString());
   }
 
+  @Test
+  void sharedExecutorDeliversLinesInOrderAndCountsBytes() throws InterruptedException {
+    final List<String> lines = new CopyOnWriteArrayList<>();
+    final String input = IntStream.range(0, 1000).mapToObj(i -> "line" + i).collect(Collectors.joining("\n", "", "\n"));
+    final InputStream is = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+
+    final LineGobbler gobbler = LineGobbler.gobble(is, lines::add, "test", MdcScope.DEFAULT_BUILDER, LineGobbler.UNLIMITED);
+
+    assertTrue(gobbler.awaitCompletion(Duration.ofSeconds(10)));
+    assertEquals(IntStream.range(0, 1000).mapToObj(i -> "line" + i).toList(), lines);
+    assertEquals(1000, gobbler.getLinesRead());
+    assertEquals(input.getBytes(StandardCharsets.UTF_8).length, gobbler.getBytesRead());
+  }
+
+  @Test
+  void rateLimitDropsExcessLines() throws InterruptedException {
+    final List<String> lines = new CopyOnWriteArrayList<>();
+    final String input = IntStream.range(0, 100).mapToObj(i -> "line" + i).collect(Collectors.joining("\n", "", "\n"));
+    final InputStream is = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+
+    final LineGobbler gobbler = LineGobbler.gobble(is, lines::add, "test", MdcScope.DEFAULT_BUILDER, 1);
+
+    assertTrue(gobbler.awaitCompletion(Duration.ofSeconds(10)));
+    assertEquals(100, gobbler.getLinesRead());
+    assertEquals("line0", lines.get(0));
+    assertTrue(lines.get(lines.size() - 1).contains("dropped"));
+    assertTrue(lines.size() < 100);
+  }
+
 }
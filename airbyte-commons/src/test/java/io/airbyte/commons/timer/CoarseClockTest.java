@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+  @Test
+  void testClockAdvances() throws InterruptedException {
+    try (final CoarseClock clock = new CoarseClock(Duration.ofMillis(1))) {
+      final long start = clock.millis();
+      Thread.sleep(100);
+      final long elapsed = clock.millis() - start;
+
+      // allow for the resolution and a slow ticker on a busy machine
+      assertTrue(elapsed >= 50, "elapsed " + elapsed);
+      assertTrue(elapsed < 10_000, "elapsed " + elapsed);
+    }
+  }
+
+  @Test
+  void testClockIsMonotonic() {
+    try (final CoarseClock clock = new CoarseClock(Duration.ofMillis(1))) {
+      long previous = clock.nanos();
+      for (int i = 0; i < 100_000; i++) {
+        final long current = clock.nanos();
+        assertTrue(current >= previous);
+        previous = current;
+      }
+    }
+  }
+
+  @Test
+  void testResolution() {
+    try (final CoarseClock clock = new CoarseClock(Duration.ofMillis(5))) {
+      assertEquals(Duration.ofMillis(5), clock.getResolution());
+    }
+    assertThrows(IllegalArgumentException.class, () -> new CoarseClock(Duration.ZERO));
+  }
+
+}
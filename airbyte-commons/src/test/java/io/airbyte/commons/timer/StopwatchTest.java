@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class StopwatchTest {
+
+  @Test
+  void testTimesEveryExecution() throws InterruptedException {
+    final Stopwatch stopwatch = new Stopwatch();
+    for (int i = 0; i < 3; i++) {
+      try (final var ignored = stopwatch.start()) {
+        Thread.sleep(2);
+      }
+    }
+
+    assertEquals(3, stopwatch.getExecutionCount());
+    assertTrue(stopwatch.getElapsedTimeInNanos() >= Duration.ofMillis(6).toNanos());
+    assertTrue(stopwatch.getAvgExecTimeInNanos() >= Duration.ofMillis(2).toNanos());
+  }
+
+  @Test
+  void testSamplingCountsEveryExecutionAndExtrapolatesElapsedTime() throws InterruptedException {
+    final Stopwatch stopwatch = new Stopwatch(10);
+    for (int i = 0; i < 100; i++) {
+      try (final var ignored = stopwatch.start()) {
+        Thread.sleep(1);
+      }
+    }
+
+    assertEquals(100, stopwatch.getExecutionCount());
+    assertTrue(stopwatch.getAvgExecTimeInNanos() >= Duration.ofMillis(1).toNanos());
+    assertTrue(stopwatch.getElapsedTimeInNanos() >= Duration.ofMillis(100).toNanos());
+  }
+
+  @Test
+  void testInvalidSamplingRate() {
+    assertThrows(IllegalArgumentException.class, () -> new Stopwatch(0));
+  }
+
+}
@@ -37,6 +37,12 @@ public interface CloudLogs {
    */
   List<String> tailCloudLog(LogConfigs configs, String logPath, int numLines) throws IOException;
 
+  /**
+   * Give random access to the log formed by the lexicographically ordered objects at the given path,
+   * as they are when this is called.
+   */
+  LogPageReader.LogBytes openCloudLog(LogConfigs configs, String logPath) throws IOException;
+
   void deleteLogs(LogConfigs configs, String logPath);
 
   /**
@@ -5,8 +5,10 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -15,6 +17,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -112,6 +115,36 @@ public class GcsLogs implements CloudLogs {
     return Lists.reverse(lines);
   }
 
+  @Override
+  public LogPageReader.LogBytes openCloudLog(final LogConfigs configs, final String logPath) {
+    LOGGER.debug("Opening logs from GCS path: {}", logPath);
+    final Storage gcsClient = getOrCreateGcsClient();
+    final String bucketName = configs.getStorageConfigs().getGcsConfig().getBucketName();
+
+    final var names = new ArrayList<String>();
+    final var sizes = new ArrayList<Long>();
+    // Objects are returned in lexicographical order.
+    gcsClient.list(bucketName, Storage.BlobListOption.prefix(logPath))
+        .iterateAll()
+        .forEach(blob -> {
+          names.add(blob.getName());
+          sizes.add(blob.getSize());
+        });
+
+    return LogPageReader.forObjects(names, sizes, (name, offset, length) -> {
+      try (final ReadChannel reader = gcsClient.reader(BlobId.of(bucketName, name))) {
+        reader.seek(offset);
+        reader.limit(offset + length);
+        final ByteBuffer bytes = ByteBuffer.allocate(length);
+        int read = 0;
+        while (bytes.hasRemaining() && read >= 0) {
+          read = reader.read(bytes);
+        }
+        return bytes.array();
+      }
+    });
+  }
+
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
     LOGGER.debug("Retrieving logs from GCS path: {}", logPath);
@@ -161,6 +161,58 @@ public class LogClientSingleton {
     return logClient.tailCloudLog(logConfigs, cloudLogPath, LOG_TAIL_SIZE);
   }
 
+  /**
+   * Read a page of a job log, without loading the rest of it.
+   *
+   * @param workerEnvironment environment of worker.
+   * @param logConfigs configuration for logs
+   * @param logPath log path
+   * @param cursor cursor of a previous page, null to start at the beginning of the log, or at its end
+   *        when reading backward
+   * @param maxLines maximum number of lines in the page
+   * @param backward read the lines before the cursor instead of the ones after it
+   * @return page of the log
+   * @throws IOException exception while accessing logs
+   */
+  public LogPage getJobLogPage(final WorkerEnvironment workerEnvironment,
+                               final LogConfigs logConfigs,
+                               final Path logPath,
+                               final String cursor,
+                               final int maxLines,
+                               final boolean backward)
+      throws IOException {
+    final LogPageReader.LogBytes log = openJobLog(workerEnvironment, logConfigs, logPath);
+    return backward ? LogPageReader.readBackward(log, cursor, maxLines) : LogPageReader.readForward(log, cursor, maxLines);
+  }
+
+  /**
+   * Get the size of a job log.
+   *
+   * @param workerEnvironment environment of worker.
+   * @param logConfigs configuration for logs
+   * @param logPath log path
+   * @return size of the log in bytes, 0 if there is no log
+   * @throws IOException exception while accessing logs
+   */
+  public long getJobLogSize(final WorkerEnvironment workerEnvironment, final LogConfigs logConfigs, final Path logPath) throws IOException {
+    return openJobLog(workerEnvironment, logConfigs, logPath).size();
+  }
+
+  private LogPageReader.LogBytes openJobLog(final WorkerEnvironment workerEnvironment, final LogConfigs logConfigs, final Path logPath)
+      throws IOException {
+    if (logPath == null || logPath.equals(Path.of(""))) {
+      return LogPageReader.forObjects(Collections.emptyList(), Collections.emptyList(), null);
+    }
+
+    if (shouldUseLocalLogs(workerEnvironment)) {
+      return LogPageReader.forFile(logPath);
+    }
+
+    final var cloudLogPath = sanitisePath(JOB_LOGGING_CLOUD_PREFIX, logPath);
+    createCloudClientIfNull(logConfigs);
+    return logClient.openCloudLog(logConfigs, cloudLogPath);
+  }
+
   /**
    * Primarily to clean up logs after testing. Only valid for Kube logs.
    */
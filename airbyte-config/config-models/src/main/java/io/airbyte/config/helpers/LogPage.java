@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.util.List;
+
+/**
+ * A page of log lines read by {@link LogPageReader}.
+ *
+ * @param lines lines of the page, oldest first
+ * @param previousCursor cursor to read the page before this one, null if the page starts at the
+ *        beginning of the log
+ * @param nextCursor cursor to read the page after this one. Reading from it returns no lines until
+ *        more are written to the log.
+ * @param sizeBytes size of the whole log when the page was read
+ */
+public record LogPage(List<String> lines, String previousCursor, String nextCursor, long sizeBytes) {}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Reads a log one page of lines at a time, forward or backward from a cursor, without loading the
+ * whole log in memory.
+ * <p>
+ * A cursor is an opaque string holding a byte offset into the log. Offsets are stable because logs
+ * are only ever appended to, so a cursor stays valid while the log grows.
+ */
+public final class LogPageReader {
+
+  private static final String CURSOR_PREFIX = "offset:";
+  @VisibleForTesting
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  /**
+   * Random access to the bytes of a log.
+   */
+  public interface LogBytes {
+
+    long size() throws IOException;
+
+    /**
+     * Read {@code length} bytes starting at {@code offset}. The range is always within the size of
+     * the log.
+     */
+    byte[] read(long offset, int length) throws IOException;
+
+  }
+
+  /**
+   * Reads a byte range of one of the objects a cloud log is made of.
+   */
+  @FunctionalInterface
+  public interface ObjectRangeReader {
+
+    byte[] read(String name, long offset, int length) throws IOException;
+
+  }
+
+  private LogPageReader() {}
+
+  /**
+   * Bytes of a log written to a local file. A missing file is an empty log.
+   */
+  public static LogBytes forFile(final Path path) {
+    return new LogBytes() {
+
+      @Override
+      public long size() throws IOException {
+        return Files.exists(path) ? Files.size(path) : 0;
+      }
+
+      @Override
+      public byte[] read(final long offset, final int length) throws IOException {
+        try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+          final byte[] bytes = new byte[length];
+          file.seek(offset);
+          file.readFully(bytes);
+          return bytes;
+        }
+      }
+
+    };
+  }
+
+  /**
+   * Bytes of a log stored as several objects which, in the given order, form the log.
+   *
+   * @param names object names
+   * @param sizes object sizes, in the same order as the names
+   * @param reader reads a byte range of an object
+   */
+  public static LogBytes forObjects(final List<String> names, final List<Long> sizes, final ObjectRangeReader reader) {
+    final long size = sizes.stream().mapToLong(Long::longValue).sum();
+    return new LogBytes() {
+
+      @Override
+      public long size() {
+        return size;
+      }
+
+      @Override
+      public byte[] read(final long offset, final int length) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(length);
+        long objectStart = 0;
+        for (int i = 0; i < names.size() && bytes.size() < length; i++) {
+          final long objectEnd = objectStart + sizes.get(i);
+          final long from = offset + bytes.size();
+          if (from < objectEnd) {
+            final long objectOffset = from - objectStart;
+            final int objectLength = (int) Math.min(length - bytes.size(), objectEnd - from);
+            bytes.write(reader.read(names.get(i), objectOffset, objectLength));
+          }
+          objectStart = objectEnd;
+        }
+        return bytes.toByteArray();
+      }
+
+    };
+  }
+
+  /**
+   * Read up to {@code maxLines} lines starting at the cursor, or at the beginning of the log if the
+   * cursor is null.
+   */
+  public static LogPage readForward(final LogBytes log, final String cursor, final int maxLines) throws IOException {
+    final long size = log.size();
+    final long start = cursor == null ? 0 : Math.min(decodeCursor(cursor), size);
+
+    final ByteArrayOutputStream page = new ByteArrayOutputStream();
+    long end = start;
+    int lineCount = 0;
+    long position = start;
+    while (lineCount < maxLines && position < size) {
+      final byte[] chunk = log.read(position, (int) Math.min(CHUNK_SIZE, size - position));
+      int used = chunk.length;
+      for (int i = 0; i < chunk.length; i++) {
+        if (chunk[i] == '\n' && ++lineCount == maxLines) {
+          used = i + 1;
+          break;
+        }
+      }
+      page.write(chunk, 0, used);
+      position += used;
+      end = position;
+    }
+
+    return new LogPage(splitLines(page.toByteArray()), start > 0 ? encodeCursor(start) : null, encodeCursor(end), size);
+  }
+
+  /**
+   * Read up to {@code maxLines} lines ending at the cursor, or at the end of the log if the cursor is
+   * null.
+   */
+  public static LogPage readBackward(final LogBytes log, final String cursor, final int maxLines) throws IOException {
+    final long size = log.size();
+    final long end = cursor == null ? size : Math.min(decodeCursor(cursor), size);
+
+    // chunks in the order they are read, from the end of the page backward
+    final List<byte[]> chunks = new ArrayList<>();
+    long start = end;
+    long position = end;
+    int lineCount = 0;
+    while (lineCount < maxLines && position > 0) {
+      final int length = (int) Math.min(CHUNK_SIZE, position);
+      final byte[] chunk = log.read(position - length, length);
+      position -= length;
+      chunks.add(chunk);
+      start = position;
+      // a newline at end - 1 terminates the last line of the page rather than starting a new one
+      for (int i = chunk.length - 1; i >= 0; i--) {
+        final long offset = position + i;
+        if (chunk[i] == '\n' && offset < end - 1) {
+          lineCount++;
+          if (lineCount == maxLines) {
+            start = offset + 1;
+            break;
+          }
+        }
+      }
+      if (position == 0 && lineCount < maxLines) {
+        // the first line of the log has no newline before it
+        start = 0;
+      }
+    }
+
+    final ByteArrayOutputStream page = new ByteArrayOutputStream();
+    for (int i = chunks.size() - 1; i >= 0; i--) {
+      final byte[] chunk = chunks.get(i);
+      final int from = (int) Math.max(0, start - position);
+      page.write(chunk, from, chunk.length - from);
+      position += chunk.length;
+    }
+
+    return new LogPage(splitLines(page.toByteArray()), start > 0 ? encodeCursor(start) : null, encodeCursor(end), size);
+  }
+
+  public static String encodeCursor(final long offset) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString((CURSOR_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Get the byte offset a cursor points at.
+   *
+   * @throws IllegalArgumentException if the cursor was not returned by this class
+   */
+  public static long decodeCursor(final String cursor) {
+    try {
+      final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (decoded.startsWith(CURSOR_PREFIX)) {
+        final long offset = Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        if (offset >= 0) {
+          return offset;
+        }
+      }
+    } catch (final IllegalArgumentException e) {
+      // fall through to the error below, NumberFormatException is an IllegalArgumentException
+    }
+    throw new IllegalArgumentException("Invalid log cursor: " + cursor);
+  }
+
+  private static List<String> splitLines(final byte[] bytes) {
+    final List<String> lines = new ArrayList<>();
+    int lineStart = 0;
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] == '\n') {
+        lines.add(toLine(bytes, lineStart, i));
+        lineStart = i + 1;
+      }
+    }
+    if (lineStart < bytes.length) {
+      lines.add(toLine(bytes, lineStart, bytes.length));
+    }
+    return lines;
+  }
+
+  private static String toLine(final byte[] bytes, final int start, final int end) {
+    final int length = end > start && bytes[end - 1] == '\r' ? end - start - 1 : end - start;
+    return new String(bytes, start, length, StandardCharsets.UTF_8);
+  }
+
+}
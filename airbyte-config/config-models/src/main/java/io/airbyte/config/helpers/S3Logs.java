@@ -127,6 +127,37 @@ public class S3Logs implements CloudLogs {
     return lines;
   }
 
+  @Override
+  public LogPageReader.LogBytes openCloudLog(final LogConfigs configs, final String logPath) {
+    return openCloudLog(getOrCreateS3Client(), configs, logPath);
+  }
+
+  @VisibleForTesting
+  static LogPageReader.LogBytes openCloudLog(final S3Client s3Client, final LogConfigs configs, final String logPath) {
+    LOGGER.debug("Opening logs from S3 path: {}", logPath);
+    final var s3Bucket = getBucketName(configs.getStorageConfigs());
+    final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build();
+    final var keys = new ArrayList<String>();
+    final var sizes = new ArrayList<Long>();
+
+    // Objects are returned in lexicographical order.
+    for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
+      for (final var objMetadata : page.contents()) {
+        keys.add(objMetadata.key());
+        sizes.add(objMetadata.size());
+      }
+    }
+
+    return LogPageReader.forObjects(keys, sizes, (key, offset, length) -> {
+      final var getObjReq = GetObjectRequest.builder()
+          .key(key)
+          .bucket(s3Bucket)
+          .range("bytes=" + offset + "-" + (offset + length - 1))
+          .build();
+      return s3Client.getObjectAsBytes(getObjReq).asByteArray();
+    });
+  }
+
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
     LOGGER.debug("Deleting logs from S3 path: {}", logPath);
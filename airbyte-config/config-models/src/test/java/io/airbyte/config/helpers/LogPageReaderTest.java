@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogPageReaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testReadForwardPagesThroughTheLog() throws IOException {
+    final LogPageReader.LogBytes log = LogPageReader.forFile(write("line 1\nline 2\nline 3\nline 4\nline 5\n"));
+
+    final LogPage first = LogPageReader.readForward(log, null, 2);
+    assertEquals(List.of("line 1", "line 2"), first.lines());
+    assertNull(first.previousCursor());
+    assertEquals(35, first.sizeBytes());
+
+    final LogPage second = LogPageReader.readForward(log, first.nextCursor(), 2);
+    assertEquals(List.of("line 3", "line 4"), second.lines());
+    assertEquals(first.nextCursor(), second.previousCursor());
+
+    final LogPage third = LogPageReader.readForward(log, second.nextCursor(), 2);
+    assertEquals(List.of("line 5"), third.lines());
+
+    final LogPage end = LogPageReader.readForward(log, third.nextCursor(), 2);
+    assertEquals(List.of(), end.lines());
+    assertEquals(third.nextCursor(), end.nextCursor());
+  }
+
+  @Test
+  void testReadBackwardPagesThroughTheLog() throws IOException {
+    final LogPageReader.LogBytes log = LogPageReader.forFile(write("line 1\nline 2\nline 3\nline 4\nline 5\n"));
+
+    final LogPage last = LogPageReader.readBackward(log, null, 2);
+    assertEquals(List.of("line 4", "line 5"), last.lines());
+
+    final LogPage middle = LogPageReader.readBackward(log, last.previousCursor(), 2);
+    assertEquals(List.of("line 2", "line 3"), middle.lines());
+    assertEquals(last.previousCursor(), middle.nextCursor());
+
+    final LogPage first = LogPageReader.readBackward(log, middle.previousCursor(), 2);
+    assertEquals(List.of("line 1"), first.lines());
+    assertNull(first.previousCursor());
+  }
+
+  @Test
+  void testForwardCursorFollowsAGrowingLog() throws IOException {
+    final Path path = write("line 1\n");
+    final LogPageReader.LogBytes log = LogPageReader.forFile(path);
+
+    final LogPage first = LogPageReader.readForward(log, null, 10);
+    assertEquals(List.of("line 1"), first.lines());
+
+    Files.writeString(path, "line 2\nline 3\n", StandardOpenOption.APPEND);
+    assertEquals(List.of("line 2", "line 3"), LogPageReader.readForward(log, first.nextCursor(), 10).lines());
+  }
+
+  @Test
+  void testLastLineWithoutNewline() throws IOException {
+    final LogPageReader.LogBytes log = LogPageReader.forFile(write("line 1\r\nline 2\r\nline 3"));
+
+    assertEquals(List.of("line 1", "line 2", "line 3"), LogPageReader.readForward(log, null, 10).lines());
+    assertEquals(List.of("line 2", "line 3"), LogPageReader.readBackward(log, null, 2).lines());
+  }
+
+  @Test
+  void testPagesSpanningSeveralChunks() throws IOException {
+    final List<String> lines = IntStream.range(0, 20_000)
+        .mapToObj(i -> "line " + i + " " + "é".repeat(i % 20))
+        .collect(Collectors.toList());
+    final LogPageReader.LogBytes log = LogPageReader.forFile(write(String.join("\n", lines) + "\n"));
+
+    final List<String> forward = new ArrayList<>();
+    LogPage page = LogPageReader.readForward(log, null, 3000);
+    while (!page.lines().isEmpty()) {
+      forward.addAll(page.lines());
+      page = LogPageReader.readForward(log, page.nextCursor(), 3000);
+    }
+    assertEquals(lines, forward);
+
+    final List<String> backward = new ArrayList<>();
+    page = LogPageReader.readBackward(log, null, 3000);
+    backward.addAll(0, page.lines());
+    while (page.previousCursor() != null) {
+      page = LogPageReader.readBackward(log, page.previousCursor(), 3000);
+      backward.addAll(0, page.lines());
+    }
+    assertEquals(lines, backward);
+  }
+
+  @Test
+  void testMissingFileIsAnEmptyLog() throws IOException {
+    final LogPageReader.LogBytes log = LogPageReader.forFile(tempDir.resolve("missing.log"));
+
+    assertEquals(List.of(), LogPageReader.readForward(log, null, 10).lines());
+    assertEquals(List.of(), LogPageReader.readBackward(log, null, 10).lines());
+  }
+
+  @Test
+  void testLogMadeOfSeveralObjects() throws IOException {
+    final List<byte[]> objects = List.of(
+        "line 1\nli".getBytes(StandardCharsets.UTF_8),
+        "".getBytes(StandardCharsets.UTF_8),
+        "ne 2\nline 3\n".getBytes(StandardCharsets.UTF_8));
+    final List<String> names = List.of("0", "1", "2");
+    final LogPageReader.LogBytes log = LogPageReader.forObjects(names,
+        objects.stream().map(bytes -> (long) bytes.length).toList(),
+        (name, offset, length) -> {
+          final byte[] object = objects.get(Integer.parseInt(name));
+          return Arrays.copyOfRange(object, (int) offset, (int) offset + length);
+        });
+
+    assertEquals(List.of("line 1", "line 2", "line 3"), LogPageReader.readForward(log, null, 10).lines());
+    assertEquals(List.of("line 2", "line 3"), LogPageReader.readBackward(log, null, 2).lines());
+  }
+
+  @Test
+  void testCursors() {
+    assertEquals(1234L, LogPageReader.decodeCursor(LogPageReader.encodeCursor(1234L)));
+    assertThrows(IllegalArgumentException.class, () -> LogPageReader.decodeCursor("not a cursor"));
+    assertThrows(IllegalArgumentException.class, () -> LogPageReader.decodeCursor(LogPageReader.encodeCursor(-1L)));
+  }
+
+  private Path write(final String content) throws IOException {
+    final Path path = Files.createTempFile(tempDir, "logs", ".log");
+    Files.writeString(path, content);
+    return path;
+  }
+
+}
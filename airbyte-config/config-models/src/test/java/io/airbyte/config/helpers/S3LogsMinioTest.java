@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.airbyte.config.storage.CloudStorageConfigs;
+import io.airbyte.config.storage.CloudStorageConfigs.MinioConfig;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Pages through logs stored in a MinIO bucket as several objects.
+ */
+@Tag("logger-client")
+class S3LogsMinioTest {
+
+  private static final String BUCKET_NAME = "airbyte-dev-logs";
+  private static final String ACCESS_KEY = "minio";
+  private static final String SECRET_KEY = "minio123";
+  private static final String LOG_PATH = "job-logging/workspace/1/0/logs.log";
+
+  private static GenericContainer<?> minio;
+  private static S3Client s3Client;
+  private static LogConfigs logConfigs;
+  private static List<String> lines;
+
+  @BeforeAll
+  static void setup() {
+    minio = new GenericContainer<>("minio/minio:RELEASE.2023-11-20T22-40-07Z")
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withCommand("server", "/data")
+        .withExposedPorts(9000)
+        .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+    minio.start();
+
+    final String endpoint = "http://" + minio.getHost() + ":" + minio.getMappedPort(9000);
+    s3Client = S3Client.builder()
+        .endpointOverride(URI.create(endpoint))
+        .region(Region.US_EAST_1)
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+        .build();
+    s3Client.createBucket(CreateBucketRequest.builder().bucket(BUCKET_NAME).build());
+    logConfigs = new LogConfigs(Optional.of(CloudStorageConfigs.minio(new MinioConfig(BUCKET_NAME, ACCESS_KEY, SECRET_KEY, endpoint))));
+
+    // the log is uploaded in several objects which split lines, like the log4j appender does
+    lines = IntStream.range(0, 30_000).mapToObj(i -> "line " + i).collect(Collectors.toList());
+    final byte[] log = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+    final int objectSize = log.length / 7 + 1;
+    for (int i = 0; i * objectSize < log.length; i++) {
+      final int from = i * objectSize;
+      final int to = Math.min(log.length, from + objectSize);
+      s3Client.putObject(PutObjectRequest.builder().bucket(BUCKET_NAME).key(LOG_PATH + "/" + String.format("%04d", i)).build(),
+          RequestBody.fromBytes(Arrays.copyOfRange(log, from, to)));
+    }
+  }
+
+  @AfterAll
+  static void tearDown() {
+    s3Client.close();
+    minio.stop();
+  }
+
+  @Test
+  void testReadForward() throws IOException {
+    final LogPageReader.LogBytes log = S3Logs.openCloudLog(s3Client, logConfigs, LOG_PATH);
+
+    final List<String> read = new ArrayList<>();
+    LogPage page = LogPageReader.readForward(log, null, 4000);
+    assertNull(page.previousCursor());
+    while (!page.lines().isEmpty()) {
+      read.addAll(page.lines());
+      page = LogPageReader.readForward(log, page.nextCursor(), 4000);
+    }
+
+    assertEquals(lines, read);
+  }
+
+  @Test
+  void testReadBackward() throws IOException {
+    final LogPageReader.LogBytes log = S3Logs.openCloudLog(s3Client, logConfigs, LOG_PATH);
+
+    final LogPage last = LogPageReader.readBackward(log, null, 100);
+    assertEquals(lines.subList(lines.size() - 100, lines.size()), last.lines());
+
+    final LogPage previous = LogPageReader.readBackward(log, last.previousCursor(), 100);
+    assertEquals(lines.subList(lines.size() - 200, lines.size() - 100), previous.lines());
+  }
+
+  @Test
+  void testMissingLogIsEmpty() throws IOException {
+    final LogPageReader.LogBytes log = S3Logs.openCloudLog(s3Client, logConfigs, "job-logging/workspace/2/0/logs.log");
+
+    assertEquals(0, log.size());
+    assertEquals(List.of(), LogPageReader.readBackward(log, null, 100).lines());
+  }
+
+}
@@ -1131,6 +1131,17 @@ public class ConfigRepository {
     connectionService.writeStandardSync(standardSync);
   }
 
+  /**
+   * Write several connections in a single transaction.
+   *
+   * @param standardSyncs connections
+   * @throws IOException - exception while interacting with the db
+   */
+  @Deprecated
+  public void writeStandardSyncs(final List<StandardSync> standardSyncs) throws IOException {
+    connectionService.writeStandardSyncs(standardSyncs);
+  }
+
   /**
    * List connections.
    *
@@ -1246,6 +1257,18 @@ public class ConfigRepository {
     return connectionService.listConnectionsBySource(sourceId, includeDeleted);
   }
 
+  /**
+   * List connections by id, in a single query.
+   *
+   * @param connectionIds connection ids
+   * @return connections with the provided ids, deleted ones included
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public List<StandardSync> listConnectionsByIds(final List<UUID> connectionIds) throws IOException {
+    return connectionService.listConnectionsByIds(connectionIds);
+  }
+
   /**
    * List connections that use a particular actor definition.
    *
@@ -1508,6 +1531,23 @@ public class ConfigRepository {
     return catalogService.getMostRecentActorCatalogForSource(sourceId);
   }
 
+  /**
+   * Get the most recent fetch of the catalog of an actor, without the catalog itself.
+   *
+   * @param actorId actor id
+   * @param actorVersion actor definition version used to make this actor
+   * @param configHash config hash for actor
+   * @return last fetch event for the config hash and actor version
+   * @throws IOException - error while interacting with db
+   */
+  @Deprecated
+  public Optional<ActorCatalogFetchEvent> getMostRecentActorCatalogFetchEvent(final UUID actorId,
+                                                                              final String actorVersion,
+                                                                              final String configHash)
+      throws IOException {
+    return catalogService.getMostRecentActorCatalogFetchEvent(actorId, actorVersion, configHash);
+  }
+
   /**
    * Get most recent actor catalog fetch event for source.
    *
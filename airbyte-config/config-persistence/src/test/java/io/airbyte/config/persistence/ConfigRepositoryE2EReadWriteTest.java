@@ -342,6 +342,13 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertFalse(configRepository.getActorCatalog(source.getSourceId(), "1.3.0", CONFIG_HASH).isPresent());
     assertFalse(configRepository.getActorCatalog(source.getSourceId(), DOCKER_IMAGE_TAG, otherConfigHash).isPresent());
 
+    final Optional<ActorCatalogFetchEvent> fetchEvent =
+        configRepository.getMostRecentActorCatalogFetchEvent(source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH);
+    assertTrue(fetchEvent.isPresent());
+    assertEquals(catalog.get().getId(), fetchEvent.get().getActorCatalogId());
+    assertNotNull(fetchEvent.get().getCreatedAt());
+    assertFalse(configRepository.getMostRecentActorCatalogFetchEvent(source.getSourceId(), DOCKER_IMAGE_TAG, otherConfigHash).isPresent());
+
     configRepository.writeActorCatalogFetchEvent(actorCatalog, source.getSourceId(), "1.3.0", CONFIG_HASH);
     final Optional<ActorCatalog> catalogNewConnectorVersion =
         configRepository.getActorCatalog(source.getSourceId(), "1.3.0", CONFIG_HASH);
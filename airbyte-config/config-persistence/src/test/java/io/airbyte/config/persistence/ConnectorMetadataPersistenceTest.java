@@ -42,6 +42,7 @@ import io.airbyte.data.services.impls.jooq.OperationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.OrganizationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.SourceServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
+import io.airbyte.data.services.shared.ConnectorMetadataBatch;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.protocol.models.CatalogHelpers;
@@ -84,6 +85,7 @@ class ConnectorMetadataPersistenceTest extends BaseConfigDatabaseTest {
   private static final String UPGRADE_IMAGE_TAG = "0.0.2";
   private static final String PROTOCOL_VERSION = "1.0.0";
 
+  private ActorDefinitionServiceJooqImpl actorDefinitionService;
   private ConfigRepository configRepository;
 
   @BeforeEach
@@ -94,8 +96,9 @@ class ConnectorMetadataPersistenceTest extends BaseConfigDatabaseTest {
     final SecretsRepositoryWriter secretsRepositoryWriter = mock(SecretsRepositoryWriter.class);
     final SecretPersistenceConfigService secretPersistenceConfigService = mock(SecretPersistenceConfigService.class);
 
+    actorDefinitionService = new ActorDefinitionServiceJooqImpl(database);
     configRepository = new ConfigRepository(
-        new ActorDefinitionServiceJooqImpl(database),
+        actorDefinitionService,
         new CatalogServiceJooqImpl(database),
         new ConnectionServiceJooqImpl(database),
         new ConnectorBuilderServiceJooqImpl(database),
@@ -625,6 +628,96 @@ class ConnectorMetadataPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(actorDefinitionVersion1, defaultActorDefinitionVersionAfterFailedUpgrade);
   }
 
+  @Test
+  void testWriteConnectorMetadataBatch() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final StandardSourceDefinition sourceDefinition = createBaseSourceDef();
+    final UUID sourceDefId = sourceDefinition.getSourceDefinitionId();
+    final StandardDestinationDefinition destinationDefinition = createBaseDestDef();
+    final UUID destinationDefId = destinationDefinition.getDestinationDefinitionId();
+
+    // Initial insert of both definitions at once
+    actorDefinitionService.writeConnectorMetadata(new ConnectorMetadataBatch(
+        List.of(sourceDefinition),
+        List.of(destinationDefinition),
+        List.of(createBaseActorDefVersion(sourceDefId), createBaseActorDefVersion(destinationDefId)),
+        List.of()));
+
+    final UUID initialSourceVersionId = configRepository.getStandardSourceDefinition(sourceDefId).getDefaultVersionId();
+    final UUID initialDestinationVersionId = configRepository.getStandardDestinationDefinition(destinationDefId).getDefaultVersionId();
+    assertNotNull(initialSourceVersionId);
+    assertNotNull(initialDestinationVersionId);
+    assertEquals(DOCKER_IMAGE_TAG, configRepository.getActorDefinitionVersion(initialSourceVersionId).getDockerImageTag());
+    assertEquals(DOCKER_IMAGE_TAG, configRepository.getActorDefinitionVersion(initialDestinationVersionId).getDockerImageTag());
+
+    final SourceConnection sourceConnection = createBaseSourceActor(sourceDefId);
+    configRepository.writeSourceConnectionNoSecrets(sourceConnection);
+    final DestinationConnection destinationConnection = createBaseDestinationActor(destinationDefId);
+    configRepository.writeDestinationConnectionNoSecrets(destinationConnection);
+
+    // The source is upgraded without breaking changes, the destination with one, and both are renamed
+    final StandardSourceDefinition updatedSourceDefinition = Jsons.clone(sourceDefinition).withName("updated source name");
+    final StandardDestinationDefinition updatedDestinationDefinition = Jsons.clone(destinationDefinition).withName("updated destination name");
+    final ActorDefinitionBreakingChange destinationBreakingChange =
+        MockData.actorDefinitionBreakingChange(UPGRADE_IMAGE_TAG).withActorDefinitionId(destinationDefId);
+    actorDefinitionService.writeConnectorMetadata(new ConnectorMetadataBatch(
+        List.of(updatedSourceDefinition),
+        List.of(updatedDestinationDefinition),
+        List.of(createBaseActorDefVersion(sourceDefId).withDockerImageTag(UPGRADE_IMAGE_TAG),
+            createBaseActorDefVersion(destinationDefId).withDockerImageTag(UPGRADE_IMAGE_TAG)),
+        List.of(destinationBreakingChange)));
+
+    final StandardSourceDefinition sourceDefinitionFromDb = configRepository.getStandardSourceDefinition(sourceDefId);
+    final StandardDestinationDefinition destinationDefinitionFromDb = configRepository.getStandardDestinationDefinition(destinationDefId);
+    assertEquals("updated source name", sourceDefinitionFromDb.getName());
+    assertEquals("updated destination name", destinationDefinitionFromDb.getName());
+    assertEquals(UPGRADE_IMAGE_TAG, configRepository.getActorDefinitionVersion(sourceDefinitionFromDb.getDefaultVersionId()).getDockerImageTag());
+    assertEquals(UPGRADE_IMAGE_TAG,
+        configRepository.getActorDefinitionVersion(destinationDefinitionFromDb.getDefaultVersionId()).getDockerImageTag());
+    assertEquals(List.of(destinationBreakingChange), configRepository.listBreakingChangesForActorDefinition(destinationDefId));
+
+    // Only the actor without a breaking change in the upgrade is moved to the new default version
+    assertEquals(sourceDefinitionFromDb.getDefaultVersionId(),
+        configRepository.getSourceConnection(sourceConnection.getSourceId()).getDefaultVersionId());
+    assertEquals(initialDestinationVersionId,
+        configRepository.getDestinationConnection(destinationConnection.getDestinationId()).getDefaultVersionId());
+
+    // Writing an existing version again reuses it
+    actorDefinitionService.writeConnectorMetadata(new ConnectorMetadataBatch(
+        List.of(),
+        List.of(),
+        List.of(createBaseActorDefVersion(sourceDefId).withDockerImageTag(UPGRADE_IMAGE_TAG).withDocumentationUrl("https://docs.airbyte.com")),
+        List.of()));
+    final ActorDefinitionVersion rewrittenVersion = configRepository.getActorDefinitionVersion(sourceDefinitionFromDb.getDefaultVersionId());
+    assertEquals("https://docs.airbyte.com", rewrittenVersion.getDocumentationUrl());
+    assertEquals(2, configRepository.listActorDefinitionVersionsForDefinition(sourceDefId).size());
+  }
+
+  @Test
+  void testWriteConnectorMetadataBatchIsRolledBackOnFailure() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final StandardSourceDefinition sourceDefinition = createBaseSourceDef();
+    final UUID sourceDefId = sourceDefinition.getSourceDefinitionId();
+    actorDefinitionService.writeConnectorMetadata(new ConnectorMetadataBatch(
+        List.of(sourceDefinition), List.of(), List.of(createBaseActorDefVersion(sourceDefId)), List.of()));
+    final UUID initialVersionId = configRepository.getStandardSourceDefinition(sourceDefId).getDefaultVersionId();
+
+    // The new destination is valid, but the source upgrade to an invalid tag fails the whole batch
+    final StandardDestinationDefinition destinationDefinition = createBaseDestDef();
+    final UUID destinationDefId = destinationDefinition.getDestinationDefinitionId();
+    final String invalidUpgradeTag = "1.0";
+    final ConnectorMetadataBatch batch = new ConnectorMetadataBatch(
+        List.of(Jsons.clone(sourceDefinition).withName("updated name")),
+        List.of(destinationDefinition),
+        List.of(createBaseActorDefVersion(sourceDefId).withDockerImageTag(invalidUpgradeTag), createBaseActorDefVersion(destinationDefId)),
+        List.of(MockData.actorDefinitionBreakingChange("1.0.0").withActorDefinitionId(sourceDefId)));
+
+    assertThrows(IllegalArgumentException.class, () -> actorDefinitionService.writeConnectorMetadata(batch));
+
+    assertEquals(sourceDefinition.withDefaultVersionId(initialVersionId), configRepository.getStandardSourceDefinition(sourceDefId));
+    assertFalse(configRepository.getActorDefinitionVersion(sourceDefId, invalidUpgradeTag).isPresent());
+    assertEquals(0, configRepository.listBreakingChangesForActorDefinition(sourceDefId).size());
+    assertThrows(ConfigNotFoundException.class, () -> configRepository.getStandardDestinationDefinition(destinationDefId));
+  }
+
   private static StandardSourceDefinition createBaseSourceDef() {
     final UUID id = UUID.randomUUID();
 
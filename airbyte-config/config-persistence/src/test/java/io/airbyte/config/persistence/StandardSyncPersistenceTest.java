@@ -66,7 +66,11 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -417,6 +421,44 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(Status.DEPRECATED, sync4.getStatus());
   }
 
+  @Test
+  void testListConnectionsByIds() throws IOException {
+    createBaseObjects();
+
+    final StandardSync sync1 = createStandardSync(source1, destination1);
+    final StandardSync sync2 = createStandardSync(source2, destination2);
+    standardSyncPersistence.writeStandardSync(sync2.withStatus(Status.DEPRECATED));
+    createStandardSync(source1, destination2);
+
+    final Map<UUID, StandardSync> standardSyncs =
+        configRepository.listConnectionsByIds(List.of(sync1.getConnectionId(), sync2.getConnectionId(), UUID.randomUUID())).stream()
+            .collect(Collectors.toMap(StandardSync::getConnectionId, Function.identity()));
+
+    assertEquals(Set.of(sync1.getConnectionId(), sync2.getConnectionId()), standardSyncs.keySet());
+    assertEquals(sync1.getName(), standardSyncs.get(sync1.getConnectionId()).getName());
+    assertEquals(Status.DEPRECATED, standardSyncs.get(sync2.getConnectionId()).getStatus());
+    assertEquals(List.of(), configRepository.listConnectionsByIds(List.of()));
+  }
+
+  @Test
+  void testWriteStandardSyncs() throws IOException, JsonValidationException, ConfigNotFoundException {
+    createBaseObjects();
+
+    final StandardSync sync1 = createStandardSync(source1, destination1);
+    final StandardSync sync2 = createStandardSync(source1, destination2);
+
+    configRepository.writeStandardSyncs(List.of(
+        Jsons.clone(sync1).withName("renamed 1").withStatus(Status.INACTIVE),
+        Jsons.clone(sync2).withName("renamed 2")));
+
+    final StandardSync updatedSync1 = standardSyncPersistence.getStandardSync(sync1.getConnectionId());
+    final StandardSync updatedSync2 = standardSyncPersistence.getStandardSync(sync2.getConnectionId());
+    assertEquals("renamed 1", updatedSync1.getName());
+    assertEquals(Status.INACTIVE, updatedSync1.getStatus());
+    assertEquals("renamed 2", updatedSync2.getName());
+    assertEquals(Status.ACTIVE, updatedSync2.getStatus());
+  }
+
   private void createBaseObjects() throws IOException, JsonValidationException {
     final StandardWorkspace workspace = new StandardWorkspace()
         .withWorkspaceId(workspaceId)
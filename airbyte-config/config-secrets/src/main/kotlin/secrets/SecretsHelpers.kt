@@ -20,6 +20,9 @@ import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.util.UUID
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executors
 import java.util.function.Supplier
 
 private val logger = KotlinLogging.logger {}
@@ -214,6 +217,80 @@ object SecretsHelpers {
     }
   }
 
+  /**
+   * Same as [combineConfig], but first reads every secret coordinate referenced by the partial
+   * config concurrently, so that a config with N secrets pays roughly one round trip to the backing
+   * store instead of N sequential ones.
+   *
+   * The reads run on virtual threads started for this call only, at most [parallelism] at a time, so
+   * that the limit applies to each config and concurrent hydrations do not queue behind each other.
+   *
+   * @param partialConfig configuration containing secret coordinates (references to secrets)
+   * @param secretPersistence secret storage mechanism
+   * @param parallelism maximum number of secrets of the config read at the same time
+   * @return full config including actual secret values
+   */
+  fun combineConfig(
+    partialConfig: JsonNode?,
+    secretPersistence: ReadOnlySecretPersistence,
+    parallelism: Int,
+  ): JsonNode {
+    val coordinates = collectSecretCoordinates(partialConfig)
+    if (parallelism <= 1 || coordinates.size <= 1) {
+      return combineConfig(partialConfig, secretPersistence)
+    }
+
+    val executor =
+      Executors.newFixedThreadPool(
+        minOf(parallelism, coordinates.size),
+        Thread.ofVirtual().name("secret-hydration-", 0).factory(),
+      )
+    val prefetched: Map<SecretCoordinate, String> =
+      try {
+        val futures =
+          coordinates.associateWith { coordinate ->
+            CompletableFuture.supplyAsync({ secretPersistence.read(coordinate) }, executor)
+          }
+        CompletableFuture.allOf(*futures.values.toTypedArray()).join()
+        futures.mapValues { (_, future) -> future.join() }
+      } catch (e: CompletionException) {
+        throw e.cause ?: e
+      } finally {
+        executor.shutdownNow()
+      }
+
+    return combineConfig(partialConfig) { coordinate -> prefetched[coordinate] ?: secretPersistence.read(coordinate) }
+  }
+
+  /**
+   * Collects every distinct secret coordinate referenced by {"_secret": "full_coordinate"} objects in
+   * the partial config.
+   *
+   * @param partialConfig configuration containing secret coordinates (references to secrets)
+   * @return the set of referenced coordinates
+   */
+  fun collectSecretCoordinates(partialConfig: JsonNode?): Set<SecretCoordinate> {
+    val coordinates = mutableSetOf<SecretCoordinate>()
+    collectSecretCoordinates(partialConfig, coordinates)
+    return coordinates
+  }
+
+  private fun collectSecretCoordinates(
+    node: JsonNode?,
+    coordinates: MutableSet<SecretCoordinate>,
+  ) {
+    if (node == null) {
+      return
+    }
+    if (node.isObject && node.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(node[COORDINATE_FIELD]))
+      return
+    }
+    if (node.isContainerNode) {
+      node.elements().forEachRemaining { child -> collectSecretCoordinates(child, coordinates) }
+    }
+  }
+
   /**
    * This returns all the unique path to the airbyte secrets based on a schema spec. The path will be
    * return in an ascending alphabetical order.
@@ -6,26 +6,44 @@ package io.airbyte.config.secrets.hydration
 
 import com.fasterxml.jackson.databind.JsonNode
 import io.airbyte.config.secrets.SecretsHelpers
+import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
 
+private const val DEFAULT_HYDRATION_PARALLELISM = 4
+
 /**
  * Adds secrets to a partial config based off a persistence.
+ *
+ * When [hydrationParallelism] is greater than one, the secret coordinates referenced by a config
+ * are read from the persistence concurrently, up to [hydrationParallelism] at a time for each config.
  */
 @Requires(bean = SecretPersistence::class)
 @Singleton
-class RealSecretsHydrator(private val secretPersistence: SecretPersistence) : SecretsHydrator {
+class RealSecretsHydrator(
+  private val secretPersistence: SecretPersistence,
+  @Value("\${airbyte.secret.hydration.parallelism:$DEFAULT_HYDRATION_PARALLELISM}")
+  private val hydrationParallelism: Int = DEFAULT_HYDRATION_PARALLELISM,
+) : SecretsHydrator {
   override fun hydrateFromDefaultSecretPersistence(partialConfig: JsonNode): JsonNode {
-    return SecretsHelpers.combineConfig(partialConfig, secretPersistence)
+    return combineConfig(partialConfig, secretPersistence)
   }
 
   override fun hydrateFromRuntimeSecretPersistence(
     partialConfig: JsonNode,
     runtimeSecretPersistence: RuntimeSecretPersistence,
   ): JsonNode {
-    return SecretsHelpers.combineConfig(partialConfig, runtimeSecretPersistence)
+    return combineConfig(partialConfig, runtimeSecretPersistence)
+  }
+
+  private fun combineConfig(
+    partialConfig: JsonNode,
+    persistence: ReadOnlySecretPersistence,
+  ): JsonNode {
+    return SecretsHelpers.combineConfig(partialConfig, persistence, hydrationParallelism)
   }
 
   override fun hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate: JsonNode): JsonNode {
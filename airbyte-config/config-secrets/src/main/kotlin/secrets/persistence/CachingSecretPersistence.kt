@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import io.airbyte.config.secrets.SecretCoordinate
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import jakarta.inject.Singleton
+import java.time.Duration
+
+/**
+ * [SecretPersistence] decorator that keeps recently read secret payloads in memory so that
+ * repeated hydration of the same config does not pay a round trip to the backing store for every
+ * coordinate.
+ *
+ * Entries are keyed by the full coordinate (base and version), are bounded both in size and age and
+ * are invalidated whenever the same coordinate is written through this persistence. Blank payloads
+ * (i.e. "secret not found") are never cached.
+ */
+class CachingSecretPersistence(
+  val delegate: SecretPersistence,
+  ttl: Duration,
+  maximumSize: Long,
+) : SecretPersistence {
+  private val cache: Cache<String, String> =
+    CacheBuilder.newBuilder()
+      .expireAfterWrite(ttl)
+      .maximumSize(maximumSize)
+      .recordStats()
+      .build()
+
+  override fun initialize() {
+    delegate.initialize()
+  }
+
+  override fun read(coordinate: SecretCoordinate): String {
+    val key = coordinate.fullCoordinate
+    cache.getIfPresent(key)?.let { return it }
+
+    val payload = delegate.read(coordinate)
+    if (payload.isNotBlank()) {
+      cache.put(key, payload)
+    }
+    return payload
+  }
+
+  override fun write(
+    coordinate: SecretCoordinate,
+    payload: String,
+  ) {
+    try {
+      delegate.write(coordinate, payload)
+    } finally {
+      cache.invalidate(coordinate.fullCoordinate)
+    }
+  }
+
+  /**
+   * Removes every cached payload.
+   */
+  fun invalidateAll() {
+    cache.invalidateAll()
+  }
+
+  val hitCount: Long
+    get() = cache.stats().hitCount()
+
+  val missCount: Long
+    get() = cache.stats().missCount()
+}
+
+/**
+ * Wraps the configured [SecretPersistence] in a [CachingSecretPersistence] when secret caching is
+ * enabled for the application.
+ */
+@Singleton
+@Requires(property = "airbyte.secret.cache.enabled", value = "true")
+class CachingSecretPersistenceDecorator(
+  @Value("\${airbyte.secret.cache.ttl:PT5M}") private val ttl: Duration,
+  @Value("\${airbyte.secret.cache.maximum-size:10000}") private val maximumSize: Long,
+) : BeanCreatedEventListener<SecretPersistence> {
+  override fun onCreated(event: BeanCreatedEvent<SecretPersistence>): SecretPersistence {
+    val persistence = event.bean
+    if (persistence is CachingSecretPersistence || persistence is NoOpSecretPersistence) {
+      return persistence
+    }
+    return CachingSecretPersistence(persistence, ttl, maximumSize)
+  }
+}
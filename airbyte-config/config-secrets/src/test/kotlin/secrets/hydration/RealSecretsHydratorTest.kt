@@ -4,12 +4,19 @@
 
 package io.airbyte.config.secrets.hydration
 
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.node.ObjectNode
 import io.airbyte.commons.json.Jsons
+import io.airbyte.config.secrets.MemorySecretPersistence
+import io.airbyte.config.secrets.SecretCoordinate
 import io.airbyte.config.secrets.persistence.SecretPersistence
+import io.airbyte.config.secrets.persistence.SlowSecretPersistence
 import io.mockk.every
 import io.mockk.mockk
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.Executors
 
 class RealSecretsHydratorTest {
   @Test
@@ -36,4 +43,73 @@ class RealSecretsHydratorTest {
     val hydratedCoordinate = hydrator.hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate)
     Assertions.assertEquals(secret["config"], hydratedCoordinate.get("config").asText())
   }
+
+  @Test
+  fun `secrets in a config are hydrated concurrently`() {
+    val memoryPersistence = MemorySecretPersistence()
+    val slowPersistence = SlowSecretPersistence(memoryPersistence, LATENCY)
+    val partialConfig = writeSecrets(memoryPersistence, "config", 8)
+
+    val start = System.nanoTime()
+    val fullConfig = RealSecretsHydrator(slowPersistence, 8).hydrateFromDefaultSecretPersistence(partialConfig)
+    val elapsed = Duration.ofNanos(System.nanoTime() - start)
+
+    for (i in 0 until 8) {
+      Assertions.assertEquals("payload_$i", fullConfig["field_$i"].asText())
+    }
+    Assertions.assertEquals(8, slowPersistence.reads.get())
+    Assertions.assertTrue(elapsed < LATENCY.multipliedBy(8), "hydration took $elapsed")
+  }
+
+  @Test
+  fun `the parallelism limit applies to each config`() {
+    val memoryPersistence = MemorySecretPersistence()
+    val slowPersistence = SlowSecretPersistence(memoryPersistence, LATENCY)
+    val hydrator = RealSecretsHydrator(slowPersistence, 2)
+    val configs = (0 until 4).map { writeSecrets(memoryPersistence, "config_$it", 4) }
+
+    // four configs hydrated at once read up to two secrets each at the same time
+    Executors.newVirtualThreadPerTaskExecutor().use { callers ->
+      configs.map { config -> callers.submit<JsonNode> { hydrator.hydrateFromDefaultSecretPersistence(config) } }.forEach { it.get() }
+    }
+
+    Assertions.assertEquals(16, slowPersistence.reads.get())
+    Assertions.assertTrue(slowPersistence.maxConcurrentReads.get() > 2, "at most ${slowPersistence.maxConcurrentReads} concurrent reads")
+    Assertions.assertTrue(slowPersistence.maxConcurrentReads.get() <= 8, "${slowPersistence.maxConcurrentReads} concurrent reads")
+  }
+
+  @Test
+  fun `concurrent hydration surfaces missing secrets`() {
+    val memoryPersistence = MemorySecretPersistence()
+    val partialConfig =
+      Jsons.jsonNode(
+        mapOf(
+          "present" to mapOf("_secret" to "airbyte_workspace_present_v1"),
+          "missing" to mapOf("_secret" to "airbyte_workspace_missing_v1"),
+        ),
+      )
+    memoryPersistence.write(SecretCoordinate("airbyte_workspace_present", 1), "payload")
+
+    Assertions.assertThrows(RuntimeException::class.java) {
+      RealSecretsHydrator(SlowSecretPersistence(memoryPersistence, LATENCY), 4).hydrateFromDefaultSecretPersistence(partialConfig)
+    }
+  }
+
+  private fun writeSecrets(
+    persistence: SecretPersistence,
+    prefix: String,
+    count: Int,
+  ): JsonNode {
+    val partialConfig = Jsons.emptyObject() as ObjectNode
+    for (i in 0 until count) {
+      val coordinate = SecretCoordinate("airbyte_workspace_${prefix}_$i", 1)
+      persistence.write(coordinate, "payload_$i")
+      partialConfig.set<JsonNode>("field_$i", Jsons.jsonNode(mapOf("_secret" to coordinate.fullCoordinate)))
+    }
+    return partialConfig
+  }
+
+  companion object {
+    private val LATENCY = Duration.ofMillis(100)
+  }
 }
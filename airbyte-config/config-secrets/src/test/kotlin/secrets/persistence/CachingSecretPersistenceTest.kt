@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import io.airbyte.config.secrets.MemorySecretPersistence
+import io.airbyte.config.secrets.SecretCoordinate
+import org.junit.jupiter.api.Assertions
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+internal class CachingSecretPersistenceTest {
+  private lateinit var memoryPersistence: MemorySecretPersistence
+  private lateinit var slowPersistence: SlowSecretPersistence
+
+  @BeforeEach
+  fun setUp() {
+    memoryPersistence = MemorySecretPersistence()
+    slowPersistence = SlowSecretPersistence(memoryPersistence, LATENCY)
+  }
+
+  @Test
+  fun `repeated reads are served from the cache`() {
+    val coordinate = SecretCoordinate("airbyte_workspace_secret", 1)
+    memoryPersistence.write(coordinate, "payload")
+    val persistence = CachingSecretPersistence(slowPersistence, Duration.ofMinutes(1), 10)
+
+    Assertions.assertEquals("payload", persistence.read(coordinate))
+    Assertions.assertEquals("payload", persistence.read(coordinate))
+    Assertions.assertEquals(1, slowPersistence.reads.get())
+    Assertions.assertEquals(1, persistence.hitCount)
+  }
+
+  @Test
+  fun `versions are cached independently`() {
+    val v1 = SecretCoordinate("airbyte_workspace_secret", 1)
+    val v2 = SecretCoordinate("airbyte_workspace_secret", 2)
+    memoryPersistence.write(v1, "first")
+    memoryPersistence.write(v2, "second")
+    val persistence = CachingSecretPersistence(slowPersistence, Duration.ofMinutes(1), 10)
+
+    Assertions.assertEquals("first", persistence.read(v1))
+    Assertions.assertEquals("second", persistence.read(v2))
+    Assertions.assertEquals(2, slowPersistence.reads.get())
+  }
+
+  @Test
+  fun `writes invalidate the cached payload`() {
+    val coordinate = SecretCoordinate("airbyte_workspace_secret", 1)
+    val persistence = CachingSecretPersistence(slowPersistence, Duration.ofMinutes(1), 10)
+    persistence.write(coordinate, "before")
+    Assertions.assertEquals("before", persistence.read(coordinate))
+
+    persistence.write(coordinate, "after")
+    Assertions.assertEquals("after", persistence.read(coordinate))
+    Assertions.assertEquals(2, slowPersistence.reads.get())
+  }
+
+  @Test
+  fun `missing secrets are not cached`() {
+    val coordinate = SecretCoordinate("airbyte_workspace_secret", 1)
+    val persistence = CachingSecretPersistence(slowPersistence, Duration.ofMinutes(1), 10)
+
+    Assertions.assertEquals("", persistence.read(coordinate))
+    memoryPersistence.write(coordinate, "payload")
+    Assertions.assertEquals("payload", persistence.read(coordinate))
+  }
+
+  @Test
+  fun `entries expire after the ttl`() {
+    val coordinate = SecretCoordinate("airbyte_workspace_secret", 1)
+    memoryPersistence.write(coordinate, "payload")
+    val persistence = CachingSecretPersistence(slowPersistence, Duration.ofMillis(1), 10)
+
+    persistence.read(coordinate)
+    Thread.sleep(10)
+    persistence.read(coordinate)
+    Assertions.assertEquals(2, slowPersistence.reads.get())
+  }
+
+  companion object {
+    private val LATENCY = Duration.ofMillis(100)
+  }
+}
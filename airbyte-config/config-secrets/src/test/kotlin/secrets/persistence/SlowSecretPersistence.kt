@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import io.airbyte.config.secrets.SecretCoordinate
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Injects a fixed latency in front of every read to simulate a remote secret store.
+ */
+internal class SlowSecretPersistence(
+  private val delegate: SecretPersistence,
+  private val latency: Duration,
+) : SecretPersistence {
+  val reads = AtomicInteger()
+  val concurrentReads = AtomicInteger()
+  val maxConcurrentReads = AtomicInteger()
+
+  override fun read(coordinate: SecretCoordinate): String {
+    reads.incrementAndGet()
+    maxConcurrentReads.accumulateAndGet(concurrentReads.incrementAndGet(), ::maxOf)
+    try {
+      Thread.sleep(latency.toMillis())
+      return delegate.read(coordinate)
+    } finally {
+      concurrentReads.decrementAndGet()
+    }
+  }
+
+  override fun write(
+    coordinate: SecretCoordinate,
+    payload: String,
+  ) {
+    delegate.write(coordinate, payload)
+  }
+}
@@ -4,8 +4,11 @@
 
 package io.airbyte.config.init;
 
+import static io.airbyte.metrics.lib.OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITIONS_APPLY_DURATION;
 import static io.airbyte.metrics.lib.OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITION_PROCESSED;
 
+import com.google.common.base.Stopwatch;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.config.ActorDefinitionBreakingChange;
@@ -23,6 +26,7 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SourceService;
+import io.airbyte.data.services.shared.ConnectorMetadataBatch;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.JobPersistence;
@@ -31,11 +35,16 @@ import io.micronaut.context.annotation.Requires;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,7 +91,9 @@ public class ApplyDefinitionsHelper {
   }
 
   /**
-   * Apply the latest definitions from the provider to the repository.
+   * Apply the latest definitions from the provider to the repository. The changes are computed
+   * against the stored definitions first, then only the changed definitions are written, in a single
+   * transaction.
    *
    * @param updateAll - Whether we should overwrite all stored definitions. If true, we do not
    *        consider whether a definition is in use before updating the definition and default
@@ -90,6 +101,7 @@ public class ApplyDefinitionsHelper {
    */
   public void apply(final boolean updateAll)
       throws JsonValidationException, IOException, ConfigNotFoundException, io.airbyte.config.persistence.ConfigNotFoundException {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
     final List<ConnectorRegistrySourceDefinition> latestSourceDefinitions = definitionsProvider.getSourceDefinitions();
     final List<ConnectorRegistryDestinationDefinition> latestDestinationDefinitions = definitionsProvider.getDestinationDefinitions();
 
@@ -102,27 +114,47 @@ public class ApplyDefinitionsHelper {
     final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsToDefaultVersionsMap =
         actorDefinitionService.getActorDefinitionIdsToDefaultVersionsMap();
     final Set<UUID> actorDefinitionIdsInUse = actorDefinitionService.getActorDefinitionIdsInUse();
+    final Map<UUID, StandardSourceDefinition> currentSourceDefinitions = sourceService.listStandardSourceDefinitions(true).stream()
+        .collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, Function.identity()));
+    final Map<UUID, StandardDestinationDefinition> currentDestinationDefinitions = destinationService.listStandardDestinationDefinitions(true).stream()
+        .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, Function.identity()));
 
     newConnectorCount = 0;
     changedConnectorCount = 0;
 
+    final ConnectorMetadataBatch changes = new ConnectorMetadataBatch(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    final List<Entry<String, DefinitionProcessingSuccessOutcome>> outcomes = new ArrayList<>();
     for (final ConnectorRegistrySourceDefinition def : protocolCompatibleSourceDefinitions) {
-      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
+      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, currentSourceDefinitions, def, actorDefinitionIdsInUse, updateAll, changes,
+          outcomes);
     }
     for (final ConnectorRegistryDestinationDefinition def : protocolCompatibleDestinationDefinitions) {
-      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
+      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, currentDestinationDefinitions, def, actorDefinitionIdsInUse, updateAll,
+          changes, outcomes);
     }
+    trackApplyStepDuration("diff", stopwatch);
+
+    if (!changes.isEmpty()) {
+      actorDefinitionService.writeConnectorMetadata(changes);
+    }
+    outcomes.forEach(outcome -> trackDefinitionProcessed(outcome.getKey(), outcome.getValue()));
+    trackApplyStepDuration("write", stopwatch);
+
     supportStateUpdater.updateSupportStates();
+    trackApplyStepDuration("update_support_states", stopwatch);
 
     LOGGER.info("New connectors added: {}", newConnectorCount);
     LOGGER.info("Version changes applied: {}", changedConnectorCount);
+    LOGGER.info("Connector definitions written: {}", changes.sourceDefinitions().size() + changes.destinationDefinitions().size());
   }
 
   private void applySourceDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
+                                     final Map<UUID, StandardSourceDefinition> currentSourceDefinitions,
                                      final ConnectorRegistrySourceDefinition newDef,
                                      final Set<UUID> actorDefinitionIdsInUse,
-                                     final boolean updateAll)
-      throws IOException, JsonValidationException, ConfigNotFoundException {
+                                     final boolean updateAll,
+                                     final ConnectorMetadataBatch changes,
+                                     final List<Entry<String, DefinitionProcessingSuccessOutcome>> outcomes) {
     // Skip and log if unable to parse registry entry.
     final StandardSourceDefinition newSourceDef;
     final ActorDefinitionVersion newADV;
@@ -140,9 +172,11 @@ public class ApplyDefinitionsHelper {
     final boolean connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newSourceDef.getSourceDefinitionId());
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
-      sourceService.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      changes.sourceDefinitions().add(newSourceDef);
+      changes.defaultVersions().add(newADV);
+      changes.breakingChanges().addAll(breakingChangesForDef);
       newConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED);
+      outcomes.add(Map.entry(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED));
       return;
     }
 
@@ -154,20 +188,27 @@ public class ApplyDefinitionsHelper {
       LOGGER.info("Updating default version for connector {}: {} -> {}", currentDefaultADV.getDockerRepository(),
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
-      sourceService.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      changes.sourceDefinitions().add(newSourceDef);
+      changes.defaultVersions().add(newADV);
+      changes.breakingChanges().addAll(breakingChangesForDef);
       changedConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED);
+      outcomes.add(Map.entry(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED));
     } else {
-      sourceService.updateStandardSourceDefinition(newSourceDef);
-      trackDefinitionProcessed(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED);
+      final StandardSourceDefinition currentSourceDef = currentSourceDefinitions.get(newSourceDef.getSourceDefinitionId());
+      if (currentSourceDef == null || !Jsons.clone(newSourceDef).withDefaultVersionId(currentSourceDef.getDefaultVersionId()).equals(currentSourceDef)) {
+        changes.sourceDefinitions().add(newSourceDef);
+      }
+      outcomes.add(Map.entry(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED));
     }
   }
 
   private void applyDestinationDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
+                                          final Map<UUID, StandardDestinationDefinition> currentDestinationDefinitions,
                                           final ConnectorRegistryDestinationDefinition newDef,
                                           final Set<UUID> actorDefinitionIdsInUse,
-                                          final boolean updateAll)
-      throws IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+                                          final boolean updateAll,
+                                          final ConnectorMetadataBatch changes,
+                                          final List<Entry<String, DefinitionProcessingSuccessOutcome>> outcomes) {
     // Skip and log if unable to parse registry entry.
     final StandardDestinationDefinition newDestinationDef;
     final ActorDefinitionVersion newADV;
@@ -185,9 +226,11 @@ public class ApplyDefinitionsHelper {
     final boolean connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newDestinationDef.getDestinationDefinitionId());
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
-      destinationService.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      changes.destinationDefinitions().add(newDestinationDef);
+      changes.defaultVersions().add(newADV);
+      changes.breakingChanges().addAll(breakingChangesForDef);
       newConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED);
+      outcomes.add(Map.entry(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED));
       return;
     }
 
@@ -199,12 +242,18 @@ public class ApplyDefinitionsHelper {
       LOGGER.info("Updating default version for connector {}: {} -> {}", currentDefaultADV.getDockerRepository(),
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
-      destinationService.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      changes.destinationDefinitions().add(newDestinationDef);
+      changes.defaultVersions().add(newADV);
+      changes.breakingChanges().addAll(breakingChangesForDef);
       changedConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED);
+      outcomes.add(Map.entry(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED));
     } else {
-      destinationService.updateStandardDestinationDefinition(newDestinationDef);
-      trackDefinitionProcessed(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED);
+      final StandardDestinationDefinition currentDestinationDef = currentDestinationDefinitions.get(newDestinationDef.getDestinationDefinitionId());
+      if (currentDestinationDef == null
+          || !Jsons.clone(newDestinationDef).withDefaultVersionId(currentDestinationDef.getDefaultVersionId()).equals(currentDestinationDef)) {
+        changes.destinationDefinitions().add(newDestinationDef);
+      }
+      outcomes.add(Map.entry(newDef.getDockerRepository(), DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED));
     }
 
   }
@@ -263,4 +312,10 @@ public class ApplyDefinitionsHelper {
     metricClient.count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, attributes);
   }
 
+  private void trackApplyStepDuration(final String step, final Stopwatch stopwatch) {
+    metricClient.distribution(CONNECTOR_REGISTRY_DEFINITIONS_APPLY_DURATION, stopwatch.elapsed(TimeUnit.MILLISECONDS),
+        new MetricAttribute("step", step));
+    stopwatch.reset().start();
+  }
+
 }
@@ -4,8 +4,12 @@
 
 package io.airbyte.config.init;
 
+import static io.airbyte.metrics.lib.OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITIONS_APPLY_DURATION;
 import static io.airbyte.metrics.lib.OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITION_PROCESSED;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -30,6 +34,7 @@ import io.airbyte.config.specs.DefinitionsProvider;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SourceService;
+import io.airbyte.data.services.shared.ConnectorMetadataBatch;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.JobPersistence;
@@ -43,6 +48,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -131,6 +137,23 @@ class ApplyDefinitionsHelperTest {
   private void verifyActorDefinitionServiceInteractions() throws IOException {
     verify(actorDefinitionService).getActorDefinitionIdsToDefaultVersionsMap();
     verify(actorDefinitionService).getActorDefinitionIdsInUse();
+    verify(sourceService).listStandardSourceDefinitions(true);
+    verify(destinationService).listStandardDestinationDefinitions(true);
+    List.of("diff", "write", "update_support_states").forEach(
+        step -> verify(metricClient).distribution(eq(CONNECTOR_REGISTRY_DEFINITIONS_APPLY_DURATION), anyDouble(), eq(new MetricAttribute("step", step))));
+  }
+
+  private static ConnectorMetadataBatch metadataBatch(final List<ConnectorRegistrySourceDefinition> sourceDefinitions,
+                                                      final List<ConnectorRegistryDestinationDefinition> destinationDefinitions) {
+    return new ConnectorMetadataBatch(
+        sourceDefinitions.stream().map(ConnectorRegistryConverters::toStandardSourceDefinition).toList(),
+        destinationDefinitions.stream().map(ConnectorRegistryConverters::toStandardDestinationDefinition).toList(),
+        Stream.concat(
+            sourceDefinitions.stream().map(ConnectorRegistryConverters::toActorDefinitionVersion),
+            destinationDefinitions.stream().map(ConnectorRegistryConverters::toActorDefinitionVersion)).toList(),
+        Stream.concat(
+            sourceDefinitions.stream().flatMap(def -> ConnectorRegistryConverters.toActorDefinitionBreakingChanges(def).stream()),
+            destinationDefinitions.stream().flatMap(def -> ConnectorRegistryConverters.toActorDefinitionBreakingChanges(def).stream())).toList());
   }
 
   @ParameterizedTest
@@ -143,14 +166,7 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
     verifyActorDefinitionServiceInteractions();
 
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3));
+    verify(actorDefinitionService).writeConnectorMetadata(metadataBatch(List.of(SOURCE_POSTGRES), List.of(DESTINATION_S3)));
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
             CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
@@ -177,14 +193,7 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
     verifyActorDefinitionServiceInteractions();
 
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    verify(actorDefinitionService).writeConnectorMetadata(metadataBatch(List.of(SOURCE_POSTGRES_2), List.of(DESTINATION_S3_2)));
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
             CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
@@ -211,14 +220,7 @@ class ApplyDefinitionsHelperTest {
     verifyActorDefinitionServiceInteractions();
 
     if (updateAll) {
-      verify(sourceService).writeConnectorMetadata(
-          ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-          ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-          ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-      verify(destinationService).writeConnectorMetadata(
-          ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-          ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-          ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+      verify(actorDefinitionService).writeConnectorMetadata(metadataBatch(List.of(SOURCE_POSTGRES_2), List.of(DESTINATION_S3_2)));
       List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
           dockerRepo -> verify(metricClient, times(1)).count(
               CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
@@ -227,8 +229,12 @@ class ApplyDefinitionsHelperTest {
               new MetricAttribute("outcome", DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED.toString()),
               new MetricAttribute("docker_repository", dockerRepo)));
     } else {
-      verify(sourceService).updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2));
-      verify(destinationService).updateStandardDestinationDefinition(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2));
+      // the stored definitions differ from the new ones, they are updated without changing their default version
+      verify(actorDefinitionService).writeConnectorMetadata(new ConnectorMetadataBatch(
+          List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)),
+          List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2)),
+          List.of(),
+          List.of()));
       verify(metricClient, times(2)).count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, new MetricAttribute("status", "ok"),
           new MetricAttribute("outcome", DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED.toString()));
     }
@@ -262,23 +268,7 @@ class ApplyDefinitionsHelperTest {
             new MetricAttribute("outcome", DefinitionProcessingFailureReason.INCOMPATIBLE_PROTOCOL_VERSION.toString()),
             new MetricAttribute("docker_repository", dockerRepo)));
 
-    verify(sourceService, never()).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(postgresWithOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionVersion(s3withOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(postgresWithOldProtocolVersion));
-    verify(destinationService, never()).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(s3withOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionVersion(postgresWithOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(s3withOldProtocolVersion));
-
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    verify(actorDefinitionService).writeConnectorMetadata(metadataBatch(List.of(SOURCE_POSTGRES_2), List.of(DESTINATION_S3_2)));
     verify(supportStateUpdater).updateSupportStates();
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
@@ -290,6 +280,30 @@ class ApplyDefinitionsHelperTest {
     verifyNoMoreInteractions(actorDefinitionService, sourceService, destinationService, supportStateUpdater, metricClient);
   }
 
+  @Test
+  void testUnchangedDefinitionsAreNotWritten() throws IOException, JsonValidationException, ConfigNotFoundException,
+      io.airbyte.data.exceptions.ConfigNotFoundException {
+    mockSeedInitialDefinitions();
+    when(actorDefinitionService.getActorDefinitionIdsInUse()).thenReturn(Set.of(POSTGRES_ID, S3_ID));
+    when(sourceService.listStandardSourceDefinitions(true)).thenReturn(List.of(
+        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES).withDefaultVersionId(UUID.randomUUID())));
+    when(destinationService.listStandardDestinationDefinitions(true)).thenReturn(List.of(
+        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3).withDefaultVersionId(UUID.randomUUID())));
+
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3));
+
+    applyDefinitionsHelper.apply(false);
+    verifyActorDefinitionServiceInteractions();
+
+    verify(actorDefinitionService, never()).writeConnectorMetadata(any());
+    verify(metricClient, times(2)).count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, new MetricAttribute("status", "ok"),
+        new MetricAttribute("outcome", DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED.toString()));
+    verify(supportStateUpdater).updateSupportStates();
+
+    verifyNoMoreInteractions(actorDefinitionService, sourceService, destinationService, supportStateUpdater, metricClient);
+  }
+
   @Test
   void testMalformedDefinitionDoesNotBlockOtherDefinitionsFromUpdating()
       throws JsonValidationException, ConfigNotFoundException, IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
@@ -321,22 +335,9 @@ class ApplyDefinitionsHelperTest {
             new MetricAttribute("outcome", DefinitionProcessingFailureReason.DEFINITION_CONVERSION_FAILED.toString()),
             new MetricAttribute("docker_repository", dockerRepo)));
 
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3));
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(anotherNewSourceDefinition),
-        ConnectorRegistryConverters.toActorDefinitionVersion(anotherNewSourceDefinition),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(anotherNewSourceDefinition));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(anotherNewDestinationDefinition),
-        ConnectorRegistryConverters.toActorDefinitionVersion(anotherNewDestinationDefinition),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(anotherNewDestinationDefinition));
+    verify(actorDefinitionService).writeConnectorMetadata(metadataBatch(
+        List.of(SOURCE_POSTGRES, anotherNewSourceDefinition),
+        List.of(DESTINATION_S3, anotherNewDestinationDefinition)));
     verify(supportStateUpdater).updateSupportStates();
     List.of("airbyte/source-postgres", "airbyte/destination-s3", "airbyte/source-new", "airbyte/destination-new").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
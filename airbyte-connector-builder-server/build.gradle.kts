@@ -19,6 +19,7 @@ dependencies {
     implementation(libs.sentry.java)
 
     implementation(libs.guava)
+    implementation(libs.reactor.core)
 
     // Micronaut dependencies)
     annotationProcessor(platform(libs.micronaut.bom))
@@ -125,7 +126,7 @@ sourceSets {
 }
 
 val copyPythonDeps = tasks.register<Copy>("copyPythonDependencies") {
-    from("$projectDir/requirements.txt")
+    from("$projectDir/requirements.txt", "$projectDir/cdk_worker.py")
     into("$buildDir/airbyte/docker/")
 }
 //
@@ -0,0 +1,113 @@
+#
+# Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived CDK worker used by the connector builder server process pool.
+
+Importing the CDK and starting the interpreter dominate the latency of a connector builder request,
+so instead of running the CDK connector builder entrypoint once per request, the server keeps a few
+of these workers running and sends them one request per line on stdin:
+
+    {"config": "<config json>", "catalog": "<catalog json>"}
+
+Each request gets exactly one response line on stdout:
+
+    {"message": <airbyte message>, "max_rss_bytes": <peak resident memory of the worker>}
+
+If the request sets "stream_slices" to true, every slice of a test read is also sent as soon as the CDK
+has grouped it, before the response line:
+
+    {"event": "slice", "data": <slice>}
+
+Anything else the CDK or the connector writes to stdout is sent to stderr so that it cannot corrupt
+the framing.
+"""
+
+import dataclasses
+import json
+import os
+import resource
+import sys
+import tempfile
+
+# called with each slice grouped by the CDK while a streaming request is being handled
+slice_listener = None
+
+
+def main() -> None:
+    # keep a private handle on the real stdout for responses, then point fd 1 at stderr
+    responses = os.fdopen(os.dup(sys.stdout.fileno()), "w")
+    os.dup2(sys.stderr.fileno(), sys.stdout.fileno())
+    sys.stdout = sys.stderr
+
+    from airbyte_cdk.connector_builder.main import handle_request
+    from airbyte_cdk.utils.traced_exception import AirbyteTracedException
+
+    intercept_slices()
+
+    def send(payload) -> None:
+        responses.write(json.dumps(payload, default=str))
+        responses.write("\n")
+        responses.flush()
+
+    global slice_listener
+    for line in sys.stdin:
+        if not line.strip():
+            continue
+        request = json.loads(line)
+        if request.get("stream_slices"):
+            slice_listener = lambda data: send({"event": "slice", "data": data})
+        try:
+            message = handle(handle_request, request)
+        except Exception as exc:
+            error = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {str(exc)}")
+            message = error.as_airbyte_message().json(exclude_unset=True)
+        finally:
+            slice_listener = None
+
+        send({"message": json.loads(message), "max_rss_bytes": max_rss_bytes()})
+
+
+def intercept_slices() -> None:
+    """
+    The connector builder handler only returns once the whole test read is done. Wrap the generator
+    it uses to group the messages of the read (pinned CDK version) so that each slice can also be
+    sent as soon as it is complete. The record, page and slice limits are still applied by the CDK
+    while it reads.
+    """
+    from airbyte_cdk.connector_builder.message_grouper import MessageGrouper
+    from airbyte_cdk.connector_builder.models import StreamReadSlices
+
+    get_message_groups = MessageGrouper._get_message_groups
+
+    def get_message_groups_and_send_slices(self, *args, **kwargs):
+        for message_group in get_message_groups(self, *args, **kwargs):
+            if slice_listener is not None and isinstance(message_group, StreamReadSlices):
+                slice_listener(dataclasses.asdict(message_group))
+            yield message_group
+
+    MessageGrouper._get_message_groups = get_message_groups_and_send_slices
+
+
+def handle(handle_request, request) -> str:
+    with tempfile.TemporaryDirectory() as tmp:
+        config_path = write(tmp, "config.json", request["config"])
+        catalog_path = write(tmp, "catalog.json", request["catalog"])
+        return handle_request(["read", "--config", config_path, "--catalog", catalog_path])
+
+
+def write(directory: str, name: str, contents: str) -> str:
+    path = os.path.join(directory, name)
+    with open(path, "w") as f:
+        f.write(contents)
+    return path
+
+
+def max_rss_bytes() -> int:
+    # ru_maxrss is reported in kilobytes on Linux
+    return resource.getrusage(resource.RUSAGE_SELF).ru_maxrss * 1024
+
+
+if __name__ == "__main__":
+    main()
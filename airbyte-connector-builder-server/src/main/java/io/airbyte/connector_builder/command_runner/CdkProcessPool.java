@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of warm CDK worker processes.
+ * <p>
+ * At most {@code size} requests run at the same time, each on its own worker. A worker is reused
+ * until it has handled {@code maxRequestsPerWorker} requests, its peak memory exceeds
+ * {@code maxRssBytes} (when positive), it times out or it fails; it is then stopped and a new one is
+ * started on demand.
+ */
+public class CdkProcessPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkProcessPool.class);
+
+  private final List<String> workerCommand;
+  private final int size;
+  private final Duration requestTimeout;
+  private final Duration acquireTimeout;
+  private final int maxRequestsPerWorker;
+  private final long maxRssBytes;
+
+  private final Semaphore permits;
+  private final ConcurrentLinkedDeque<CdkWorker> idleWorkers = new ConcurrentLinkedDeque<>();
+  private final ExecutorService readers;
+  private final AtomicInteger startedWorkers = new AtomicInteger();
+  private volatile boolean closed;
+
+  public CdkProcessPool(final List<String> workerCommand,
+                        final int size,
+                        final Duration requestTimeout,
+                        final Duration acquireTimeout,
+                        final int maxRequestsPerWorker,
+                        final long maxRssBytes) {
+    this.workerCommand = List.copyOf(workerCommand);
+    this.size = size;
+    this.requestTimeout = requestTimeout;
+    this.acquireTimeout = acquireTimeout;
+    this.maxRequestsPerWorker = maxRequestsPerWorker;
+    this.maxRssBytes = maxRssBytes;
+    this.permits = new Semaphore(size, true);
+    this.readers = Executors.newCachedThreadPool(runnable -> Thread.ofPlatform().name("cdk-worker-reader").daemon(true).unstarted(runnable));
+  }
+
+  /**
+   * Start all the workers up front so that the first requests do not pay for the CDK start-up.
+   * Failures are only logged, workers are started on demand anyway.
+   */
+  public void prestart() {
+    for (int i = idleWorkers.size(); i < size; i++) {
+      try {
+        idleWorkers.add(startWorker());
+      } catch (final IOException e) {
+        LOGGER.warn("Could not prestart a CDK worker", e);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Run one request on a worker of the pool.
+   *
+   * @throws CdkWorkerUnavailableException if no worker could handle the request
+   * @throws TimeoutException if no worker became available, or the worker did not respond, in time
+   */
+  public JsonNode execute(final JsonNode request) throws CdkWorkerUnavailableException, TimeoutException, InterruptedException {
+    return execute(request, event -> {});
+  }
+
+  /**
+   * Run one request on a worker of the pool, passing the events the worker sends before its response
+   * to the {@code eventListener}.
+   */
+  public JsonNode execute(final JsonNode request, final Consumer<JsonNode> eventListener)
+      throws CdkWorkerUnavailableException, TimeoutException, InterruptedException {
+    if (closed) {
+      throw new CdkWorkerUnavailableException("The CDK process pool is closed", null);
+    }
+    if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      throw new TimeoutException("No CDK worker became available within " + acquireTimeout);
+    }
+    try {
+      final CdkWorker worker = borrowWorker();
+      boolean reusable = false;
+      try {
+        final JsonNode response = worker.exchange(request, requestTimeout, readers, eventListener);
+        reusable = !shouldRecycle(worker);
+        return response;
+      } finally {
+        if (reusable && !closed) {
+          idleWorkers.push(worker);
+        } else {
+          worker.close();
+        }
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Number of worker processes started since the pool was created.
+   */
+  public int getStartedWorkerCount() {
+    return startedWorkers.get();
+  }
+
+  private CdkWorker borrowWorker() throws CdkWorkerUnavailableException {
+    CdkWorker worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      if (worker.isAlive()) {
+        return worker;
+      }
+      worker.close();
+    }
+    try {
+      return startWorker();
+    } catch (final IOException e) {
+      throw new CdkWorkerUnavailableException("Could not start a CDK worker", e);
+    }
+  }
+
+  private CdkWorker startWorker() throws IOException {
+    final CdkWorker worker = CdkWorker.start(workerCommand);
+    startedWorkers.incrementAndGet();
+    return worker;
+  }
+
+  private boolean shouldRecycle(final CdkWorker worker) {
+    if (worker.getHandledRequests() >= maxRequestsPerWorker) {
+      LOGGER.debug("Recycling CDK worker after {} requests", worker.getHandledRequests());
+      return true;
+    }
+    if (maxRssBytes > 0 && worker.getMaxRssBytes() > maxRssBytes) {
+      LOGGER.info("Recycling CDK worker using {} bytes of memory", worker.getMaxRssBytes());
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    CdkWorker worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      worker.close();
+    }
+    readers.shutdownNow();
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.json.Jsons;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived CDK worker process, exchanging one JSON request line for one JSON response line (see
+ * cdk_worker.py).
+ */
+class CdkWorker implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorker.class);
+
+  private final Process process;
+  private final BufferedWriter requests;
+  private final BufferedReader responses;
+  private int handledRequests;
+  private long maxRssBytes;
+
+  private CdkWorker(final Process process) {
+    this.process = process;
+    this.requests = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.responses = IOs.newBufferedReader(process.getInputStream());
+  }
+
+  /**
+   * Start a worker with the given command. Its stderr is forwarded to the server logs.
+   */
+  static CdkWorker start(final List<String> command) throws IOException {
+    final Process process = new ProcessBuilder(command).start();
+    final CdkWorker worker = new CdkWorker(process);
+    Thread.ofPlatform()
+        .name("cdk-worker-stderr-" + process.pid())
+        .daemon(true)
+        .start(worker::forwardStderr);
+    return worker;
+  }
+
+  /**
+   * Send a request and wait for its response. Events sent by the worker before the response (see
+   * cdk_worker.py) are passed to the {@code eventListener} as they arrive.
+   *
+   * @throws CdkWorkerUnavailableException if the worker died or answered with something that is not
+   *         a response
+   * @throws TimeoutException if the response was not received within the timeout, the worker must
+   *         then be closed as its output can no longer be matched to a request
+   */
+  JsonNode exchange(final JsonNode request,
+                    final Duration timeout,
+                    final ExecutorService readers,
+                    final Consumer<JsonNode> eventListener)
+      throws CdkWorkerUnavailableException, TimeoutException, InterruptedException {
+    try {
+      requests.write(Jsons.serialize(request));
+      requests.newLine();
+      requests.flush();
+    } catch (final IOException e) {
+      throw new CdkWorkerUnavailableException("Could not send the request to CDK worker " + process.pid(), e);
+    }
+
+    final long deadlineNanos = System.nanoTime() + timeout.toNanos();
+    while (true) {
+      final JsonNode node = readLine(deadlineNanos - System.nanoTime(), readers);
+      if (node.has("event")) {
+        eventListener.accept(node.get("data"));
+        continue;
+      }
+      if (!node.hasNonNull("message")) {
+        throw new CdkWorkerUnavailableException("CDK worker " + process.pid() + " sent a response without a message", null);
+      }
+
+      handledRequests++;
+      if (node.has("max_rss_bytes")) {
+        maxRssBytes = node.get("max_rss_bytes").asLong();
+      }
+      return node.get("message");
+    }
+  }
+
+  private JsonNode readLine(final long timeoutNanos, final ExecutorService readers)
+      throws CdkWorkerUnavailableException, TimeoutException, InterruptedException {
+    final Future<String> line = readers.submit(responses::readLine);
+    final String response;
+    try {
+      response = line.get(Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS);
+    } catch (final ExecutionException e) {
+      throw new CdkWorkerUnavailableException("Could not read the response of CDK worker " + process.pid(), e.getCause());
+    } catch (final TimeoutException | InterruptedException e) {
+      line.cancel(true);
+      throw e;
+    }
+
+    if (response == null) {
+      throw new CdkWorkerUnavailableException("CDK worker " + process.pid() + " exited before responding", null);
+    }
+    try {
+      return Jsons.deserialize(response);
+    } catch (final RuntimeException e) {
+      throw new CdkWorkerUnavailableException("CDK worker " + process.pid() + " sent an invalid response", e);
+    }
+  }
+
+  int getHandledRequests() {
+    return handledRequests;
+  }
+
+  long getMaxRssBytes() {
+    return maxRssBytes;
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  private void forwardStderr() {
+    try (final BufferedReader stderr = IOs.newBufferedReader(process.getErrorStream())) {
+      stderr.lines().forEach(line -> LOGGER.debug("[cdk-worker {}] {}", process.pid(), line));
+    } catch (final IOException | RuntimeException e) {
+      // the process is gone
+    }
+  }
+
+  /**
+   * Stop the worker. Closing stdin lets it exit on its own, it is killed if it does not.
+   */
+  @Override
+  public void close() {
+    try {
+      requests.close();
+    } catch (final IOException e) {
+      // the process is already gone
+    }
+    try {
+      if (!process.waitFor(1, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    } catch (final InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a CDK worker could not be started or stopped responding. The request itself may well
+ * be valid, so it can be retried in a fresh process.
+ */
+public class CdkWorkerUnavailableException extends IOException {
+
+  public CdkWorkerUnavailableException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+
+}
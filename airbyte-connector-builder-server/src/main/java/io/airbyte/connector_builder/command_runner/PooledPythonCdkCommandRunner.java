@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import datadog.trace.api.Trace;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteTraceMessage;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends requests to the CDK's Connector Builder handler through a {@link CdkProcessPool} of warm
+ * Python processes, instead of starting a process per request.
+ * <p>
+ * If the pool cannot serve a request (no worker could be started, or the worker died), the request
+ * is run by the one-shot {@code fallback} runner, unless the worker already streamed slices of it,
+ * in which case the request fails.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+
+  private final CdkProcessPool pool;
+  private final SynchronousCdkCommandRunner fallback;
+
+  public PooledPythonCdkCommandRunner(final CdkProcessPool pool, final SynchronousCdkCommandRunner fallback) {
+    this.pool = pool;
+    this.fallback = fallback;
+  }
+
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents)
+      throws IOException {
+    return runCommand(cdkCommand, configContents, catalogContents, null);
+  }
+
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents,
+                                         final Consumer<JsonNode> sliceListener)
+      throws IOException {
+    final ObjectNode request = (ObjectNode) Jsons.jsonNode(Map.of("config", configContents, "catalog", catalogContents));
+    final AtomicBoolean slicesSent = new AtomicBoolean();
+    final JsonNode response;
+    try {
+      if (sliceListener == null) {
+        response = pool.execute(request);
+      } else {
+        request.put("stream_slices", true);
+        response = pool.execute(request, slice -> {
+          slicesSent.set(true);
+          sliceListener.accept(slice);
+        });
+      }
+    } catch (final CdkWorkerUnavailableException e) {
+      if (slicesSent.get()) {
+        // the client already has part of the read, running it again would send those slices twice
+        throw new CdkProcessException(String.format("CDK worker died while streaming the slices of %s: %s", cdkCommand, e.getMessage()));
+      }
+      LOGGER.warn("CDK worker unavailable for {}, running it in a new process", cdkCommand, e);
+      return fallback.runCommand(cdkCommand, configContents, catalogContents, sliceListener);
+    } catch (final TimeoutException e) {
+      throw new CdkProcessException(String.format("CDK request for %s timed out: %s", cdkCommand, e.getMessage()));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CdkProcessException(String.format("Interrupted while waiting for the CDK response for %s", cdkCommand));
+    }
+    return toRecord(Jsons.object(response, AirbyteMessage.class), cdkCommand);
+  }
+
+  private static AirbyteRecordMessage toRecord(final AirbyteMessage message, final String cdkCommand) {
+    if (message.getType() == Type.RECORD) {
+      return message.getRecord();
+    }
+    if (message.getType() == Type.TRACE) {
+      final AirbyteTraceMessage traceMessage = message.getTrace();
+      LOGGER.debug(
+          "Error response from CDK: {}\n{}",
+          traceMessage.getError().getMessage(),
+          traceMessage.getError().getStackTrace());
+      throw new AirbyteCdkInvalidInputException(
+          String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
+    }
+    final String errorMessage = String.format(
+        "The CDK command `%s` completed properly but no records nor trace were found. Got a %s message.", cdkCommand, message.getType());
+    LOGGER.error(errorMessage);
+    throw new CdkUnknownException(errorMessage);
+  }
+
+}
@@ -4,8 +4,10 @@
 
 package io.airbyte.connector_builder.command_runner;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.IOException;
+import java.util.function.Consumer;
 
 /**
  * Exposes a way of running synchronous processes via an Airbyte `read` command.
@@ -17,4 +19,17 @@ public interface SynchronousCdkCommandRunner {
    */
   AirbyteRecordMessage runCommand(final String command, final String config, final String catalog) throws IOException;
 
+  /**
+   * Launch a CDK process responsible for handling requests, passing each test read slice to the
+   * {@code sliceListener} as soon as the CDK produces it. Runners that cannot stream only return the
+   * slices as part of the result.
+   */
+  default AirbyteRecordMessage runCommand(final String command,
+                                          final String config,
+                                          final String catalog,
+                                          final Consumer<JsonNode> sliceListener)
+      throws IOException {
+    return runCommand(command, config, catalog);
+  }
+
 }
@@ -5,13 +5,21 @@
 package io.airbyte.connector_builder.config;
 
 import io.airbyte.config.EnvConfigs;
+import io.airbyte.connector_builder.command_runner.CdkProcessPool;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Defines the instantiation of handler classes.
@@ -36,16 +44,48 @@ public class ApplicationBeanFactory {
   }
 
   /**
-   * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
+   * Defines the pool of warm CDK processes used to serve requests when it is enabled.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
-    return new SynchronousPythonCdkCommandRunner(
+  @Requires(property = "airbyte.connector-builder-server.cdk-pool.enabled",
+            value = "true")
+  @Bean(preDestroy = "close")
+  public CdkProcessPool cdkProcessPool(
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.worker-entrypoint}") final String workerEntrypoint,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.size:4}") final int size,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.request-timeout:PT5M}") final Duration requestTimeout,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.acquire-timeout:PT1M}") final Duration acquireTimeout,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.max-requests-per-worker:100}") final int maxRequestsPerWorker,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.max-rss-bytes:1073741824}") final long maxRssBytes) {
+    if (workerEntrypoint == null || workerEntrypoint.isBlank()) {
+      throw new ConnectorBuilderException("Missing `CDK_WORKER_ENTRYPOINT` env var, it is required when `CDK_POOL_ENABLED` is true.");
+    }
+    final CdkProcessPool pool = new CdkProcessPool(
+        List.of(this.getPython(), workerEntrypoint),
+        size,
+        requestTimeout,
+        acquireTimeout,
+        maxRequestsPerWorker,
+        maxRssBytes);
+    pool.prestart();
+    return pool;
+  }
+
+  /**
+   * Defines the instantiation of the SynchronousPythonCdkCommandRunner. Requests go through the CDK
+   * process pool if it is enabled, and run in a new process otherwise.
+   */
+  @Singleton
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(final Optional<CdkProcessPool> cdkProcessPool) {
+    final SynchronousCdkCommandRunner oneShotRunner = new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         // This should eventually be constructed via DI.
         VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false),
         this.getPython(),
         this.getCdkEntrypoint());
+    return cdkProcessPool
+        .<SynchronousCdkCommandRunner>map(pool -> new PooledPythonCdkCommandRunner(pool, oneShotRunner))
+        .orElse(oneShotRunner);
   }
 
 }
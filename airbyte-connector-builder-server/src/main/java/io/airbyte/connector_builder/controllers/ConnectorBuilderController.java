@@ -6,6 +6,7 @@ package io.airbyte.connector_builder.controllers;
 
 import static io.airbyte.commons.auth.AuthRoleConstants.AUTHENTICATED_USER;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.connector_builder.api.generated.V1Api;
 import io.airbyte.connector_builder.api.model.generated.HealthCheckRead;
 import io.airbyte.connector_builder.api.model.generated.ResolveManifest;
@@ -17,6 +18,7 @@ import io.airbyte.connector_builder.handlers.ResolveManifestHandler;
 import io.airbyte.connector_builder.handlers.StreamHandler;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Post;
@@ -24,6 +26,7 @@ import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.security.annotation.Secured;
 import io.micronaut.security.rules.SecurityRule;
+import reactor.core.publisher.Flux;
 
 /**
  * Micronaut controller that defines the behavior for all endpoints related to building and testing
@@ -63,6 +66,19 @@ public class ConnectorBuilderController implements V1Api {
     return streamHandler.readStream(streamReadRequestBody);
   }
 
+  /**
+   * Streaming variant of {@link #readStream(StreamReadRequestBody)}, sending each slice of the test
+   * read as a JSON line as soon as it is read. See {@link StreamHandler#readStreamIncrementally}.
+   */
+  @Override
+  @Post(uri = "/stream/read/streaming",
+        produces = MediaType.APPLICATION_JSON_STREAM)
+  @Secured({AUTHENTICATED_USER})
+  @ExecuteOn(TaskExecutors.IO)
+  public Flux<JsonNode> readStreamIncrementally(@Body final StreamReadRequestBody streamReadRequestBody) {
+    return streamHandler.readStreamIncrementally(streamReadRequestBody);
+  }
+
   @Override
   @Post(uri = "/manifest/resolve",
         produces = MediaType.APPLICATION_JSON)
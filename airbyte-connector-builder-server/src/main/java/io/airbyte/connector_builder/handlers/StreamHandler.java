@@ -4,6 +4,9 @@
 
 package io.airbyte.connector_builder.handlers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.connector_builder.TracingHelper;
 import io.airbyte.connector_builder.api.model.generated.StreamRead;
 import io.airbyte.connector_builder.api.model.generated.StreamReadRequestBody;
@@ -13,8 +16,12 @@ import io.airbyte.connector_builder.requester.AirbyteCdkRequester;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Handle /stream requests.
@@ -53,4 +60,54 @@ public class StreamHandler {
     }
   }
 
+  /**
+   * Same as {@link #readStream(StreamReadRequestBody)}, but emits each slice as soon as the CDK has
+   * read it:
+   *
+   * <pre>
+   * {"type": "slice", "slice": {...}}
+   * ...
+   * {"type": "complete", "stream_read": {...}}
+   * </pre>
+   *
+   * The {@code stream_read} of the last event holds everything but the slices already emitted. If the
+   * command runner cannot stream, all the slices are emitted once the test read is done. A failure
+   * ends the stream with a {@code {"type": "error", "message": "..."}} event since the response status
+   * has already been sent.
+   */
+  public Flux<JsonNode> readStreamIncrementally(final StreamReadRequestBody streamReadRequestBody) {
+    return Flux.<JsonNode>create(sink -> {
+      final AtomicBoolean streamed = new AtomicBoolean();
+      try {
+        TracingHelper.addWorkspaceAndProjectIdsToTrace(streamReadRequestBody.getWorkspaceId(), streamReadRequestBody.getProjectId());
+        LOGGER.info("Handling streaming test_read request for workspace '{}' with project ID = '{}'",
+            streamReadRequestBody.getWorkspaceId(), streamReadRequestBody.getProjectId());
+        final StreamRead streamRead = this.requester.readStream(
+            streamReadRequestBody.getManifest(),
+            streamReadRequestBody.getConfig(),
+            streamReadRequestBody.getStream(),
+            streamReadRequestBody.getRecordLimit(),
+            slice -> {
+              streamed.set(true);
+              sink.next(event("slice", "slice", slice));
+            });
+        if (!streamed.get() && streamRead.getSlices() != null) {
+          streamRead.getSlices().forEach(slice -> sink.next(event("slice", "slice", slice)));
+        }
+        streamRead.setSlices(null);
+        sink.next(event("complete", "stream_read", streamRead));
+      } catch (final IOException | RuntimeException exc) {
+        LOGGER.error("Error handling streaming test_read request.", exc);
+        sink.next(event("error", "message", exc.getMessage() != null ? exc.getMessage() : "Error handling test_read request."));
+      }
+      sink.complete();
+    }).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  private static JsonNode event(final String type, final String field, final Object value) {
+    final ObjectNode event = (ObjectNode) Jsons.jsonNode(Map.of("type", type));
+    event.set(field, Jsons.jsonNode(value));
+    return event;
+  }
+
 }
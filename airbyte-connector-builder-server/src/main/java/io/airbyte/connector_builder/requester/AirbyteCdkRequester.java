@@ -7,9 +7,11 @@ package io.airbyte.connector_builder.requester;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.connector_builder.api.model.generated.ResolveManifest;
 import io.airbyte.connector_builder.api.model.generated.StreamRead;
+import io.airbyte.connector_builder.api.model.generated.StreamReadSlicesInner;
 import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import java.io.IOException;
+import java.util.function.Consumer;
 
 /**
  * Exposes a way of handling synchronous Connector Builder requests. Blocks until the job completes.
@@ -22,4 +24,15 @@ public interface AirbyteCdkRequester {
   StreamRead readStream(final JsonNode manifest, final JsonNode config, final String stream, final Integer recordLimit)
       throws IOException, AirbyteCdkInvalidInputException, ConnectorBuilderException;
 
+  /**
+   * Same as {@link #readStream(JsonNode, JsonNode, String, Integer)}, also passing each slice to the
+   * {@code sliceListener} as soon as the CDK has read it, when the command runner supports it.
+   */
+  StreamRead readStream(final JsonNode manifest,
+                        final JsonNode config,
+                        final String stream,
+                        final Integer recordLimit,
+                        final Consumer<StreamReadSlicesInner> sliceListener)
+      throws IOException, AirbyteCdkInvalidInputException, ConnectorBuilderException;
+
 }
@@ -24,6 +24,7 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +56,8 @@ public class AirbyteCdkRequesterImpl implements AirbyteCdkRequester {
                                                 }""";
   private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer().withDefaultPrettyPrinter();
   private static final ObjectNode CONFIG_NODE = new ObjectMapper().createObjectNode();
+  // converts the slices and lists of the CDK responses, a streamed read converts every slice with it
+  private static final ObjectMapper CONVERTING_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
   private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteCdkRequesterImpl.class);
 
   private final SynchronousCdkCommandRunner commandRunner;
@@ -73,10 +76,34 @@ public class AirbyteCdkRequesterImpl implements AirbyteCdkRequester {
     if (stream == null) {
       throw new AirbyteCdkInvalidInputException("Missing required `stream` field.");
     }
-    final AirbyteRecordMessage record = request(manifest, config, readStreamCommand, stream, recordLimit);
+    final AirbyteRecordMessage record = request(manifest, config, readStreamCommand, stream, recordLimit, null);
     return recordToResponse(record);
   }
 
+  /**
+   * Launch a CDK process responsible for handling test_read requests, passing each slice to the
+   * {@code sliceListener} while the test read is running.
+   */
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public StreamRead readStream(final JsonNode manifest,
+                               final JsonNode config,
+                               final String stream,
+                               final Integer recordLimit,
+                               final Consumer<StreamReadSlicesInner> sliceListener)
+      throws IOException, AirbyteCdkInvalidInputException, CdkProcessException {
+    if (stream == null) {
+      throw new AirbyteCdkInvalidInputException("Missing required `stream` field.");
+    }
+    final AirbyteRecordMessage record = request(manifest, config, readStreamCommand, stream, recordLimit,
+        slice -> sliceListener.accept(convertToSlice(slice)));
+    return recordToResponse(record);
+  }
+
+  private StreamReadSlicesInner convertToSlice(final JsonNode slice) {
+    return CONVERTING_MAPPER.convertValue(slice, StreamReadSlicesInner.class);
+  }
+
   private StreamRead recordToResponse(final AirbyteRecordMessage record) {
     final StreamRead response = new StreamRead();
     final JsonNode data = record.getData();
@@ -119,10 +146,15 @@ public class AirbyteCdkRequesterImpl implements AirbyteCdkRequester {
                                        final JsonNode config,
                                        final String cdkCommand,
                                        final String stream,
-                                       final Integer recordLimit)
+                                       final Integer recordLimit,
+                                       final Consumer<JsonNode> sliceListener)
       throws IOException, AirbyteCdkInvalidInputException, CdkProcessException {
     LOGGER.debug("Creating CDK process: {}.", cdkCommand);
-    return this.commandRunner.runCommand(cdkCommand, this.adaptConfig(manifest, config, cdkCommand, recordLimit), this.adaptCatalog(stream));
+    final String adaptedConfig = this.adaptConfig(manifest, config, cdkCommand, recordLimit);
+    if (sliceListener == null) {
+      return this.commandRunner.runCommand(cdkCommand, adaptedConfig, this.adaptCatalog(stream));
+    }
+    return this.commandRunner.runCommand(cdkCommand, adaptedConfig, this.adaptCatalog(stream), sliceListener);
   }
 
   private String adaptCatalog(final String stream) {
@@ -151,9 +183,7 @@ public class AirbyteCdkRequesterImpl implements AirbyteCdkRequester {
   }
 
   private <T> List<T> convertToList(final JsonNode object, final TypeReference<List<T>> typeReference) {
-    final ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule());
-    return objectMapper.convertValue(object, typeReference);
+    return CONVERTING_MAPPER.convertValue(object, typeReference);
   }
 
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CdkProcessPoolTest {
+
+  private static final String STUB_WORKER = Path.of("src", "test", "resources", "cdk_worker_stub.sh").toString();
+  private static final String COMMAND = "test_read";
+  private static final String CONFIG = "{\"__command\": \"test_read\"}";
+  private static final String CATALOG = "{\"streams\": []}";
+
+  private CdkProcessPool pool;
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void testWorkerIsReused() throws Exception {
+    pool = pool("ok", 1000, 10, Duration.ofSeconds(10));
+
+    for (int i = 0; i < 3; i++) {
+      final JsonNode response = pool.execute(request());
+      assertEquals(CONFIG, response.get("record").get("data").get("config").asText());
+    }
+    assertEquals(1, pool.getStartedWorkerCount());
+  }
+
+  @Test
+  void testPrestart() throws Exception {
+    pool = pool("ok", 1000, 10, Duration.ofSeconds(10));
+    pool.prestart();
+    assertEquals(2, pool.getStartedWorkerCount());
+
+    pool.execute(request());
+    assertEquals(2, pool.getStartedWorkerCount());
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterMaxRequests() throws Exception {
+    pool = pool("ok", 1000, 2, Duration.ofSeconds(10));
+
+    for (int i = 0; i < 5; i++) {
+      pool.execute(request());
+    }
+    assertEquals(3, pool.getStartedWorkerCount());
+  }
+
+  @Test
+  void testWorkerIsRecycledOnMemoryGrowth() throws Exception {
+    pool = pool("ok", 1_000_000, 10, Duration.ofSeconds(10));
+
+    pool.execute(request());
+    pool.execute(request());
+    assertEquals(2, pool.getStartedWorkerCount());
+  }
+
+  @Test
+  void testRequestTimeout() throws Exception {
+    pool = pool("hang", 1000, 10, Duration.ofMillis(500));
+
+    assertThrows(TimeoutException.class, () -> pool.execute(request()));
+    assertThrows(TimeoutException.class, () -> pool.execute(request()));
+    // a worker that timed out is not reused
+    assertEquals(2, pool.getStartedWorkerCount());
+  }
+
+  @Test
+  void testCrashedWorker() {
+    pool = pool("crash", 1000, 10, Duration.ofSeconds(10));
+
+    assertThrows(CdkWorkerUnavailableException.class, () -> pool.execute(request()));
+  }
+
+  @Test
+  void testRunnerReturnsRecord() throws Exception {
+    pool = pool("ok", 1000, 10, Duration.ofSeconds(10));
+    final SynchronousCdkCommandRunner fallback = mock(SynchronousCdkCommandRunner.class);
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, fallback);
+
+    final AirbyteRecordMessage record = runner.runCommand(COMMAND, CONFIG, CATALOG);
+
+    assertEquals(CATALOG, record.getData().get("catalog").asText());
+    verifyNoInteractions(fallback);
+  }
+
+  @Test
+  void testRunnerThrowsOnTrace() {
+    pool = pool("trace", 1000, 10, Duration.ofSeconds(10));
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, mock(SynchronousCdkCommandRunner.class));
+
+    assertThrows(AirbyteCdkInvalidInputException.class, () -> runner.runCommand(COMMAND, CONFIG, CATALOG));
+  }
+
+  @Test
+  void testRunnerThrowsOnTimeout() {
+    pool = pool("hang", 1000, 10, Duration.ofMillis(500));
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, mock(SynchronousCdkCommandRunner.class));
+
+    assertThrows(CdkProcessException.class, () -> runner.runCommand(COMMAND, CONFIG, CATALOG));
+  }
+
+  @Test
+  void testRunnerFallsBackToOneShotProcess() throws Exception {
+    pool = pool("crash", 1000, 10, Duration.ofSeconds(10));
+    final SynchronousCdkCommandRunner fallback = mock(SynchronousCdkCommandRunner.class);
+    final AirbyteRecordMessage expected = new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of("from", "fallback")));
+    when(fallback.runCommand(COMMAND, CONFIG, CATALOG)).thenReturn(expected);
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, fallback);
+
+    assertEquals(expected, runner.runCommand(COMMAND, CONFIG, CATALOG));
+    verify(fallback).runCommand(COMMAND, CONFIG, CATALOG);
+  }
+
+  @Test
+  void testRunnerStreamsSlices() throws Exception {
+    pool = pool("slices", 1000, 10, Duration.ofSeconds(10));
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, mock(SynchronousCdkCommandRunner.class));
+    final List<JsonNode> slices = new ArrayList<>();
+
+    final AirbyteRecordMessage record = runner.runCommand(COMMAND, CONFIG, CATALOG, slices::add);
+
+    assertEquals(2, slices.size());
+    assertEquals(2, slices.get(1).get("slice_descriptor").get("page").asInt());
+    assertTrue(record.getData().get("stream_slices").asBoolean());
+    // the worker is reused once the events were consumed
+    runner.runCommand(COMMAND, CONFIG, CATALOG, slices::add);
+    assertEquals(1, pool.getStartedWorkerCount());
+  }
+
+  @Test
+  void testRunnerFailsWhenTheWorkerDiesAfterStreamingASlice() {
+    pool = pool("crash_after_slice", 1000, 10, Duration.ofSeconds(10));
+    final SynchronousCdkCommandRunner fallback = mock(SynchronousCdkCommandRunner.class);
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, fallback);
+    final List<JsonNode> slices = new ArrayList<>();
+
+    assertThrows(CdkProcessException.class, () -> runner.runCommand(COMMAND, CONFIG, CATALOG, slices::add));
+    assertEquals(1, slices.size());
+    verifyNoInteractions(fallback);
+  }
+
+  private static CdkProcessPool pool(final String mode, final long reportedRssBytes, final int maxRequestsPerWorker, final Duration requestTimeout) {
+    return new CdkProcessPool(
+        List.of("sh", STUB_WORKER, mode, String.valueOf(reportedRssBytes)),
+        2,
+        requestTimeout,
+        Duration.ofSeconds(10),
+        maxRequestsPerWorker,
+        100_000);
+  }
+
+  private static JsonNode request() {
+    return Jsons.jsonNode(Map.of("config", CONFIG, "catalog", CATALOG));
+  }
+
+}
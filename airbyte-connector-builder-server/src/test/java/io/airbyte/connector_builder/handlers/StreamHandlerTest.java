@@ -5,7 +5,10 @@
 package io.airbyte.connector_builder.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -17,10 +20,12 @@ import io.airbyte.connector_builder.api.model.generated.StreamRead;
 import io.airbyte.connector_builder.api.model.generated.StreamReadRequestBody;
 import io.airbyte.connector_builder.api.model.generated.StreamReadSlicesInner;
 import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.requester.AirbyteCdkRequester;
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -81,6 +86,59 @@ class StreamHandlerTest {
     assertEquals(streamRead, response);
   }
 
+  @Test
+  void whenReadStreamIncrementallyThenEmitSlicesAsTheyAreRead() throws Exception {
+    when(requester.readStream(eq(A_MANIFEST), eq(A_CONFIG), eq(A_STREAM), eq(A_LIMIT), any())).thenAnswer(invocation -> {
+      final Consumer<StreamReadSlicesInner> sliceListener = invocation.getArgument(4);
+      slices.forEach(sliceListener);
+      return new StreamRead().logs(logs).slices(slices);
+    });
+
+    final List<JsonNode> events = handler.readStreamIncrementally(
+        new StreamReadRequestBody().manifest(A_MANIFEST).config(A_CONFIG).stream(A_STREAM).recordLimit(A_LIMIT)).collectList().block();
+
+    assertEquals(List.of("slice", "complete"), events.stream().map(event -> event.get("type").asText()).toList());
+    assertFalse(events.get(1).get("stream_read").has("slices"));
+  }
+
+  @Test
+  void givenRunnerCannotStreamWhenReadStreamIncrementallyThenEmitSlicesAtTheEnd() throws Exception {
+    when(requester.readStream(eq(A_MANIFEST), eq(A_CONFIG), eq(A_STREAM), eq(A_LIMIT), any()))
+        .thenReturn(new StreamRead().logs(logs).slices(slices));
+
+    final List<JsonNode> events = handler.readStreamIncrementally(
+        new StreamReadRequestBody().manifest(A_MANIFEST).config(A_CONFIG).stream(A_STREAM).recordLimit(A_LIMIT)).collectList().block();
+
+    assertEquals(List.of("slice", "complete"), events.stream().map(event -> event.get("type").asText()).toList());
+  }
+
+  @Test
+  void givenExceptionWhenReadStreamIncrementallyThenEmitErrorEvent() throws Exception {
+    when(requester.readStream(eq(A_MANIFEST), eq(A_CONFIG), eq(A_STREAM), eq(A_LIMIT), any()))
+        .thenThrow(new AirbyteCdkInvalidInputException("invalid manifest"));
+
+    final List<JsonNode> events = handler.readStreamIncrementally(
+        new StreamReadRequestBody().manifest(A_MANIFEST).config(A_CONFIG).stream(A_STREAM).recordLimit(A_LIMIT)).collectList().block();
+
+    assertEquals(1, events.size());
+    assertEquals("error", events.get(0).get("type").asText());
+    assertEquals("invalid manifest", events.get(0).get("message").asText());
+  }
+
+  @Test
+  void givenFailureAfterASliceWhenReadStreamIncrementallyThenEndWithErrorEvent() throws Exception {
+    when(requester.readStream(eq(A_MANIFEST), eq(A_CONFIG), eq(A_STREAM), eq(A_LIMIT), any())).thenAnswer(invocation -> {
+      final Consumer<StreamReadSlicesInner> sliceListener = invocation.getArgument(4);
+      sliceListener.accept(slices.get(0));
+      throw new CdkProcessException("CDK worker died");
+    });
+
+    final List<JsonNode> events = handler.readStreamIncrementally(
+        new StreamReadRequestBody().manifest(A_MANIFEST).config(A_CONFIG).stream(A_STREAM).recordLimit(A_LIMIT)).collectList().block();
+
+    assertEquals(List.of("slice", "error"), events.stream().map(event -> event.get("type").asText()).toList());
+  }
+
   @Test
   void givenIOExceptionWhenReadStreamThenRaiseConnectorBuilderException() throws Exception {
     when(requester.readStream(A_MANIFEST, A_CONFIG, A_STREAM, A_LIMIT)).thenThrow(IOException.class);
@@ -0,0 +1,27 @@
+#!/bin/sh
+# Stub of cdk_worker.py: answers every request with a record echoing the request.
+#   $1: ok | slices | hang | crash | crash_after_slice | trace
+#   $2: peak memory to report, in bytes
+MODE=${1:-ok}
+RSS=${2:-1000}
+
+echo "stub worker started" >&2
+while IFS= read -r line; do
+  case "$MODE" in
+    hang) sleep 60 ;;
+    crash) exit 1 ;;
+    crash_after_slice)
+      printf '{"event":"slice","data":{"slice_descriptor":{"page":1},"pages":[]}}\n'
+      exit 1
+      ;;
+    slices)
+      printf '{"event":"slice","data":{"slice_descriptor":{"page":1},"pages":[]}}\n'
+      printf '{"event":"slice","data":{"slice_descriptor":{"page":2},"pages":[]}}\n'
+      ;;
+    trace)
+      printf '{"message":{"type":"TRACE","trace":{"type":"ERROR","emitted_at":0,"error":{"message":"invalid manifest"}}},"max_rss_bytes":%s}\n' "$RSS"
+      continue
+      ;;
+  esac
+  printf '{"message":{"type":"RECORD","record":{"stream":"stub","emitted_at":0,"data":%s}},"max_rss_bytes":%s}\n' "$line" "$RSS"
+done
@@ -4,6 +4,7 @@
 
 package io.airbyte.container_orchestrator.config;
 
+import io.airbyte.commons.concurrency.VirtualThreadPinningMonitor;
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.workers.config.WorkerConfigsProvider;
@@ -37,6 +38,8 @@ import io.airbyte.workers.workload.JobOutputDocStore;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Context;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Prototype;
 import io.micronaut.context.annotation.Requires;
@@ -46,6 +49,7 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -59,6 +63,21 @@ class ContainerOrchestratorFactory {
     return MetricClientFactory.getMetricClient();
   }
 
+  /**
+   * Logs virtual threads pinned to their carrier for longer than the threshold. Only useful when
+   * replication runs on virtual threads (see the UseVirtualThreadsForReplication flag).
+   */
+  @Context
+  @Bean(preDestroy = "close")
+  @Requires(property = "airbyte.worker.virtual-threads.pinning-diagnostics.enabled",
+            value = "true")
+  VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      @Value("${airbyte.worker.virtual-threads.pinning-diagnostics.threshold}") final Duration threshold) {
+    final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(threshold);
+    monitor.start();
+    return monitor;
+  }
+
   @Singleton
   FeatureFlags featureFlags() {
     return new EnvVariableFeatureFlags();
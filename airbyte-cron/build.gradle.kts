@@ -22,12 +22,12 @@ dependencies {
     implementation(libs.bundles.datadog)
     implementation(libs.failsafe)
     implementation(libs.failsafe.okhttp)
+    implementation(libs.guava)
     implementation(libs.java.jwt)
     implementation(libs.kotlin.logging)
     implementation(libs.okhttp)
     implementation(libs.sentry.java)
     implementation(libs.lombok)
-    implementation(libs.commons.io)
 
     implementation(project(":airbyte-api"))
     implementation(project(":airbyte-analytics"))
@@ -6,7 +6,10 @@ package io.airbyte.cron.jobs;
 
 import static io.airbyte.cron.MicronautCronRunner.SCHEDULED_TRACE_OPERATION_NAME;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
 import datadog.trace.api.Trace;
+import io.airbyte.commons.concurrency.ExecutorFactory;
 import io.airbyte.config.Configs;
 import io.airbyte.config.EnvConfigs;
 import io.airbyte.metrics.lib.ApmTraceUtils;
@@ -15,24 +18,40 @@ import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.env.Environment;
 import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.util.Date;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.AgeFileFilter;
 
 /**
  * Delete old files that accumulate in docker.
+ * <p>
+ * The workspace root holds one directory per job. A job directory that has not been modified since
+ * the cutoff is deleted as a whole without looking at its content: the directory of a job is only
+ * modified when a new attempt starts. In the other job directories, the files older than the cutoff
+ * are deleted one by one.
+ * <p>
+ * The workspace is walked as a stream on the scheduling thread while the deletes run on a small
+ * pool, with a bounded number of deletes in flight so that memory does not grow with the size of
+ * the workspace. The deletes can be rate limited to spare the I/O of the syncs sharing the volume.
  */
 @Singleton
 @Slf4j
@@ -41,9 +60,14 @@ public class WorkspaceCleaner {
 
   private final Path workspaceRoot;
   private final long maxAgeFilesInDays;
+  private final int deleteParallelism;
+  private final double maxDeletesPerSecond;
   private final MetricClient metricClient;
 
-  WorkspaceCleaner(final MetricClient metricClient) {
+  @Inject
+  WorkspaceCleaner(@Value("${airbyte.cron.workspace-cleaner.delete-parallelism:4}") final int deleteParallelism,
+                   @Value("${airbyte.cron.workspace-cleaner.max-deletes-per-second:0}") final double maxDeletesPerSecond,
+                   final MetricClient metricClient) {
     log.info("Creating workspace cleaner");
 
     // TODO Configs should get injected through micronaut
@@ -53,6 +77,21 @@ public class WorkspaceCleaner {
     // We align max file age on temporal for history consistency
     // It might make sense configure this independently in the future
     this.maxAgeFilesInDays = configs.getTemporalRetentionInDays();
+    this.deleteParallelism = deleteParallelism;
+    this.maxDeletesPerSecond = maxDeletesPerSecond;
+    this.metricClient = metricClient;
+  }
+
+  @VisibleForTesting
+  WorkspaceCleaner(final Path workspaceRoot,
+                   final long maxAgeFilesInDays,
+                   final int deleteParallelism,
+                   final double maxDeletesPerSecond,
+                   final MetricClient metricClient) {
+    this.workspaceRoot = workspaceRoot;
+    this.maxAgeFilesInDays = maxAgeFilesInDays;
+    this.deleteParallelism = deleteParallelism;
+    this.maxDeletesPerSecond = maxDeletesPerSecond;
     this.metricClient = metricClient;
   }
 
@@ -60,35 +99,166 @@ public class WorkspaceCleaner {
    * Delete files older than maxAgeFilesInDays from the workspace. NOTE: this is currently only
    * intended to work for docker.
    *
-   * @throws IOException exception while interacting with the database
+   * @throws IOException exception while walking the workspace root
+   * @throws InterruptedException if interrupted while waiting for the deletes to complete
    */
   @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
   @Scheduled(fixedRate = "1d")
-  public void deleteOldFiles() throws IOException {
-    final Date oldestAllowed = getDateFromDaysAgo(maxAgeFilesInDays);
+  public void deleteOldFiles() throws IOException, InterruptedException {
+    final Instant oldestAllowed = Instant.now().minus(maxAgeFilesInDays, ChronoUnit.DAYS);
     log.info("Deleting files older than {} days ({})", maxAgeFilesInDays, oldestAllowed);
     metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "workspace_cleaner"));
 
     ApmTraceUtils.addTagsToTrace(Map.of("oldest_date_allowed", oldestAllowed, "max_age", maxAgeFilesInDays));
 
-    final AtomicInteger counter = new AtomicInteger(0);
-    Files.walk(workspaceRoot)
-        .map(Path::toFile)
-        .filter(f -> new AgeFileFilter(oldestAllowed).accept(f))
-        .forEach(file -> {
-          log.debug("Deleting file: " + file.toString());
-          FileUtils.deleteQuietly(file);
-          counter.incrementAndGet();
-          final File parentDir = file.getParentFile();
-          if (parentDir.isDirectory() && parentDir.listFiles().length == 0) {
-            FileUtils.deleteQuietly(parentDir);
+    if (!Files.isDirectory(workspaceRoot)) {
+      log.info("Workspace root {} does not exist, nothing to delete", workspaceRoot);
+      return;
+    }
+
+    final CleanupRun run = new CleanupRun(FileTime.from(oldestAllowed));
+    try {
+      Files.walkFileTree(workspaceRoot, run);
+    } finally {
+      run.awaitDeletes();
+    }
+
+    final long filesDeleted = run.filesDeleted.sum();
+    final long bytesFreed = run.bytesFreed.sum();
+    metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_FILES_DELETED, filesDeleted);
+    metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_BYTES_FREED, bytesFreed);
+    ApmTraceUtils.addTagsToTrace(Map.of("files_deleted", filesDeleted, "bytes_freed", bytesFreed));
+    log.info("Deleted {} files, freed {} bytes", filesDeleted, bytesFreed);
+  }
+
+  /**
+   * Walks the workspace once and hands the deletes over to the delete pool.
+   */
+  private class CleanupRun extends SimpleFileVisitor<Path> {
+
+    private final FileTime cutoff;
+    private final ExecutorService deleteExecutor;
+    private final Semaphore inFlightDeletes;
+    private final RateLimiter rateLimiter;
+    private final LongAdder filesDeleted = new LongAdder();
+    private final LongAdder bytesFreed = new LongAdder();
+
+    CleanupRun(final FileTime cutoff) {
+      this.cutoff = cutoff;
+      this.deleteExecutor = ExecutorFactory.platform().newFixedThreadPool("workspace-cleaner", deleteParallelism);
+      // enough to keep the pool busy while the walk moves on to the next entries
+      this.inFlightDeletes = new Semaphore(deleteParallelism * 2);
+      this.rateLimiter = maxDeletesPerSecond > 0 ? RateLimiter.create(maxDeletesPerSecond) : null;
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+      if (isJobDirectory(dir) && attrs.lastModifiedTime().compareTo(cutoff) < 0) {
+        submit(() -> deleteTree(dir));
+        return FileVisitResult.SKIP_SUBTREE;
+      }
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+      if (attrs.lastModifiedTime().compareTo(cutoff) < 0) {
+        submit(() -> {
+          deleteFile(file, attrs.size());
+          deleteIfEmpty(file.getParent());
+        });
+      }
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+      // entries can disappear while walking, e.g. deleted by a previous delete or by a running sync
+      if (!(exc instanceof NoSuchFileException)) {
+        log.warn("Could not read {}, skipping it", file, exc);
+      }
+      return FileVisitResult.CONTINUE;
+    }
+
+    private boolean isJobDirectory(final Path dir) {
+      return workspaceRoot.equals(dir.getParent());
+    }
+
+    private void submit(final Runnable delete) {
+      inFlightDeletes.acquireUninterruptibly();
+      deleteExecutor.execute(() -> {
+        try {
+          delete.run();
+        } finally {
+          inFlightDeletes.release();
+        }
+      });
+    }
+
+    private void deleteTree(final Path dir) {
+      try {
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+
+          @Override
+          public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            deleteFile(file, attrs.size());
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            return FileVisitResult.CONTINUE;
           }
+
+          @Override
+          public FileVisitResult postVisitDirectory(final Path subDir, final IOException exc) {
+            deleteIfEmpty(subDir);
+            return FileVisitResult.CONTINUE;
+          }
+
         });
-    log.info("deleted {} files", counter.get());
-  }
+      } catch (final IOException e) {
+        log.warn("Could not delete job directory {}", dir, e);
+      }
+    }
+
+    private void deleteFile(final Path file, final long size) {
+      if (rateLimiter != null) {
+        rateLimiter.acquire();
+      }
+      try {
+        log.debug("Deleting file: {}", file);
+        Files.delete(file);
+        filesDeleted.increment();
+        bytesFreed.add(size);
+      } catch (final NoSuchFileException e) {
+        // already gone
+      } catch (final IOException e) {
+        log.warn("Could not delete file {}", file, e);
+      }
+    }
+
+    private void deleteIfEmpty(final Path dir) {
+      if (dir == null || workspaceRoot.equals(dir)) {
+        return;
+      }
+      try {
+        Files.delete(dir);
+      } catch (final DirectoryNotEmptyException | NoSuchFileException e) {
+        // still in use or already gone
+      } catch (final IOException e) {
+        log.warn("Could not delete directory {}", dir, e);
+      }
+    }
+
+    void awaitDeletes() throws InterruptedException {
+      deleteExecutor.shutdown();
+      if (!deleteExecutor.awaitTermination(1, TimeUnit.DAYS)) {
+        log.warn("Workspace cleanup did not complete before the next run, cancelling the remaining deletes");
+        deleteExecutor.shutdownNow();
+      }
+    }
 
-  private static Date getDateFromDaysAgo(final long daysAgo) {
-    return Date.from(LocalDateTime.now().minusDays(daysAgo).toInstant(OffsetDateTime.now().getOffset()));
   }
 
 }
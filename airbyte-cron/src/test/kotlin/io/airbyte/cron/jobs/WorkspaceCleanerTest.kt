@@ -0,0 +1,109 @@
+package io.airbyte.cron.jobs
+
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import java.time.Instant
+import java.time.temporal.ChronoUnit
+
+class WorkspaceCleanerTest {
+  @TempDir
+  lateinit var workspaceRoot: Path
+
+  lateinit var metricClient: MetricClient
+
+  @BeforeEach
+  fun beforeEach() {
+    metricClient =
+      mockk<MetricClient>().also {
+        every { it.count(any(), any(), *anyVararg()) } returns Unit
+      }
+  }
+
+  @Test
+  fun `test old job directories are deleted as a whole`() {
+    val oldJob = workspaceRoot.resolve("1")
+    // only the job directory is old, its content is not looked at
+    writeFile(oldJob.resolve("0/logs.log"), 10, ageInDays = 0)
+    writeFile(oldJob.resolve("1/logs.log"), 20, ageInDays = 0)
+    setAge(oldJob, 40)
+    val recentJob = workspaceRoot.resolve("2")
+    writeFile(recentJob.resolve("0/logs.log"), 10, ageInDays = 0)
+
+    cleaner(deleteParallelism = 2).deleteOldFiles()
+
+    assertFalse(Files.exists(oldJob))
+    assertTrue(Files.exists(recentJob.resolve("0/logs.log")))
+    verify { metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_FILES_DELETED, 2) }
+    verify { metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_BYTES_FREED, 30) }
+  }
+
+  @Test
+  fun `test old files of recent job directories are deleted`() {
+    val job = workspaceRoot.resolve("1")
+    writeFile(job.resolve("0/logs.log"), 100, ageInDays = 40)
+    writeFile(job.resolve("0/output.json"), 50, ageInDays = 40)
+    writeFile(job.resolve("1/logs.log"), 10, ageInDays = 40)
+    writeFile(job.resolve("1/output.json"), 10, ageInDays = 0)
+    setAge(job, 0)
+
+    cleaner(deleteParallelism = 2).deleteOldFiles()
+
+    assertFalse(Files.exists(job.resolve("0")))
+    assertFalse(Files.exists(job.resolve("1/logs.log")))
+    assertTrue(Files.exists(job.resolve("1/output.json")))
+    assertTrue(Files.exists(workspaceRoot))
+    verify { metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_FILES_DELETED, 3) }
+    verify { metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_BYTES_FREED, 160) }
+  }
+
+  @Test
+  fun `test rate limited deletes`() {
+    (1..5).forEach { writeFile(workspaceRoot.resolve("$it/0/logs.log"), 1, ageInDays = 0) }
+    (1..5).forEach { setAge(workspaceRoot.resolve("$it"), 40) }
+
+    cleaner(deleteParallelism = 1, maxDeletesPerSecond = 1000.0).deleteOldFiles()
+
+    assertTrue(Files.list(workspaceRoot).use { it.count() } == 0L)
+    verify { metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_FILES_DELETED, 5) }
+  }
+
+  @Test
+  fun `test missing workspace root`() {
+    WorkspaceCleaner(workspaceRoot.resolve("missing"), 30, 1, 0.0, metricClient).deleteOldFiles()
+
+    verify(exactly = 0) { metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_FILES_DELETED, any()) }
+  }
+
+  private fun cleaner(
+    deleteParallelism: Int,
+    maxDeletesPerSecond: Double = 0.0,
+  ) = WorkspaceCleaner(workspaceRoot, 30, deleteParallelism, maxDeletesPerSecond, metricClient)
+
+  private fun writeFile(
+    file: Path,
+    size: Int,
+    ageInDays: Long,
+  ) {
+    Files.createDirectories(file.parent)
+    Files.write(file, ByteArray(size))
+    setAge(file, ageInDays)
+  }
+
+  private fun setAge(
+    path: Path,
+    ageInDays: Long,
+  ) {
+    Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(ageInDays, ChronoUnit.DAYS)))
+  }
+}
@@ -8,6 +8,7 @@ import io.airbyte.commons.version.Version;
 import io.airbyte.config.ActorDefinitionBreakingChange;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ConnectorMetadataBatch;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,8 @@ public interface ActorDefinitionService {
 
   ActorDefinitionVersion writeActorDefinitionVersion(ActorDefinitionVersion actorDefinitionVersion) throws IOException;
 
+  void writeConnectorMetadata(ConnectorMetadataBatch connectorMetadata) throws IOException;
+
   Optional<ActorDefinitionVersion> getActorDefinitionVersion(UUID actorDefinitionId, String dockerImageTag) throws IOException;
 
   ActorDefinitionVersion getActorDefinitionVersion(UUID actorDefinitionVersionId) throws IOException, ConfigNotFoundException;
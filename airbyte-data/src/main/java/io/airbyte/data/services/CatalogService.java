@@ -24,6 +24,8 @@ public interface CatalogService {
 
   Optional<ActorCatalog> getActorCatalog(UUID actorId, String actorVersion, String configHash) throws IOException;
 
+  Optional<ActorCatalogFetchEvent> getMostRecentActorCatalogFetchEvent(UUID actorId, String actorVersion, String configHash) throws IOException;
+
   Optional<ActorCatalogWithUpdatedAt> getMostRecentSourceActorCatalog(UUID sourceId) throws IOException;
 
   Optional<ActorCatalog> getMostRecentActorCatalogForSource(UUID sourceId) throws IOException;
@@ -29,6 +29,8 @@ public interface ConnectionService {
 
   void writeStandardSync(StandardSync standardSync) throws IOException;
 
+  void writeStandardSyncs(List<StandardSync> standardSyncs) throws IOException;
+
   List<StandardSync> listStandardSyncs() throws IOException;
 
   List<StandardSync> listStandardSyncsUsingOperation(UUID operationId) throws IOException;
@@ -44,6 +46,8 @@ public interface ConnectionService {
 
   List<StandardSync> listConnectionsBySource(UUID sourceId, boolean includeDeleted) throws IOException;
 
+  List<StandardSync> listConnectionsByIds(List<UUID> connectionIds) throws IOException;
+
   List<StandardSync> listConnectionsByActorDefinitionIdAndType(UUID actorDefinitionId, String actorTypeValue, boolean includeDeleted)
       throws IOException;
 
@@ -23,6 +23,7 @@ import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ScopeType;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
+import io.airbyte.data.services.shared.ConnectorMetadataBatch;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.db.instance.configs.jooq.generated.Tables;
@@ -43,6 +44,7 @@ import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.InsertSetMoreStep;
 import org.jooq.JoinType;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record4;
@@ -202,6 +204,32 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
     return database.transaction(ctx -> writeActorDefinitionVersion(actorDefinitionVersion, ctx));
   }
 
+  /**
+   * Write connector metadata of several actor definitions in one transaction. Definitions,
+   * breaking changes and versions are upserted in batches, then the new default versions are set
+   * and actors are upgraded to them unless a breaking change applies to the upgrade.
+   *
+   * @param connectorMetadata connector metadata to write
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void writeConnectorMetadata(final ConnectorMetadataBatch connectorMetadata) throws IOException {
+    database.transaction(ctx -> {
+      final OffsetDateTime timestamp = OffsetDateTime.now();
+      final List<Query> definitionUpserts = Stream.concat(
+          connectorMetadata.sourceDefinitions().stream()
+              .map(sourceDefinition -> SourceServiceJooqImpl.upsertStandardSourceDefinitionQuery(sourceDefinition, timestamp, ctx)),
+          connectorMetadata.destinationDefinitions().stream()
+              .map(destinationDefinition -> DestinationServiceJooqImpl.upsertStandardDestinationDefinitionQuery(destinationDefinition, timestamp, ctx)))
+          .toList();
+      ctx.batch(definitionUpserts).execute();
+      ConnectorMetadataJooqHelper.writeActorDefinitionBreakingChanges(connectorMetadata.breakingChanges(), ctx);
+      ConnectorMetadataJooqHelper.writeActorDefinitionVersions(connectorMetadata.defaultVersions(), ctx);
+      ConnectorMetadataJooqHelper.setActorDefinitionVersionsAsDefault(connectorMetadata.defaultVersions(), connectorMetadata.breakingChanges(), ctx);
+      return null;
+    });
+  }
+
   /**
    * Get the actor definition version associated with an actor definition and a docker image tag.
    *
@@ -267,7 +295,7 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
                                                                  final List<UUID> actorDefinitionVersionIds)
       throws IOException {
     return database.query(ctx -> ctx.selectFrom(Tables.ACTOR_DEFINITION_VERSION))
-        .where(Tables.ACTOR_DEFINITION_VERSION.ID.in(actorDefinitionVersionIds))
+        .where(Tables.ACTOR_DEFINITION_VERSION.ID.eq(DSL.any(actorDefinitionVersionIds.toArray(UUID[]::new))))
         .fetch()
         .stream()
         .map(DbConverter::buildActorDefinitionVersion)
@@ -319,7 +347,7 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
         .set(Tables.ACTOR_DEFINITION_VERSION.SUPPORT_STATE,
             Enums.toEnum(supportState.value(), io.airbyte.db.instance.configs.jooq.generated.enums.SupportState.class).orElseThrow())
         .set(Tables.ACTOR_DEFINITION_VERSION.UPDATED_AT, OffsetDateTime.now())
-        .where(Tables.ACTOR_DEFINITION_VERSION.ID.in(actorDefinitionVersionIds))
+        .where(Tables.ACTOR_DEFINITION_VERSION.ID.eq(DSL.any(actorDefinitionVersionIds.toArray(UUID[]::new))))
         .execute());
   }
 
@@ -443,7 +471,8 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
     return ctx.update(ACTOR_DEFINITION_VERSION).set(ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG, targetImageTag)
         .set(ACTOR_DEFINITION_VERSION.UPDATED_AT, timestamp)
         .where(
-            ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID.in(sourceDefinitionIds).andNot(ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG.eq(targetImageTag)))
+            ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID.eq(DSL.any(sourceDefinitionIds.toArray(UUID[]::new)))
+                .andNot(ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG.eq(targetImageTag)))
         .execute();
   }
 
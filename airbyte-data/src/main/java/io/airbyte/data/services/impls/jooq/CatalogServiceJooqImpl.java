@@ -97,6 +97,29 @@ public class CatalogServiceJooqImpl implements CatalogService {
     return records.stream().findFirst().map(DbConverter::buildActorCatalog);
   }
 
+  /**
+   * Get the most recent fetch of the catalog of an actor, without the catalog itself.
+   *
+   * @param actorId actor id
+   * @param actorVersion actor definition version used to make this actor
+   * @param configHash config hash for actor
+   * @return last fetch event for the config hash and actor version
+   * @throws IOException - error while interacting with db
+   */
+  @Override
+  public Optional<ActorCatalogFetchEvent> getMostRecentActorCatalogFetchEvent(final UUID actorId,
+                                                                              final String actorVersion,
+                                                                              final String configHash)
+      throws IOException {
+    final Result<Record> records = database.query(ctx -> ctx.select(ACTOR_CATALOG_FETCH_EVENT.asterisk())
+        .from(ACTOR_CATALOG_FETCH_EVENT)
+        .where(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID.eq(actorId))
+        .and(ACTOR_CATALOG_FETCH_EVENT.ACTOR_VERSION.eq(actorVersion))
+        .and(ACTOR_CATALOG_FETCH_EVENT.CONFIG_HASH.eq(configHash))
+        .orderBy(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT.desc()).limit(1).fetch());
+    return records.stream().findFirst().map(DbConverter::buildActorCatalogFetchEvent);
+  }
+
   /**
    * Get most recent actor catalog for source.
    *
@@ -12,6 +12,7 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION_OP
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.NOTIFICATION_CONFIGURATION;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.SCHEMA_MANAGEMENT;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.STATE;
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.groupConcat;
 import static org.jooq.impl.DSL.noCondition;
@@ -64,6 +65,7 @@ import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SelectJoinStep;
 import org.jooq.TableField;
+import org.jooq.impl.DSL;
 import org.jooq.impl.TableImpl;
 
 @Singleton
@@ -133,6 +135,22 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     });
   }
 
+  /**
+   * Write several connections in a single transaction, so either all of them or none are updated.
+   *
+   * @param standardSyncs connections
+   * @throws IOException - exception while interacting with the db
+   */
+  @Override
+  public void writeStandardSyncs(final List<StandardSync> standardSyncs) throws IOException {
+    database.transaction(ctx -> {
+      for (final StandardSync standardSync : standardSyncs) {
+        writeStandardSync(standardSync, ctx);
+      }
+      return null;
+    });
+  }
+
   /**
    * List connections.
    *
@@ -221,9 +239,9 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
         .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
         .where(ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId())
             .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
-                : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
+                : CONNECTION.DESTINATION_ID.eq(DSL.any(standardSyncQuery.destinationId().toArray(UUID[]::new))))
             .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
-                : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
+                : CONNECTION.SOURCE_ID.eq(DSL.any(standardSyncQuery.sourceId().toArray(UUID[]::new))))
             .and(standardSyncQuery.includeDeleted() ? noCondition()
                 : CONNECTION.STATUS.notEqual(
                     StatusType.deprecated)))
@@ -282,11 +300,11 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
         .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
         // The schema management can be non-existent for a connection id, thus we need to do a left join
         .leftJoin(SCHEMA_MANAGEMENT).on(SCHEMA_MANAGEMENT.CONNECTION_ID.eq(CONNECTION.ID))
-        .where(ACTOR.WORKSPACE_ID.in(standardSyncsQueryPaginated.workspaceIds())
+        .where(ACTOR.WORKSPACE_ID.eq(DSL.any(standardSyncsQueryPaginated.workspaceIds().toArray(UUID[]::new)))
             .and(standardSyncsQueryPaginated.destinationId() == null || standardSyncsQueryPaginated.destinationId().isEmpty() ? noCondition()
-                : CONNECTION.DESTINATION_ID.in(standardSyncsQueryPaginated.destinationId()))
+                : CONNECTION.DESTINATION_ID.eq(DSL.any(standardSyncsQueryPaginated.destinationId().toArray(UUID[]::new))))
             .and(standardSyncsQueryPaginated.sourceId() == null || standardSyncsQueryPaginated.sourceId().isEmpty() ? noCondition()
-                : CONNECTION.SOURCE_ID.in(standardSyncsQueryPaginated.sourceId()))
+                : CONNECTION.SOURCE_ID.eq(DSL.any(standardSyncsQueryPaginated.sourceId().toArray(UUID[]::new))))
             .and(standardSyncsQueryPaginated.includeDeleted() ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated)))
         // group by connection.id so that the groupConcat above works
         .groupBy(CONNECTION.ID, ACTOR.WORKSPACE_ID, SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS, SCHEMA_MANAGEMENT.BACKFILL_PREFERENCE))
@@ -326,6 +344,35 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * List connections by id, e.g. to act on many connections at once without reading them one by one.
+   * Deleted connections are included. Ids that do not match a connection are ignored.
+   *
+   * @param connectionIds connection ids
+   * @return connections with the provided ids
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<StandardSync> listConnectionsByIds(final List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return List.of();
+    }
+
+    final Result<Record> connectionAndOperationIdsResult = database.query(ctx -> ctx
+        .select(
+            CONNECTION.asterisk(),
+            groupConcat(CONNECTION_OPERATION.OPERATION_ID).separator(OPERATION_IDS_AGG_DELIMITER).as(OPERATION_IDS_AGG_FIELD),
+            SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS, SCHEMA_MANAGEMENT.BACKFILL_PREFERENCE)
+        .from(CONNECTION)
+        .leftJoin(CONNECTION_OPERATION).on(CONNECTION_OPERATION.CONNECTION_ID.eq(CONNECTION.ID))
+        .leftJoin(SCHEMA_MANAGEMENT).on(SCHEMA_MANAGEMENT.CONNECTION_ID.eq(CONNECTION.ID))
+        .where(CONNECTION.ID.eq(any(connectionIds.toArray(UUID[]::new))))
+        .groupBy(CONNECTION.ID, SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS, SCHEMA_MANAGEMENT.BACKFILL_PREFERENCE)).fetch();
+
+    return getStandardSyncsFromResult(connectionAndOperationIdsResult,
+        getNotificationConfigurationByConnectionIds(connectionAndOperationIdsResult.map(record -> record.get(CONNECTION.ID))));
+  }
+
   /**
    * List connections that use a particular actor definition.
    *
@@ -462,7 +509,7 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
       ctx.update(CONNECTION)
           .set(CONNECTION.UPDATED_AT, OffsetDateTime.now())
           .set(CONNECTION.STATUS, StatusType.inactive)
-          .where(CONNECTION.ID.in(connectionIds))
+          .where(CONNECTION.ID.eq(DSL.any(connectionIds.toArray(UUID[]::new))))
           .execute();
       return null;
     });
@@ -826,7 +873,7 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
 
   private List<NotificationConfigurationRecord> getNotificationConfigurationByConnectionIds(final List<UUID> connectionIds) throws IOException {
     return database.query(ctx -> ctx.selectFrom(NOTIFICATION_CONFIGURATION)
-        .where(NOTIFICATION_CONFIGURATION.CONNECTION_ID.in(connectionIds))
+        .where(NOTIFICATION_CONFIGURATION.CONNECTION_ID.eq(DSL.any(connectionIds.toArray(UUID[]::new))))
         .fetch());
   }
 
@@ -20,14 +20,20 @@ import io.airbyte.db.instance.configs.jooq.generated.enums.SupportLevel;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.JSONB;
 import org.jooq.Query;
+import org.jooq.impl.DSL;
 
 /**
  * Helper class for logic related to connector metadata (breaking changes, actor definition
@@ -65,39 +71,7 @@ public class ConnectorMetadataJooqHelper {
 
       ctx.update(Tables.ACTOR_DEFINITION_VERSION)
           .set(ACTOR_DEFINITION_VERSION.UPDATED_AT, timestamp)
-          .set(Tables.ACTOR_DEFINITION_VERSION.DOCKER_REPOSITORY, actorDefinitionVersion.getDockerRepository())
-          .set(Tables.ACTOR_DEFINITION_VERSION.SPEC, JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getSpec())))
-          .set(Tables.ACTOR_DEFINITION_VERSION.DOCUMENTATION_URL, actorDefinitionVersion.getDocumentationUrl())
-          .set(Tables.ACTOR_DEFINITION_VERSION.PROTOCOL_VERSION, actorDefinitionVersion.getProtocolVersion())
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUPPORT_LEVEL, actorDefinitionVersion.getSupportLevel() == null ? null
-              : Enums.toEnum(actorDefinitionVersion.getSupportLevel().value(),
-                  SupportLevel.class).orElseThrow())
-          .set(Tables.ACTOR_DEFINITION_VERSION.RELEASE_STAGE, actorDefinitionVersion.getReleaseStage() == null ? null
-              : Enums.toEnum(actorDefinitionVersion.getReleaseStage().value(),
-                  ReleaseStage.class).orElseThrow())
-          .set(Tables.ACTOR_DEFINITION_VERSION.RELEASE_DATE, actorDefinitionVersion.getReleaseDate() == null ? null
-              : LocalDate.parse(actorDefinitionVersion.getReleaseDate()))
-          .set(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_REPOSITORY,
-              Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
-                  ? actorDefinitionVersion.getNormalizationConfig().getNormalizationRepository()
-                  : null)
-          .set(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_TAG,
-              Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
-                  ? actorDefinitionVersion.getNormalizationConfig().getNormalizationTag()
-                  : null)
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUPPORTS_DBT, actorDefinitionVersion.getSupportsDbt())
-          .set(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_INTEGRATION_TYPE,
-              Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
-                  ? actorDefinitionVersion.getNormalizationConfig().getNormalizationIntegrationType()
-                  : null)
-          .set(Tables.ACTOR_DEFINITION_VERSION.ALLOWED_HOSTS, actorDefinitionVersion.getAllowedHosts() == null ? null
-              : JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getAllowedHosts())))
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUGGESTED_STREAMS,
-              actorDefinitionVersion.getSuggestedStreams() == null ? null
-                  : JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getSuggestedStreams())))
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUPPORT_STATE,
-              Enums.toEnum(actorDefinitionVersion.getSupportState().value(), io.airbyte.db.instance.configs.jooq.generated.enums.SupportState.class)
-                  .orElseThrow())
+          .set(actorDefinitionVersionColumns(actorDefinitionVersion))
           .where(ACTOR_DEFINITION_VERSION.ID.eq(versionId))
           .execute();
     } else {
@@ -110,46 +84,113 @@ public class ConnectorMetadataJooqHelper {
           .set(ACTOR_DEFINITION_VERSION.CREATED_AT, timestamp)
           .set(ACTOR_DEFINITION_VERSION.UPDATED_AT, timestamp)
           .set(Tables.ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID, actorDefinitionVersion.getActorDefinitionId())
-          .set(Tables.ACTOR_DEFINITION_VERSION.DOCKER_REPOSITORY, actorDefinitionVersion.getDockerRepository())
           .set(Tables.ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG, actorDefinitionVersion.getDockerImageTag())
-          .set(Tables.ACTOR_DEFINITION_VERSION.SPEC, JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getSpec())))
-          .set(Tables.ACTOR_DEFINITION_VERSION.DOCUMENTATION_URL, actorDefinitionVersion.getDocumentationUrl())
-          .set(Tables.ACTOR_DEFINITION_VERSION.PROTOCOL_VERSION, actorDefinitionVersion.getProtocolVersion())
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUPPORT_LEVEL, actorDefinitionVersion.getSupportLevel() == null ? null
-              : Enums.toEnum(actorDefinitionVersion.getSupportLevel().value(),
-                  SupportLevel.class).orElseThrow())
-          .set(Tables.ACTOR_DEFINITION_VERSION.RELEASE_STAGE, actorDefinitionVersion.getReleaseStage() == null ? null
-              : Enums.toEnum(actorDefinitionVersion.getReleaseStage().value(),
-                  ReleaseStage.class).orElseThrow())
-          .set(Tables.ACTOR_DEFINITION_VERSION.RELEASE_DATE, actorDefinitionVersion.getReleaseDate() == null ? null
-              : LocalDate.parse(actorDefinitionVersion.getReleaseDate()))
-          .set(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_REPOSITORY,
-              Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
-                  ? actorDefinitionVersion.getNormalizationConfig().getNormalizationRepository()
-                  : null)
-          .set(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_TAG,
-              Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
-                  ? actorDefinitionVersion.getNormalizationConfig().getNormalizationTag()
-                  : null)
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUPPORTS_DBT, actorDefinitionVersion.getSupportsDbt())
-          .set(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_INTEGRATION_TYPE,
-              Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
-                  ? actorDefinitionVersion.getNormalizationConfig().getNormalizationIntegrationType()
-                  : null)
-          .set(Tables.ACTOR_DEFINITION_VERSION.ALLOWED_HOSTS, actorDefinitionVersion.getAllowedHosts() == null ? null
-              : JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getAllowedHosts())))
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUGGESTED_STREAMS,
-              actorDefinitionVersion.getSuggestedStreams() == null ? null
-                  : JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getSuggestedStreams())))
-          .set(Tables.ACTOR_DEFINITION_VERSION.SUPPORT_STATE,
-              Enums.toEnum(actorDefinitionVersion.getSupportState().value(), io.airbyte.db.instance.configs.jooq.generated.enums.SupportState.class)
-                  .orElseThrow())
+          .set(actorDefinitionVersionColumns(actorDefinitionVersion))
           .execute();
     }
 
     return actorDefinitionVersion;
   }
 
+  /**
+   * Write several actor definition versions at once. Versions that already exist for their actor
+   * definition and docker image tag are updated, the others are inserted. The version id of each
+   * actor definition version is set to the one in the DB.
+   *
+   * @param actorDefinitionVersions - actor definition versions to write
+   * @param ctx database context
+   */
+  public static void writeActorDefinitionVersions(final List<ActorDefinitionVersion> actorDefinitionVersions, final DSLContext ctx) {
+    if (actorDefinitionVersions.isEmpty()) {
+      return;
+    }
+    final OffsetDateTime timestamp = OffsetDateTime.now();
+
+    final Map<Entry<UUID, String>, UUID> existingVersionIds = ctx
+        .select(ACTOR_DEFINITION_VERSION.ID, ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID, ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG)
+        .from(ACTOR_DEFINITION_VERSION)
+        .where(DSL.row(ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID, ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG).in(actorDefinitionVersions.stream()
+            .map(actorDefinitionVersion -> DSL.row(actorDefinitionVersion.getActorDefinitionId(), actorDefinitionVersion.getDockerImageTag()))
+            .toList()))
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(
+            record -> Map.entry(record.get(ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID), record.get(ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG)),
+            record -> record.get(ACTOR_DEFINITION_VERSION.ID)));
+
+    final List<Query> upsertQueries = new ArrayList<>();
+    for (final ActorDefinitionVersion actorDefinitionVersion : actorDefinitionVersions) {
+      final UUID actorDefinitionId = actorDefinitionVersion.getActorDefinitionId();
+      final String dockerImageTag = actorDefinitionVersion.getDockerImageTag();
+      final Optional<UUID> providedVersionId = Optional.ofNullable(actorDefinitionVersion.getVersionId());
+      final Optional<UUID> existingVersionId = Optional.ofNullable(existingVersionIds.get(Map.entry(actorDefinitionId, dockerImageTag)));
+
+      if (providedVersionId.isPresent() && existingVersionId.isPresent() && !existingVersionId.get().equals(providedVersionId.get())) {
+        throw new RuntimeException(
+            String.format("Provided version id %s does not match existing version id %s for actor definition %s and docker image tag %s",
+                providedVersionId.get(), existingVersionId.get(), actorDefinitionId, dockerImageTag));
+      }
+
+      // If the version id is provided, use it (useful for mocks). Otherwise, generate a new one.
+      final UUID versionId = existingVersionId.or(() -> providedVersionId).orElseGet(UUID::randomUUID);
+      actorDefinitionVersion.setVersionId(versionId);
+
+      final Map<Field<?>, Object> columns = actorDefinitionVersionColumns(actorDefinitionVersion);
+      upsertQueries.add(ctx.insertInto(Tables.ACTOR_DEFINITION_VERSION)
+          .set(Tables.ACTOR_DEFINITION_VERSION.ID, versionId)
+          .set(ACTOR_DEFINITION_VERSION.CREATED_AT, timestamp)
+          .set(ACTOR_DEFINITION_VERSION.UPDATED_AT, timestamp)
+          .set(Tables.ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID, actorDefinitionId)
+          .set(Tables.ACTOR_DEFINITION_VERSION.DOCKER_IMAGE_TAG, dockerImageTag)
+          .set(columns)
+          .onConflict(ACTOR_DEFINITION_VERSION.ID).doUpdate()
+          .set(ACTOR_DEFINITION_VERSION.UPDATED_AT, timestamp)
+          .set(columns));
+    }
+    ctx.batch(upsertQueries).execute();
+  }
+
+  /**
+   * Columns of an actor definition version that are written on both inserts and updates.
+   */
+  private static Map<Field<?>, Object> actorDefinitionVersionColumns(final ActorDefinitionVersion actorDefinitionVersion) {
+    final Map<Field<?>, Object> columns = new LinkedHashMap<>();
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.DOCKER_REPOSITORY, actorDefinitionVersion.getDockerRepository());
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.SPEC, JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getSpec())));
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.DOCUMENTATION_URL, actorDefinitionVersion.getDocumentationUrl());
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.PROTOCOL_VERSION, actorDefinitionVersion.getProtocolVersion());
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.SUPPORT_LEVEL, actorDefinitionVersion.getSupportLevel() == null ? null
+        : Enums.toEnum(actorDefinitionVersion.getSupportLevel().value(),
+            SupportLevel.class).orElseThrow());
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.RELEASE_STAGE, actorDefinitionVersion.getReleaseStage() == null ? null
+        : Enums.toEnum(actorDefinitionVersion.getReleaseStage().value(),
+            ReleaseStage.class).orElseThrow());
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.RELEASE_DATE, actorDefinitionVersion.getReleaseDate() == null ? null
+        : LocalDate.parse(actorDefinitionVersion.getReleaseDate()));
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_REPOSITORY,
+        Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
+            ? actorDefinitionVersion.getNormalizationConfig().getNormalizationRepository()
+            : null);
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_TAG,
+        Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
+            ? actorDefinitionVersion.getNormalizationConfig().getNormalizationTag()
+            : null);
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.SUPPORTS_DBT, actorDefinitionVersion.getSupportsDbt());
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.NORMALIZATION_INTEGRATION_TYPE,
+        Objects.nonNull(actorDefinitionVersion.getNormalizationConfig())
+            ? actorDefinitionVersion.getNormalizationConfig().getNormalizationIntegrationType()
+            : null);
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.ALLOWED_HOSTS, actorDefinitionVersion.getAllowedHosts() == null ? null
+        : JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getAllowedHosts())));
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.SUGGESTED_STREAMS,
+        actorDefinitionVersion.getSuggestedStreams() == null ? null
+            : JSONB.valueOf(Jsons.serialize(actorDefinitionVersion.getSuggestedStreams())));
+    columns.put(Tables.ACTOR_DEFINITION_VERSION.SUPPORT_STATE,
+        Enums.toEnum(actorDefinitionVersion.getSupportState().value(), io.airbyte.db.instance.configs.jooq.generated.enums.SupportState.class)
+            .orElseThrow());
+    return columns;
+  }
+
   /**
    * Get the actor definition version associated with an actor definition and a docker image tag.
    *
@@ -205,6 +246,60 @@ public class ConnectorMetadataJooqHelper {
     updateActorDefinitionDefaultVersionId(actorDefinitionVersion.getActorDefinitionId(), actorDefinitionVersion.getVersionId(), ctx);
   }
 
+  /**
+   * Set several actor definition versions as the default version of their actor definition, in
+   * batch. Like {@link #setActorDefinitionVersionForTagAsDefault(ActorDefinitionVersion, List,
+   * DSLContext)}, the actors on the current default version are upgraded unless a breaking change
+   * applies to the upgrade. The versions must have been written already.
+   *
+   * @param actorDefinitionVersions - actor definition versions to set as default
+   * @param breakingChanges - breaking changes of the actor definitions of these versions
+   * @param ctx database context
+   */
+  public static void setActorDefinitionVersionsAsDefault(final List<ActorDefinitionVersion> actorDefinitionVersions,
+                                                         final List<ActorDefinitionBreakingChange> breakingChanges,
+                                                         final DSLContext ctx) {
+    if (actorDefinitionVersions.isEmpty()) {
+      return;
+    }
+    final OffsetDateTime timestamp = OffsetDateTime.now();
+
+    final Map<UUID, ActorDefinitionVersion> currentDefaultVersions = ctx.select(ACTOR_DEFINITION.ID, Tables.ACTOR_DEFINITION_VERSION.asterisk())
+        .from(ACTOR_DEFINITION)
+        .join(ACTOR_DEFINITION_VERSION).on(Tables.ACTOR_DEFINITION_VERSION.ID.eq(Tables.ACTOR_DEFINITION.DEFAULT_VERSION_ID))
+        .where(ACTOR_DEFINITION.ID.eq(DSL.any(actorDefinitionVersions.stream()
+            .map(ActorDefinitionVersion::getActorDefinitionId)
+            .toArray(UUID[]::new))))
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(record -> record.get(ACTOR_DEFINITION.ID), DbConverter::buildActorDefinitionVersion));
+    final Map<UUID, List<ActorDefinitionBreakingChange>> breakingChangesByActorDefinitionId = breakingChanges.stream()
+        .collect(Collectors.groupingBy(ActorDefinitionBreakingChange::getActorDefinitionId));
+
+    final List<Query> updateQueries = new ArrayList<>();
+    for (final ActorDefinitionVersion actorDefinitionVersion : actorDefinitionVersions) {
+      if (actorDefinitionVersion.getVersionId() == null) {
+        throw new RuntimeException("Can't set an actorDefinitionVersion as default without it having a versionId.");
+      }
+      final UUID actorDefinitionId = actorDefinitionVersion.getActorDefinitionId();
+
+      final ActorDefinitionVersion currentDefaultVersion = currentDefaultVersions.get(actorDefinitionId);
+      // Breaking changes are assumed to impact all actors, see getActorsAffectedByBreakingChange
+      if (currentDefaultVersion != null && getBreakingChangesForUpgrade(currentDefaultVersion.getDockerImageTag(),
+          actorDefinitionVersion.getDockerImageTag(), breakingChangesByActorDefinitionId.getOrDefault(actorDefinitionId, List.of())).isEmpty()) {
+        updateQueries.add(ctx.update(ACTOR)
+            .set(ACTOR.UPDATED_AT, timestamp)
+            .set(ACTOR.DEFAULT_VERSION_ID, actorDefinitionVersion.getVersionId())
+            .where(ACTOR.DEFAULT_VERSION_ID.eq(currentDefaultVersion.getVersionId())));
+      }
+      updateQueries.add(ctx.update(ACTOR_DEFINITION)
+          .set(ACTOR_DEFINITION.UPDATED_AT, timestamp)
+          .set(ACTOR_DEFINITION.DEFAULT_VERSION_ID, actorDefinitionVersion.getVersionId())
+          .where(ACTOR_DEFINITION.ID.eq(actorDefinitionId)));
+    }
+    ctx.batch(updateQueries).execute();
+  }
+
   private static List<UUID> getActorsToUpgrade(final ActorDefinitionVersion currentDefaultVersion,
                                                final ActorDefinitionVersion newVersion,
                                                final List<ActorDefinitionBreakingChange> breakingChangesForDefinition,
@@ -263,7 +358,7 @@ public class ConnectorMetadataJooqHelper {
     ctx.update(ACTOR)
         .set(ACTOR.UPDATED_AT, OffsetDateTime.now())
         .set(ACTOR.DEFAULT_VERSION_ID, newDefaultVersionId)
-        .where(ACTOR.ID.in(actorIds))
+        .where(ACTOR.ID.eq(DSL.any(actorIds.toArray(UUID[]::new))))
         .execute();
   }
 
@@ -64,6 +64,7 @@ import org.jooq.Field;
 import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
 import org.jooq.JoinType;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
@@ -321,7 +322,7 @@ public class DestinationServiceJooqImpl implements DestinationService {
     final Result<Record> result = database.query(ctx -> ctx.select(asterisk())
         .from(ACTOR)
         .where(ACTOR.ACTOR_TYPE.eq(ActorType.destination))
-        .and(ACTOR.WORKSPACE_ID.in(resourcesQueryPaginated.workspaceIds()))
+        .and(ACTOR.WORKSPACE_ID.eq(DSL.any(resourcesQueryPaginated.workspaceIds().toArray(UUID[]::new))))
         .and(resourcesQueryPaginated.includeDeleted() ? noCondition() : ACTOR.TOMBSTONE.notEqual(true))
         .limit(resourcesQueryPaginated.pageSize())
         .offset(resourcesQueryPaginated.rowOffset())
@@ -363,7 +364,7 @@ public class DestinationServiceJooqImpl implements DestinationService {
         .from(ACTOR)
         .join(ACTOR_DEFINITION)
         .on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
-        .where(ACTOR.ACTOR_TYPE.eq(ActorType.destination), ACTOR.ID.in(destinationIds))
+        .where(ACTOR.ACTOR_TYPE.eq(ActorType.destination), ACTOR.ID.eq(DSL.any(destinationIds.toArray(UUID[]::new))))
         .fetch());
 
     final List<DestinationAndDefinition> destinationAndDefinitions = new ArrayList<>();
@@ -438,7 +439,7 @@ public class DestinationServiceJooqImpl implements DestinationService {
     final Result<Record> result = database.query(ctx -> ctx.select(asterisk())
         .from(ACTOR)
         .where(ACTOR.ACTOR_TYPE.eq(ActorType.destination))
-        .and(ACTOR.DEFAULT_VERSION_ID.in(actorDefinitionVersionIds))
+        .and(ACTOR.DEFAULT_VERSION_ID.eq(DSL.any(actorDefinitionVersionIds.toArray(UUID[]::new))))
         .andNot(ACTOR.TOMBSTONE).fetch());
     return result.stream().map(DbConverter::buildDestinationConnection).toList();
   }
@@ -673,6 +674,42 @@ public class DestinationServiceJooqImpl implements DestinationService {
     });
   }
 
+  /**
+   * Build a query that inserts a destination definition, or updates it if it already exists. Unlike
+   * {@link #writeStandardDestinationDefinition(List, DSLContext)}, it does not need to check for the
+   * existence of the definition first, so several of them can be written in one batch.
+   */
+  static Query upsertStandardDestinationDefinitionQuery(final StandardDestinationDefinition standardDestinationDefinition,
+                                                        final OffsetDateTime timestamp,
+                                                        final DSLContext ctx) {
+    final JSONB resourceRequirements = standardDestinationDefinition.getResourceRequirements() == null ? null
+        : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getResourceRequirements()));
+
+    return ctx.insertInto(Tables.ACTOR_DEFINITION)
+        .set(Tables.ACTOR_DEFINITION.ID, standardDestinationDefinition.getDestinationDefinitionId())
+        .set(Tables.ACTOR_DEFINITION.NAME, standardDestinationDefinition.getName())
+        .set(Tables.ACTOR_DEFINITION.ICON, standardDestinationDefinition.getIcon())
+        .set(Tables.ACTOR_DEFINITION.ICON_URL, standardDestinationDefinition.getIconUrl())
+        .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.destination)
+        .set(Tables.ACTOR_DEFINITION.TOMBSTONE,
+            standardDestinationDefinition.getTombstone() != null && standardDestinationDefinition.getTombstone())
+        .set(Tables.ACTOR_DEFINITION.PUBLIC, standardDestinationDefinition.getPublic())
+        .set(Tables.ACTOR_DEFINITION.CUSTOM, standardDestinationDefinition.getCustom())
+        .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS, resourceRequirements)
+        .set(Tables.ACTOR_DEFINITION.CREATED_AT, timestamp)
+        .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
+        .onConflict(Tables.ACTOR_DEFINITION.ID).doUpdate()
+        .set(Tables.ACTOR_DEFINITION.NAME, standardDestinationDefinition.getName())
+        .set(Tables.ACTOR_DEFINITION.ICON, standardDestinationDefinition.getIcon())
+        .set(Tables.ACTOR_DEFINITION.ICON_URL, standardDestinationDefinition.getIconUrl())
+        .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.destination)
+        .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardDestinationDefinition.getTombstone())
+        .set(Tables.ACTOR_DEFINITION.PUBLIC, standardDestinationDefinition.getPublic())
+        .set(Tables.ACTOR_DEFINITION.CUSTOM, standardDestinationDefinition.getCustom())
+        .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS, resourceRequirements)
+        .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp);
+  }
+
   /**
    * Get Destination with secrets.
    *
@@ -39,6 +39,7 @@ import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SelectJoinStep;
+import org.jooq.impl.DSL;
 
 @Singleton
 public class OperationServiceJooqImpl implements OperationService {
@@ -117,7 +118,7 @@ public class OperationServiceJooqImpl implements OperationService {
 
       ctx.deleteFrom(CONNECTION_OPERATION)
           .where(CONNECTION_OPERATION.CONNECTION_ID.eq(connectionId))
-          .and(CONNECTION_OPERATION.OPERATION_ID.in(operationIdsToDelete))
+          .and(CONNECTION_OPERATION.OPERATION_ID.eq(DSL.any(operationIdsToDelete.toArray(UUID[]::new))))
           .execute();
 
       // INSERT connection_operation records that are in the input list and don't yet exist
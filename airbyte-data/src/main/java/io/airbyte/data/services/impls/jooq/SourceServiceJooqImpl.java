@@ -65,6 +65,7 @@ import org.jooq.Field;
 import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
 import org.jooq.JoinType;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
@@ -336,7 +337,7 @@ public class SourceServiceJooqImpl implements SourceService {
     final Result<Record> result = database.query(ctx -> ctx.select(asterisk())
         .from(ACTOR)
         .where(ACTOR.ACTOR_TYPE.eq(ActorType.source))
-        .and(ACTOR.WORKSPACE_ID.in(resourcesQueryPaginated.workspaceIds()))
+        .and(ACTOR.WORKSPACE_ID.eq(DSL.any(resourcesQueryPaginated.workspaceIds().toArray(UUID[]::new))))
         .and(resourcesQueryPaginated.includeDeleted() ? noCondition() : ACTOR.TOMBSTONE.notEqual(true))
         .limit(resourcesQueryPaginated.pageSize())
         .offset(resourcesQueryPaginated.rowOffset())
@@ -376,7 +377,7 @@ public class SourceServiceJooqImpl implements SourceService {
         .from(ACTOR)
         .join(ACTOR_DEFINITION)
         .on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
-        .where(ACTOR.ACTOR_TYPE.eq(ActorType.source), ACTOR.ID.in(sourceIds))
+        .where(ACTOR.ACTOR_TYPE.eq(ActorType.source), ACTOR.ID.eq(DSL.any(sourceIds.toArray(UUID[]::new))))
         .fetch());
 
     final List<SourceAndDefinition> sourceAndDefinitions = new ArrayList<>();
@@ -440,7 +441,7 @@ public class SourceServiceJooqImpl implements SourceService {
     final Result<Record> result = database.query(ctx -> ctx.select(asterisk())
         .from(ACTOR)
         .where(ACTOR.ACTOR_TYPE.eq(ActorType.source))
-        .and(ACTOR.DEFAULT_VERSION_ID.in(actorDefinitionVersionIds))
+        .and(ACTOR.DEFAULT_VERSION_ID.eq(DSL.any(actorDefinitionVersionIds.toArray(UUID[]::new))))
         .andNot(ACTOR.TOMBSTONE).fetch());
     return result.stream().map(DbConverter::buildSourceConnection).toList();
   }
@@ -613,6 +614,49 @@ public class SourceServiceJooqImpl implements SourceService {
     });
   }
 
+  /**
+   * Build a query that inserts a source definition, or updates it if it already exists. Unlike
+   * {@link #writeStandardSourceDefinition(List, DSLContext)}, it does not need to check for the
+   * existence of the definition first, so several of them can be written in one batch.
+   */
+  static Query upsertStandardSourceDefinitionQuery(final StandardSourceDefinition standardSourceDefinition,
+                                                   final OffsetDateTime timestamp,
+                                                   final DSLContext ctx) {
+    final SourceType sourceType = standardSourceDefinition.getSourceType() == null ? null
+        : Enums.toEnum(standardSourceDefinition.getSourceType().value(), SourceType.class).orElseThrow();
+    final JSONB resourceRequirements = standardSourceDefinition.getResourceRequirements() == null ? null
+        : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getResourceRequirements()));
+    final Integer maxSecondsBetweenMessages = standardSourceDefinition.getMaxSecondsBetweenMessages() == null ? null
+        : standardSourceDefinition.getMaxSecondsBetweenMessages().intValue();
+
+    return ctx.insertInto(Tables.ACTOR_DEFINITION)
+        .set(Tables.ACTOR_DEFINITION.ID, standardSourceDefinition.getSourceDefinitionId())
+        .set(Tables.ACTOR_DEFINITION.NAME, standardSourceDefinition.getName())
+        .set(Tables.ACTOR_DEFINITION.ICON, standardSourceDefinition.getIcon())
+        .set(Tables.ACTOR_DEFINITION.ICON_URL, standardSourceDefinition.getIconUrl())
+        .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.source)
+        .set(Tables.ACTOR_DEFINITION.SOURCE_TYPE, sourceType)
+        .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardSourceDefinition.getTombstone() != null && standardSourceDefinition.getTombstone())
+        .set(Tables.ACTOR_DEFINITION.PUBLIC, standardSourceDefinition.getPublic())
+        .set(Tables.ACTOR_DEFINITION.CUSTOM, standardSourceDefinition.getCustom())
+        .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS, resourceRequirements)
+        .set(Tables.ACTOR_DEFINITION.CREATED_AT, timestamp)
+        .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
+        .set(Tables.ACTOR_DEFINITION.MAX_SECONDS_BETWEEN_MESSAGES, maxSecondsBetweenMessages)
+        .onConflict(Tables.ACTOR_DEFINITION.ID).doUpdate()
+        .set(Tables.ACTOR_DEFINITION.NAME, standardSourceDefinition.getName())
+        .set(Tables.ACTOR_DEFINITION.ICON, standardSourceDefinition.getIcon())
+        .set(Tables.ACTOR_DEFINITION.ICON_URL, standardSourceDefinition.getIconUrl())
+        .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.source)
+        .set(Tables.ACTOR_DEFINITION.SOURCE_TYPE, sourceType)
+        .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardSourceDefinition.getTombstone())
+        .set(Tables.ACTOR_DEFINITION.PUBLIC, standardSourceDefinition.getPublic())
+        .set(Tables.ACTOR_DEFINITION.CUSTOM, standardSourceDefinition.getCustom())
+        .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS, resourceRequirements)
+        .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
+        .set(Tables.ACTOR_DEFINITION.MAX_SECONDS_BETWEEN_MESSAGES, maxSecondsBetweenMessages);
+  }
+
   private void writeSourceConnection(final List<SourceConnection> configs, final DSLContext ctx) {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     configs.forEach((sourceConnection) -> {
@@ -68,6 +68,7 @@ import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
 import org.jooq.SelectJoinStep;
+import org.jooq.impl.DSL;
 
 @Slf4j
 @Singleton
@@ -207,7 +208,7 @@ public class WorkspaceServiceJooqImpl implements WorkspaceService {
     return database.query(ctx -> ctx.select(WORKSPACE.asterisk())
         .from(WORKSPACE)
         .where(resourcesQueryPaginated.includeDeleted() ? noCondition() : WORKSPACE.TOMBSTONE.notEqual(true))
-        .and(WORKSPACE.ID.in(resourcesQueryPaginated.workspaceIds()))
+        .and(WORKSPACE.ID.eq(DSL.any(resourcesQueryPaginated.workspaceIds().toArray(UUID[]::new))))
         .limit(resourcesQueryPaginated.pageSize())
         .offset(resourcesQueryPaginated.rowOffset())
         .fetch())
@@ -523,9 +524,9 @@ public class WorkspaceServiceJooqImpl implements WorkspaceService {
         .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
         .where(ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId())
             .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
-                : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
+                : CONNECTION.DESTINATION_ID.eq(DSL.any(standardSyncQuery.destinationId().toArray(UUID[]::new))))
             .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
-                : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
+                : CONNECTION.SOURCE_ID.eq(DSL.any(standardSyncQuery.sourceId().toArray(UUID[]::new))))
             // includeDeleted is not relevant here because it refers to connection status deprecated,
             // and we are only retrieving active syncs anyway
             .and(CONNECTION.STATUS.eq(StatusType.active)))
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.ActorDefinitionBreakingChange;
+import io.airbyte.config.ActorDefinitionVersion;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
+import java.util.List;
+
+/**
+ * Connector metadata written together in a single transaction, e.g. when applying the definitions
+ * of the connector registry.
+ *
+ * @param sourceDefinitions source definitions to insert or update
+ * @param destinationDefinitions destination definitions to insert or update
+ * @param defaultVersions actor definition versions to set as the default version of their actor
+ *        definition. Actors are upgraded accordingly, as in a single connector metadata write.
+ * @param breakingChanges breaking changes to insert or update, also used to determine whether
+ *        actors can be upgraded to the new default versions
+ */
+public record ConnectorMetadataBatch(List<StandardSourceDefinition> sourceDefinitions,
+                                     List<StandardDestinationDefinition> destinationDefinitions,
+                                     List<ActorDefinitionVersion> defaultVersions,
+                                     List<ActorDefinitionBreakingChange> breakingChanges) {
+
+  public boolean isEmpty() {
+    return sourceDefinitions.isEmpty() && destinationDefinitions.isEmpty() && defaultVersions.isEmpty() && breakingChanges.isEmpty();
+  }
+
+}
@@ -5,6 +5,7 @@
 package io.airbyte.db;
 
 import java.sql.SQLException;
+import java.util.Optional;
 import org.jooq.DSLContext;
 import org.jooq.impl.DSL;
 
@@ -14,12 +15,31 @@ import org.jooq.impl.DSL;
 public class Database {
 
   private final DSLContext dslContext;
+  private final Optional<ReadReplica> readReplica;
 
   public Database(final DSLContext dslContext) {
+    this(dslContext, Optional.empty());
+  }
+
+  /**
+   * Database with a read replica. Queries run within a {@link ReadReplica#preferReplica()} scope are
+   * sent to the replica while it is up to date.
+   *
+   * @param dslContext context of the primary
+   * @param readReplica read replica of the primary, if any
+   */
+  public Database(final DSLContext dslContext, final Optional<ReadReplica> readReplica) {
     this.dslContext = dslContext;
+    this.readReplica = readReplica;
   }
 
   public <T> T query(final ContextQueryFunction<T> transform) throws SQLException {
+    if (readReplica.isPresent() && ReadReplica.isReplicaPreferred()) {
+      final Optional<DSLContext> replicaContext = readReplica.get().upToDateContext();
+      if (replicaContext.isPresent()) {
+        return transform.query(replicaContext.get());
+      }
+    }
     return transform.query(dslContext);
   }
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read replica of a Postgres database, for the reads that can be served slightly stale.
+ * <p>
+ * Queries are only sent to the replica within a {@link #preferReplica()} scope, and only while the
+ * replica lags at most {@code maxLag} behind the primary. Everything else, including all
+ * transactions and the reads that follow a write, keeps running on the primary. The scope is bound
+ * to the calling thread and reset when closed, so it never carries over to another request handled
+ * by the same thread.
+ * <p>
+ * The lag is measured on the replica at most once per {@code lagCheckInterval}, in the background:
+ * queries never wait for a measurement and go by the last one, so the replica is only used once its
+ * lag was first measured. Both streaming replicas and logical replication subscribers are
+ * supported. A replica whose lag cannot be measured, e.g. because it is down or its subscription is
+ * disabled, is not used.
+ */
+public class ReadReplica implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReadReplica.class);
+
+  private static final ThreadLocal<Boolean> REPLICA_PREFERRED = ThreadLocal.withInitial(() -> false);
+
+  // A streaming replica that is connected and replayed all the WAL it received is up to date, even
+  // when the primary has not committed anything for a while. A logical replication subscriber is considered as late
+  // as the last message received by its least recently updated subscription, which overestimates the
+  // lag while the publisher is idle: reads then go to the primary, never to a stale subscriber.
+  private static final String LAG_SECONDS_QUERY = """
+                                                  SELECT CASE
+                                                    WHEN pg_is_in_recovery() THEN
+                                                      CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                                                             AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN 0
+                                                           ELSE extract(epoch FROM now() - pg_last_xact_replay_timestamp()) END
+                                                    ELSE (SELECT extract(epoch FROM now() - min(last_msg_receipt_time))
+                                                          FROM pg_stat_subscription WHERE relid IS NULL)
+                                                  END
+                                                  """;
+
+  private final DataSource dataSource;
+  private final DSLContext dslContext;
+  private final Duration maxLag;
+  private final long lagCheckIntervalNanos;
+  private final ExecutorService lagChecks;
+  private final AtomicBoolean lagCheckPending = new AtomicBoolean();
+
+  private volatile boolean lagChecked;
+  private volatile long lagCheckedAtNanos;
+  private volatile boolean upToDate;
+
+  public ReadReplica(final DataSource dataSource, final Duration maxLag, final Duration lagCheckInterval) {
+    this.dataSource = dataSource;
+    this.dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES);
+    this.maxLag = maxLag;
+    this.lagCheckIntervalNanos = lagCheckInterval.toNanos();
+    this.lagChecks = Executors.newSingleThreadExecutor(
+        runnable -> Thread.ofPlatform().name("read-replica-lag-check").daemon(true).unstarted(runnable));
+  }
+
+  /**
+   * Scope in which the queries of the current thread may be served by a read replica.
+   */
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+
+  }
+
+  /**
+   * Let the queries run by the current thread until the returned scope is closed be served by the
+   * read replica of the database they use. Meant to be used in a try-with-resources block.
+   *
+   * @return the scope
+   */
+  public static Scope preferReplica() {
+    if (REPLICA_PREFERRED.get()) {
+      // nested scope, the outer one resets the preference
+      return () -> {};
+    }
+    REPLICA_PREFERRED.set(true);
+    return REPLICA_PREFERRED::remove;
+  }
+
+  static boolean isReplicaPreferred() {
+    return REPLICA_PREFERRED.get();
+  }
+
+  /**
+   * Context to run a query on the replica.
+   *
+   * @return the context, empty if the replica is too far behind the primary
+   */
+  public Optional<DSLContext> upToDateContext() {
+    return isUpToDate() ? Optional.of(dslContext) : Optional.empty();
+  }
+
+  private boolean isUpToDate() {
+    final boolean lastUpToDate = upToDate;
+    if (!lagChecked || System.nanoTime() - lagCheckedAtNanos >= lagCheckIntervalNanos) {
+      scheduleLagCheck();
+    }
+    return lastUpToDate;
+  }
+
+  private void scheduleLagCheck() {
+    if (!lagCheckPending.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      lagChecks.execute(() -> {
+        try {
+          checkLag();
+        } finally {
+          lagCheckPending.set(false);
+        }
+      });
+    } catch (final RejectedExecutionException e) {
+      // the replica is closed
+      lagCheckPending.set(false);
+    }
+  }
+
+  /**
+   * Measure the lag of the replica and update whether it is up to date. Only runs on the lag check
+   * thread, or in tests.
+   */
+  @VisibleForTesting
+  void checkLag() {
+    final boolean wasUpToDate = upToDate;
+    upToDate = measureLag().map(lag -> lag.compareTo(maxLag) <= 0).orElse(false);
+    if (lagChecked && upToDate != wasUpToDate) {
+      LOGGER.info(upToDate ? "Read replica caught up, serving reads from the replica" : "Read replica is lagging, serving reads from the primary");
+    }
+    lagChecked = true;
+    lagCheckedAtNanos = System.nanoTime();
+  }
+
+  private Optional<Duration> measureLag() {
+    try {
+      final Number lagSeconds = (Number) dslContext.fetchValue(LAG_SECONDS_QUERY);
+      return Optional.ofNullable(lagSeconds).map(lag -> Duration.ofMillis(Math.round(lag.doubleValue() * 1000)));
+    } catch (final DataAccessException e) {
+      LOGGER.warn("Could not measure the lag of the read replica", e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    lagChecks.shutdownNow();
+    DataSourceFactory.close(dataSource);
+  }
+
+}
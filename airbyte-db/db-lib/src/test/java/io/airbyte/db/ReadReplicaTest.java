@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Runs a primary and a logical replication subscriber. Rows written directly to the subscriber
+ * tell which of the two databases served a query.
+ */
+class ReadReplicaTest {
+
+  private static final String PRIMARY_HOST = "primary";
+  private static final Duration REPLICATION_TIMEOUT = Duration.ofSeconds(30);
+
+  private static Network network;
+  private static PostgreSQLContainer<?> primaryContainer;
+  private static PostgreSQLContainer<?> replicaContainer;
+  private static DataSource primaryDataSource;
+  private static DSLContext primaryCtx;
+  private static DSLContext replicaCtx;
+
+  private ReadReplica readReplica;
+  private Database database;
+
+  @BeforeAll
+  static void dbSetup() {
+    network = Network.newNetwork();
+    primaryContainer = new PostgreSQLContainer<>("postgres:13-alpine")
+        .withNetwork(network)
+        .withNetworkAliases(PRIMARY_HOST)
+        .withCommand("postgres", "-c", "wal_level=logical");
+    replicaContainer = new PostgreSQLContainer<>("postgres:13-alpine")
+        .withNetwork(network);
+    primaryContainer.start();
+    replicaContainer.start();
+
+    primaryDataSource = createDataSource(primaryContainer);
+    primaryCtx = DSLContextFactory.create(primaryDataSource, SQLDialect.POSTGRES);
+    replicaCtx = DSLContextFactory.create(createDataSource(replicaContainer), SQLDialect.POSTGRES);
+
+    final String createTable = "CREATE TABLE connection (id INT PRIMARY KEY, name VARCHAR(256))";
+    primaryCtx.execute(createTable);
+    primaryCtx.execute("CREATE PUBLICATION read_replica_test FOR ALL TABLES");
+    replicaCtx.execute(createTable);
+    replicaCtx.execute(String.format(
+        "CREATE SUBSCRIPTION read_replica_test CONNECTION 'host=%s port=%d dbname=%s user=%s password=%s' PUBLICATION read_replica_test",
+        PRIMARY_HOST, PostgreSQLContainer.POSTGRESQL_PORT, primaryContainer.getDatabaseName(), primaryContainer.getUsername(),
+        primaryContainer.getPassword()));
+  }
+
+  @AfterAll
+  static void dbDown() {
+    replicaContainer.close();
+    primaryContainer.close();
+    network.close();
+  }
+
+  @BeforeEach
+  void setup() throws InterruptedException {
+    replicaCtx.execute("ALTER SUBSCRIPTION read_replica_test ENABLE");
+    primaryCtx.execute("TRUNCATE connection");
+    replicaCtx.execute("DELETE FROM connection");
+    primaryCtx.execute("INSERT INTO connection VALUES (1, 'replicated')");
+    awaitReplicaNames(List.of("replicated"));
+    // only on the replica
+    replicaCtx.execute("INSERT INTO connection VALUES (2, 'replica only')");
+
+    readReplica = new ReadReplica(createDataSource(replicaContainer), Duration.ofMinutes(1), Duration.ofMinutes(1));
+    readReplica.checkLag();
+    database = new Database(primaryCtx, Optional.of(readReplica));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    readReplica.close();
+  }
+
+  @Test
+  void testQueriesRunOnThePrimaryByDefault() throws SQLException {
+    assertEquals(List.of("replicated"), listNames(database));
+  }
+
+  @Test
+  void testQueriesRunOnTheReplicaWithinAScope() throws SQLException {
+    try (final ReadReplica.Scope ignored = ReadReplica.preferReplica()) {
+      assertEquals(List.of("replicated", "replica only"), listNames(database));
+    }
+    // the preference does not outlive the scope
+    assertEquals(List.of("replicated"), listNames(database));
+  }
+
+  @Test
+  void testNestedScopes() throws SQLException {
+    try (final ReadReplica.Scope ignored = ReadReplica.preferReplica()) {
+      try (final ReadReplica.Scope nested = ReadReplica.preferReplica()) {
+        assertEquals(List.of("replicated", "replica only"), listNames(database));
+      }
+      assertEquals(List.of("replicated", "replica only"), listNames(database));
+    }
+    assertEquals(List.of("replicated"), listNames(database));
+  }
+
+  @Test
+  void testTransactionsRunOnThePrimary() throws SQLException {
+    try (final ReadReplica.Scope ignored = ReadReplica.preferReplica()) {
+      assertEquals(List.of("replicated"), database.transaction(ReadReplicaTest::listNames));
+    }
+  }
+
+  @Test
+  void testQueriesRunOnThePrimaryWhenTheReplicaIsNotReplicating() throws SQLException {
+    replicaCtx.execute("ALTER SUBSCRIPTION read_replica_test DISABLE");
+    readReplica.checkLag();
+
+    try (final ReadReplica.Scope ignored = ReadReplica.preferReplica()) {
+      assertEquals(List.of("replicated"), listNames(database));
+    }
+  }
+
+  @Test
+  void testLagIsMeasuredInTheBackground() throws Exception {
+    try (final ReadReplica unmeasured = new ReadReplica(createDataSource(replicaContainer), Duration.ofMinutes(1), Duration.ZERO)) {
+      final Database database = new Database(primaryCtx, Optional.of(unmeasured));
+
+      try (final ReadReplica.Scope ignored = ReadReplica.preferReplica()) {
+        // the first query does not wait for the lag to be measured
+        assertEquals(List.of("replicated"), listNames(database));
+
+        final long deadline = System.nanoTime() + REPLICATION_TIMEOUT.toNanos();
+        while (listNames(database).size() == 1 && System.nanoTime() < deadline) {
+          Thread.sleep(100);
+        }
+        assertEquals(List.of("replicated", "replica only"), listNames(database));
+      }
+    }
+  }
+
+  @Test
+  void testDatabaseWithoutReplica() throws SQLException {
+    final Database primaryOnly = new Database(primaryCtx);
+
+    try (final ReadReplica.Scope ignored = ReadReplica.preferReplica()) {
+      assertEquals(List.of("replicated"), listNames(primaryOnly));
+    }
+  }
+
+  private static List<String> listNames(final Database database) throws SQLException {
+    return database.query(ReadReplicaTest::listNames);
+  }
+
+  private static List<String> listNames(final DSLContext ctx) {
+    return ctx.fetch("SELECT name FROM connection ORDER BY id").getValues(0, String.class);
+  }
+
+  private static void awaitReplicaNames(final List<String> expectedNames) throws InterruptedException {
+    final long deadline = System.nanoTime() + REPLICATION_TIMEOUT.toNanos();
+    while (!expectedNames.equals(listNames(replicaCtx)) && System.nanoTime() < deadline) {
+      Thread.sleep(100);
+    }
+    assertTrue(expectedNames.equals(listNames(replicaCtx)), "the replica did not catch up");
+  }
+
+  private static DataSource createDataSource(final PostgreSQLContainer<?> container) {
+    return DataSourceFactory.create(container.getUsername(), container.getPassword(), container.getDriverClassName(), container.getJdbcUrl());
+  }
+
+}
@@ -12,6 +12,8 @@ dependencies {
   implementation(platform(libs.micronaut.bom))
   implementation(libs.micronaut.inject)
   implementation(libs.launchdarkly)
+  implementation(libs.guava)
+  implementation(libs.micronaut.micrometer.core)
   implementation(libs.jackson.databind)
   implementation(libs.jackson.dataformat)
   implementation(libs.jackson.kotlin)
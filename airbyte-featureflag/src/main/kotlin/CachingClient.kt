@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.featureflag
+
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import io.micronaut.scheduling.instrument.InstrumentedExecutorService
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.Optional
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.atomic.AtomicLong
+
+/** Config key used to enable the [CachingFeatureFlagClient] decorator. */
+internal const val CONFIG_FF_CACHE_ENABLED = "airbyte.feature-flag.cache.enabled"
+
+/** Name of the counter reporting flag evaluations, tagged with where the value was served from. */
+internal const val FF_EVALUATIONS_METRIC = "airbyte.feature_flag.evaluations"
+
+/**
+ * [FeatureFlagClient] decorator that memoizes flag evaluations.
+ *
+ * Evaluations are keyed by flag (key, default and value type) and [Context], and are kept in a
+ * cache that is bounded both in size and age, so a flag change in the underlying client is seen
+ * after at most [ttl]. When the [delegate] is a [ConfigFileClient], the cache is also emptied as
+ * soon as the config file is reloaded.
+ *
+ * Code that evaluates the same flags many times while handling a single request or activity can
+ * wrap that work in [evaluationScope]: evaluations made inside the scope are resolved once and then
+ * stay stable for the rest of the scope, regardless of [ttl].
+ *
+ * [EnvVar] flags are not cached, reading them is already cheap.
+ */
+class CachingFeatureFlagClient(
+  val delegate: FeatureFlagClient,
+  ttl: Duration,
+  maximumSize: Long,
+) : FeatureFlagClient {
+  private val cache: Cache<EvaluationKey, Any> =
+    CacheBuilder.newBuilder()
+      .expireAfterWrite(ttl)
+      .maximumSize(maximumSize)
+      .build()
+
+  private val scope = ThreadLocal<MutableMap<EvaluationKey, Any>>()
+
+  private val scopedHits = AtomicLong()
+  private val cacheHits = AtomicLong()
+  private val delegateEvaluations = AtomicLong()
+
+  init {
+    (delegate as? ConfigFileClient)?.addChangeListener { invalidateAll() }
+  }
+
+  override fun boolVariation(
+    flag: Flag<Boolean>,
+    context: Context,
+  ): Boolean {
+    if (flag is EnvVar) {
+      return delegate.boolVariation(flag, context)
+    }
+    return evaluate(EvaluationKey(flag.key, flag.default, ValueType.BOOL, context)) { delegate.boolVariation(flag, context) }
+  }
+
+  override fun stringVariation(
+    flag: Flag<String>,
+    context: Context,
+  ): String {
+    return evaluate(EvaluationKey(flag.key, flag.default, ValueType.STRING, context)) { delegate.stringVariation(flag, context) }
+  }
+
+  override fun intVariation(
+    flag: Flag<Int>,
+    context: Context,
+  ): Int {
+    return evaluate(EvaluationKey(flag.key, flag.default, ValueType.INT, context)) { delegate.intVariation(flag, context) }
+  }
+
+  /**
+   * Runs [block] with an evaluation scope bound to the current thread. Nested scopes share the
+   * outermost one.
+   */
+  fun <T> evaluationScope(block: () -> T): T {
+    return openEvaluationScope().use { block() }
+  }
+
+  /**
+   * Binds an evaluation scope to the current thread until the returned [EvaluationScope] is closed,
+   * for callers that cannot pass a block. Nested scopes share the outermost one.
+   */
+  fun openEvaluationScope(): EvaluationScope {
+    if (scope.get() != null) {
+      return EvaluationScope.NESTED
+    }
+    scope.set(HashMap())
+    return EvaluationScope { scope.remove() }
+  }
+
+  /**
+   * Removes every cached evaluation. Values already resolved in an open [evaluationScope] are kept.
+   */
+  fun invalidateAll() {
+    cache.invalidateAll()
+  }
+
+  /** Number of evaluations served from an [evaluationScope]. */
+  val scopedHitCount: Long
+    get() = scopedHits.get()
+
+  /** Number of evaluations served from the shared cache. */
+  val cacheHitCount: Long
+    get() = cacheHits.get()
+
+  /** Number of evaluations passed through to the [delegate]. */
+  val delegateEvaluationCount: Long
+    get() = delegateEvaluations.get()
+
+  /**
+   * Registers the evaluation counters with the [registry].
+   */
+  fun bindTo(registry: MeterRegistry) {
+    FunctionCounter.builder(FF_EVALUATIONS_METRIC, this) { it.scopedHitCount.toDouble() }
+      .tag("source", "scope")
+      .register(registry)
+    FunctionCounter.builder(FF_EVALUATIONS_METRIC, this) { it.cacheHitCount.toDouble() }
+      .tag("source", "cache")
+      .register(registry)
+    FunctionCounter.builder(FF_EVALUATIONS_METRIC, this) { it.delegateEvaluationCount.toDouble() }
+      .tag("source", "client")
+      .register(registry)
+  }
+
+  @Suppress("UNCHECKED_CAST")
+  private fun <T : Any> evaluate(
+    key: EvaluationKey,
+    variation: () -> T,
+  ): T {
+    val scoped = scope.get()
+    scoped?.get(key)?.let {
+      scopedHits.incrementAndGet()
+      return it as T
+    }
+
+    val value =
+      cache.getIfPresent(key)?.let {
+        cacheHits.incrementAndGet()
+        it as T
+      } ?: variation().also {
+        delegateEvaluations.incrementAndGet()
+        cache.put(key, it)
+      }
+
+    scoped?.put(key, value)
+    return value
+  }
+
+  private enum class ValueType { BOOL, STRING, INT }
+
+  /** Flags are not data classes, the default is part of the key as it is what a missing flag resolves to. */
+  private data class EvaluationKey(
+    val flagKey: String,
+    val default: Any?,
+    val type: ValueType,
+    val context: Context,
+  )
+
+  companion object {
+    /**
+     * Opens an evaluation scope of [client] if it caches evaluations, see [openEvaluationScope].
+     */
+    @JvmStatic
+    fun openEvaluationScope(client: FeatureFlagClient): EvaluationScope {
+      return (client as? CachingFeatureFlagClient)?.openEvaluationScope() ?: EvaluationScope.NESTED
+    }
+  }
+}
+
+/**
+ * An evaluation scope opened with [CachingFeatureFlagClient.openEvaluationScope], closing it ends the
+ * scope.
+ */
+fun interface EvaluationScope : AutoCloseable {
+  override fun close()
+
+  companion object {
+    /** Returned for nested scopes and non caching clients, closing it does nothing. */
+    internal val NESTED = EvaluationScope {}
+  }
+}
+
+/**
+ * Runs [block] inside an evaluation scope of this client if it caches evaluations, or simply runs it
+ * otherwise. See [CachingFeatureFlagClient.evaluationScope].
+ */
+fun <T> FeatureFlagClient.evaluationScope(block: () -> T): T {
+  return when (this) {
+    is CachingFeatureFlagClient -> evaluationScope(block)
+    else -> block()
+  }
+}
+
+/**
+ * Runs every task of the executors named in `airbyte.feature-flag.cache.scoped-executors` inside an
+ * evaluation scope.
+ *
+ * The HTTP controllers run on the `io` and `scheduler` executors, not on the thread of the request
+ * filters, so scoping their tasks is how the server resolves each flag once per request.
+ */
+@Singleton
+@Requires(property = CONFIG_FF_CACHE_ENABLED, value = "true")
+class FeatureFlagEvaluationScopeInstrumenter(
+  @Value("\${airbyte.feature-flag.cache.scoped-executors:}") private val scopedExecutors: List<String>,
+  private val featureFlagClient: Provider<FeatureFlagClient>,
+) : BeanCreatedEventListener<ExecutorService> {
+  override fun onCreated(event: BeanCreatedEvent<ExecutorService>): ExecutorService {
+    val executor = event.bean
+    // scheduled executors are injected as such, they are left as is
+    if (executor is ScheduledExecutorService || event.beanIdentifier.name !in scopedExecutors) {
+      return executor
+    }
+    return object : InstrumentedExecutorService {
+      override fun getTarget(): ExecutorService = executor
+
+      override fun <T> instrument(task: Callable<T>): Callable<T> = Callable { featureFlagClient.get().evaluationScope { task.call() } }
+
+      override fun instrument(command: Runnable): Runnable = Runnable { featureFlagClient.get().evaluationScope { command.run() } }
+    }
+  }
+}
+
+/**
+ * Wraps the configured [FeatureFlagClient] in a [CachingFeatureFlagClient] when flag caching is
+ * enabled for the application.
+ */
+@Singleton
+@Requires(property = CONFIG_FF_CACHE_ENABLED, value = "true")
+class CachingFeatureFlagClientDecorator(
+  @Value("\${airbyte.feature-flag.cache.ttl:PT30S}") private val ttl: Duration,
+  @Value("\${airbyte.feature-flag.cache.maximum-size:10000}") private val maximumSize: Long,
+  private val meterRegistry: Optional<MeterRegistry>,
+) : BeanCreatedEventListener<FeatureFlagClient> {
+  override fun onCreated(event: BeanCreatedEvent<FeatureFlagClient>): FeatureFlagClient {
+    val client = event.bean
+    // test clients are expected to reflect changes to their values immediately
+    if (client is CachingFeatureFlagClient || client is TestClient) {
+      return client
+    }
+    return CachingFeatureFlagClient(client, ttl, maximumSize).also { caching ->
+      meterRegistry.ifPresent { caching.bindTo(it) }
+    }
+  }
+}
@@ -21,6 +21,7 @@ import java.lang.Thread.MIN_PRIORITY
 import java.nio.file.Path
 import java.nio.file.StandardWatchEventKinds
 import java.nio.file.WatchService
+import java.util.concurrent.CopyOnWriteArrayList
 import java.util.concurrent.locks.ReentrantReadWriteLock
 import kotlin.concurrent.read
 import kotlin.concurrent.thread
@@ -99,6 +100,9 @@ class ConfigFileClient(
   /** lock is used for ensuring access to the flags map is handled correctly when the map is being updated. */
   private val lock = ReentrantReadWriteLock()
 
+  /** listeners called after the [config] has been reloaded. */
+  private val changeListeners = CopyOnWriteArrayList<() -> Unit>()
+
   init {
     config?.also { path ->
       when {
@@ -108,6 +112,7 @@ class ConfigFileClient(
           flags = readConfig(path)
           path.onChange {
             lock.write { flags = readConfig(config) }
+            changeListeners.forEach { it() }
           }
         }
       }
@@ -140,6 +145,13 @@ class ConfigFileClient(
     return flags[flag.key]?.serve(context)?.let { it as? Int } ?: flag.default
   }
 
+  /**
+   * Registers a [listener] to be called every time the [config] file is reloaded.
+   */
+  internal fun addChangeListener(listener: () -> Unit) {
+    changeListeners.add(listener)
+  }
+
   companion object {
     private val log = LoggerFactory.getLogger(ConfigFileClient::class.java)
   }
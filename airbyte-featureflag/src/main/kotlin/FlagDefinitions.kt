@@ -71,6 +71,8 @@ object ConcurrentSourceStreamRead : Temporary<Boolean>(key = "concurrent.source.
 
 object ReplicationWorkerImpl : Permanent<String>(key = "platform.replication-worker-impl", default = "buffered")
 
+object UseVirtualThreadsForReplication : Temporary<Boolean>(key = "platform.use-virtual-threads-for-replication", default = false)
+
 object UseResourceRequirementsVariant : Permanent<String>(key = "platform.resource-requirements-variant", default = "default")
 
 object UseParallelStreamStatsTracker : Temporary<Boolean>(key = "platform.use-parallel-stream-stats-tracker", default = false)
@@ -140,6 +142,12 @@ object FieldSelectionWorkspaces : EnvVar(envVar = "FIELD_SELECTION_WORKSPACES")
 
 object RunSocatInConnectorContainer : Temporary<Boolean>(key = "platform.run-socat-in-connector-container", default = false)
 
+/**
+ * Image of an airbyte application, e.g. the container orchestrator, used to relay the stdio of
+ * connector pods over one multiplexed connection instead of socat. Socat is used when empty.
+ */
+object StdioRelayImage : Temporary<String>(key = "platform.stdio-relay-image", default = "")
+
 object FailSyncIfTooBig : Temporary<Boolean>(key = "platform.fail-sync-if-too-big", default = false)
 
 object DefaultOrgForNewWorkspace : Temporary<Boolean>(key = "platform.set-default-org-for-new-workspace", default = false)
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+package io.airbyte.featureflag
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.inject.BeanIdentifier
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.Test
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+class CachingFeatureFlagClientTest {
+  private val flag = Temporary(key = "test-flag", default = false)
+  private val stringFlag = Temporary(key = "test-string", default = "default")
+  private val intFlag = Temporary(key = "test-int", default = 0)
+  private val workspace = Workspace("workspace")
+
+  @Test
+  fun `repeated evaluations are served from the cache`() {
+    val delegate = CountingClient(mapOf(flag.key to true, stringFlag.key to "value", intFlag.key to 3))
+    val client = CachingFeatureFlagClient(delegate, Duration.ofMinutes(1), 100)
+
+    repeat(3) {
+      assertTrue { client.boolVariation(flag, workspace) }
+      assertEquals("value", client.stringVariation(stringFlag, workspace))
+      assertEquals(3, client.intVariation(intFlag, workspace))
+    }
+
+    assertEquals(3, delegate.evaluations)
+    assertEquals(3, client.delegateEvaluationCount)
+    assertEquals(6, client.cacheHitCount)
+  }
+
+  @Test
+  fun `contexts are cached independently`() {
+    val delegate = CountingClient(mapOf(flag.key to true))
+    val client = CachingFeatureFlagClient(delegate, Duration.ofMinutes(1), 100)
+
+    client.boolVariation(flag, workspace)
+    client.boolVariation(flag, Workspace("other"))
+    client.boolVariation(flag, Multi(listOf(workspace, Connection("connection"))))
+
+    assertEquals(3, delegate.evaluations)
+  }
+
+  @Test
+  fun `entries expire after the ttl`() {
+    val delegate = CountingClient(mapOf(flag.key to true))
+    val client = CachingFeatureFlagClient(delegate, Duration.ofMillis(10), 100)
+
+    client.boolVariation(flag, workspace)
+    TimeUnit.MILLISECONDS.sleep(50)
+    client.boolVariation(flag, workspace)
+
+    assertEquals(2, delegate.evaluations)
+  }
+
+  @Test
+  fun `invalidateAll clears cached evaluations`() {
+    val delegate = CountingClient(mapOf(flag.key to true))
+    val client = CachingFeatureFlagClient(delegate, Duration.ofMinutes(1), 100)
+
+    client.boolVariation(flag, workspace)
+    client.invalidateAll()
+    client.boolVariation(flag, workspace)
+
+    assertEquals(2, delegate.evaluations)
+  }
+
+  @Test
+  fun `evaluation scope keeps values stable`() {
+    val delegate = CountingClient(mapOf(flag.key to true))
+    val client = CachingFeatureFlagClient(delegate, Duration.ofMinutes(1), 100)
+
+    client.evaluationScope {
+      assertTrue { client.boolVariation(flag, workspace) }
+      // even if the cache is emptied, the scope still sees the first evaluation
+      client.invalidateAll()
+      assertTrue { client.boolVariation(flag, workspace) }
+    }
+
+    assertEquals(1, delegate.evaluations)
+    assertEquals(1, client.scopedHitCount)
+  }
+
+  @Test
+  fun `evaluation scope ends when closed`() {
+    val delegate = CountingClient(mapOf(flag.key to true))
+    val client = CachingFeatureFlagClient(delegate, Duration.ofMinutes(1), 100)
+
+    CachingFeatureFlagClient.openEvaluationScope(client).use {
+      client.boolVariation(flag, workspace)
+      CachingFeatureFlagClient.openEvaluationScope(client).use { client.boolVariation(flag, workspace) }
+      client.boolVariation(flag, workspace)
+    }
+    client.boolVariation(flag, workspace)
+
+    // the nested scope shares the outer one, the last evaluation is outside of any scope
+    assertEquals(2, client.scopedHitCount)
+    assertEquals(1, delegate.evaluations)
+    assertEquals(1, client.cacheHitCount)
+  }
+
+  @Test
+  fun `tasks of the scoped executors run in an evaluation scope`() {
+    val client = CachingFeatureFlagClient(CountingClient(mapOf(flag.key to true)), Duration.ofMinutes(1), 100)
+    val instrumenter = FeatureFlagEvaluationScopeInstrumenter(listOf("io")) { client }
+
+    val scheduled = Executors.newSingleThreadScheduledExecutor()
+    val other = Executors.newSingleThreadExecutor()
+    assertSame(scheduled, instrumenter.onCreated(executorCreated("io", scheduled)))
+    assertSame(other, instrumenter.onCreated(executorCreated("health", other)))
+
+    val io = instrumenter.onCreated(executorCreated("io", Executors.newSingleThreadExecutor()))
+    io.submit(
+      Runnable {
+        client.boolVariation(flag, workspace)
+        client.boolVariation(flag, workspace)
+      },
+    ).get()
+
+    assertEquals(1, client.scopedHitCount)
+    listOf(scheduled, other, io).forEach { it.shutdown() }
+  }
+
+  @Test
+  fun `evaluation scope is a no-op for non caching clients`() {
+    val client: FeatureFlagClient = CountingClient(mapOf(flag.key to true))
+    assertTrue { client.evaluationScope { client.boolVariation(flag, workspace) } }
+  }
+
+  @Test
+  fun `env var flags are not cached`() {
+    val envVar = EnvVar(envVar = "env-var-flag")
+    val delegate = CountingClient(mapOf(envVar.key to "true"))
+    val client = CachingFeatureFlagClient(delegate, Duration.ofMinutes(1), 100)
+
+    client.boolVariation(envVar, workspace)
+    client.boolVariation(envVar, workspace)
+
+    assertEquals(2, delegate.evaluations)
+  }
+
+  @Test
+  fun `works with the config file client`() {
+    val cfg = Path.of("src", "test", "resources", "flags.yml")
+    val client = CachingFeatureFlagClient(ConfigFileClient(cfg), Duration.ofMinutes(1), 100)
+
+    assertTrue { client.boolVariation(Temporary(key = "test-true", default = false), workspace) }
+    assertFalse { client.boolVariation(Temporary(key = "test-false", default = true), workspace) }
+    assertEquals("example", client.stringVariation(Temporary(key = "test-string", default = "not returned"), workspace))
+  }
+
+  @Test
+  fun `evaluation counts are reported`() {
+    val registry = SimpleMeterRegistry()
+    val client = CachingFeatureFlagClient(CountingClient(mapOf()), Duration.ofMinutes(1), 100)
+    client.bindTo(registry)
+
+    client.boolVariation(flag, workspace)
+    client.boolVariation(flag, workspace)
+
+    assertEquals(1.0, registry.get(FF_EVALUATIONS_METRIC).tag("source", "client").functionCounter().count())
+    assertEquals(1.0, registry.get(FF_EVALUATIONS_METRIC).tag("source", "cache").functionCounter().count())
+  }
+}
+
+private fun executorCreated(
+  name: String,
+  executor: ExecutorService,
+): BeanCreatedEvent<ExecutorService> {
+  val event: BeanCreatedEvent<ExecutorService> = mockk()
+  every { event.bean } returns executor
+  every { event.beanIdentifier } returns BeanIdentifier.of(name)
+  return event
+}
+
+private class CountingClient(values: Map<String, Any>) : TestClient(values) {
+  var evaluations = 0
+
+  override fun boolVariation(
+    flag: Flag<Boolean>,
+    context: Context,
+  ): Boolean {
+    evaluations++
+    return super.boolVariation(flag, context)
+  }
+
+  override fun stringVariation(
+    flag: Flag<String>,
+    context: Context,
+  ): String {
+    evaluations++
+    return super.stringVariation(flag, context)
+  }
+
+  override fun intVariation(
+    flag: Flag<Int>,
+    context: Context,
+  ): Int {
+    evaluations++
+    return super.intVariation(flag, context)
+  }
+}
@@ -40,5 +40,7 @@ dependencies {
     testImplementation((variantOf(libs.opentracing.util) { classifier("tests") }))
 
     testImplementation(libs.junit.pioneer)
+    testImplementation(libs.jmh.core)
+    testAnnotationProcessor(libs.jmh.annotations)
 
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+/**
+ * A metric series (metric and attributes) resolved once by {@link MetricClient#bind}, for callers
+ * that emit the same series repeatedly.
+ */
+public interface BoundMetric {
+
+  /**
+   * Increment or decrement the counter.
+   *
+   * @param val to record.
+   */
+  void add(long val);
+
+  /**
+   * Record the latest value of the gauge.
+   *
+   * @param val to record.
+   */
+  void gauge(double val);
+
+  /**
+   * Record a value in the distribution.
+   *
+   * @param val to record.
+   */
+  void record(double val);
+
+}
@@ -39,6 +39,35 @@ public interface MetricClient {
    */
   void distribution(MetricsRegistry metric, double val, final MetricAttribute... attributes);
 
+  /**
+   * Bind a metric to a set of attributes. The returned series can be reused to emit values without
+   * resolving the metric and attributes again.
+   *
+   * @param metric dd metric
+   * @param attributes additional attributes
+   * @return the bound series
+   */
+  default BoundMetric bind(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    return new BoundMetric() {
+
+      @Override
+      public void add(final long val) {
+        count(metric, val, attributes);
+      }
+
+      @Override
+      public void gauge(final double val) {
+        MetricClient.this.gauge(metric, val, attributes);
+      }
+
+      @Override
+      public void record(final double val) {
+        distribution(metric, val, attributes);
+      }
+
+    };
+  }
+
   /*
    * Reset initialization. Can be used in a unit test to reset metric client state.
    */
@@ -27,9 +27,10 @@ import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of the {@link MetricClient} that sends the provided metric data to an
@@ -40,69 +41,91 @@ import java.util.Map;
  */
 public class OpenTelemetryMetricClient implements MetricClient {
 
+  // above this many distinct attribute combinations, attributes are built per call instead of cached
+  private static final int MAX_CACHED_ATTRIBUTE_SETS = 10_000;
+
   private Meter meter;
   private SdkMeterProvider meterProvider;
 
-  private final Map<String, ObservableDoubleGauge> gauges = new HashMap<>();
-  private final Map<String, Map<Attributes, Double>> gaugeValues = Collections.synchronizedMap(new HashMap<>());
+  // instruments are created once per metric name and reused for every emission
+  private final Map<String, LongCounter> counters = new ConcurrentHashMap<>();
+  private final Map<String, DoubleHistogram> histograms = new ConcurrentHashMap<>();
+  private final Map<String, ObservableDoubleGauge> gauges = new ConcurrentHashMap<>();
+  private final Map<String, Map<Attributes, Double>> gaugeValues = new ConcurrentHashMap<>();
+  private final Map<List<MetricAttribute>, Attributes> attributeSets = new ConcurrentHashMap<>();
 
   @Override
   public void count(final MetricsRegistry metric, final long val, final MetricAttribute... attributes) {
-    final LongCounter counter = meter
-        .counterBuilder(metric.getMetricName())
-        .setDescription(metric.getMetricDescription())
-        .build();
-
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    counter.add(val, attributesBuilder.build());
+    counter(metric).add(val, toAttributes(attributes));
   }
 
   @Override
   public void gauge(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
+    gaugeValues(metric).put(toAttributes(attributes), val);
+  }
+
+  @Override
+  public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
+    histogram(metric).record(val, toAttributes(attributes));
+  }
+
+  @Override
+  public BoundMetric bind(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final Attributes attr = toAttributes(attributes);
+    return new BoundMetric() {
+
+      @Override
+      public void add(final long val) {
+        counter(metric).add(val, attr);
+      }
+
+      @Override
+      public void gauge(final double val) {
+        gaugeValues(metric).put(attr, val);
+      }
+
+      @Override
+      public void record(final double val) {
+        histogram(metric).record(val, attr);
+      }
+
+    };
+  }
+
+  private LongCounter counter(final MetricsRegistry metric) {
+    return counters.computeIfAbsent(metric.getMetricName(), name -> meter
+        .counterBuilder(name)
+        .setDescription(metric.getMetricDescription())
+        .build());
+  }
+
+  private DoubleHistogram histogram(final MetricsRegistry metric) {
+    return histograms.computeIfAbsent(metric.getMetricName(), name -> meter
+        .histogramBuilder(name)
+        .setDescription(metric.getMetricDescription())
+        .build());
+  }
+
+  private Map<Attributes, Double> gaugeValues(final MetricsRegistry metric) {
     /*
      * The Gauge builder in the OpenTelemetry Java SDK can only collect gauge values asynchronously via
      * a callback.
      *
-     * This implementation uses the sync map to ensure gauges are defined only once. It creates a
-     * synchronized map which can be updated by subsequent calls without redefining the gauge.
-     *
      * This sort-of a hack: OpenTelemetry expects you to define your gauge up-front and provide a
      * callback that the SDK will call periodically. However, this API does not conform to the
      * MetricClient interface. Without some refactoring of the client interface, this adapter is
-     * necessary.
+     * necessary. Each gauge is registered once, with a callback reading the latest value recorded
+     * for each attribute set.
      */
-    final Attributes attr = buildAttributes(attributes).build();
-    final String name = metric.getMetricName();
-    synchronized (gauges) { // sync so we don't create the same gauge concurrently
-      if (!gauges.containsKey(name)) {
-        // create an in-memory sync map for reading the latest value given the attribute set
-        final var valueMap = Collections.synchronizedMap(new HashMap<Attributes, Double>());
-        gaugeValues.put(name, valueMap); // Register this in-memory map with this gauge
-        valueMap.put(attr, val); // Must insert the initial value so the callback will see it on its first poll
-
-        // Build the gauge with a callback that reads from the sync map to get the current values for each
-        // attribute set
-        // The OpenTelemetry SDK will call this periodically to read the current values.
-        final var gauge = meter.gaugeBuilder(name).setDescription(metric.getMetricDescription()).buildWithCallback(measurement -> {
-          for (final Map.Entry<Attributes, Double> entry : valueMap.entrySet()) {
-            measurement.record(entry.getValue(), entry.getKey());
-          }
-        });
-        gauges.put(name, gauge);
-        return;
-      }
-    }
-    // This is outside the sync block since we don't need to create a new gauge/gaugeValues map
-    // and at this point they are both guaranteed to exist.
-    final var valueMap = gaugeValues.get(name);
-    valueMap.put(attr, val);
-  }
-
-  @Override
-  public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
-    final DoubleHistogram histogramMeter = meter.histogramBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription()).build();
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    histogramMeter.record(val, attributesBuilder.build());
+    return gaugeValues.computeIfAbsent(metric.getMetricName(), name -> {
+      final Map<Attributes, Double> valueMap = new ConcurrentHashMap<>();
+      gauges.put(name, meter.gaugeBuilder(name).setDescription(metric.getMetricDescription()).buildWithCallback(measurement -> {
+        for (final Map.Entry<Attributes, Double> entry : valueMap.entrySet()) {
+          measurement.record(entry.getValue(), entry.getKey());
+        }
+      }));
+      return valueMap;
+    });
   }
 
   /**
@@ -155,17 +178,35 @@ public class OpenTelemetryMetricClient implements MetricClient {
   @Override
   public void shutdown() {
     resetForTest();
-    closeGauges();
+    closeInstruments();
   }
 
-  private void closeGauges() {
-    synchronized (gauges) {
-      for (final Map.Entry<String, ObservableDoubleGauge> entry : gauges.entrySet()) {
-        entry.getValue().close();
-      }
-      gauges.clear();
-      gaugeValues.clear();
+  private void closeInstruments() {
+    for (final ObservableDoubleGauge gauge : gauges.values()) {
+      gauge.close();
+    }
+    gauges.clear();
+    gaugeValues.clear();
+    counters.clear();
+    histograms.clear();
+    attributeSets.clear();
+  }
+
+  private Attributes toAttributes(final MetricAttribute... attributes) {
+    if (attributes.length == 0) {
+      return Attributes.empty();
+    }
+    final List<MetricAttribute> key = Arrays.asList(attributes);
+    final Attributes cached = attributeSets.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    final Attributes built = buildAttributes(attributes).build();
+    if (attributeSets.size() < MAX_CACHED_ATTRIBUTE_SETS) {
+      // copy the key, the caller owns the varargs array
+      attributeSets.putIfAbsent(List.of(attributes), built);
     }
+    return built;
   }
 
   private AttributesBuilder buildAttributes(final MetricAttribute... attributes) {
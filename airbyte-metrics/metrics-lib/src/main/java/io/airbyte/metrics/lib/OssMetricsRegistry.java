@@ -122,6 +122,16 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       MetricEmittingApps.CRON, // Actually `cron` or `bootloader` based on which metric client calls the code
       "connector_registry_definition_processed",
       "increments when a connector registry definition is processed by the ApplyDefinitionsHelper"),
+  CONNECTOR_REGISTRY_DEFINITIONS_APPLY_DURATION(
+      MetricEmittingApps.CRON, // Actually `cron` or `bootloader` based on which metric client calls the code
+      "connector_registry_definitions_apply_duration",
+      "duration of a step of applying the connector registry definitions, in milliseconds"),
+  DISCOVER_CATALOG_CACHE_LOOKUP(MetricEmittingApps.SERVER,
+      "discover_catalog_cache_lookup",
+      "number of lookups of a discovered catalog by status: hit, stale_hit, miss, expired or bypassed"),
+  DISCOVER_CATALOG_CACHE_REFRESH(MetricEmittingApps.SERVER,
+      "discover_catalog_cache_refresh",
+      "number of background discovers run to refresh a stale catalog, by status: succeeded, failed or skipped"),
   EST_NUM_METRICS_EMITTED_BY_REPORTER(
       MetricEmittingApps.METRICS_REPORTER,
       "est_num_metrics_emitted_by_reporter",
@@ -325,6 +335,9 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   SCHEMA_CHANGE_AUTO_PROPAGATED(MetricEmittingApps.SERVER,
       "schema_change_auto_propagated",
       "a schema change have been propagated"),
+  SCHEMA_CHANGE_PROPAGATION_LATENCY(MetricEmittingApps.SERVER,
+      "schema_change_propagation_latency",
+      "time to propagate a schema change to all the connections of a source, in milliseconds"),
   WORKER_DESTINATION_BUFFER_SIZE(MetricEmittingApps.WORKER,
       "worker_destination_buffer_size",
       "the size of the replication worker destination buffer queue"),
@@ -370,9 +383,27 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   WORKLOADS_CANCEL(MetricEmittingApps.CRON,
       "workload_cancel",
       "number of workloads canceled"),
+  WORKSPACE_CLEANER_FILES_DELETED(MetricEmittingApps.CRON,
+      "workspace_cleaner_files_deleted",
+      "number of files deleted from the workspace by the workspace cleaner"),
+  WORKSPACE_CLEANER_BYTES_FREED(MetricEmittingApps.CRON,
+      "workspace_cleaner_bytes_freed",
+      "number of bytes freed in the workspace by the workspace cleaner"),
   NOTIFICATIONS_SENT(MetricEmittingApps.WORKER,
       "notifications_sent",
       "number of notifications sent"),
+  NOTIFICATIONS_FAILED(MetricEmittingApps.WORKER,
+      "notifications_failed",
+      "number of notifications that could not be delivered after all retries"),
+  NOTIFICATIONS_DROPPED(MetricEmittingApps.WORKER,
+      "notifications_dropped",
+      "number of notifications dropped because the dispatch queue was full"),
+  NOTIFICATION_DELIVERY_RETRIED(MetricEmittingApps.WORKER,
+      "notification_delivery_retried",
+      "number of notification deliveries retried"),
+  NOTIFICATION_DELIVERY_LATENCY(MetricEmittingApps.WORKER,
+      "notification_delivery_latency",
+      "time between the submission of a notification and its delivery, in milliseconds"),
   NON_AIRBYTE_MESSAGE_LOG_LINE(MetricEmittingApps.WORKER,
       "non_airbyte_message_log_line",
       "non airbyte message log"),
@@ -110,4 +110,45 @@ class OpenTelemetryMetricClientTest {
     assertThat(data.getHistogramData().getPoints().stream().anyMatch(histogramPointData -> histogramPointData.getMin() == 10.0));
   }
 
+  @Test
+  @DisplayName("Bound metrics should emit on the bound series")
+  void testBoundCount() {
+    final BoundMetric bound = openTelemetryMetricClient.bind(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, new MetricAttribute(TAG, TAG));
+    bound.add(2);
+    bound.add(3);
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 1);
+
+    metricProvider.forceFlush();
+    final List<MetricData> metricDataList = metricExporter.getFinishedMetricItems();
+    final MetricData data = Iterables.getOnlyElement(metricDataList);
+
+    assertThat(data.getLongSumData().getPoints().size()).isEqualTo(2);
+    assertThat(data.getLongSumData().getPoints().stream()
+        .anyMatch(
+            longPointData -> longPointData.getValue() == 5L && TAG.equals(longPointData.getAttributes().get(AttributeKey.stringKey(TAG)))))
+        .isTrue();
+    assertThat(data.getLongSumData().getPoints().stream()
+        .anyMatch(longPointData -> longPointData.getValue() == 1L && longPointData.getAttributes().isEmpty()))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("Gauges should report the latest value of each attribute set")
+  void testGaugePerAttributes() {
+    openTelemetryMetricClient.gauge(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 3, new MetricAttribute(TAG, "a"));
+    openTelemetryMetricClient.gauge(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 2, new MetricAttribute(TAG, "b"));
+    openTelemetryMetricClient.gauge(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 1, new MetricAttribute(TAG, "a"));
+
+    metricProvider.forceFlush();
+    final MetricData data = Iterables.getOnlyElement(metricExporter.getFinishedMetricItems());
+
+    assertThat(data.getDoubleGaugeData().getPoints().size()).isEqualTo(2);
+    assertThat(data.getDoubleGaugeData().getPoints().stream()
+        .anyMatch(point -> point.getValue() == 1.0 && "a".equals(point.getAttributes().get(AttributeKey.stringKey(TAG)))))
+        .isTrue();
+    assertThat(data.getDoubleGaugeData().getPoints().stream()
+        .anyMatch(point -> point.getValue() == 2.0 && "b".equals(point.getAttributes().get(AttributeKey.stringKey(TAG)))))
+        .isTrue();
+  }
+
 }
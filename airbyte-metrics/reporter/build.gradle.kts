@@ -21,6 +21,7 @@ dependencies {
     implementation(platform(libs.micronaut.bom))
     implementation(libs.bundles.micronaut)
 
+    implementation(project(":airbyte-commons-micronaut"))
     implementation(project(":airbyte-config:config-models"))
     implementation(project(":airbyte-db:jooq"))
     implementation(project(":airbyte-db:db-lib"))
@@ -19,9 +19,9 @@ import org.slf4j.LoggerFactory;
 @Singleton
 final class NumPendingJobs extends Emitter {
 
-  public NumPendingJobs(final MetricClient client, final MetricRepository db) {
+  public NumPendingJobs(final MetricClient client, final JobStateTracker jobs) {
     super(client, () -> {
-      db.numberOfPendingJobsByGeography().forEach((geography, count) -> client.gauge(
+      jobs.numberOfPendingJobsByGeography().forEach((geography, count) -> client.gauge(
           OssMetricsRegistry.NUM_PENDING_JOBS,
           count,
           new MetricAttribute(MetricTags.GEOGRAPHY, geography)));
@@ -36,9 +36,9 @@ final class NumPendingJobs extends Emitter {
 @Singleton
 final class NumRunningJobs extends Emitter {
 
-  public NumRunningJobs(final MetricClient client, final MetricRepository db) {
+  public NumRunningJobs(final MetricClient client, final JobStateTracker jobs) {
     super(client, () -> {
-      db.numberOfRunningJobsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
+      jobs.numberOfRunningJobsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
           OssMetricsRegistry.NUM_RUNNING_JOBS,
           count,
           new MetricAttribute(MetricTags.ATTEMPT_QUEUE, attemptQueue)));
@@ -52,9 +52,9 @@ final class NumRunningJobs extends Emitter {
 @Singleton
 final class NumOrphanRunningJobs extends Emitter {
 
-  NumOrphanRunningJobs(final MetricClient client, final MetricRepository db) {
+  NumOrphanRunningJobs(final MetricClient client, final JobStateTracker jobs) {
     super(client, () -> {
-      final var orphaned = db.numberOfOrphanRunningJobs();
+      final var orphaned = jobs.numberOfOrphanRunningJobs();
       client.gauge(OssMetricsRegistry.NUM_ORPHAN_RUNNING_JOBS, orphaned);
       return null;
     });
@@ -66,9 +66,9 @@ final class NumOrphanRunningJobs extends Emitter {
 @Singleton
 final class OldestRunningJob extends Emitter {
 
-  OldestRunningJob(final MetricClient client, final MetricRepository db) {
+  OldestRunningJob(final MetricClient client, final JobStateTracker jobs) {
     super(client, () -> {
-      db.oldestRunningJobAgeSecsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
+      jobs.oldestRunningJobAgeSecsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
           OssMetricsRegistry.OLDEST_RUNNING_JOB_AGE_SECS,
           count,
           new MetricAttribute(MetricTags.ATTEMPT_QUEUE, attemptQueue)));
@@ -82,9 +82,9 @@ final class OldestRunningJob extends Emitter {
 @Singleton
 final class OldestPendingJob extends Emitter {
 
-  OldestPendingJob(final MetricClient client, final MetricRepository db) {
+  OldestPendingJob(final MetricClient client, final JobStateTracker jobs) {
     super(client, () -> {
-      db.oldestPendingJobAgeSecsByGeography().forEach((geographyType, count) -> client.gauge(
+      jobs.oldestPendingJobAgeSecsByGeography().forEach((geographyType, count) -> client.gauge(
           OssMetricsRegistry.OLDEST_PENDING_JOB_AGE_SECS,
           count,
           new MetricAttribute(MetricTags.GEOGRAPHY, geographyType)));
@@ -171,9 +171,9 @@ final class TotalScheduledSyncs extends Emitter {
 @Singleton
 final class TotalJobRuntimeByTerminalState extends Emitter {
 
-  public TotalJobRuntimeByTerminalState(final MetricClient client, final MetricRepository db) {
+  public TotalJobRuntimeByTerminalState(final MetricClient client, final JobStateTracker jobs) {
     super(client, () -> {
-      db.overallJobRuntimeForTerminalJobsInLastHour()
+      jobs.overallJobRuntimeForTerminalJobsInLastHour()
           .forEach((jobStatus, time) -> client.distribution(
               OssMetricsRegistry.OVERALL_JOB_RUNTIME_IN_LAST_HOUR_BY_TERMINAL_STATE_SECS,
               time,
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.reporter;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+
+import io.airbyte.db.instance.configs.jooq.generated.enums.GeographyType;
+import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
+import io.airbyte.db.instance.jobs.jooq.generated.enums.AttemptStatus;
+import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.lang.invoke.MethodHandles;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the job state metrics (pending/running jobs and terminal job runtimes) from an in-memory
+ * model of the active jobs instead of aggregating the whole jobs table on every emission.
+ * <p>
+ * The model is loaded once, then kept up to date from the job status transitions: each refresh
+ * only reads the jobs created since the previous one (primary key range) and the jobs that are
+ * still tracked as active (primary key lookup), plus the running attempts of the running jobs. Jobs
+ * that reach a terminal status move to a one-hour window used for the runtime distribution. The
+ * emitters then read the aggregates without touching the database.
+ * <p>
+ * When disabled, every method falls back to the corresponding {@link MetricRepository} query.
+ */
+@Singleton
+class JobStateTracker {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Set<JobStatus> ACTIVE_STATUSES = Set.of(JobStatus.pending, JobStatus.running, JobStatus.incomplete);
+  private static final Set<JobStatus> TERMINAL_STATUSES = Set.of(JobStatus.failed, JobStatus.succeeded, JobStatus.cancelled);
+  private static final Duration TERMINAL_WINDOW = Duration.ofHours(1);
+  private static final Duration FULL_RELOAD_INTERVAL = Duration.ofMinutes(30);
+  // ids are allocated before the creating transaction commits, so a job can become visible after a
+  // job with a higher id. Looking back a few ids past the high-water mark catches those.
+  private static final long ID_LOOKBACK = 100;
+
+  private final DSLContext ctx;
+  private final MetricRepository db;
+  private final boolean enabled;
+  private final Duration refreshInterval;
+  private final Clock clock;
+
+  private final Map<Long, TrackedJob> activeJobs = new HashMap<>();
+  private final Deque<TerminalJob> recentTerminalJobs = new ArrayDeque<>();
+  private final Set<Long> recentTerminalJobIds = new HashSet<>();
+  private long maxJobId;
+  private Instant lastRefresh;
+  private Instant lastFullReload;
+
+  @Inject
+  JobStateTracker(final DSLContext ctx,
+                  final MetricRepository db,
+                  @Value("${airbyte.metrics.reporter.job-state-tracker.enabled:true}") final boolean enabled,
+                  @Value("${airbyte.metrics.reporter.job-state-tracker.refresh-interval:10s}") final Duration refreshInterval) {
+    this(ctx, db, enabled, refreshInterval, Clock.systemUTC());
+  }
+
+  JobStateTracker(final DSLContext ctx,
+                  final MetricRepository db,
+                  final boolean enabled,
+                  final Duration refreshInterval,
+                  final Clock clock) {
+    this.ctx = ctx;
+    this.db = db;
+    this.enabled = enabled;
+    this.refreshInterval = refreshInterval;
+    this.clock = clock;
+  }
+
+  Map<String, Integer> numberOfPendingJobsByGeography() {
+    if (!enabled) {
+      return db.numberOfPendingJobsByGeography();
+    }
+    final Map<String, Integer> result = new HashMap<>();
+    for (final TrackedJob job : snapshot(job -> job.status == JobStatus.pending && job.geography != null)) {
+      result.merge(job.geography.getLiteral(), 1, Integer::sum);
+    }
+    MetricRepository.REGISTERED_GEOGRAPHY.forEach(geography -> result.putIfAbsent(geography, 0));
+    return result;
+  }
+
+  Map<String, Integer> numberOfRunningJobsByTaskQueue() {
+    if (!enabled) {
+      return db.numberOfRunningJobsByTaskQueue();
+    }
+    final Map<String, Integer> result = new HashMap<>();
+    for (final TrackedJob job : snapshot(job -> job.status == JobStatus.running && job.connectionStatus == StatusType.active)) {
+      job.runningAttemptQueues.forEach(queue -> result.merge(queue, 1, Integer::sum));
+    }
+    MetricRepository.REGISTERED_ATTEMPT_QUEUE.forEach(queue -> result.putIfAbsent(queue, 0));
+    return result;
+  }
+
+  int numberOfOrphanRunningJobs() {
+    if (!enabled) {
+      return db.numberOfOrphanRunningJobs();
+    }
+    return snapshot(job -> job.status == JobStatus.running && job.connectionStatus != null && job.connectionStatus != StatusType.active).size();
+  }
+
+  Map<String, Double> oldestPendingJobAgeSecsByGeography() {
+    if (!enabled) {
+      return db.oldestPendingJobAgeSecsByGeography();
+    }
+    final Map<String, Double> result = new HashMap<>();
+    final Instant now = clock.instant();
+    for (final TrackedJob job : snapshot(job -> job.status == JobStatus.pending && job.geography != null)) {
+      result.merge(job.geography.getLiteral(), ageSecs(job, now), Math::max);
+    }
+    MetricRepository.REGISTERED_GEOGRAPHY.forEach(geography -> result.putIfAbsent(geography, 0.0));
+    return result;
+  }
+
+  Map<String, Double> oldestRunningJobAgeSecsByTaskQueue() {
+    if (!enabled) {
+      return db.oldestRunningJobAgeSecsByTaskQueue();
+    }
+    final Map<String, Double> result = new HashMap<>();
+    final Instant now = clock.instant();
+    for (final TrackedJob job : snapshot(job -> job.status == JobStatus.running)) {
+      final double age = ageSecs(job, now);
+      job.runningAttemptQueues.forEach(queue -> result.merge(queue, age, Math::max));
+    }
+    MetricRepository.REGISTERED_ATTEMPT_QUEUE.forEach(queue -> result.putIfAbsent(queue, 0.0));
+    return result;
+  }
+
+  Map<JobStatus, Double> overallJobRuntimeForTerminalJobsInLastHour() {
+    if (!enabled) {
+      return db.overallJobRuntimeForTerminalJobsInLastHour();
+    }
+    final Map<JobStatus, Double> result = new HashMap<>();
+    synchronized (this) {
+      refreshIfStale();
+      pruneTerminalJobs();
+      recentTerminalJobs.forEach(job -> result.put(job.status, job.runtimeSecs));
+    }
+    return result;
+  }
+
+  /**
+   * Bring the model up to date with the database, regardless of when it was last refreshed.
+   */
+  synchronized void refresh() {
+    final Instant now = clock.instant();
+    if (lastFullReload == null || Duration.between(lastFullReload, now).compareTo(FULL_RELOAD_INTERVAL) >= 0) {
+      reload(now);
+    } else {
+      applyTransitions();
+      pruneTerminalJobs();
+    }
+    refreshRunningAttempts();
+    lastRefresh = now;
+  }
+
+  private synchronized List<TrackedJob> snapshot(final Predicate<TrackedJob> filter) {
+    refreshIfStale();
+    return activeJobs.values().stream().filter(filter).toList();
+  }
+
+  private void refreshIfStale() {
+    if (lastRefresh == null || Duration.between(lastRefresh, clock.instant()).compareTo(refreshInterval) >= 0) {
+      refresh();
+    }
+  }
+
+  /**
+   * Rebuild the model from scratch: the active jobs, plus the jobs that reached a terminal status in
+   * the last hour.
+   */
+  private void reload(final Instant now) {
+    activeJobs.clear();
+    recentTerminalJobs.clear();
+    recentTerminalJobIds.clear();
+
+    final Long highestId = ctx.select(max(JOBS.ID)).from(JOBS).fetchOne(0, Long.class);
+    maxJobId = highestId == null ? 0 : highestId;
+
+    final OffsetDateTime windowStart = OffsetDateTime.ofInstant(now.minus(TERMINAL_WINDOW), clock.getZone());
+    final Condition recentlyTerminal = JOBS.STATUS.in(TERMINAL_STATUSES).and(JOBS.UPDATED_AT.ge(windowStart));
+    fetchJobs(JOBS.ID.le(maxJobId).and(JOBS.STATUS.in(ACTIVE_STATUSES).or(recentlyTerminal))).forEach(this::apply);
+
+    lastFullReload = now;
+    log.info("Loaded {} active jobs and {} recently terminated jobs", activeJobs.size(), recentTerminalJobs.size());
+  }
+
+  /**
+   * Pick up the jobs created since the last refresh and the status changes of the tracked jobs.
+   */
+  private void applyTransitions() {
+    final Long[] trackedIds = activeJobs.keySet().toArray(new Long[0]);
+    final Condition newJobs = JOBS.ID.gt(maxJobId - ID_LOOKBACK);
+    final Condition condition = trackedIds.length == 0 ? newJobs : newJobs.or(JOBS.ID.eq(DSL.any(trackedIds)));
+
+    final Set<Long> seen = new HashSet<>();
+    for (final Record record : fetchJobs(condition)) {
+      seen.add(record.get(JOBS.ID));
+      apply(record);
+    }
+    // jobs are not expected to be deleted, but stop tracking them if they are
+    for (final Long id : trackedIds) {
+      if (!seen.contains(id)) {
+        activeJobs.remove(id);
+      }
+    }
+  }
+
+  private List<? extends Record> fetchJobs(final Condition condition) {
+    return ctx.select(JOBS.ID, JOBS.STATUS, JOBS.CREATED_AT, JOBS.UPDATED_AT, CONNECTION.GEOGRAPHY, CONNECTION.STATUS)
+        .from(JOBS)
+        .leftJoin(CONNECTION)
+        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
+        .where(condition)
+        .fetch();
+  }
+
+  private void apply(final Record record) {
+    final long id = record.get(JOBS.ID);
+    final JobStatus status = record.get(JOBS.STATUS);
+    final OffsetDateTime createdAt = record.get(JOBS.CREATED_AT);
+    maxJobId = Math.max(maxJobId, id);
+
+    if (ACTIVE_STATUSES.contains(status)) {
+      activeJobs.put(id, new TrackedJob(status, createdAt.toInstant(), record.get(CONNECTION.GEOGRAPHY), record.get(CONNECTION.STATUS)));
+      return;
+    }
+
+    activeJobs.remove(id);
+    final OffsetDateTime updatedAt = record.get(JOBS.UPDATED_AT);
+    if (TERMINAL_STATUSES.contains(status) && !recentTerminalJobIds.contains(id)
+        && !updatedAt.toInstant().isBefore(clock.instant().minus(TERMINAL_WINDOW))) {
+      final double runtimeSecs = Duration.between(createdAt, updatedAt).toMillis() / 1000.0;
+      recentTerminalJobs.addLast(new TerminalJob(id, status, runtimeSecs, updatedAt.toInstant()));
+      recentTerminalJobIds.add(id);
+    }
+  }
+
+  private void refreshRunningAttempts() {
+    final List<Long> runningIds = activeJobs.entrySet().stream()
+        .filter(e -> e.getValue().status == JobStatus.running)
+        .map(Map.Entry::getKey)
+        .toList();
+    final Map<Long, List<String>> queuesByJob = new HashMap<>();
+    if (!runningIds.isEmpty()) {
+      ctx.select(ATTEMPTS.JOB_ID, ATTEMPTS.PROCESSING_TASK_QUEUE)
+          .from(ATTEMPTS)
+          .where(ATTEMPTS.JOB_ID.eq(DSL.any(runningIds.toArray(new Long[0]))))
+          .and(ATTEMPTS.STATUS.eq(AttemptStatus.running))
+          .fetch()
+          .forEach(r -> queuesByJob.computeIfAbsent(r.value1(), id -> new ArrayList<>()).add(r.value2()));
+    }
+    // swap in new lists rather than mutating, snapshots are read outside of the lock
+    activeJobs.forEach((id, job) -> job.runningAttemptQueues = queuesByJob.getOrDefault(id, List.of()));
+  }
+
+  private void pruneTerminalJobs() {
+    final Instant windowStart = clock.instant().minus(TERMINAL_WINDOW);
+    // the window is ordered by observation, which follows updated_at closely enough to stop at the
+    // first job still inside it
+    while (!recentTerminalJobs.isEmpty() && recentTerminalJobs.peekFirst().updatedAt.isBefore(windowStart)) {
+      recentTerminalJobIds.remove(recentTerminalJobs.pollFirst().jobId);
+    }
+  }
+
+  private static double ageSecs(final TrackedJob job, final Instant now) {
+    return Duration.between(job.createdAt, now).toMillis() / 1000.0;
+  }
+
+  private static final class TrackedJob {
+
+    private final JobStatus status;
+    private final Instant createdAt;
+    private final GeographyType geography;
+    private final StatusType connectionStatus;
+    private volatile List<String> runningAttemptQueues = List.of();
+
+    private TrackedJob(final JobStatus status, final Instant createdAt, final GeographyType geography, final StatusType connectionStatus) {
+      this.status = status;
+      this.createdAt = createdAt;
+      this.geography = geography;
+      this.connectionStatus = connectionStatus;
+    }
+
+  }
+
+  private record TerminalJob(long jobId, JobStatus status, double runtimeSecs, Instant updatedAt) {}
+
+}
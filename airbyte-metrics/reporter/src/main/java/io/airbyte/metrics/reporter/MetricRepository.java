@@ -12,13 +12,16 @@ import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.SQLDataType.VARCHAR;
 
+import io.airbyte.db.ReadReplica;
 import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.AttemptStatus;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
@@ -26,23 +29,36 @@ import org.jooq.impl.DSL;
 @Singleton
 class MetricRepository {
 
-  private final DSLContext ctx;
+  private final DSLContext primaryCtx;
+  private final Optional<ReadReplica> readReplica;
 
   // We have to report gauge metric with value 0 if they are not showing up in the DB,
   // otherwise datadog will use previous reported value.
   // Another option we didn't use here is to build this into SQL query - it will lead SQL much less
   // readable while not decreasing any complexity.
-  private static final List<String> REGISTERED_ATTEMPT_QUEUE = List.of("SYNC", "AWS_PARIS_SYNC", "null");
-  private static final List<String> REGISTERED_GEOGRAPHY = List.of("US", "AUTO", "EU");
+  static final List<String> REGISTERED_ATTEMPT_QUEUE = List.of("SYNC", "AWS_PARIS_SYNC", "null");
+  static final List<String> REGISTERED_GEOGRAPHY = List.of("US", "AUTO", "EU");
+
+  @Inject
+  MetricRepository(final DSLContext ctx, final Optional<ReadReplica> readReplica) {
+    this.primaryCtx = ctx;
+    this.readReplica = readReplica;
+  }
 
   MetricRepository(final DSLContext ctx) {
-    this.ctx = ctx;
+    this(ctx, Optional.empty());
+  }
+
+  // All the metrics are aggregates, they do not need to see the last writes and can be computed on
+  // the read replica while it keeps up.
+  private DSLContext ctx() {
+    return readReplica.flatMap(ReadReplica::upToDateContext).orElse(primaryCtx);
   }
 
   Map<String, Integer> numberOfPendingJobsByGeography() {
     final String geographyResultAlias = "geography";
     final String countResultAlias = "result";
-    final var result = ctx.select(CONNECTION.GEOGRAPHY.cast(String.class).as(geographyResultAlias), count(asterisk()).as(countResultAlias))
+    final var result = ctx().select(CONNECTION.GEOGRAPHY.cast(String.class).as(geographyResultAlias), count(asterisk()).as(countResultAlias))
         .from(JOBS)
         .join(CONNECTION)
         .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
@@ -61,7 +77,7 @@ class MetricRepository {
 
   Map<String, Integer> numberOfRunningJobsByTaskQueue() {
     final String countFieldName = "count";
-    final var result = ctx.select(ATTEMPTS.PROCESSING_TASK_QUEUE, count(asterisk()).as(countFieldName))
+    final var result = ctx().select(ATTEMPTS.PROCESSING_TASK_QUEUE, count(asterisk()).as(countFieldName))
         .from(JOBS)
         .join(CONNECTION)
         .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
@@ -84,7 +100,7 @@ class MetricRepository {
   // This is a rare case and not likely to be related to data planes; So we will monitor them as a
   // whole.
   int numberOfOrphanRunningJobs() {
-    return ctx.selectCount()
+    return ctx().selectCount()
         .from(JOBS)
         .join(CONNECTION)
         .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
@@ -104,7 +120,7 @@ class MetricRepository {
         WHERE jobs.status = 'pending'
         GROUP BY geography;
         """;
-    final var result = ctx.fetch(query);
+    final var result = ctx().fetch(query);
     final Field<String> geographyResultField = DSL.field(name("geography"), String.class);
     final Field<Double> runDurationSecondsField = DSL.field(name("run_duration_seconds"), Double.class);
     final Map<String, Double> queriedMap = result.intoMap(geographyResultField, runDurationSecondsField);
@@ -127,7 +143,7 @@ class MetricRepository {
         WHERE jobs.status = 'running' AND attempts.status = 'running'
         GROUP BY task_queue;
         """;
-    final var result = ctx.fetch(query);
+    final var result = ctx().fetch(query);
     final Field<String> taskQueueResultField = DSL.field(name("task_queue"), String.class);
     final Field<Double> runDurationSecondsField = DSL.field(name("run_duration_seconds"), Double.class);
     final Map<String, Double> queriedMap = result.intoMap(taskQueueResultField, runDurationSecondsField);
@@ -150,7 +166,7 @@ class MetricRepository {
                         AND c.status = 'active'
                       GROUP BY workspace_id;
                       """;
-    return ctx.fetch(query).getValues("num_conn", long.class);
+    return ctx().fetch(query).getValues("num_conn", long.class);
   }
 
   long numScheduledActiveConnectionsInLastDay() {
@@ -163,7 +179,7 @@ class MetricRepository {
                                            and c.status = 'active'
                                          """;
 
-    return ctx.fetchOne(queryForTotalConnections).get("connection_count", long.class);
+    return ctx().fetchOne(queryForTotalConnections).get("connection_count", long.class);
   }
 
   long numberOfJobsNotRunningOnScheduleInLastDay() {
@@ -217,8 +233,8 @@ class MetricRepository {
                                                          having count(*) < 1440 / cast(c.schedule::jsonb->'units' as integer)
                                                        ) as abnormal_jobs
                                                        """;
-    return ctx.fetchOne(queryForAbnormalSyncInHoursInLastDay).get("cnt", long.class)
-        + ctx.fetchOne(queryForAbnormalSyncInMinutesInLastDay).get("cnt", long.class);
+    return ctx().fetchOne(queryForAbnormalSyncInHoursInLastDay).get("cnt", long.class)
+        + ctx().fetchOne(queryForAbnormalSyncInMinutesInLastDay).get("cnt", long.class);
   }
 
   long numberOfJobsRunningUnusuallyLong() {
@@ -280,7 +296,7 @@ class MetricRepository {
               historic_avg_running_attempts.avg_run_sec + 900
             )
         """;
-    final var queryResults = ctx.fetch(query);
+    final var queryResults = ctx().fetch(query);
     return queryResults.getValues("connection_id").size();
   }
 
@@ -290,7 +306,7 @@ class MetricRepository {
                       WHERE updated_at >= NOW() - INTERVAL '1 HOUR'
                         AND jobs.status IN ('failed', 'succeeded', 'cancelled');
                       """;
-    final var queryResults = ctx.fetch(query);
+    final var queryResults = ctx().fetch(query);
     final var statuses = queryResults.getValues("status", JobStatus.class);
     final var times = queryResults.getValues("sec", double.class);
 
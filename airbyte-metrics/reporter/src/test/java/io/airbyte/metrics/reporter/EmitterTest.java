@@ -25,6 +25,7 @@ class EmitterTest {
 
   private MetricClient client;
   private MetricRepository repo;
+  private JobStateTracker jobs;
 
   private static final String SYNC_QUEUE = "SYNC";
   private static final String AWS_QUEUE = "AWS";
@@ -36,18 +37,19 @@ class EmitterTest {
   void setUp() {
     client = mock(MetricClient.class);
     repo = mock(MetricRepository.class);
+    jobs = mock(JobStateTracker.class);
   }
 
   @Test
   void TestNumPendingJobs() {
     final var value = Map.of(AUTO_REGION, 101, EU_REGION, 20);
-    when(repo.numberOfPendingJobsByGeography()).thenReturn(value);
+    when(jobs.numberOfPendingJobsByGeography()).thenReturn(value);
 
-    final var emitter = new NumPendingJobs(client, repo);
+    final var emitter = new NumPendingJobs(client, jobs);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).numberOfPendingJobsByGeography();
+    verify(jobs).numberOfPendingJobsByGeography();
     verify(client).gauge(OssMetricsRegistry.NUM_PENDING_JOBS, 101,
         new MetricAttribute(MetricTags.GEOGRAPHY, AUTO_REGION));
     verify(client).gauge(OssMetricsRegistry.NUM_PENDING_JOBS, 20,
@@ -58,13 +60,13 @@ class EmitterTest {
   @Test
   void TestNumRunningJobs() {
     final var value = Map.of(SYNC_QUEUE, 101, AWS_QUEUE, 20);
-    when(repo.numberOfRunningJobsByTaskQueue()).thenReturn(value);
+    when(jobs.numberOfRunningJobsByTaskQueue()).thenReturn(value);
 
-    final var emitter = new NumRunningJobs(client, repo);
+    final var emitter = new NumRunningJobs(client, jobs);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).numberOfRunningJobsByTaskQueue();
+    verify(jobs).numberOfRunningJobsByTaskQueue();
     verify(client).gauge(OssMetricsRegistry.NUM_RUNNING_JOBS, 101,
         new MetricAttribute(MetricTags.ATTEMPT_QUEUE, SYNC_QUEUE));
     verify(client).gauge(OssMetricsRegistry.NUM_RUNNING_JOBS, 20,
@@ -75,13 +77,13 @@ class EmitterTest {
   @Test
   void TestNumOrphanRunningJobs() {
     final var value = 101;
-    when(repo.numberOfOrphanRunningJobs()).thenReturn(value);
+    when(jobs.numberOfOrphanRunningJobs()).thenReturn(value);
 
-    final var emitter = new NumOrphanRunningJobs(client, repo);
+    final var emitter = new NumOrphanRunningJobs(client, jobs);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).numberOfOrphanRunningJobs();
+    verify(jobs).numberOfOrphanRunningJobs();
     verify(client).gauge(OssMetricsRegistry.NUM_ORPHAN_RUNNING_JOBS, value);
     verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
   }
@@ -89,13 +91,13 @@ class EmitterTest {
   @Test
   void TestOldestRunningJob() {
     final var value = Map.of(SYNC_QUEUE, 101.0, AWS_QUEUE, 20.0);
-    when(repo.oldestRunningJobAgeSecsByTaskQueue()).thenReturn(value);
+    when(jobs.oldestRunningJobAgeSecsByTaskQueue()).thenReturn(value);
 
-    final var emitter = new OldestRunningJob(client, repo);
+    final var emitter = new OldestRunningJob(client, jobs);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).oldestRunningJobAgeSecsByTaskQueue();
+    verify(jobs).oldestRunningJobAgeSecsByTaskQueue();
     verify(client).gauge(OssMetricsRegistry.OLDEST_RUNNING_JOB_AGE_SECS, 101,
         new MetricAttribute(MetricTags.ATTEMPT_QUEUE, SYNC_QUEUE));
     verify(client).gauge(OssMetricsRegistry.OLDEST_RUNNING_JOB_AGE_SECS, 20,
@@ -106,13 +108,13 @@ class EmitterTest {
   @Test
   void TestOldestPendingJob() {
     final var value = Map.of(AUTO_REGION, 101.0, EU_REGION, 20.0);
-    when(repo.oldestPendingJobAgeSecsByGeography()).thenReturn(value);
+    when(jobs.oldestPendingJobAgeSecsByGeography()).thenReturn(value);
 
-    final var emitter = new OldestPendingJob(client, repo);
+    final var emitter = new OldestPendingJob(client, jobs);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).oldestPendingJobAgeSecsByGeography();
+    verify(jobs).oldestPendingJobAgeSecsByGeography();
     verify(client).gauge(OssMetricsRegistry.OLDEST_PENDING_JOB_AGE_SECS, 101,
         new MetricAttribute(MetricTags.GEOGRAPHY, AUTO_REGION));
     verify(client).gauge(OssMetricsRegistry.OLDEST_PENDING_JOB_AGE_SECS, 20,
@@ -169,13 +171,13 @@ class EmitterTest {
   void TestTotalJobRuntimeByTerminalState() {
     final var values = Map.of(JobStatus.cancelled, 101.0, JobStatus.succeeded, 202.0,
         JobStatus.failed, 303.0);
-    when(repo.overallJobRuntimeForTerminalJobsInLastHour()).thenReturn(values);
+    when(jobs.overallJobRuntimeForTerminalJobsInLastHour()).thenReturn(values);
 
-    final var emitter = new TotalJobRuntimeByTerminalState(client, repo);
+    final var emitter = new TotalJobRuntimeByTerminalState(client, jobs);
     emitter.emit();
 
     assertEquals(Duration.ofHours(1), emitter.getDuration());
-    verify(repo).overallJobRuntimeForTerminalJobsInLastHour();
+    verify(jobs).overallJobRuntimeForTerminalJobsInLastHour();
     values.forEach((jobStatus, time) -> {
       verify(client).distribution(
           OssMetricsRegistry.OVERALL_JOB_RUNTIME_IN_LAST_HOUR_BY_TERMINAL_STATE_SECS, time,
@@ -20,6 +20,7 @@ import io.airbyte.db.instance.jobs.jooq.generated.enums.AttemptStatus;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobConfigType;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
@@ -635,4 +636,92 @@ abstract class MetricRepositoryTest {
 
   }
 
+  @Nested
+  class JobStateTrackerMatchesQueries {
+
+    private final UUID activeConnectionId = UUID.randomUUID();
+    private final UUID inactiveConnectionId = UUID.randomUUID();
+    private final OffsetDateTime now = OffsetDateTime.now();
+    private final OffsetDateTime createdAt = now.minus(1000, ChronoUnit.SECONDS);
+
+    @BeforeEach
+    void setUpJobs() {
+      ctx.insertInto(CONNECTION, CONNECTION.ID, CONNECTION.NAMESPACE_DEFINITION, CONNECTION.SOURCE_ID, CONNECTION.DESTINATION_ID,
+          CONNECTION.NAME, CONNECTION.CATALOG, CONNECTION.MANUAL, CONNECTION.STATUS, CONNECTION.GEOGRAPHY)
+          .values(activeConnectionId, NamespaceDefinitionType.source, UUID.randomUUID(), UUID.randomUUID(), CONN, JSONB.valueOf("{}"), true,
+              StatusType.active, GeographyType.EU)
+          .values(inactiveConnectionId, NamespaceDefinitionType.source, UUID.randomUUID(), UUID.randomUUID(), CONN, JSONB.valueOf("{}"), true,
+              StatusType.inactive, GeographyType.AUTO)
+          .execute();
+
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CREATED_AT, JOBS.UPDATED_AT)
+          .values(1L, activeConnectionId.toString(), JobStatus.pending, createdAt, createdAt)
+          .values(2L, activeConnectionId.toString(), JobStatus.running, createdAt, createdAt)
+          .values(3L, activeConnectionId.toString(), JobStatus.running, now, now)
+          .values(4L, inactiveConnectionId.toString(), JobStatus.running, createdAt, createdAt)
+          .values(5L, inactiveConnectionId.toString(), JobStatus.pending, now, now)
+          .values(6L, activeConnectionId.toString(), JobStatus.succeeded, createdAt, now)
+          .values(7L, activeConnectionId.toString(), JobStatus.failed, createdAt, now.minus(2, ChronoUnit.HOURS))
+          .execute();
+      ctx.insertInto(ATTEMPTS, ATTEMPTS.ID, ATTEMPTS.JOB_ID, ATTEMPTS.STATUS, ATTEMPTS.PROCESSING_TASK_QUEUE)
+          .values(20L, 2L, AttemptStatus.running, SYNC_QUEUE)
+          .values(30L, 3L, AttemptStatus.running, AWS_SYNC_QUEUE)
+          .values(40L, 4L, AttemptStatus.running, SYNC_QUEUE)
+          .values(60L, 6L, AttemptStatus.succeeded, SYNC_QUEUE)
+          .execute();
+    }
+
+    @Test
+    void shouldMatchAfterInitialLoad() {
+      assertMatches(newTracker());
+    }
+
+    @Test
+    void shouldMatchAfterStatusTransitions() {
+      final var tracker = newTracker();
+      assertMatches(tracker);
+
+      // job 2 completes, job 1 starts, a new job is queued and job 4's connection is re-enabled
+      ctx.update(JOBS).set(JOBS.STATUS, JobStatus.succeeded).set(JOBS.UPDATED_AT, now).where(JOBS.ID.eq(2L)).execute();
+      ctx.update(ATTEMPTS).set(ATTEMPTS.STATUS, AttemptStatus.succeeded).where(ATTEMPTS.ID.eq(20L)).execute();
+      ctx.update(JOBS).set(JOBS.STATUS, JobStatus.running).where(JOBS.ID.eq(1L)).execute();
+      ctx.insertInto(ATTEMPTS, ATTEMPTS.ID, ATTEMPTS.JOB_ID, ATTEMPTS.STATUS, ATTEMPTS.PROCESSING_TASK_QUEUE)
+          .values(10L, 1L, AttemptStatus.running, AWS_SYNC_QUEUE)
+          .execute();
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CREATED_AT, JOBS.UPDATED_AT)
+          .values(8L, activeConnectionId.toString(), JobStatus.pending, createdAt, createdAt)
+          .execute();
+      ctx.update(CONNECTION).set(CONNECTION.STATUS, StatusType.active).where(CONNECTION.ID.eq(inactiveConnectionId)).execute();
+
+      assertMatches(tracker);
+    }
+
+    @Test
+    void shouldFallBackToQueriesWhenDisabled() {
+      final var tracker = new JobStateTracker(ctx, db, false, Duration.ZERO);
+      assertEquals(db.numberOfPendingJobsByGeography(), tracker.numberOfPendingJobsByGeography());
+      assertEquals(db.numberOfOrphanRunningJobs(), tracker.numberOfOrphanRunningJobs());
+    }
+
+    private JobStateTracker newTracker() {
+      return new JobStateTracker(ctx, db, true, Duration.ZERO);
+    }
+
+    private void assertMatches(final JobStateTracker tracker) {
+      assertEquals(db.numberOfPendingJobsByGeography(), tracker.numberOfPendingJobsByGeography());
+      assertEquals(db.numberOfRunningJobsByTaskQueue(), tracker.numberOfRunningJobsByTaskQueue());
+      assertEquals(db.numberOfOrphanRunningJobs(), tracker.numberOfOrphanRunningJobs());
+      assertEquals(db.overallJobRuntimeForTerminalJobsInLastHour(), tracker.overallJobRuntimeForTerminalJobsInLastHour());
+      // ages are computed against the database clock by the queries, allow for a little skew
+      assertAgesMatch(db.oldestPendingJobAgeSecsByGeography(), tracker.oldestPendingJobAgeSecsByGeography());
+      assertAgesMatch(db.oldestRunningJobAgeSecsByTaskQueue(), tracker.oldestRunningJobAgeSecsByTaskQueue());
+    }
+
+    private void assertAgesMatch(final Map<String, Double> expected, final Map<String, Double> actual) {
+      assertEquals(expected.keySet(), actual.keySet());
+      expected.forEach((key, age) -> assertEquals(age, actual.get(key), 2.0, key));
+    }
+
+  }
+
 }
@@ -19,6 +19,7 @@ import io.airbyte.config.EnvConfigs;
 import io.airbyte.notification.messages.SchemaUpdateNotification;
 import io.airbyte.notification.messages.SyncSummary;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -77,6 +78,16 @@ public class CustomerioNotificationClient extends NotificationClient {
 
   private static final String CUSTOMERIO_TYPE = "customerio";
 
+  /**
+   * Shared by all the clients, a client is created for each notification and the connections to
+   * customer.io would otherwise not be reused.
+   */
+  private static final OkHttpClient SHARED_HTTP_CLIENT = new OkHttpClient.Builder()
+      .addInterceptor(new CampaignsRateLimitInterceptor())
+      .connectTimeout(Duration.ofSeconds(10))
+      .readTimeout(Duration.ofSeconds(30))
+      .build();
+
   private final String baseUrl;
   private final OkHttpClient okHttpClient;
   private final String apiToken;
@@ -85,9 +96,7 @@ public class CustomerioNotificationClient extends NotificationClient {
     final EnvConfigs configs = new EnvConfigs();
     this.apiToken = configs.getCustomerIoKey();
     this.baseUrl = CUSTOMERIO_BASE_URL;
-    this.okHttpClient = new OkHttpClient.Builder()
-        .addInterceptor(new CampaignsRateLimitInterceptor())
-        .build();
+    this.okHttpClient = SHARED_HTTP_CLIENT;
   }
 
   @VisibleForTesting
@@ -95,9 +104,7 @@ public class CustomerioNotificationClient extends NotificationClient {
                                       final String baseUrl) {
     this.apiToken = apiToken;
     this.baseUrl = baseUrl;
-    this.okHttpClient = new OkHttpClient.Builder()
-        .addInterceptor(new CampaignsRateLimitInterceptor())
-        .build();
+    this.okHttpClient = SHARED_HTTP_CLIENT;
   }
 
   /**
@@ -359,7 +366,7 @@ public class CustomerioNotificationClient extends NotificationClient {
       } else {
         final String body = response.body() != null ? response.body().string() : "";
         final String errorMessage = String.format("Failed to deliver notification (%s): %s", response.code(), body);
-        throw new IOException(errorMessage);
+        throw new NotificationDeliveryException(response.code(), errorMessage);
       }
     }
   }
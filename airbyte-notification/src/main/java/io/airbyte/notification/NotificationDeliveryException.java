@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the destination of a notification answers with an unsuccessful HTTP status.
+ */
+public class NotificationDeliveryException extends IOException {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final int statusCode;
+
+  public NotificationDeliveryException(final int statusCode, final String message) {
+    super(message);
+    this.statusCode = statusCode;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Whether sending the same notification again may succeed: the destination failed or asked to slow
+   * down, as opposed to rejecting the notification itself.
+   */
+  public boolean isRetryable() {
+    return statusCode >= 500 || statusCode == TOO_MANY_REQUESTS;
+  }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import static io.airbyte.metrics.lib.MetricTags.NOTIFICATION_CLIENT;
+import static io.airbyte.metrics.lib.MetricTags.NOTIFICATION_TRIGGER;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.RateLimiter;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers notifications in the background so that callers do not wait on Slack, webhooks or
+ * customer.io.
+ * <p>
+ * At most {@code queueCapacity} notifications are pending at any time, further ones are dropped. A
+ * delivery that fails on I/O or that the destination answers with a 5xx or 429 status is retried up
+ * to {@code maxAttempts} times with an exponential backoff, other failures are not retried.
+ * Deliveries to the same destination are limited to {@code permitsPerSecondPerDestination}.
+ */
+public class NotificationDispatcher implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+  /**
+   * A single notification delivery, returning false if the notification was not sent because the
+   * destination is not configured.
+   */
+  @FunctionalInterface
+  public interface Delivery {
+
+    boolean deliver() throws Exception;
+
+  }
+
+  private final int queueCapacity;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final MetricClient metricClient;
+  private final Semaphore capacity;
+  private final LoadingCache<String, RateLimiter> rateLimiters;
+  private final ExecutorService deliveries;
+  private final ScheduledExecutorService delays;
+  private volatile boolean closed;
+
+  /**
+   * The executors are owned by the caller: the dispatcher only submits to them and does not shut them
+   * down.
+   *
+   * @param deliveries runs the deliveries, its size bounds the deliveries in flight
+   * @param delays schedules the retries and the deliveries waiting for a rate limit permit
+   */
+  public NotificationDispatcher(final int queueCapacity,
+                                final int maxAttempts,
+                                final Duration initialBackoff,
+                                final double permitsPerSecondPerDestination,
+                                final ExecutorService deliveries,
+                                final ScheduledExecutorService delays,
+                                final MetricClient metricClient) {
+    this.queueCapacity = queueCapacity;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.metricClient = metricClient;
+    this.capacity = new Semaphore(queueCapacity);
+    this.rateLimiters = CacheBuilder.newBuilder()
+        .expireAfterAccess(10, TimeUnit.MINUTES)
+        .build(CacheLoader.from(destination -> RateLimiter.create(permitsPerSecondPerDestination)));
+    this.deliveries = deliveries;
+    this.delays = delays;
+  }
+
+  /**
+   * Queue a notification for delivery.
+   *
+   * @param destination identifies the endpoint the notification is sent to (e.g. the webhook URL),
+   *        used for rate limiting
+   * @param clientType notification client type, for metrics
+   * @param trigger what triggered the notification, for metrics
+   * @return false if the notification was dropped because too many are pending
+   */
+  public boolean dispatch(final String destination, final String clientType, final String trigger, final Delivery delivery) {
+    if (closed) {
+      LOGGER.warn("Dropping {} notification for {}: the dispatcher is closed", clientType, trigger);
+      return false;
+    }
+    if (!capacity.tryAcquire()) {
+      LOGGER.warn("Dropping {} notification for {}: too many notifications are pending", clientType, trigger);
+      metricClient.count(OssMetricsRegistry.NOTIFICATIONS_DROPPED, 1, attributes(clientType, trigger));
+      return false;
+    }
+    try {
+      deliveries.execute(new Task(destination, clientType, trigger, delivery));
+    } catch (final RuntimeException e) {
+      capacity.release();
+      LOGGER.warn("Dropping {} notification for {}: the executor rejected it", clientType, trigger);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Stop accepting notifications and give the pending ones up to {@code timeout} to be delivered.
+   */
+  public void close(final Duration timeout) throws InterruptedException {
+    closed = true;
+    // every pending notification holds a permit until it is delivered or given up on
+    if (capacity.tryAcquire(queueCapacity, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      capacity.release(queueCapacity);
+    } else {
+      LOGGER.warn("{} notifications were not delivered before shutdown", queueCapacity - capacity.availablePermits());
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      close(Duration.ofSeconds(10));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static MetricAttribute[] attributes(final String clientType, final String trigger) {
+    return new MetricAttribute[] {
+      new MetricAttribute(NOTIFICATION_CLIENT, clientType),
+      new MetricAttribute(NOTIFICATION_TRIGGER, trigger)
+    };
+  }
+
+  private final class Task implements Runnable {
+
+    private final String destination;
+    private final String clientType;
+    private final String trigger;
+    private final Delivery delivery;
+    private final long submittedAtNanos = System.nanoTime();
+    private int attempts;
+
+    private Task(final String destination, final String clientType, final String trigger, final Delivery delivery) {
+      this.destination = destination;
+      this.clientType = clientType;
+      this.trigger = trigger;
+      this.delivery = delivery;
+    }
+
+    @Override
+    public void run() {
+      final RateLimiter rateLimiter = rateLimiters.getUnchecked(destination);
+      if (!rateLimiter.tryAcquire()) {
+        // wait for a permit off the delivery threads so that other destinations are not held up
+        retryLater((long) Math.ceil(1000 / rateLimiter.getRate()));
+        return;
+      }
+
+      attempts++;
+      try {
+        final boolean sent = delivery.deliver();
+        capacity.release();
+        if (sent) {
+          metricClient.count(OssMetricsRegistry.NOTIFICATIONS_SENT, 1, attributes(clientType, trigger));
+          metricClient.distribution(OssMetricsRegistry.NOTIFICATION_DELIVERY_LATENCY,
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAtNanos), attributes(clientType, trigger));
+        } else {
+          LOGGER.warn("{} notification for {} was not sent", clientType, trigger);
+        }
+      } catch (final Exception e) {
+        if (attempts < maxAttempts && isRetryable(e)) {
+          final long backoffMillis = initialBackoff.toMillis() << (attempts - 1);
+          LOGGER.info("Failed to deliver {} notification for {} (attempt {}/{}), retrying in {} ms", clientType, trigger, attempts, maxAttempts,
+              backoffMillis, e);
+          metricClient.count(OssMetricsRegistry.NOTIFICATION_DELIVERY_RETRIED, 1, attributes(clientType, trigger));
+          retryLater(backoffMillis);
+        } else {
+          capacity.release();
+          LOGGER.error("Failed to deliver {} notification for {} after {} attempts. Not blocking.", clientType, trigger, attempts, e);
+          metricClient.count(OssMetricsRegistry.NOTIFICATIONS_FAILED, 1, attributes(clientType, trigger));
+        }
+      }
+    }
+
+    // a rejected notification, e.g. a 4xx of a revoked webhook, fails the same way when sent again
+    private static boolean isRetryable(final Exception e) {
+      if (e instanceof NotificationDeliveryException deliveryException) {
+        return deliveryException.isRetryable();
+      }
+      return e instanceof IOException;
+    }
+
+    private void retryLater(final long delayMillis) {
+      try {
+        delays.schedule(() -> {
+          try {
+            deliveries.execute(this);
+          } catch (final RuntimeException e) {
+            capacity.release();
+          }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+      } catch (final RuntimeException e) {
+        // the executor is shut down
+        capacity.release();
+      }
+    }
+
+  }
+
+}
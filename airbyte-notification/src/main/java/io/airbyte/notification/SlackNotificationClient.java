@@ -51,10 +51,26 @@ public class SlackNotificationClient extends NotificationClient {
   private static final Logger LOGGER = LoggerFactory.getLogger(SlackNotificationClient.class);
   private static final String SLACK_CLIENT = "slack";
 
+  /**
+   * Shared by all the clients, a client is created for each notification and the connections to the
+   * webhooks would otherwise not be reused.
+   */
+  private static final HttpClient SHARED_HTTP_CLIENT = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_2)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
   private final SlackNotificationConfiguration config;
+  private final HttpClient httpClient;
 
   public SlackNotificationClient(final SlackNotificationConfiguration slackNotificationConfiguration) {
+    this(slackNotificationConfiguration, SHARED_HTTP_CLIENT);
+  }
+
+  public SlackNotificationClient(final SlackNotificationConfiguration slackNotificationConfiguration, final HttpClient httpClient) {
     this.config = slackNotificationConfiguration;
+    this.httpClient = httpClient;
   }
 
   @Override
@@ -369,12 +385,10 @@ public class SlackNotificationClient extends NotificationClient {
       return false;
     }
     ObjectMapper mapper = new ObjectMapper();
-    final HttpClient httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
     final HttpRequest request = HttpRequest.newBuilder()
         .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(node)))
         .uri(URI.create(config.getWebhook()))
+        .timeout(REQUEST_TIMEOUT)
         .header("Content-Type", "application/json")
         .build();
     final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
@@ -384,7 +398,7 @@ public class SlackNotificationClient extends NotificationClient {
     } else {
       final String errorMessage =
           String.format("Failed to deliver notification (%s): %s [%s]", response.statusCode(), response.body(), node.toString());
-      throw new IOException(errorMessage);
+      throw new NotificationDeliveryException(response.statusCode(), errorMessage);
     }
   }
 
@@ -4,12 +4,16 @@ import io.micronaut.context.annotation.Factory
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import okhttp3.OkHttpClient
+import java.time.Duration
 
 @Factory
 class HttpClientFactory {
   @Singleton
   @Named("webhookHttpClient")
   fun okHttpClient(): OkHttpClient {
-    return OkHttpClient()
+    return OkHttpClient.Builder()
+      .connectTimeout(Duration.ofSeconds(10))
+      .readTimeout(Duration.ofSeconds(30))
+      .build()
   }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.airbyte.config.SlackNotificationConfiguration;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationDispatcherTest {
+
+  private static final String TEST_PATH = "/test";
+  private static final String TRIGGER = "Failure Notification";
+
+  private HttpServer server;
+  private MetricClient metricClient;
+  private NotificationDispatcher dispatcher;
+  private ExecutorService deliveries;
+  private ScheduledExecutorService delays;
+  private final List<Long> requestTimesMillis = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+    metricClient = mock(MetricClient.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (dispatcher != null) {
+      dispatcher.close();
+      deliveries.shutdownNow();
+      delays.shutdownNow();
+    }
+    server.stop(0);
+  }
+
+  @Test
+  void testDeliveryDoesNotBlockTheCaller() throws Exception {
+    final CountDownLatch delivered = new CountDownLatch(1);
+    respondWith(exchange -> {
+      Thread.sleep(1000);
+      delivered.countDown();
+      return 200;
+    });
+    dispatcher = dispatcher(10, 1, 100);
+
+    final long start = System.nanoTime();
+    assertTrue(dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("hello")));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+
+    assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    verify(metricClient, timeout(5000)).count(eq(OssMetricsRegistry.NOTIFICATIONS_SENT), eq(1L), any(MetricAttribute[].class));
+  }
+
+  @Test
+  void testFailedDeliveryIsRetried() throws Exception {
+    final AtomicInteger requests = new AtomicInteger();
+    respondWith(exchange -> requests.incrementAndGet() == 1 ? 500 : 200);
+    dispatcher = dispatcher(10, 1, 100);
+
+    dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("hello"));
+
+    verify(metricClient, timeout(5000)).count(eq(OssMetricsRegistry.NOTIFICATIONS_SENT), eq(1L), any(MetricAttribute[].class));
+    verify(metricClient).count(eq(OssMetricsRegistry.NOTIFICATION_DELIVERY_RETRIED), eq(1L), any(MetricAttribute[].class));
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void testDeliveryGivesUpAfterMaxAttempts() throws Exception {
+    final AtomicInteger requests = new AtomicInteger();
+    respondWith(exchange -> {
+      requests.incrementAndGet();
+      return 500;
+    });
+    dispatcher = dispatcher(10, 1, 100);
+
+    dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("hello"));
+
+    verify(metricClient, timeout(5000)).count(eq(OssMetricsRegistry.NOTIFICATIONS_FAILED), eq(1L), any(MetricAttribute[].class));
+    assertEquals(3, requests.get());
+  }
+
+  @Test
+  void testRejectedDeliveryIsNotRetried() throws Exception {
+    final AtomicInteger requests = new AtomicInteger();
+    respondWith(exchange -> {
+      requests.incrementAndGet();
+      return 404;
+    });
+    dispatcher = dispatcher(10, 1, 100);
+
+    dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("hello"));
+
+    verify(metricClient, timeout(5000)).count(eq(OssMetricsRegistry.NOTIFICATIONS_FAILED), eq(1L), any(MetricAttribute[].class));
+    verify(metricClient, never()).count(eq(OssMetricsRegistry.NOTIFICATION_DELIVERY_RETRIED), eq(1L), any(MetricAttribute[].class));
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void testThrottledDeliveryIsRetried() throws Exception {
+    final AtomicInteger requests = new AtomicInteger();
+    respondWith(exchange -> requests.incrementAndGet() == 1 ? 429 : 200);
+    dispatcher = dispatcher(10, 1, 100);
+
+    dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("hello"));
+
+    verify(metricClient, timeout(5000)).count(eq(OssMetricsRegistry.NOTIFICATIONS_SENT), eq(1L), any(MetricAttribute[].class));
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void testNotificationsAreDroppedWhenTheQueueIsFull() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    respondWith(exchange -> {
+      release.await();
+      return 200;
+    });
+    dispatcher = dispatcher(1, 1, 100);
+
+    assertTrue(dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("first")));
+    assertFalse(dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("second")));
+    verify(metricClient).count(eq(OssMetricsRegistry.NOTIFICATIONS_DROPPED), eq(1L), any(MetricAttribute[].class));
+
+    release.countDown();
+    verify(metricClient, timeout(5000)).count(eq(OssMetricsRegistry.NOTIFICATIONS_SENT), eq(1L), any(MetricAttribute[].class));
+    assertTrue(dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("third")));
+  }
+
+  @Test
+  void testDeliveriesAreRateLimitedPerDestination() throws Exception {
+    final CountDownLatch delivered = new CountDownLatch(2);
+    respondWith(exchange -> {
+      delivered.countDown();
+      return 200;
+    });
+    dispatcher = dispatcher(10, 2, 2);
+
+    dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("first"));
+    dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("second"));
+
+    assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    assertTrue(requestTimesMillis.get(1) - requestTimesMillis.get(0) >= 400);
+  }
+
+  @Test
+  void testCloseDropsNewNotificationsAndLeavesTheExecutorsRunning() {
+    respondWith(exchange -> 200);
+    dispatcher = dispatcher(10, 1, 100);
+
+    dispatcher.close();
+
+    assertFalse(dispatcher.dispatch(webhook(), "slack", TRIGGER, () -> slackClient().notifyFailure("hello")));
+    assertFalse(deliveries.isShutdown());
+    assertFalse(delays.isShutdown());
+  }
+
+  private NotificationDispatcher dispatcher(final int queueCapacity, final int threads, final double permitsPerSecondPerDestination) {
+    deliveries = Executors.newFixedThreadPool(threads);
+    delays = Executors.newSingleThreadScheduledExecutor();
+    return new NotificationDispatcher(queueCapacity, 3, Duration.ofMillis(10), permitsPerSecondPerDestination, deliveries, delays, metricClient);
+  }
+
+  private interface Responder {
+
+    int respond(HttpExchange exchange) throws Exception;
+
+  }
+
+  private void respondWith(final Responder responder) {
+    server.createContext(TEST_PATH, exchange -> {
+      requestTimesMillis.add(System.currentTimeMillis());
+      exchange.getRequestBody().readAllBytes();
+      int status;
+      try {
+        status = responder.respond(exchange);
+      } catch (final Exception e) {
+        status = 500;
+      }
+      final byte[] body = "ok".getBytes();
+      exchange.sendResponseHeaders(status, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+  }
+
+  private String webhook() {
+    return "http://localhost:" + server.getAddress().getPort() + TEST_PATH;
+  }
+
+  private SlackNotificationClient slackClient() {
+    return new SlackNotificationClient(new SlackNotificationConfiguration().withWebhook(webhook()));
+  }
+
+}
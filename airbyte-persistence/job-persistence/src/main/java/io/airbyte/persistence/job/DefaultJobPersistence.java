@@ -43,6 +43,7 @@ import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.AttemptStatus;
 import io.airbyte.persistence.job.models.AttemptWithJobInfo;
 import io.airbyte.persistence.job.models.Job;
+import io.airbyte.persistence.job.models.JobEvent;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
@@ -70,16 +71,14 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
-import org.jooq.conf.ParamType;
 import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,6 +94,12 @@ public class DefaultJobPersistence implements JobPersistence {
   private static final String WHERE = "WHERE ";
   private static final String AND = " AND ";
   private static final String SCOPE_CLAUSE = "scope = ? AND ";
+  // Lists of values are bound as a single array parameter, so that a query has the same text whatever
+  // the number of values and Postgres can reuse its prepared statement.
+  private static final String CONFIG_TYPE_IN_ARRAY = "jobs.config_type = ANY(CAST(? AS JOB_CONFIG_TYPE[])) ";
+  private static final String STATUS_IN_ARRAY = "jobs.status = ANY(CAST(? AS JOB_STATUS[])) ";
+  private static final String SCOPE_IN_ARRAY = "jobs.scope = ANY(CAST(? AS VARCHAR[])) ";
+  private static final String JOB_ID_IN_ARRAY = "job_id = ANY(CAST(? AS BIGINT[]))";
   private static final String DEPLOYMENT_ID_KEY = "deployment_id";
   private static final String METADATA_KEY_COL = "key";
   private static final String METADATA_VAL_COL = "value";
@@ -122,6 +127,8 @@ public class DefaultJobPersistence implements JobPersistence {
                                                """;
   @VisibleForTesting
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
+  // placeholder for a jOOQ subquery embedded with its bind values
+  private static final String JOBS_SUBQUERY = "({0}) AS jobs";
   private static final String ATTEMPT_SELECT =
       "SELECT job_id," + ATTEMPT_FIELDS + "FROM attempts WHERE job_id = ? AND attempt_number = ?";
   private static final ZoneOffset SYSTEM_OFFSET = ZonedDateTime.now().getOffset();
@@ -131,6 +138,7 @@ public class DefaultJobPersistence implements JobPersistence {
   private final int jobHistoryExcessiveNumberOfJobs;
   private final ExceptionWrappingDatabase jobDatabase;
   private final Supplier<Instant> timeSupplier;
+  private final JobEventPublisher jobEventPublisher;
 
   @VisibleForTesting
   DefaultJobPersistence(final Database jobDatabase,
@@ -138,15 +146,30 @@ public class DefaultJobPersistence implements JobPersistence {
                         final int minimumAgeInDays,
                         final int excessiveNumberOfJobs,
                         final int minimumRecencyCount) {
+    this(jobDatabase, timeSupplier, minimumAgeInDays, excessiveNumberOfJobs, minimumRecencyCount, JobEventPublisher.NOOP);
+  }
+
+  @VisibleForTesting
+  DefaultJobPersistence(final Database jobDatabase,
+                        final Supplier<Instant> timeSupplier,
+                        final int minimumAgeInDays,
+                        final int excessiveNumberOfJobs,
+                        final int minimumRecencyCount,
+                        final JobEventPublisher jobEventPublisher) {
     this.jobDatabase = new ExceptionWrappingDatabase(jobDatabase);
     this.timeSupplier = timeSupplier;
+    this.jobEventPublisher = jobEventPublisher;
     jobHistoryMinimumAgeInDays = minimumAgeInDays;
     jobHistoryExcessiveNumberOfJobs = excessiveNumberOfJobs;
     jobHistoryMinimumRecency = minimumRecencyCount;
   }
 
   public DefaultJobPersistence(final Database jobDatabase) {
-    this(jobDatabase, Instant::now, 30, 500, 10);
+    this(jobDatabase, JobEventPublisher.NOOP);
+  }
+
+  public DefaultJobPersistence(final Database jobDatabase, final JobEventPublisher jobEventPublisher) {
+    this(jobDatabase, Instant::now, 30, 500, 10, jobEventPublisher);
   }
 
   private static String jobSelectAndJoin(final String jobsSubquery) {
@@ -266,7 +289,7 @@ public class DefaultJobPersistence implements JobPersistence {
     ctx.batch(queries).execute();
   }
 
-  private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final String jobIdsStr, final DSLContext ctx) {
+  private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final Long[] jobIds, final DSLContext ctx) {
     final var attemptStats = new HashMap<JobAttemptPair, AttemptStats>();
     final var syncResults = ctx.fetch(
         "SELECT atmpt.attempt_number, atmpt.job_id,"
@@ -274,7 +297,8 @@ public class DefaultJobPersistence implements JobPersistence {
             + "stats.bytes_committed, stats.records_committed "
             + "FROM sync_stats stats "
             + "INNER JOIN attempts atmpt ON stats.attempt_id = atmpt.id "
-            + "WHERE job_id IN ( " + jobIdsStr + ");");
+            + WHERE + JOB_ID_IN_ARRAY,
+        (Object) jobIds);
     syncResults.forEach(r -> {
       final var key = new JobAttemptPair(r.get(ATTEMPTS.JOB_ID), r.get(ATTEMPTS.ATTEMPT_NUMBER));
       final var syncStats = new SyncStats()
@@ -291,10 +315,10 @@ public class DefaultJobPersistence implements JobPersistence {
 
   /**
    * This method needed to be called after
-   * {@link DefaultJobPersistence#hydrateSyncStats(String, DSLContext)} as it assumes hydrateSyncStats
+   * {@link DefaultJobPersistence#hydrateSyncStats(Long[], DSLContext)} as it assumes hydrateSyncStats
    * has prepopulated the map.
    */
-  private static void hydrateStreamStats(final String jobIdsStr, final DSLContext ctx, final Map<JobAttemptPair, AttemptStats> attemptStats) {
+  private static void hydrateStreamStats(final Long[] jobIds, final DSLContext ctx, final Map<JobAttemptPair, AttemptStats> attemptStats) {
     final var streamResults = ctx.fetch(
         "SELECT atmpt.attempt_number, atmpt.job_id, "
             + "stats.stream_name, stats.stream_namespace, stats.estimated_bytes, stats.estimated_records, stats.bytes_emitted, stats.records_emitted,"
@@ -302,7 +326,8 @@ public class DefaultJobPersistence implements JobPersistence {
             + "FROM stream_stats stats "
             + "INNER JOIN attempts atmpt ON atmpt.id = stats.attempt_id "
             + "WHERE attempt_id IN "
-            + "( SELECT id FROM attempts WHERE job_id IN ( " + jobIdsStr + "));");
+            + "( SELECT id FROM attempts WHERE " + JOB_ID_IN_ARRAY + ")",
+        (Object) jobIds);
 
     streamResults.forEach(r -> {
       final var streamSyncStats = new StreamSyncStats()
@@ -468,16 +493,15 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   /**
-   * Generate a string fragment that can be put in the IN clause of a SQL statement. eg. column IN
-   * (value1, value2)
+   * Generate the array of names to bind to an ANY clause of a SQL statement. eg. column =
+   * ANY(CAST(? AS type[]))
    *
    * @param values to encode
    * @param <T> enum type
-   * @return "'value1', 'value2', 'value3'"
+   * @return ["value1", "value2", "value3"]
    */
-  private static <T extends Enum<T>> String toSqlInFragment(final Iterable<T> values) {
-    return StreamSupport.stream(values.spliterator(), false).map(DefaultJobPersistence::toSqlName).map(Names::singleQuote)
-        .collect(Collectors.joining(",", "(", ")"));
+  private static <T extends Enum<T>> String[] toSqlNames(final Collection<T> values) {
+    return values.stream().map(DefaultJobPersistence::toSqlName).toArray(String[]::new);
   }
 
   @VisibleForTesting
@@ -485,8 +509,12 @@ public class DefaultJobPersistence implements JobPersistence {
     return value.name().toLowerCase();
   }
 
-  private static <T extends Enum<T>> Set<String> configTypeSqlNames(final Set<ConfigType> configTypes) {
-    return configTypes.stream().map(DefaultJobPersistence::toSqlName).collect(Collectors.toSet());
+  private static Condition configTypeIn(final Set<ConfigType> configTypes) {
+    return DSL.condition(CONFIG_TYPE_IN_ARRAY, (Object) toSqlNames(configTypes));
+  }
+
+  private static Condition statusIn(final List<JobStatus> statuses) {
+    return statuses == null ? DSL.noCondition() : DSL.condition(STATUS_IN_ARRAY, (Object) toSqlNames(statuses));
   }
 
   @VisibleForTesting
@@ -517,27 +545,33 @@ public class DefaultJobPersistence implements JobPersistence {
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneId.systemDefault());
 
     final String queueingRequest = Job.REPLICATION_TYPES.contains(jobConfig.getConfigType())
-        ? String.format("WHERE NOT EXISTS (SELECT 1 FROM jobs WHERE config_type IN (%s) AND scope = '%s' AND status NOT IN (%s)) ",
+        ? String.format("WHERE NOT EXISTS (SELECT 1 FROM jobs WHERE config_type IN (%s) AND scope = ? AND status NOT IN (%s)) ",
             Job.REPLICATION_TYPES.stream().map(DefaultJobPersistence::toSqlName).map(Names::singleQuote).collect(Collectors.joining(",")),
-            scope,
             JobStatus.TERMINAL_STATUSES.stream().map(DefaultJobPersistence::toSqlName).map(Names::singleQuote).collect(Collectors.joining(",")))
         : "";
+    final List<Object> bindValues = Lists.newArrayList(
+        toSqlName(jobConfig.getConfigType()),
+        scope,
+        now,
+        now,
+        toSqlName(JobStatus.PENDING),
+        Jsons.serialize(jobConfig));
+    if (!queueingRequest.isEmpty()) {
+      bindValues.add(scope);
+    }
 
-    return jobDatabase.query(
+    final Optional<Long> jobId = jobDatabase.query(
         ctx -> ctx.fetch(
             "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config) "
                 + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, ?, ?, CAST(? AS JOB_STATUS), CAST(? as JSONB) "
                 + queueingRequest
                 + "RETURNING id ",
-            toSqlName(jobConfig.getConfigType()),
-            scope,
-            now,
-            now,
-            toSqlName(JobStatus.PENDING),
-            Jsons.serialize(jobConfig)))
+            bindValues.toArray()))
         .stream()
         .findFirst()
         .map(r -> r.getValue("id", Long.class));
+    jobId.ifPresent(id -> publish(new JobEvent(id, jobConfig.getConfigType(), scope, JobStatus.PENDING, null, null, null)));
+    return jobId;
   }
 
   @Override
@@ -545,10 +579,8 @@ public class DefaultJobPersistence implements JobPersistence {
     // TODO: stop using LocalDateTime
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), SYSTEM_OFFSET);
-    jobDatabase.query(ctx -> {
-      updateJobStatus(ctx, jobId, JobStatus.PENDING, now);
-      return null;
-    });
+    jobDatabase.query(ctx -> updateJobStatus(ctx, jobId, JobStatus.PENDING, now))
+        .ifPresent(job -> publish(JobEvent.ofJob(job, JobStatus.PENDING)));
   }
 
   @Override
@@ -556,10 +588,8 @@ public class DefaultJobPersistence implements JobPersistence {
     // TODO: stop using LocalDateTime
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), SYSTEM_OFFSET);
-    jobDatabase.query(ctx -> {
-      updateJobStatus(ctx, jobId, JobStatus.CANCELLED, now);
-      return null;
-    });
+    jobDatabase.query(ctx -> updateJobStatus(ctx, jobId, JobStatus.CANCELLED, now))
+        .ifPresent(job -> publish(JobEvent.ofJob(job, JobStatus.CANCELLED)));
   }
 
   @Override
@@ -567,19 +597,18 @@ public class DefaultJobPersistence implements JobPersistence {
     // TODO: stop using LocalDateTime
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), SYSTEM_OFFSET);
-    jobDatabase.query(ctx -> {
-      updateJobStatus(ctx, jobId, JobStatus.FAILED, now);
-      return null;
-    });
+    jobDatabase.query(ctx -> updateJobStatus(ctx, jobId, JobStatus.FAILED, now))
+        .ifPresent(job -> publish(JobEvent.ofJob(job, JobStatus.FAILED)));
   }
 
   // TODO: stop using LocalDateTime
   // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
-  private void updateJobStatus(final DSLContext ctx, final long jobId, final JobStatus newStatus, final LocalDateTime now) {
+  // returns the job as it was before the update, empty if its status was left unchanged
+  private Optional<Job> updateJobStatus(final DSLContext ctx, final long jobId, final JobStatus newStatus, final LocalDateTime now) {
     final Job job = getJob(ctx, jobId);
     if (job.isJobInTerminalState()) {
       // If the job is already terminal, no need to set a new status
-      return;
+      return Optional.empty();
     }
     job.validateStatusTransition(newStatus);
     ctx.execute(
@@ -587,6 +616,21 @@ public class DefaultJobPersistence implements JobPersistence {
         toSqlName(newStatus),
         now,
         jobId);
+    return Optional.of(job);
+  }
+
+  // called once the change is committed. A failure to publish does not fail the write, which the
+  // clients still see the next time they read the job. The workspace of the change is resolved by
+  // the receiving side, and only if it has subscribers to the changes of a workspace.
+  private void publish(final JobEvent event) {
+    if (!jobEventPublisher.hasSubscribers()) {
+      return;
+    }
+    try {
+      jobEventPublisher.publish(event);
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Could not publish the status change of job {}", event.jobId(), e);
+    }
   }
 
   @Override
@@ -595,7 +639,7 @@ public class DefaultJobPersistence implements JobPersistence {
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneId.systemDefault());
 
-    return jobDatabase.transaction(ctx -> {
+    final JobEvent event = jobDatabase.transaction(ctx -> {
       final Job job = getJob(ctx, jobId);
       if (job.isJobInTerminalState()) {
         final var errMsg = String.format(
@@ -614,7 +658,7 @@ public class DefaultJobPersistence implements JobPersistence {
       updateJobStatus(ctx, jobId, JobStatus.RUNNING, now);
 
       // will fail if attempt number already exists for the job id.
-      return ctx.fetch(
+      final int attemptNumber = ctx.fetch(
           "INSERT INTO attempts(job_id, attempt_number, log_path, status, created_at, updated_at) "
               + "VALUES(?, ?, ?, CAST(? AS ATTEMPT_STATUS), ?, ?) RETURNING attempt_number",
           jobId,
@@ -627,8 +671,10 @@ public class DefaultJobPersistence implements JobPersistence {
           .findFirst()
           .map(r -> r.get(ATTEMPT_NUMBER, Integer.class))
           .orElseThrow(() -> new RuntimeException("This should not happen"));
+      return JobEvent.ofAttempt(job, JobStatus.RUNNING, attemptNumber, AttemptStatus.RUNNING);
     });
-
+    publish(event);
+    return event.attemptNumber();
   }
 
   @Override
@@ -636,8 +682,8 @@ public class DefaultJobPersistence implements JobPersistence {
     // TODO: stop using LocalDateTime
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneId.systemDefault());
-    jobDatabase.transaction(ctx -> {
-      updateJobStatus(ctx, jobId, JobStatus.INCOMPLETE, now);
+    final JobEvent event = jobDatabase.transaction(ctx -> {
+      final Optional<Job> updatedJob = updateJobStatus(ctx, jobId, JobStatus.INCOMPLETE, now);
 
       ctx.execute(
           "UPDATE attempts SET status = CAST(? as ATTEMPT_STATUS), updated_at = ? , ended_at = ? WHERE job_id = ? AND attempt_number = ?",
@@ -646,8 +692,11 @@ public class DefaultJobPersistence implements JobPersistence {
           now,
           jobId,
           attemptNumber);
-      return null;
+      // a job that was already terminal keeps its status
+      final Job job = updatedJob.orElseGet(() -> getJob(ctx, jobId));
+      return JobEvent.ofAttempt(job, updatedJob.isPresent() ? JobStatus.INCOMPLETE : job.getStatus(), attemptNumber, AttemptStatus.FAILED);
     });
+    publish(event);
   }
 
   @Override
@@ -655,8 +704,8 @@ public class DefaultJobPersistence implements JobPersistence {
     // TODO: stop using LocalDateTime
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneId.systemDefault());
-    jobDatabase.transaction(ctx -> {
-      updateJobStatus(ctx, jobId, JobStatus.SUCCEEDED, now);
+    final JobEvent event = jobDatabase.transaction(ctx -> {
+      final Optional<Job> updatedJob = updateJobStatus(ctx, jobId, JobStatus.SUCCEEDED, now);
 
       ctx.execute(
           "UPDATE attempts SET status = CAST(? as ATTEMPT_STATUS), updated_at = ? , ended_at = ? WHERE job_id = ? AND attempt_number = ?",
@@ -665,8 +714,11 @@ public class DefaultJobPersistence implements JobPersistence {
           now,
           jobId,
           attemptNumber);
-      return null;
+      // a job that was already terminal keeps its status
+      final Job job = updatedJob.orElseGet(() -> getJob(ctx, jobId));
+      return JobEvent.ofAttempt(job, updatedJob.isPresent() ? JobStatus.SUCCEEDED : job.getStatus(), attemptNumber, AttemptStatus.SUCCEEDED);
     });
+    publish(event);
   }
 
   @Override
@@ -822,13 +874,13 @@ public class DefaultJobPersistence implements JobPersistence {
       return Map.of();
     }
 
-    final var jobIdsStr = StringUtils.join(jobIds, ',');
+    final Long[] jobIdsArray = jobIds.toArray(Long[]::new);
     return jobDatabase.query(ctx -> {
       // Instead of one massive join query, separate this query into two queries for better readability
       // for now.
       // We can combine the queries at a later date if this still proves to be not efficient enough.
-      final Map<JobAttemptPair, AttemptStats> attemptStats = hydrateSyncStats(jobIdsStr, ctx);
-      hydrateStreamStats(jobIdsStr, ctx, attemptStats);
+      final Map<JobAttemptPair, AttemptStats> attemptStats = hydrateSyncStats(jobIdsArray, ctx);
+      hydrateStreamStats(jobIdsArray, ctx, attemptStats);
       return attemptStats;
     });
   }
@@ -879,13 +931,10 @@ public class DefaultJobPersistence implements JobPersistence {
                           final OffsetDateTime updatedAtEnd)
       throws IOException {
     return jobDatabase.query(ctx -> ctx.selectCount().from(JOBS)
-        .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+        .where(configTypeIn(configTypes))
         .and(connectionId == null ? DSL.noCondition()
             : JOBS.SCOPE.eq(connectionId))
-        .and(statuses == null ? DSL.noCondition()
-            : JOBS.STATUS.in(statuses.stream()
-                .map(status -> io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(toSqlName(status)))
-                .collect(Collectors.toList())))
+        .and(statusIn(statuses))
         .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
         .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
         .and(updatedAtStart == null ? DSL.noCondition() : JOBS.UPDATED_AT.ge(updatedAtStart))
@@ -896,15 +945,14 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
-          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+      final var jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
+          .where(configTypeIn(configTypes))
           .and(configId == null ? DSL.noCondition()
               : JOBS.SCOPE.eq(configId))
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
-          .limit(pagesize)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .limit(pagesize);
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(JOBS_SUBQUERY) + ORDER_BY_JOB_TIME_ATTEMPT_TIME, jobsSubquery));
     });
   }
 
@@ -922,25 +970,21 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByMethod)
       throws IOException {
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
-          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+      final var jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
+          .where(configTypeIn(configTypes))
           .and(configId == null ? DSL.noCondition()
               : JOBS.SCOPE.eq(configId))
-          .and(statuses == null ? DSL.noCondition()
-              : JOBS.STATUS.in(statuses.stream()
-                  .map(status -> io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(toSqlName(status)))
-                  .collect(Collectors.toList())))
+          .and(statusIn(statuses))
           .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
           .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
           .and(updatedAtStart == null ? DSL.noCondition() : JOBS.UPDATED_AT.ge(updatedAtStart))
           .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
           .limit(limit)
-          .offset(offset)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .offset(offset);
 
       LOGGER.debug("jobs subquery: {}", jobsSubquery);
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + buildJobOrderByString(orderByField, orderByMethod)));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(JOBS_SUBQUERY) + buildJobOrderByString(orderByField, orderByMethod), jobsSubquery));
     });
   }
 
@@ -959,27 +1003,23 @@ public class DefaultJobPersistence implements JobPersistence {
       throws IOException {
 
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(JOBS.asterisk()).from(JOBS)
+      final var jobsSubquery = ctx.select(JOBS.asterisk()).from(JOBS)
           .join(Tables.CONNECTION)
           .on(Tables.CONNECTION.ID.eq(JOBS.SCOPE.cast(UUID.class)))
           .join(Tables.ACTOR)
           .on(Tables.ACTOR.ID.eq(Tables.CONNECTION.SOURCE_ID))
-          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
-          .and(Tables.ACTOR.WORKSPACE_ID.in(workspaceIds))
-          .and(statuses == null ? DSL.noCondition()
-              : JOBS.STATUS.in(statuses.stream()
-                  .map(status -> io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(toSqlName(status)))
-                  .collect(Collectors.toList())))
+          .where(configTypeIn(configTypes))
+          .and(Tables.ACTOR.WORKSPACE_ID.eq(DSL.any(workspaceIds.toArray(UUID[]::new))))
+          .and(statusIn(statuses))
           .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
           .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
           .and(updatedAtStart == null ? DSL.noCondition() : JOBS.UPDATED_AT.ge(updatedAtStart))
           .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
           .limit(limit)
-          .offset(offset)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .offset(offset);
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + buildJobOrderByString(orderByField, orderByMethod)));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(JOBS_SUBQUERY) + buildJobOrderByString(orderByField, orderByMethod), jobsSubquery));
     });
   }
 
@@ -999,7 +1039,7 @@ public class DefaultJobPersistence implements JobPersistence {
   public List<Job> listJobsIncludingId(final Set<ConfigType> configTypes, final String connectionId, final long includingJobId, final int pagesize)
       throws IOException {
     final Optional<OffsetDateTime> includingJobCreatedAt = jobDatabase.query(ctx -> ctx.select(JOBS.CREATED_AT).from(JOBS)
-        .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+        .where(configTypeIn(configTypes))
         .and(connectionId == null ? DSL.noCondition()
             : JOBS.SCOPE.eq(connectionId))
         .and(JOBS.ID.eq(includingJobId))
@@ -1013,7 +1053,7 @@ public class DefaultJobPersistence implements JobPersistence {
     }
 
     final int countIncludingJob = jobDatabase.query(ctx -> ctx.selectCount().from(JOBS)
-        .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+        .where(configTypeIn(configTypes))
         .and(connectionId == null ? DSL.noCondition()
             : JOBS.SCOPE.eq(connectionId))
         .and(JOBS.CREATED_AT.greaterOrEqual(includingJobCreatedAt.get()))
@@ -1033,9 +1073,10 @@ public class DefaultJobPersistence implements JobPersistence {
   public List<Job> listJobsWithStatus(final Set<ConfigType> configTypes, final JobStatus status) throws IOException {
     return jobDatabase.query(ctx -> getJobsFromResult(ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
-            + "CAST(config_type AS VARCHAR) IN " + toSqlInFragment(configTypes) + AND
+            + CONFIG_TYPE_IN_ARRAY + AND
             + "CAST(jobs.status AS VARCHAR) = ? "
             + ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+            toSqlNames(configTypes),
             toSqlName(status))));
   }
 
@@ -1050,10 +1091,12 @@ public class DefaultJobPersistence implements JobPersistence {
     return jobDatabase.query(ctx -> getJobsFromResult(ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
             + SCOPE_CLAUSE
-            + "config_type IN " + toSqlInFragment(configTypes) + AND
-            + "jobs.status IN " + toSqlInFragment(statuses) + " "
+            + CONFIG_TYPE_IN_ARRAY + AND
+            + STATUS_IN_ARRAY
             + ORDER_BY_JOB_TIME_ATTEMPT_TIME,
-            connectionId.toString())));
+            connectionId.toString(),
+            toSqlNames(configTypes),
+            toSqlNames(statuses))));
   }
 
   @Override
@@ -1126,8 +1169,8 @@ public class DefaultJobPersistence implements JobPersistence {
     return jobDatabase.query(ctx -> ctx
         .fetch(JobStatusSelect + WHERE
             + SCOPE_CLAUSE
-            + "CAST(config_type AS VARCHAR) in " + toSqlInFragment(configTypes) + AND
-            + "created_at >= ? ORDER BY created_at DESC", connectionId.toString(), timeConvertedIntoLocalDateTime))
+            + CONFIG_TYPE_IN_ARRAY + AND
+            + "created_at >= ? ORDER BY created_at DESC", connectionId.toString(), toSqlNames(configTypes), timeConvertedIntoLocalDateTime))
         .stream()
         .map(r -> new JobWithStatusAndTimestamp(
             r.get("id", Long.class),
@@ -1141,10 +1184,11 @@ public class DefaultJobPersistence implements JobPersistence {
   public Optional<Job> getLastReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
-            + "CAST(jobs.config_type AS VARCHAR) in " + toSqlInFragment(Job.REPLICATION_TYPES) + AND
+            + CONFIG_TYPE_IN_ARRAY + AND
             + SCOPE_CLAUSE
             + "CAST(jobs.status AS VARCHAR) <> ? "
             + ORDER_BY_JOB_CREATED_AT_DESC + LIMIT_1,
+            toSqlNames(Job.REPLICATION_TYPES),
             connectionId.toString(),
             toSqlName(JobStatus.CANCELLED))
         .stream()
@@ -1180,9 +1224,10 @@ public class DefaultJobPersistence implements JobPersistence {
         .fetch("SELECT DISTINCT ON (scope) jobs.scope, jobs.created_at, jobs.status "
             + " FROM jobs "
             + WHERE + "CAST(jobs.config_type AS VARCHAR) = ? "
-            + AND + scopeInList(connectionIds)
+            + AND + SCOPE_IN_ARRAY
             + "ORDER BY scope, created_at DESC",
-            toSqlName(ConfigType.SYNC))
+            toSqlName(ConfigType.SYNC),
+            toScopes(connectionIds))
         .stream()
         .map(r -> new JobStatusSummary(UUID.fromString(r.get("scope", String.class)), getEpoch(r, "created_at"),
             JobStatus.valueOf(r.get("status", String.class).toUpperCase())))
@@ -1202,31 +1247,29 @@ public class DefaultJobPersistence implements JobPersistence {
     return jobDatabase.query(ctx -> ctx
         .fetch("SELECT DISTINCT ON (scope) * FROM jobs "
             + WHERE + "CAST(jobs.config_type AS VARCHAR) = ? "
-            + AND + scopeInList(connectionIds)
+            + AND + SCOPE_IN_ARRAY
             + AND + JOB_STATUS_IS_NON_TERMINAL
             + "ORDER BY scope, created_at DESC",
-            toSqlName(ConfigType.SYNC))
+            toSqlName(ConfigType.SYNC),
+            toScopes(connectionIds))
         .stream()
         .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class)).stream())
         .collect(Collectors.toList()));
   }
 
-  private String scopeInList(final Collection<UUID> connectionIds) {
-    return String.format("scope IN (%s) ",
-        connectionIds.stream()
-            .map(UUID::toString)
-            .map(Names::singleQuote)
-            .collect(Collectors.joining(",")));
+  private static String[] toScopes(final Collection<UUID> connectionIds) {
+    return connectionIds.stream().map(UUID::toString).toArray(String[]::new);
   }
 
   @Override
   public Optional<Job> getFirstReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
-            + "CAST(jobs.config_type AS VARCHAR) in " + toSqlInFragment(Job.REPLICATION_TYPES) + AND
+            + CONFIG_TYPE_IN_ARRAY + AND
             + SCOPE_CLAUSE
             + "CAST(jobs.status AS VARCHAR) <> ? "
             + "ORDER BY jobs.created_at ASC LIMIT 1",
+            toSqlNames(Job.REPLICATION_TYPES),
             connectionId.toString(),
             toSqlName(JobStatus.CANCELLED))
         .stream()
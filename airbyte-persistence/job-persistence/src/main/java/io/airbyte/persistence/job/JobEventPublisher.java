@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job;
+
+import io.airbyte.persistence.job.models.JobEvent;
+
+/**
+ * Receives the job and attempt status changes once they are committed by the job persistence, so
+ * that they can be pushed to the clients instead of having them poll the jobs.
+ */
+@FunctionalInterface
+public interface JobEventPublisher {
+
+  JobEventPublisher NOOP = new JobEventPublisher() {
+
+    @Override
+    public void publish(final JobEvent event) {}
+
+    @Override
+    public boolean hasSubscribers() {
+      return false;
+    }
+
+  };
+
+  /**
+   * Publish a status change. Called on the thread that wrote it, so it should not block.
+   *
+   * @param event status change
+   */
+  void publish(JobEvent event);
+
+  /**
+   * Whether a published change can reach a subscriber. The job persistence does not build the
+   * changes nobody receives.
+   *
+   * @return false if there is no subscriber to the changes, true if there is or might be one
+   */
+  default boolean hasSubscribers() {
+    return true;
+  }
+
+}
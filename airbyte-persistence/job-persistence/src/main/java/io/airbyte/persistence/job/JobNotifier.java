@@ -30,6 +30,7 @@ import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.notification.CustomerioNotificationClient;
 import io.airbyte.notification.NotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.notification.messages.ConnectionInfo;
 import io.airbyte.notification.messages.DestinationInfo;
@@ -70,17 +71,32 @@ public class JobNotifier {
   private final WebUrlHelper webUrlHelper;
   private final WorkspaceHelper workspaceHelper;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private final NotificationDispatcher notificationDispatcher;
 
   public JobNotifier(final WebUrlHelper webUrlHelper,
                      final ConfigRepository configRepository,
                      final WorkspaceHelper workspaceHelper,
                      final TrackingClient trackingClient,
                      final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+    this(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, null);
+  }
+
+  /**
+   * When a {@link NotificationDispatcher} is given, notifications are delivered in the background
+   * instead of on the thread of the caller.
+   */
+  public JobNotifier(final WebUrlHelper webUrlHelper,
+                     final ConfigRepository configRepository,
+                     final WorkspaceHelper workspaceHelper,
+                     final TrackingClient trackingClient,
+                     final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                     final NotificationDispatcher notificationDispatcher) {
     this.webUrlHelper = webUrlHelper;
     this.workspaceHelper = workspaceHelper;
     this.configRepository = configRepository;
     this.trackingClient = trackingClient;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
+    this.notificationDispatcher = notificationDispatcher;
   }
 
   private void notifyJob(final String reason, final String action, final Job job, List<JobPersistence.AttemptStats> attemptStats) {
@@ -239,6 +255,7 @@ public class JobNotifier {
   }
 
   private void sendNotification(final NotificationItem notificationItem,
+                                final UUID workspaceId,
                                 final String notificationTrigger,
                                 final ThrowingFunction<NotificationClient, Boolean, Exception> executeNotification) {
     if (notificationItem == null) {
@@ -248,6 +265,11 @@ public class JobNotifier {
     }
     final List<NotificationClient> notificationClients = getNotificationClientsFromNotificationItem(notificationItem);
     for (final NotificationClient notificationClient : notificationClients) {
+      if (notificationDispatcher != null) {
+        notificationDispatcher.dispatch(getNotificationDestination(notificationItem, notificationClient, workspaceId),
+            notificationClient.getNotificationClientType(), notificationTrigger, () -> executeNotification.apply(notificationClient));
+        continue;
+      }
       try {
         if (!executeNotification.apply(notificationClient)) {
           LOGGER.warn("Failed to successfully notify: {}", notificationItem);
@@ -261,6 +283,20 @@ public class JobNotifier {
 
   }
 
+  /**
+   * Key the dispatcher rate limits notifications by: the webhook for Slack, the workspace for the
+   * clients that send to a shared API (e.g. customer.io) so that workspaces do not share a limit.
+   */
+  private static String getNotificationDestination(final NotificationItem notificationItem,
+                                                   final NotificationClient notificationClient,
+                                                   final UUID workspaceId) {
+    if (notificationClient instanceof SlackNotificationClient && notificationItem.getSlackConfiguration() != null
+        && notificationItem.getSlackConfiguration().getWebhook() != null) {
+      return notificationItem.getSlackConfiguration().getWebhook();
+    }
+    return notificationClient.getNotificationClientType() + "/" + workspaceId;
+  }
+
   private NotificationItem createAndSend(final NotificationSettings notificationSettings,
                                          final String action,
                                          final UUID connectionId,
@@ -309,20 +345,20 @@ public class JobNotifier {
     if (notificationSettings != null) {
       if (FAILURE_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnFailure();
-        sendNotification(notificationItem, FAILURE_NOTIFICATION,
+        sendNotification(notificationItem, workspaceId, FAILURE_NOTIFICATION,
             (notificationClient) -> notificationClient.notifyJobFailure(summary, workspace.getEmail()));
       } else if (SUCCESS_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnSuccess();
-        sendNotification(notificationItem, SUCCESS_NOTIFICATION,
+        sendNotification(notificationItem, workspaceId, SUCCESS_NOTIFICATION,
             (notificationClient) -> notificationClient.notifyJobSuccess(summary, workspace.getEmail()));
       } else if (CONNECTION_DISABLED_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnSyncDisabled();
-        sendNotification(notificationItem, CONNECTION_DISABLED_NOTIFICATION,
+        sendNotification(notificationItem, workspaceId, CONNECTION_DISABLED_NOTIFICATION,
             (notificationClient) -> notificationClient.notifyConnectionDisabled(workspace.getEmail(),
                 sourceConnector, destinationConnector, jobDescription, workspace.getWorkspaceId(), connectionId));
       } else if (CONNECTION_DISABLED_WARNING_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnSyncDisabledWarning();
-        sendNotification(notificationItem, CONNECTION_DISABLED_WARNING_NOTIFICATION,
+        sendNotification(notificationItem, workspaceId, CONNECTION_DISABLED_WARNING_NOTIFICATION,
             (notificationClient) -> notificationClient.notifyConnectionDisableWarning(workspace.getEmail(),
                 sourceConnector, destinationConnector, jobDescription, workspace.getWorkspaceId(), connectionId));
       }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job.models;
+
+import io.airbyte.config.JobConfig.ConfigType;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+/**
+ * Change of the status of a job or of one of its attempts, as written by the job persistence.
+ *
+ * @param jobId id of the job
+ * @param configType type of the job
+ * @param scope scope of the job, the connection id for syncs and resets
+ * @param jobStatus status of the job after the change
+ * @param attemptNumber number of the attempt that changed, null if only the job changed
+ * @param attemptStatus status of the attempt after the change, null if only the job changed
+ * @param workspaceId workspace of the connection of a sync or reset, once resolved by the receiver
+ *        of the change. Null for the other jobs.
+ */
+public record JobEvent(long jobId,
+                       ConfigType configType,
+                       String scope,
+                       JobStatus jobStatus,
+                       @Nullable Integer attemptNumber,
+                       @Nullable AttemptStatus attemptStatus,
+                       @Nullable UUID workspaceId) {
+
+  public static JobEvent ofJob(final Job job, final JobStatus jobStatus) {
+    return new JobEvent(job.getId(), job.getConfigType(), job.getScope(), jobStatus, null, null, null);
+  }
+
+  public static JobEvent ofAttempt(final Job job, final JobStatus jobStatus, final int attemptNumber, final AttemptStatus attemptStatus) {
+    return new JobEvent(job.getId(), job.getConfigType(), job.getScope(), jobStatus, attemptNumber, attemptStatus, null);
+  }
+
+  public JobEvent withWorkspaceId(@Nullable final UUID workspaceId) {
+    return new JobEvent(jobId, configType, scope, jobStatus, attemptNumber, attemptStatus, workspaceId);
+  }
+
+}
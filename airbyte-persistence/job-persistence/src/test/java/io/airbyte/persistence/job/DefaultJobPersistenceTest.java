@@ -55,6 +55,7 @@ import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.AttemptStatus;
 import io.airbyte.persistence.job.models.AttemptWithJobInfo;
 import io.airbyte.persistence.job.models.Job;
+import io.airbyte.persistence.job.models.JobEvent;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
@@ -79,9 +80,12 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -2709,4 +2713,154 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When querying with lists of values")
+  class QueryShapes {
+
+    private final Set<String> statements = new HashSet<>();
+
+    @BeforeEach
+    void setup() {
+      // records the SQL of every statement run by the persistence
+      final DSLContext recordingContext = dslContext.configuration()
+          .derive(new DefaultExecuteListenerProvider(new ExecuteListener() {
+
+            @Override
+            public void executeStart(final ExecuteContext ctx) {
+              statements.add(ctx.sql());
+            }
+
+          }))
+          .dsl();
+      jobPersistence = new DefaultJobPersistence(new Database(recordingContext), timeSupplier, DEFAULT_MINIMUM_AGE_IN_DAYS,
+          DEFAULT_EXCESSIVE_NUMBER_OF_JOBS, DEFAULT_MINIMUM_RECENCY_COUNT);
+    }
+
+    @Test
+    @DisplayName("Should list jobs with the same statement whatever the config types and page size")
+    void testListJobs() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      statements.clear();
+
+      assertEquals(1, jobPersistence.listJobs(Set.of(ConfigType.SYNC), SCOPE, 10).size());
+      assertEquals(1, jobPersistence.listJobs(Set.of(ConfigType.SYNC, ConfigType.RESET_CONNECTION), SCOPE, 20).size());
+      assertEquals(0, jobPersistence.listJobs(Set.of(ConfigType.SYNC), CONNECTION_ID2.toString(), 20).size());
+
+      assertEquals(1, statements.size());
+    }
+
+    @Test
+    @DisplayName("Should get the stats of any number of jobs with the same statements")
+    void testGetAttemptStats() throws IOException {
+      final long jobOneId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int jobOneAttempt = jobPersistence.createAttempt(jobOneId, LOG_PATH);
+      jobPersistence.writeStats(jobOneId, jobOneAttempt, 1000L, 1000L, 1000L, 1000L, 1000L, 1000L, List.of());
+      final long jobTwoId = jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      final int jobTwoAttempt = jobPersistence.createAttempt(jobTwoId, LOG_PATH);
+      jobPersistence.writeStats(jobTwoId, jobTwoAttempt, 1000L, 1000L, 1000L, 1000L, 1000L, 1000L, List.of());
+      statements.clear();
+
+      assertEquals(1, jobPersistence.getAttemptStats(List.of(jobOneId)).size());
+      assertEquals(2, jobPersistence.getAttemptStats(List.of(jobOneId, jobTwoId)).size());
+
+      // one statement for the sync stats, one for the stream stats
+      assertEquals(2, statements.size());
+    }
+
+    @Test
+    @DisplayName("Should get the last sync job of any number of connections with the same statement")
+    void testGetLastSyncJobForConnections() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      statements.clear();
+
+      assertEquals(1, jobPersistence.getLastSyncJobForConnections(List.of(CONNECTION_ID)).size());
+      assertEquals(2, jobPersistence.getLastSyncJobForConnections(List.of(CONNECTION_ID, CONNECTION_ID2)).size());
+
+      assertEquals(1, statements.size());
+    }
+
+  }
+
+  @Nested
+  @DisplayName("When publishing status changes")
+  class Events {
+
+    private final List<JobEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+      jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, DEFAULT_MINIMUM_AGE_IN_DAYS, DEFAULT_EXCESSIVE_NUMBER_OF_JOBS,
+          DEFAULT_MINIMUM_RECENCY_COUNT, events::add);
+    }
+
+    @Test
+    @DisplayName("Should publish every job and attempt status change")
+    void testStatusChanges() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int firstAttempt = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.failAttempt(jobId, firstAttempt);
+      final int secondAttempt = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.succeedAttempt(jobId, secondAttempt);
+
+      assertEquals(List.of(
+          new JobEvent(jobId, ConfigType.SYNC, SCOPE, JobStatus.PENDING, null, null, null),
+          new JobEvent(jobId, ConfigType.SYNC, SCOPE, JobStatus.RUNNING, firstAttempt, AttemptStatus.RUNNING, null),
+          new JobEvent(jobId, ConfigType.SYNC, SCOPE, JobStatus.INCOMPLETE, firstAttempt, AttemptStatus.FAILED, null),
+          new JobEvent(jobId, ConfigType.SYNC, SCOPE, JobStatus.RUNNING, secondAttempt, AttemptStatus.RUNNING, null),
+          new JobEvent(jobId, ConfigType.SYNC, SCOPE, JobStatus.SUCCEEDED, secondAttempt, AttemptStatus.SUCCEEDED, null)), events);
+    }
+
+    @Test
+    @DisplayName("Should not publish changes of jobs that are already terminal")
+    void testTerminalJob() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(jobId);
+      jobPersistence.failJob(jobId);
+
+      assertEquals(List.of(
+          new JobEvent(jobId, ConfigType.SYNC, SCOPE, JobStatus.PENDING, null, null, null),
+          new JobEvent(jobId, ConfigType.SYNC, SCOPE, JobStatus.CANCELLED, null, null, null)), events);
+    }
+
+    @Test
+    @DisplayName("Should not publish when the publisher has no subscribers")
+    void testNoSubscribers() throws IOException {
+      jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, DEFAULT_MINIMUM_AGE_IN_DAYS, DEFAULT_EXCESSIVE_NUMBER_OF_JOBS,
+          DEFAULT_MINIMUM_RECENCY_COUNT, new JobEventPublisher() {
+
+            @Override
+            public void publish(final JobEvent event) {
+              events.add(event);
+            }
+
+            @Override
+            public boolean hasSubscribers() {
+              return false;
+            }
+
+          });
+
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(jobId);
+
+      assertEquals(List.of(), events);
+    }
+
+    @Test
+    @DisplayName("Should not fail the write when the event cannot be published")
+    void testPublisherFailure() throws IOException {
+      jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, DEFAULT_MINIMUM_AGE_IN_DAYS, DEFAULT_EXCESSIVE_NUMBER_OF_JOBS,
+          DEFAULT_MINIMUM_RECENCY_COUNT, event -> {
+            throw new IllegalStateException("unavailable");
+          });
+
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(jobId);
+
+      assertEquals(JobStatus.CANCELLED, jobPersistence.getJob(jobId).getStatus());
+    }
+
+  }
+
 }
@@ -30,6 +30,8 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.notification.NotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
+import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.notification.messages.SyncSummary;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
@@ -45,6 +47,7 @@ import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
@@ -172,6 +175,41 @@ class JobNotifierTest {
         ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
   }
 
+  @Test
+  void testNotificationIsDispatchedInTheBackground() throws Exception {
+    final NotificationDispatcher notificationDispatcher = mock(NotificationDispatcher.class);
+    final JobNotifier dispatchingJobNotifier = Mockito.spy(
+        new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, notificationDispatcher));
+    final SlackNotificationClient slackNotificationClient = mock(SlackNotificationClient.class);
+    when(dispatchingJobNotifier.getNotificationClientsFromNotificationItem(slackNotificationItem())).thenReturn(List.of(slackNotificationClient));
+    when(slackNotificationClient.getNotificationClientType()).thenReturn("slack");
+
+    dispatchingJobNotifier.failJob("JobNotifierTest was running", job, new ArrayList<>());
+
+    final ArgumentCaptor<NotificationDispatcher.Delivery> delivery = ArgumentCaptor.forClass(NotificationDispatcher.Delivery.class);
+    verify(notificationDispatcher).dispatch(ArgumentMatchers.eq("http://random.webhook.url/hooks.slack.com/"), ArgumentMatchers.eq("slack"),
+        ArgumentMatchers.eq(JobNotifier.FAILURE_NOTIFICATION), delivery.capture());
+    verify(slackNotificationClient, never()).notifyJobFailure(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+    delivery.getValue().deliver();
+    verify(slackNotificationClient).notifyJobFailure(ArgumentMatchers.any(), ArgumentMatchers.eq(null));
+  }
+
+  @Test
+  void testCustomerioNotificationsAreRateLimitedPerWorkspace() {
+    final NotificationDispatcher notificationDispatcher = mock(NotificationDispatcher.class);
+    final JobNotifier dispatchingJobNotifier = Mockito.spy(
+        new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, notificationDispatcher));
+    when(dispatchingJobNotifier.getNotificationClientsFromNotificationItem(customerioNotificationItem()))
+        .thenReturn(List.of(customerIoNotificationClient));
+    when(customerIoNotificationClient.getNotificationClientType()).thenReturn("customerio");
+
+    dispatchingJobNotifier.autoDisableConnectionWarning(job, new ArrayList<>());
+
+    verify(notificationDispatcher).dispatch(ArgumentMatchers.eq("customerio/" + WORKSPACE_ID), ArgumentMatchers.eq("customerio"),
+        ArgumentMatchers.eq(JobNotifier.CONNECTION_DISABLED_WARNING_NOTIFICATION), ArgumentMatchers.any());
+  }
+
   private static StandardWorkspace getWorkspace() {
     return new StandardWorkspace()
         .withWorkspaceId(WORKSPACE_ID)
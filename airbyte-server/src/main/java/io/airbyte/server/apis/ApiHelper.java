@@ -11,6 +11,7 @@ import io.airbyte.commons.server.errors.BadObjectSchemaKnownException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.OperationNotAllowedException;
 import io.airbyte.config.persistence.ConfigNotFoundException;
+import io.airbyte.db.ReadReplica;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -51,6 +52,19 @@ public class ApiHelper {
     }
   }
 
+  /**
+   * Execute an api call that only reads, letting its queries be served by the read replica of the
+   * database if there is one. Only for calls that do not need to see the writes of the last seconds,
+   * such as listing resources.
+   */
+  static <T> T executeOnReadReplica(final HandlerCall<T> call) {
+    return execute(() -> {
+      try (final ReadReplica.Scope ignored = ReadReplica.preferReplica()) {
+        return call.call();
+      }
+    });
+  }
+
   interface HandlerCall<T> {
 
     T call() throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException;
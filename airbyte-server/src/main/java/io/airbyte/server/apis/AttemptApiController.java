@@ -11,6 +11,8 @@ import static io.airbyte.commons.auth.AuthRoleConstants.WORKSPACE_READER;
 
 import io.airbyte.api.generated.AttemptApi;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
+import io.airbyte.api.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberRequest;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
@@ -52,6 +54,16 @@ public class AttemptApiController implements AttemptApi {
         .execute(() -> attemptHandler.getAttemptForJob(requestBody.getJobId(), requestBody.getAttemptNumber()));
   }
 
+  @Override
+  @Post(uri = "/get_logs",
+        processes = MediaType.APPLICATION_JSON)
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Secured({READER, WORKSPACE_READER, ORGANIZATION_READER})
+  @SecuredWorkspace
+  public AttemptLogsRead getAttemptLogs(final AttemptLogsRequestBody requestBody) {
+    return ApiHelper.execute(() -> attemptHandler.getAttemptLogs(requestBody));
+  }
+
   @Override
   @Post(uri = "/create_new_attempt_number",
         processes = MediaType.APPLICATION_JSON)
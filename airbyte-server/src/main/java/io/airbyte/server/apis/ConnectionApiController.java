@@ -16,6 +16,7 @@ import io.airbyte.api.generated.ConnectionApi;
 import io.airbyte.api.model.generated.ActorDefinitionRequestBody;
 import io.airbyte.api.model.generated.ConnectionAutoPropagateResult;
 import io.airbyte.api.model.generated.ConnectionAutoPropagateSchemaChange;
+import io.airbyte.api.model.generated.ConnectionBulkSyncResultRead;
 import io.airbyte.api.model.generated.ConnectionCreate;
 import io.airbyte.api.model.generated.ConnectionDataHistoryReadItem;
 import io.airbyte.api.model.generated.ConnectionDataHistoryRequestBody;
@@ -32,6 +33,7 @@ import io.airbyte.api.model.generated.ConnectionSyncProgressReadItem;
 import io.airbyte.api.model.generated.ConnectionSyncResultRead;
 import io.airbyte.api.model.generated.ConnectionUpdate;
 import io.airbyte.api.model.generated.ConnectionUptimeHistoryRequestBody;
+import io.airbyte.api.model.generated.ConnectionsSyncRequestBody;
 import io.airbyte.api.model.generated.GetTaskQueueNameRequest;
 import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.api.model.generated.JobInfoRead;
@@ -117,7 +119,7 @@ public class ConnectionApiController implements ConnectionApi {
   @SecuredWorkspace
   @ExecuteOn(AirbyteTaskExecutors.IO)
   public ConnectionReadList listConnectionsForWorkspace(@Body final WorkspaceIdRequestBody workspaceIdRequestBody) {
-    return ApiHelper.execute(() -> connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody));
+    return ApiHelper.executeOnReadReplica(() -> connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody));
   }
 
   @SuppressWarnings("LineLength")
@@ -128,7 +130,7 @@ public class ConnectionApiController implements ConnectionApi {
   @Override
   public ConnectionReadList listConnectionsForWorkspacesPaginated(
                                                                   @Body final ListConnectionsForWorkspacesRequestBody listConnectionsForWorkspacesRequestBody) {
-    return ApiHelper.execute(() -> connectionsHandler.listConnectionsForWorkspaces(listConnectionsForWorkspacesRequestBody));
+    return ApiHelper.executeOnReadReplica(() -> connectionsHandler.listConnectionsForWorkspaces(listConnectionsForWorkspacesRequestBody));
   }
 
   @Override
@@ -137,7 +139,7 @@ public class ConnectionApiController implements ConnectionApi {
   @SecuredWorkspace
   @ExecuteOn(AirbyteTaskExecutors.IO)
   public ConnectionReadList listAllConnectionsForWorkspace(@Body final WorkspaceIdRequestBody workspaceIdRequestBody) {
-    return ApiHelper.execute(() -> connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody));
+    return ApiHelper.executeOnReadReplica(() -> connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody));
   }
 
   @Override
@@ -169,7 +171,7 @@ public class ConnectionApiController implements ConnectionApi {
   @SecuredWorkspace
   @ExecuteOn(AirbyteTaskExecutors.IO)
   public List<ConnectionDataHistoryReadItem> getConnectionDataHistory(@Body final ConnectionDataHistoryRequestBody connectionDataHistoryRequestBody) {
-    return ApiHelper.execute(() -> connectionsHandler.getConnectionDataHistory(connectionDataHistoryRequestBody));
+    return ApiHelper.executeOnReadReplica(() -> connectionsHandler.getConnectionDataHistory(connectionDataHistoryRequestBody));
   }
 
   @Override
@@ -189,7 +191,7 @@ public class ConnectionApiController implements ConnectionApi {
   @ExecuteOn(AirbyteTaskExecutors.IO)
   public List<ConnectionStreamHistoryReadItem> getConnectionStreamHistory(
                                                                           @Body final ConnectionStreamHistoryRequestBody connectionStreamHistoryRequestBody) {
-    return ApiHelper.execute(() -> connectionsHandler.getConnectionStreamHistory(connectionStreamHistoryRequestBody));
+    return ApiHelper.executeOnReadReplica(() -> connectionsHandler.getConnectionStreamHistory(connectionStreamHistoryRequestBody));
   }
 
   @Override
@@ -233,6 +235,15 @@ public class ConnectionApiController implements ConnectionApi {
     return ApiHelper.execute(() -> schedulerHandler.syncConnection(connectionIdRequestBody));
   }
 
+  @Override
+  @Post(uri = "/sync_bulk")
+  @Secured({EDITOR, WORKSPACE_EDITOR, ORGANIZATION_EDITOR})
+  @SecuredWorkspace
+  @ExecuteOn(AirbyteTaskExecutors.SCHEDULER)
+  public List<ConnectionBulkSyncResultRead> syncConnections(@Body final ConnectionsSyncRequestBody connectionsSyncRequestBody) {
+    return ApiHelper.execute(() -> schedulerHandler.syncConnections(connectionsSyncRequestBody));
+  }
+
   @Override
   @Post(uri = "/reset")
   @Secured({EDITOR, WORKSPACE_EDITOR, ORGANIZATION_EDITOR})
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.apis;
+
+import static io.airbyte.commons.auth.AuthRoleConstants.ORGANIZATION_READER;
+import static io.airbyte.commons.auth.AuthRoleConstants.READER;
+import static io.airbyte.commons.auth.AuthRoleConstants.WORKSPACE_READER;
+
+import io.airbyte.api.model.generated.AttemptStatus;
+import io.airbyte.api.model.generated.ConnectionIdRequestBody;
+import io.airbyte.api.model.generated.JobConfigType;
+import io.airbyte.api.model.generated.JobEventRead;
+import io.airbyte.api.model.generated.JobStatus;
+import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
+import io.airbyte.commons.auth.SecuredWorkspace;
+import io.airbyte.commons.enums.Enums;
+import io.airbyte.persistence.job.models.Job;
+import io.airbyte.persistence.job.models.JobEvent;
+import io.airbyte.server.events.JobEventBus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.sse.Event;
+import io.micronaut.security.annotation.Secured;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Predicate;
+import reactor.core.publisher.Flux;
+
+/**
+ * Server-sent events of the job and attempt status changes, for clients to follow the jobs of a
+ * connection or workspace without polling them.
+ * <p>
+ * Only the changes made after the client subscribed are sent, clients read the jobs once when they
+ * subscribe and again when they re-subscribe after losing the stream. A heartbeat is sent while no
+ * job changes, so that the proxies in front of the server do not close the stream as idle.
+ * <p>
+ * Declared in the config API spec, but not implemented from its generated interface, which cannot
+ * return a stream.
+ */
+@Controller("/api/v1/jobs/events")
+public class JobEventsApiController {
+
+  // well below the idle timeout of the usual proxies and load balancers, about a minute
+  static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(20);
+
+  private final JobEventBus jobEventBus;
+
+  public JobEventsApiController(final JobEventBus jobEventBus) {
+    this.jobEventBus = jobEventBus;
+  }
+
+  @Secured({READER, WORKSPACE_READER, ORGANIZATION_READER})
+  @SecuredWorkspace
+  @Post(uri = "/connection",
+        produces = MediaType.TEXT_EVENT_STREAM)
+  public Flux<Event<?>> streamConnectionJobEvents(@Body final ConnectionIdRequestBody connectionIdRequestBody) {
+    final String scope = connectionIdRequestBody.getConnectionId().toString();
+    return stream(jobEventBus.events(), event -> isReplication(event) && scope.equals(event.scope()));
+  }
+
+  @Secured({READER, WORKSPACE_READER, ORGANIZATION_READER})
+  @SecuredWorkspace
+  @Post(uri = "/workspace",
+        produces = MediaType.TEXT_EVENT_STREAM)
+  public Flux<Event<?>> streamWorkspaceJobEvents(@Body final WorkspaceIdRequestBody workspaceIdRequestBody) {
+    final UUID workspaceId = workspaceIdRequestBody.getWorkspaceId();
+    return stream(jobEventBus.workspaceEvents(), event -> isReplication(event) && workspaceId.equals(event.workspaceId()));
+  }
+
+  private Flux<Event<?>> stream(final Flux<JobEvent> jobEvents, final Predicate<JobEvent> filter) {
+    final Flux<Event<?>> events = jobEvents
+        .filter(filter)
+        .<Event<?>>map(event -> Event.of(toRead(event)).name("job_status"));
+    final Flux<Event<?>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+        .<Event<?>>map(tick -> Event.of("").name("heartbeat"));
+    return Flux.merge(events, heartbeats);
+  }
+
+  private static JobEventRead toRead(final JobEvent event) {
+    return new JobEventRead()
+        .jobId(event.jobId())
+        .configType(Enums.convertTo(event.configType(), JobConfigType.class))
+        .connectionId(UUID.fromString(event.scope()))
+        .workspaceId(event.workspaceId())
+        .jobStatus(Enums.convertTo(event.jobStatus(), JobStatus.class))
+        .attemptNumber(event.attemptNumber())
+        .attemptStatus(Enums.convertTo(event.attemptStatus(), AttemptStatus.class));
+  }
+
+  // only syncs and resets belong to a connection
+  private static boolean isReplication(final JobEvent event) {
+    return Job.REPLICATION_TYPES.contains(event.configType());
+  }
+
+}
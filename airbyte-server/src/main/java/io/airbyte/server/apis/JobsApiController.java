@@ -195,7 +195,7 @@ public class JobsApiController implements JobsApi {
   @ExecuteOn(AirbyteTaskExecutors.IO)
   @Override
   public JobReadList listJobsFor(final JobListRequestBody jobListRequestBody) {
-    return ApiHelper.execute(() -> jobHistoryHandler.listJobsFor(jobListRequestBody));
+    return ApiHelper.executeOnReadReplica(() -> jobHistoryHandler.listJobsFor(jobListRequestBody));
   }
 
   @Post("/list_for_workspaces")
@@ -204,7 +204,7 @@ public class JobsApiController implements JobsApi {
   @ExecuteOn(AirbyteTaskExecutors.IO)
   @Override
   public JobReadList listJobsForWorkspaces(final JobListForWorkspacesRequestBody requestBody) {
-    return ApiHelper.execute(() -> jobHistoryHandler.listJobsForWorkspaces(requestBody));
+    return ApiHelper.executeOnReadReplica(() -> jobHistoryHandler.listJobsForWorkspaces(requestBody));
   }
 
   @Post("/reportJobStart")
@@ -9,6 +9,7 @@ import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.commons.server.scheduler.TemporalEventRunner;
+import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
@@ -21,6 +22,7 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.MetricEmittingApps;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.persistence.job.DefaultJobCreator;
 import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
@@ -31,14 +33,21 @@ import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
 import io.airbyte.persistence.job.factory.SyncJobFactory;
 import io.airbyte.persistence.job.tracker.JobTracker;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.TaskExecutors;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.net.http.HttpClient;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 /**
@@ -75,13 +84,29 @@ public class ApplicationBeanFactory {
                                  final TrackingClient trackingClient,
                                  final WebUrlHelper webUrlHelper,
                                  final WorkspaceHelper workspaceHelper,
-                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                                 final Optional<NotificationDispatcher> notificationDispatcher) {
     return new JobNotifier(
         webUrlHelper,
         configRepository,
         workspaceHelper,
         trackingClient,
-        actorDefinitionVersionHelper);
+        actorDefinitionVersionHelper,
+        notificationDispatcher.orElse(null));
+  }
+
+  @Singleton
+  @Requires(property = "airbyte.notification.dispatch.enabled",
+            value = "true")
+  @Bean(preDestroy = "close")
+  public NotificationDispatcher notificationDispatcher(@Value("${airbyte.notification.dispatch.queue-capacity}") final int queueCapacity,
+                                                       @Value("${airbyte.notification.dispatch.max-attempts}") final int maxAttempts,
+                                                       @Value("${airbyte.notification.dispatch.initial-backoff}") final Duration initialBackoff,
+                                                       @Value("${airbyte.notification.dispatch.permits-per-second-per-destination}") final double permitsPerSecondPerDestination,
+                                                       @Named(AirbyteTaskExecutors.NOTIFICATION_DISPATCH) final ExecutorService deliveries,
+                                                       @Named(TaskExecutors.SCHEDULED) final ScheduledExecutorService delays,
+                                                       final MetricClient metricClient) {
+    return new NotificationDispatcher(queueCapacity, maxAttempts, initialBackoff, permitsPerSecondPerDestination, deliveries, delays, metricClient);
   }
 
   @Singleton
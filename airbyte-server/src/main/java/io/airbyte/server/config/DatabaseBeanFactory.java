@@ -23,6 +23,7 @@ import io.airbyte.data.services.OrganizationService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.db.Database;
+import io.airbyte.db.ReadReplica;
 import io.airbyte.db.check.DatabaseMigrationCheck;
 import io.airbyte.db.check.impl.JobsDatabaseAvailabilityCheck;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -30,16 +31,22 @@ import io.airbyte.db.factory.DatabaseCheckFactory;
 import io.airbyte.db.instance.DatabaseConstants;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import io.airbyte.persistence.job.DefaultMetadataPersistence;
+import io.airbyte.persistence.job.JobEventPublisher;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.MetadataPersistence;
+import io.airbyte.server.events.JobEventBus;
+import io.airbyte.server.events.PostgresJobEventRelay;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.flyway.FlywayConfigurationProperties;
 import io.micronaut.transaction.jdbc.DelegatingDataSource;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.Optional;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
@@ -62,8 +69,8 @@ public class DatabaseBeanFactory {
 
   @Singleton
   @Named("configDatabase")
-  public Database configDatabase(@Named("config") final DSLContext dslContext) throws IOException {
-    return new Database(unwrapContext(dslContext));
+  public Database configDatabase(@Named("config") final DSLContext dslContext, final Optional<ReadReplica> readReplica) throws IOException {
+    return new Database(unwrapContext(dslContext), readReplica);
   }
 
   @Singleton
@@ -125,8 +132,23 @@ public class DatabaseBeanFactory {
   }
 
   @Singleton
-  public JobPersistence jobPersistence(@Named("configDatabase") final Database jobDatabase) {
-    return new DefaultJobPersistence(jobDatabase);
+  public JobPersistence jobPersistence(@Named("configDatabase") final Database jobDatabase,
+                                       final JobEventBus jobEventBus,
+                                       final Optional<PostgresJobEventRelay> jobEventRelay) {
+    return new DefaultJobPersistence(jobDatabase, jobEventRelay.<JobEventPublisher>map(relay -> relay).orElse(jobEventBus));
+  }
+
+  @Singleton
+  @Bean(preDestroy = "close")
+  @Requires(property = "airbyte.database.job-events.postgres-relay.enabled",
+            value = "true")
+  public PostgresJobEventRelay jobEventRelay(@Named("config") final DataSource dataSource,
+                                             @Value("${datasources.config.url}") final String url,
+                                             @Value("${datasources.config.username}") final String username,
+                                             @Value("${datasources.config.password}") final String password,
+                                             @Value("${airbyte.database.job-events.postgres-relay.channel}") final String channel,
+                                             final JobEventBus jobEventBus) {
+    return new PostgresJobEventRelay(unwrapDataSource(dataSource), url, username, password, channel, jobEventBus);
   }
 
   @Singleton
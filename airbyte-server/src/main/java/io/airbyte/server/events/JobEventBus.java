@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.events;
+
+import io.airbyte.persistence.job.JobEventPublisher;
+import io.airbyte.persistence.job.WorkspaceHelper;
+import io.airbyte.persistence.job.models.Job;
+import io.airbyte.persistence.job.models.JobEvent;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * In-process bus of the job and attempt status changes, to which the event streams of the clients
+ * subscribe.
+ * <p>
+ * Publishing never blocks the writer of the change: each subscriber consumes the events on its own
+ * thread, and a subscriber that falls too far behind loses its oldest events rather than slowing
+ * down the others.
+ * <p>
+ * The workspace of a change is resolved here, once per change and only while a subscriber follows
+ * the changes of a workspace, so that writing a job does not look it up for nobody.
+ */
+@Singleton
+public class JobEventBus implements JobEventPublisher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobEventBus.class);
+
+  // events buffered for a subscriber that does not keep up
+  static final int SUBSCRIBER_BUFFER_SIZE = 256;
+
+  private final Sinks.Many<JobEvent> sink = Sinks.many().multicast().directBestEffort();
+  private final AtomicInteger workspaceSubscribers = new AtomicInteger();
+  private final Function<UUID, UUID> connectionToWorkspace;
+
+  // the workspace helper depends on the job persistence, which publishes to this bus
+  @Inject
+  public JobEventBus(final Provider<WorkspaceHelper> workspaceHelper) {
+    this(connectionId -> workspaceHelper.get().getWorkspaceForConnectionIdIgnoreExceptions(connectionId));
+  }
+
+  /**
+   * Bus resolving the workspace of the changes with the given function.
+   *
+   * @param connectionToWorkspace returns the workspace of a connection, null if it is unknown
+   */
+  public JobEventBus(final Function<UUID, UUID> connectionToWorkspace) {
+    this.connectionToWorkspace = connectionToWorkspace;
+  }
+
+  @Override
+  public void publish(final JobEvent event) {
+    final JobEvent resolved = workspaceSubscribers.get() > 0 ? withWorkspace(event) : event;
+    // the sink must not be emitted to concurrently
+    synchronized (sink) {
+      sink.tryEmitNext(resolved);
+    }
+  }
+
+  @Override
+  public boolean hasSubscribers() {
+    return sink.currentSubscriberCount() > 0;
+  }
+
+  /**
+   * Stream of the events published from now on.
+   *
+   * @return the events
+   */
+  public Flux<JobEvent> events() {
+    return sink.asFlux()
+        .onBackpressureBuffer(SUBSCRIBER_BUFFER_SIZE, BufferOverflowStrategy.DROP_OLDEST)
+        .publishOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Stream of the events published from now on, with the workspace of the syncs and resets set.
+   *
+   * @return the events
+   */
+  public Flux<JobEvent> workspaceEvents() {
+    return Flux.defer(() -> {
+      workspaceSubscribers.incrementAndGet();
+      return events().doFinally(signal -> workspaceSubscribers.decrementAndGet());
+    });
+  }
+
+  // null if the workspace cannot be read, the change is then only seen by the subscribers to its
+  // connection
+  private JobEvent withWorkspace(final JobEvent event) {
+    if (event.workspaceId() != null || !Job.REPLICATION_TYPES.contains(event.configType())) {
+      return event;
+    }
+    try {
+      return event.withWorkspaceId(connectionToWorkspace.apply(UUID.fromString(event.scope())));
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Could not read the workspace of job {}", event.jobId(), e);
+      return event;
+    }
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.events;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.persistence.job.JobEventPublisher;
+import io.airbyte.persistence.job.models.JobEvent;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Relays the job and attempt status changes between the server replicas with Postgres
+ * LISTEN/NOTIFY, so that a client sees the changes written by any replica whichever replica it is
+ * connected to.
+ * <p>
+ * Changes are sent on a channel of the jobs database instead of being published locally, and every
+ * replica, including the one that wrote the change, publishes the notifications it receives on its
+ * {@link JobEventBus}. Each replica listens on a connection of its own, outside of the connection
+ * pool, which it keeps for as long as it runs. Notifications sent while a replica is reconnecting
+ * to the database are lost for that replica, the clients then only see the change the next time
+ * they read the job.
+ * <p>
+ * Every change is sent, since the other replicas may have subscribers. The workspace of a change is
+ * resolved by the buses that receive it.
+ */
+public class PostgresJobEventRelay implements JobEventPublisher, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PostgresJobEventRelay.class);
+
+  // LISTEN takes an identifier, which cannot be a bind value
+  private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+  private final DataSource dataSource;
+  private final String url;
+  private final String username;
+  private final String password;
+  private final String channel;
+  private final JobEventBus jobEventBus;
+  private final Thread listener;
+
+  private volatile boolean running = true;
+  private volatile boolean listening;
+
+  public PostgresJobEventRelay(final DataSource dataSource,
+                               final String url,
+                               final String username,
+                               final String password,
+                               final String channel,
+                               final JobEventBus jobEventBus) {
+    Preconditions.checkArgument(CHANNEL_PATTERN.matcher(channel).matches(), "Invalid job event channel: %s", channel);
+    this.dataSource = dataSource;
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.channel = channel;
+    this.jobEventBus = jobEventBus;
+    this.listener = Thread.ofPlatform().name("job-event-relay").daemon(true).start(this::listen);
+  }
+
+  @Override
+  public void publish(final JobEvent event) {
+    try (final Connection connection = dataSource.getConnection();
+        final PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+      statement.setString(1, channel);
+      statement.setString(2, Jsons.serialize(event));
+      statement.execute();
+    } catch (final SQLException e) {
+      // the other replicas miss the change, the clients connected to this one still see it
+      LOGGER.warn("Could not relay the status change of job {}", event.jobId(), e);
+      jobEventBus.publish(event);
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (final Connection connection = DriverManager.getConnection(url, username, password)) {
+        try (final Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        listening = true;
+        LOGGER.info("Listening to the job events of channel {}", channel);
+        while (running) {
+          final PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT.toMillis());
+          if (notifications != null) {
+            for (final PGNotification notification : notifications) {
+              relay(notification);
+            }
+          }
+        }
+      } catch (final SQLException e) {
+        listening = false;
+        if (running) {
+          LOGGER.warn("Lost the connection listening to the job events, reconnecting in {}", RECONNECT_DELAY, e);
+          try {
+            Thread.sleep(RECONNECT_DELAY);
+          } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  @VisibleForTesting
+  boolean isListening() {
+    return listening;
+  }
+
+  private void relay(final PGNotification notification) {
+    try {
+      jobEventBus.publish(Jsons.deserialize(notification.getParameter(), JobEvent.class));
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Ignoring an invalid job event: {}", notification.getParameter(), e);
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    listener.interrupt();
+    listener.join(POLL_TIMEOUT.toMillis());
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.apis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.api.model.generated.AttemptStatus;
+import io.airbyte.api.model.generated.ConnectionIdRequestBody;
+import io.airbyte.api.model.generated.JobConfigType;
+import io.airbyte.api.model.generated.JobEventRead;
+import io.airbyte.api.model.generated.JobStatus;
+import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.persistence.job.models.JobEvent;
+import io.airbyte.server.events.JobEventBus;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class JobEventsApiControllerTest {
+
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+  private static final UUID WORKSPACE_ID = UUID.randomUUID();
+  private static final JobEvent RUNNING = new JobEvent(1L, ConfigType.SYNC, CONNECTION_ID.toString(),
+      io.airbyte.persistence.job.models.JobStatus.RUNNING, 0, io.airbyte.persistence.job.models.AttemptStatus.RUNNING, WORKSPACE_ID);
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private JobEventBus jobEventBus;
+  private JobEventsApiController controller;
+
+  @BeforeEach
+  void setup() {
+    jobEventBus = new JobEventBus(connectionId -> null);
+    controller = new JobEventsApiController(jobEventBus);
+  }
+
+  @Test
+  void testConnectionStreamSendsTheChangesOfTheConnection() {
+    StepVerifier.create(controller.streamConnectionJobEvents(new ConnectionIdRequestBody().connectionId(CONNECTION_ID)).take(1))
+        .then(() -> {
+          jobEventBus.publish(new JobEvent(2L, ConfigType.SYNC, UUID.randomUUID().toString(),
+              io.airbyte.persistence.job.models.JobStatus.PENDING, null, null, WORKSPACE_ID));
+          jobEventBus.publish(RUNNING);
+        })
+        .assertNext(event -> {
+          assertEquals("job_status", event.getName());
+          assertEquals(new JobEventRead()
+              .jobId(1L)
+              .configType(JobConfigType.SYNC)
+              .connectionId(CONNECTION_ID)
+              .workspaceId(WORKSPACE_ID)
+              .jobStatus(JobStatus.RUNNING)
+              .attemptNumber(0)
+              .attemptStatus(AttemptStatus.RUNNING), event.getData());
+        })
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  void testWorkspaceStreamFiltersOnTheWorkspaceOfTheChange() {
+    StepVerifier.create(controller.streamWorkspaceJobEvents(new WorkspaceIdRequestBody().workspaceId(WORKSPACE_ID)).take(1))
+        .then(() -> {
+          jobEventBus.publish(RUNNING.withWorkspaceId(UUID.randomUUID()));
+          jobEventBus.publish(RUNNING.withWorkspaceId(null));
+          jobEventBus.publish(RUNNING);
+        })
+        .assertNext(event -> assertEquals(WORKSPACE_ID, ((JobEventRead) event.getData()).getWorkspaceId()))
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  void testHeartbeatIsSentWhileNoJobChanges() {
+    StepVerifier.withVirtualTime(() -> controller.streamWorkspaceJobEvents(new WorkspaceIdRequestBody().workspaceId(WORKSPACE_ID)))
+        .expectSubscription()
+        .expectNoEvent(JobEventsApiController.HEARTBEAT_INTERVAL.minusSeconds(1))
+        .thenAwait(Duration.ofSeconds(1))
+        .assertNext(event -> assertEquals("heartbeat", event.getName()))
+        .thenCancel()
+        .verify(TIMEOUT);
+  }
+
+}
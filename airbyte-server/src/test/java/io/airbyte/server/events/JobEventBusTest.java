@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.persistence.job.models.AttemptStatus;
+import io.airbyte.persistence.job.models.JobEvent;
+import io.airbyte.persistence.job.models.JobStatus;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.test.StepVerifier;
+
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+class JobEventBusTest {
+
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+  private static final UUID WORKSPACE_ID = UUID.randomUUID();
+  private static final String SCOPE = CONNECTION_ID.toString();
+  private static final JobEvent PENDING = new JobEvent(1L, ConfigType.SYNC, SCOPE, JobStatus.PENDING, null, null, null);
+  private static final JobEvent RUNNING = new JobEvent(1L, ConfigType.SYNC, SCOPE, JobStatus.RUNNING, 0, AttemptStatus.RUNNING, null);
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private AtomicInteger workspaceLookups;
+  private JobEventBus jobEventBus;
+
+  @BeforeEach
+  void setup() {
+    workspaceLookups = new AtomicInteger();
+    jobEventBus = new JobEventBus(connectionId -> {
+      workspaceLookups.incrementAndGet();
+      return CONNECTION_ID.equals(connectionId) ? WORKSPACE_ID : null;
+    });
+  }
+
+  @Test
+  void testEventsArePublishedToEverySubscriber() {
+    final StepVerifier first = StepVerifier.create(jobEventBus.events().take(2)).expectNext(PENDING, RUNNING).expectComplete().verifyLater();
+    final StepVerifier second = StepVerifier.create(jobEventBus.events().take(2)).expectNext(PENDING, RUNNING).expectComplete().verifyLater();
+
+    jobEventBus.publish(PENDING);
+    jobEventBus.publish(RUNNING);
+
+    first.verify(TIMEOUT);
+    second.verify(TIMEOUT);
+  }
+
+  @Test
+  void testEventsPublishedBeforeSubscribingAreNotReplayed() {
+    jobEventBus.publish(PENDING);
+
+    StepVerifier.create(jobEventBus.events().take(1))
+        .then(() -> jobEventBus.publish(RUNNING))
+        .expectNext(RUNNING)
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  void testHasSubscribersOnlyWhileAStreamIsOpen() {
+    assertFalse(jobEventBus.hasSubscribers());
+
+    final Disposable subscription = jobEventBus.events().subscribe();
+    assertTrue(jobEventBus.hasSubscribers());
+
+    subscription.dispose();
+    assertFalse(jobEventBus.hasSubscribers());
+  }
+
+  @Test
+  void testWorkspaceIsOnlyResolvedForTheWorkspaceStreams() {
+    StepVerifier.create(jobEventBus.events().take(1))
+        .then(() -> jobEventBus.publish(PENDING))
+        .expectNext(PENDING)
+        .expectComplete()
+        .verify(TIMEOUT);
+    assertEquals(0, workspaceLookups.get());
+
+    StepVerifier.create(jobEventBus.workspaceEvents().take(1))
+        .then(() -> jobEventBus.publish(RUNNING))
+        .expectNext(RUNNING.withWorkspaceId(WORKSPACE_ID))
+        .expectComplete()
+        .verify(TIMEOUT);
+    assertEquals(1, workspaceLookups.get());
+
+    // the workspace stream is closed
+    jobEventBus.publish(PENDING);
+    assertEquals(1, workspaceLookups.get());
+  }
+
+  @Test
+  void testSubscriberWithoutDemandDoesNotHoldBackTheOthers() {
+    final BaseSubscriber<JobEvent> idle = new BaseSubscriber<>() {
+
+      @Override
+      protected void hookOnSubscribe(final Subscription subscription) {
+        // never requests any event
+      }
+
+    };
+    jobEventBus.events().subscribe(idle);
+
+    StepVerifier.create(jobEventBus.events().take(JobEventBus.SUBSCRIBER_BUFFER_SIZE * 4L))
+        .then(() -> {
+          for (int i = 0; i < JobEventBus.SUBSCRIBER_BUFFER_SIZE * 4; i++) {
+            jobEventBus.publish(PENDING);
+          }
+        })
+        .expectNextCount(JobEventBus.SUBSCRIBER_BUFFER_SIZE * 4L)
+        .expectComplete()
+        .verify(TIMEOUT);
+    idle.dispose();
+  }
+
+}
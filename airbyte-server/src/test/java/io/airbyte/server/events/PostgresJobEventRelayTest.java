@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.persistence.job.models.AttemptStatus;
+import io.airbyte.persistence.job.models.JobEvent;
+import io.airbyte.persistence.job.models.JobStatus;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Runs two relays on the same database, as two server replicas would.
+ */
+class PostgresJobEventRelayTest {
+
+  private static final String CHANNEL = "job_events_test";
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+  private static final JobEvent EVENT =
+      new JobEvent(42L, ConfigType.SYNC, UUID.randomUUID().toString(), JobStatus.INCOMPLETE, 1, AttemptStatus.FAILED, UUID.randomUUID());
+
+  private static PostgreSQLContainer<?> container;
+  private static DataSource dataSource;
+
+  private JobEventBus firstBus;
+  private JobEventBus secondBus;
+  private PostgresJobEventRelay firstRelay;
+  private PostgresJobEventRelay secondRelay;
+
+  @BeforeAll
+  static void dbSetup() {
+    container = new PostgreSQLContainer<>("postgres:13-alpine");
+    container.start();
+    dataSource = DataSourceFactory.create(container.getUsername(), container.getPassword(), container.getDriverClassName(), container.getJdbcUrl());
+  }
+
+  @AfterAll
+  static void dbDown() throws Exception {
+    DataSourceFactory.close(dataSource);
+    container.close();
+  }
+
+  @BeforeEach
+  void setup() throws InterruptedException {
+    firstBus = new JobEventBus(connectionId -> null);
+    secondBus = new JobEventBus(connectionId -> null);
+    firstRelay = createRelay(firstBus);
+    secondRelay = createRelay(secondBus);
+    awaitListening(firstRelay);
+    awaitListening(secondRelay);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    firstRelay.close();
+    secondRelay.close();
+  }
+
+  @Test
+  void testEventsReachEveryReplica() throws ExecutionException, InterruptedException, TimeoutException {
+    final CompletableFuture<JobEvent> firstReceived = firstBus.events().next().toFuture();
+    final CompletableFuture<JobEvent> secondReceived = secondBus.events().next().toFuture();
+
+    firstRelay.publish(EVENT);
+
+    assertEquals(EVENT, firstReceived.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+    assertEquals(EVENT, secondReceived.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testInvalidChannel() {
+    assertThrows(IllegalArgumentException.class, () -> createRelay("job-events; DROP TABLE jobs", new JobEventBus(connectionId -> null)));
+  }
+
+  private static PostgresJobEventRelay createRelay(final JobEventBus jobEventBus) {
+    return createRelay(CHANNEL, jobEventBus);
+  }
+
+  private static PostgresJobEventRelay createRelay(final String channel, final JobEventBus jobEventBus) {
+    return new PostgresJobEventRelay(dataSource, container.getJdbcUrl(), container.getUsername(), container.getPassword(), channel, jobEventBus);
+  }
+
+  private static void awaitListening(final PostgresJobEventRelay relay) throws InterruptedException {
+    final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!relay.isListening() && System.nanoTime() < deadline) {
+      Thread.sleep(100);
+    }
+    assertTrue(relay.isListening(), "the relay is not listening");
+  }
+
+}
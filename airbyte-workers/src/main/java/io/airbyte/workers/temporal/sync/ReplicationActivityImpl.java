@@ -28,6 +28,8 @@ import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.helpers.LogConfigs;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
+import io.airbyte.featureflag.CachingFeatureFlagClient;
+import io.airbyte.featureflag.EvaluationScope;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricAttribute;
@@ -158,20 +160,25 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     return HeartbeatUtils.withBackgroundHeartbeat(
         cancellationCallback,
         () -> {
-          final ReplicationInput hydratedReplicationInput = replicationInputHydrator.getHydratedReplicationInput(replicationActivityInput);
-          LOGGER.info("connection {}, hydrated input: {}", replicationActivityInput.getConnectionId(), hydratedReplicationInput);
+          final ReplicationInput hydratedReplicationInput;
           final Worker<ReplicationInput, ReplicationOutput> worker;
 
-          // TODO: remove this once migration to workloads complete
-          if (useWorkloadApi(replicationActivityInput)) {
-            worker = new WorkloadApiWorker(documentStoreClient, podNameGenerator, jobOutputDocStore, airbyteApiClient,
-                workloadApi, workloadIdGenerator, replicationActivityInput, featureFlagClient);
-          } else {
-            final CheckedSupplier<Worker<ReplicationInput, ReplicationOutput>, Exception> workerFactory =
-                orchestratorHandleFactory.create(hydratedReplicationInput.getSourceLauncherConfig(),
-                    hydratedReplicationInput.getDestinationLauncherConfig(), hydratedReplicationInput.getJobRunConfig(), hydratedReplicationInput,
-                    () -> context);
-            worker = workerFactory.get();
+          // the flags read while setting up the attempt are resolved once
+          try (final EvaluationScope ignored = CachingFeatureFlagClient.openEvaluationScope(featureFlagClient)) {
+            hydratedReplicationInput = replicationInputHydrator.getHydratedReplicationInput(replicationActivityInput);
+            LOGGER.info("connection {}, hydrated input: {}", replicationActivityInput.getConnectionId(), hydratedReplicationInput);
+
+            // TODO: remove this once migration to workloads complete
+            if (useWorkloadApi(replicationActivityInput)) {
+              worker = new WorkloadApiWorker(documentStoreClient, podNameGenerator, jobOutputDocStore, airbyteApiClient,
+                  workloadApi, workloadIdGenerator, replicationActivityInput, featureFlagClient);
+            } else {
+              final CheckedSupplier<Worker<ReplicationInput, ReplicationOutput>, Exception> workerFactory =
+                  orchestratorHandleFactory.create(hydratedReplicationInput.getSourceLauncherConfig(),
+                      hydratedReplicationInput.getDestinationLauncherConfig(), hydratedReplicationInput.getJobRunConfig(), hydratedReplicationInput,
+                      () -> context);
+              worker = workerFactory.get();
+            }
           }
           cancellationCallback.set(worker::cancel);
 
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.api.client.AirbyteApiClient;
@@ -147,6 +148,8 @@ class DefaultDiscoverCatalogWorkerTest {
         ArgumentCaptor.forClass(SourceDiscoverSchemaWriteRequestBody.class);
     verify(mSourceApi).writeDiscoverCatalogResult(argument.capture());
     assertEquals(CatalogClientConverters.toAirbyteCatalogClientApi(CATALOG), argument.getValue().getCatalog());
+    // the inlined catalog is the one the server persists from the request
+    assertEquals(CatalogClientConverters.toAirbyteProtocol(argument.getValue().getCatalog()), output.getDiscoverCatalog());
     assertEquals(SOURCE_ID, argument.getValue().getSourceId());
     assertFalse(output.getConnectorConfigurationUpdated());
     verifyNoInteractions(connectorConfigUpdater);
@@ -160,6 +163,23 @@ class DefaultDiscoverCatalogWorkerTest {
     verify(process).exitValue();
   }
 
+  @Test
+  void testLargeCatalogIsNotInlined() throws Exception {
+    // 100k characters but 300kB of UTF-8, over the inline limit
+    final AirbyteStream stream = CatalogHelpers.createAirbyteStream(STREAM, Field.of(COLUMN_NAME, JsonSchemaType.STRING));
+    ((ObjectNode) stream.getJsonSchema()).put("description", "\u20ac".repeat(100_000));
+    final AirbyteCatalog largeCatalog = new AirbyteCatalog().withStreams(List.of(stream));
+    final AirbyteStreamFactory largeCatalogStreamFactory =
+        noop -> Lists.newArrayList(new AirbyteMessage().withType(Type.CATALOG).withCatalog(largeCatalog)).stream();
+
+    final DefaultDiscoverCatalogWorker worker =
+        new DefaultDiscoverCatalogWorker(mAirbyteApiClient, integrationLauncher, connectorConfigUpdater, largeCatalogStreamFactory);
+    final ConnectorJobOutput output = worker.run(INPUT, jobRoot);
+
+    assertEquals(CATALOG_ID, output.getDiscoverCatalogId());
+    assertNull(output.getDiscoverCatalog());
+  }
+
   @SuppressWarnings("BusyWait")
   @Test
   void testDiscoverSchemaWithConfigUpdate() throws Exception {
@@ -18,6 +18,7 @@ dependencies {
     implementation(libs.bundles.micronaut)
     implementation(libs.bundles.temporal)
     implementation(libs.bundles.temporal.telemetry)
+    implementation(libs.apache.commons)
     implementation(libs.failsafe)
     implementation(libs.failsafe.okhttp)
     implementation(libs.kubernetes.client)
@@ -68,6 +68,14 @@ enum class WorkloadLauncherMetricMetadata(
     "workload_stage_duration",
     "a distribution of the duration of a workload stage",
   ),
+  WORKLOAD_STAGE_QUEUE_DEPTH(
+    "workload_stage_queue_depth",
+    "number of workloads waiting for a stage executor",
+  ),
+  WORKLOAD_STAGE_QUEUE_WAIT(
+    "workload_stage_queue_wait",
+    "a distribution of the time a workload waited for a stage executor",
+  ),
   PODS_DELETED_FOR_MUTEX_KEY(
     "workload_pods_deleted_for_mutex_key",
     "existing pods for the provided mutex key were found and deleted",
@@ -84,6 +92,10 @@ enum class WorkloadLauncherMetricMetadata(
     "producer_to_consumer_start_latency_ms",
     "the time it takes to produce a message until it is consumed",
   ),
+  KUBE_COPY_FILES_DURATION(
+    "workload_launcher_kube_copy_files_duration",
+    "tracks the time it takes to deliver the config files to a pod",
+  ),
   PRODUCER_TO_POD_STARTED_LATENCY_MS(
     "producer_to_pod_started_latency_ms",
     "the time it takes to produce a message until it is fully processed",
@@ -13,8 +13,10 @@ import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
 import io.airbyte.workload.launcher.pipeline.handlers.FailureHandler
 import io.airbyte.workload.launcher.pipeline.handlers.SuccessHandler
+import io.airbyte.workload.launcher.pipeline.stages.StageName
 import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStage
 import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
+import io.airbyte.workload.launcher.pipeline.stages.model.StageFunction
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
@@ -22,6 +24,8 @@ import jakarta.inject.Singleton
 import reactor.core.publisher.Mono
 import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
+import java.util.Optional
+import java.util.function.Function
 import kotlin.time.TimeSource
 import kotlin.time.toJavaDuration
 
@@ -39,6 +43,7 @@ class LaunchPipeline(
   private val failureHandler: FailureHandler,
   private val metricPublisher: CustomMetricPublisher,
   private val ctxFactory: LogContextFactory,
+  private val stageExecutors: Optional<StageExecutors> = Optional.empty(),
 ) {
   @Trace(operationName = LAUNCH_PIPELINE_OPERATION_NAME)
   fun accept(msg: LauncherInput) {
@@ -49,13 +54,15 @@ class LaunchPipeline(
       MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
     )
     buildPipeline(msg)
+      .doFinally {
+        metricPublisher.timer(
+          WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
+          startTime.elapsedNow().toJavaDuration(),
+          MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
+        )
+      }
       .subscribeOn(Schedulers.immediate())
       .subscribe()
-    metricPublisher.timer(
-      WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
-      startTime.elapsedNow().toJavaDuration(),
-      MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
-    )
   }
 
   fun buildPipeline(msg: LauncherInput): Mono<LaunchStageIO> {
@@ -65,15 +72,36 @@ class LaunchPipeline(
 
     return input
       .toMono()
-      .flatMap(claim)
-      .flatMap(check)
-      .flatMap(build)
-      .flatMap(mutex)
-      .flatMap(launch)
+      .flatMap(scheduled(claim, StageName.CLAIM))
+      .flatMap(scheduled(check, StageName.CHECK_STATUS))
+      .flatMap(scheduled(build, StageName.BUILD))
+      .flatMap(scheduled(mutex, StageName.MUTEX))
+      .flatMap(scheduled(launch, StageName.LAUNCH))
       .onErrorResume { e -> failureHandler.apply(e, input) }
       .doOnNext(successHandler::accept)
   }
 
+  /**
+   * Without stage executors, stages run on the calling thread. With them, each stage runs on the
+   * executor of the stage and the pipeline only hands the workload over.
+   */
+  private fun scheduled(
+    stage: LaunchStage,
+    stageName: StageName,
+  ): StageFunction<LaunchStageIO> {
+    if (stageExecutors.isEmpty) {
+      return stage
+    }
+    val executor = stageExecutors.get().get(stageName)
+    return Function { io: LaunchStageIO ->
+      Mono.create<LaunchStageIO> { sink ->
+        executor.submit(io.msg.workloadType) {
+          stage.apply(io).subscribe({ sink.success(it) }, { sink.error(it) }, { sink.success() })
+        }
+      }
+    }
+  }
+
   private fun addTagsToTrace(msg: LauncherInput) {
     val commonTags = hashMapOf<String, Any>()
     commonTags[DATA_PLANE_ID_TAG] = dataplaneId
@@ -0,0 +1,108 @@
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.config.WorkloadType
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.STAGE_NAME_TAG
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import java.time.Duration
+import java.util.concurrent.PriorityBlockingQueue
+import java.util.concurrent.Semaphore
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Runs the work of one launch pipeline stage on its own pool of threads.
+ *
+ * At most `parallelism` tasks run at once and at most `queueCapacity` wait; submitting past that
+ * blocks the caller, which pushes back on the previous stage and, eventually, on the queue
+ * consumer. Waiting tasks are picked by workload priority first (check, discover and spec before
+ * sync), then in submission order.
+ */
+class StageExecutor(
+  val stageName: StageName,
+  parallelism: Int,
+  queueCapacity: Int,
+  private val metricPublisher: CustomMetricPublisher,
+) : AutoCloseable {
+  private val queue = PriorityBlockingQueue<Runnable>()
+  private val permits = Semaphore(parallelism + queueCapacity)
+  private val sequence = AtomicLong()
+  private val executor =
+    ThreadPoolExecutor(
+      parallelism,
+      parallelism,
+      0L,
+      TimeUnit.MILLISECONDS,
+      queue,
+      Thread.ofPlatform().name("launch-stage-${stageName.name.lowercase()}-", 0).daemon(true).factory(),
+    )
+
+  init {
+    // the tasks are only started from the queue so that they are always picked by priority
+    executor.prestartAllCoreThreads()
+    metricPublisher.gauge(
+      WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_QUEUE_DEPTH,
+      queue,
+      { it.size.toDouble() },
+      MetricAttribute(STAGE_NAME_TAG, stageName.toString()),
+    )
+  }
+
+  /**
+   * Queues the task, blocking while the stage is at capacity.
+   */
+  fun submit(
+    workloadType: WorkloadType,
+    task: Runnable,
+  ) {
+    permits.acquire()
+    try {
+      executor.execute(PrioritizedTask(priorityOf(workloadType), sequence.getAndIncrement(), System.nanoTime(), task))
+    } catch (e: Exception) {
+      permits.release()
+      throw e
+    }
+  }
+
+  fun queueDepth(): Int = queue.size
+
+  override fun close() {
+    executor.shutdownNow()
+  }
+
+  private inner class PrioritizedTask(
+    val priority: Int,
+    val sequence: Long,
+    val enqueuedAtNanos: Long,
+    val task: Runnable,
+  ) : Runnable, Comparable<PrioritizedTask> {
+    override fun run() {
+      metricPublisher.timer(
+        WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_QUEUE_WAIT,
+        Duration.ofNanos(System.nanoTime() - enqueuedAtNanos),
+        MetricAttribute(STAGE_NAME_TAG, stageName.toString()),
+      )
+      try {
+        task.run()
+      } finally {
+        permits.release()
+      }
+    }
+
+    override fun compareTo(other: PrioritizedTask): Int {
+      return compareValuesBy(this, other, PrioritizedTask::priority, PrioritizedTask::sequence)
+    }
+  }
+
+  companion object {
+    private const val HIGH_PRIORITY = 0
+    private const val LOW_PRIORITY = 1
+
+    fun priorityOf(workloadType: WorkloadType): Int {
+      return if (workloadType == WorkloadType.SYNC) LOW_PRIORITY else HIGH_PRIORITY
+    }
+  }
+}
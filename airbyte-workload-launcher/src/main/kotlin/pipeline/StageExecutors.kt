@@ -0,0 +1,41 @@
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+
+/**
+ * One [StageExecutor] per launch pipeline stage. The mutex and launch stages wait on pods, so they
+ * get their own parallelism setting. With the pod state informer enabled, the launch stage only
+ * holds its thread while it creates the pod, its waits complete without one.
+ */
+@Singleton
+@Requires(property = "airbyte.workload-launcher.pipeline.scheduler.enabled", value = "true")
+class StageExecutors(
+  @Value("\${airbyte.workload-launcher.pipeline.scheduler.parallelism:10}") parallelism: Int,
+  @Value("\${airbyte.workload-launcher.pipeline.scheduler.mutex-parallelism:10}") mutexParallelism: Int,
+  @Value("\${airbyte.workload-launcher.pipeline.scheduler.launch-parallelism:20}") launchParallelism: Int,
+  @Value("\${airbyte.workload-launcher.pipeline.scheduler.queue-capacity:100}") queueCapacity: Int,
+  metricPublisher: CustomMetricPublisher,
+) {
+  private val executors: Map<StageName, StageExecutor> =
+    StageName.entries.associateWith { stageName ->
+      val stageParallelism =
+        when (stageName) {
+          StageName.MUTEX -> mutexParallelism
+          StageName.LAUNCH -> launchParallelism
+          else -> parallelism
+        }
+      StageExecutor(stageName, stageParallelism, queueCapacity, metricPublisher)
+    }
+
+  fun get(stageName: StageName): StageExecutor = executors.getValue(stageName)
+
+  @PreDestroy
+  fun close() {
+    executors.values.forEach { it.close() }
+  }
+}
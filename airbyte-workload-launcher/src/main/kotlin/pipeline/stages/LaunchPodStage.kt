@@ -35,14 +35,19 @@ open class LaunchPodStage(private val launcher: PodClient, metricPublisher: Cust
   }
 
   override fun applyStage(input: LaunchStageIO): LaunchStageIO {
+    return applyStageAsync(input).block()!!
+  }
+
+  override fun applyStageAsync(input: LaunchStageIO): Mono<LaunchStageIO> {
     val payload = input.payload!!
 
-    when (payload) {
-      is SyncPayload -> launcher.launchReplication(payload.input, input.msg)
-      is CheckPayload -> launcher.launchCheck(payload.input, input.msg)
-    }
+    val launch =
+      when (payload) {
+        is SyncPayload -> launcher.launchReplication(payload.input, input.msg)
+        is CheckPayload -> launcher.launchCheck(payload.input, input.msg)
+      }
 
-    return input
+    return launch.thenReturn(input)
   }
 
   override fun getStageName(): StageName {
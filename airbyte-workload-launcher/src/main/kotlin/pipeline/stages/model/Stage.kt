@@ -31,28 +31,48 @@ abstract class Stage<T : StageIO>(protected val metricPublisher: CustomMetricPub
       }
 
       val startTime = TimeSource.Monotonic.markNow()
-      var success = true
 
       logger.info { "APPLY Stage: ${getStageName()} — (workloadId = ${input.msg.workloadId})" }
 
-      return try {
-        applyStage(input).toMono()
-      } catch (t: Throwable) {
-        success = false
-        ApmTraceUtils.addExceptionToTrace(t)
-        Mono.error(StageError(input, getStageName(), t))
-      } finally {
-        metricPublisher.timer(
-          WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_DURATION,
-          startTime.elapsedNow().toJavaDuration(),
-          *getMetricAttrs(input).toTypedArray(),
-          MetricAttribute(STAGE_NAME_TAG, getStageName().toString()),
-          MetricAttribute(MetricTags.STATUS, if (success) SUCCESS_STATUS else FAILURE_STATUS),
-        )
-      }
+      val result =
+        try {
+          applyStageAsync(input)
+        } catch (t: Throwable) {
+          Mono.error(t)
+        }
+
+      return result
+        .doOnSuccess { recordDuration(input, startTime, true) }
+        .onErrorMap { t ->
+          recordDuration(input, startTime, false)
+          ApmTraceUtils.addExceptionToTrace(t)
+          StageError(input, getStageName(), t)
+        }
     }
   }
 
+  private fun recordDuration(
+    input: T,
+    startTime: TimeSource.Monotonic.ValueTimeMark,
+    success: Boolean,
+  ) {
+    metricPublisher.timer(
+      WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_DURATION,
+      startTime.elapsedNow().toJavaDuration(),
+      *getMetricAttrs(input).toTypedArray(),
+      MetricAttribute(STAGE_NAME_TAG, getStageName().toString()),
+      MetricAttribute(MetricTags.STATUS, if (success) SUCCESS_STATUS else FAILURE_STATUS),
+    )
+  }
+
+  /**
+   * Stages that wait on the cluster override this to complete once the wait is over instead of
+   * blocking the thread they are applied on. By default, the stage is applied synchronously.
+   */
+  open fun applyStageAsync(input: T): Mono<T> {
+    return applyStage(input).toMono()
+  }
+
   abstract fun applyStage(input: T): T
 
   abstract fun skipStage(input: StageIO): Boolean
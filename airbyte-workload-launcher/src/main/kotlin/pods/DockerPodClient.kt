@@ -18,6 +18,7 @@ import io.micronaut.context.annotation.Requires
 import io.micronaut.context.env.Environment
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
 import java.nio.file.Path
 import java.util.UUID
 
@@ -38,7 +39,7 @@ class DockerPodClient(
   override fun launchReplication(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     val podConfig =
       DockerPodConfig(
         jobDir = Path.of(replicationInput.getJobId()).resolve(replicationInput.getAttemptId().toString()).resolve("orchestrator"),
@@ -49,13 +50,13 @@ class DockerPodClient(
         fileMap = buildFileMap(launcherInput.workloadId, replicationInput, replicationInput.jobRunConfig),
         orchestratorReqs = replicationInput.getOrchestratorResourceReqs(),
       )
-    podLauncher.launch(podConfig)
+    return Mono.fromRunnable { podLauncher.launch(podConfig) }
   }
 
   override fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     TODO("Not yet implemented")
   }
 
@@ -1,94 +1,165 @@
 package io.airbyte.workload.launcher.pods
 
-import io.airbyte.commons.io.IOs
+import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workers.process.KubePodProcess
+import io.airbyte.workers.process.KubePodResourceHelper
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.fabric8.kubernetes.api.model.ContainerStateTerminated
 import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException
 import io.github.oshai.kotlinlogging.KotlinLogging
 import jakarta.inject.Singleton
-import java.io.IOException
-import java.nio.file.Path
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream
+import java.io.ByteArrayOutputStream
+import java.io.OutputStream
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
 
 private val logger = KotlinLogging.logger {}
 
+/**
+ * Delivers the config files of a pod to the config volume of its init container.
+ *
+ * All the files are streamed as a single tar archive over the Kubernetes exec API and extracted by
+ * the init container, which then writes the success file. This replaces one `kubectl cp` process per
+ * file.
+ */
 @Singleton
-class KubeCopyClient(private val metricClient: MetricClient) {
+class KubeCopyClient(
+  private val kubernetesClient: KubernetesClient,
+  private val metricClient: MetricClient,
+  private val metricPublisher: CustomMetricPublisher,
+) {
   fun copyFilesToKubeConfigVolumeMain(
     pod: Pod,
     files: Map<String, String>,
   ) {
-    for ((fileName, fileContents) in files.entries) {
-      val exitCode = copyFileToPod(pod, fileName, fileContents)
+    val startTimeMs = System.currentTimeMillis()
+    var status = MeterFilterFactory.FAILURE_STATUS
+    try {
+      val exitCode = streamFilesToPod(pod, files)
+
+      // NOTE (copied from KubePodProcess): Writing the success indicator file to the init
+      // container causes the container to immediately exit, which can close the exec stream
+      // before the exit code is reported. This check ensures that an error is not thrown in this
+      // case if the init container exits successfully.
       if (exitCode != 0) {
-        throw RuntimeException("kubectl cp failed with exit code $exitCode")
+        if (!initContainerSucceeded(pod)) {
+          throw RuntimeException("Copying files to ${pod.metadata.name} failed with exit code $exitCode")
+        }
+        metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_COPY_SUCCESS_OOM, 1)
       }
+      status = MeterFilterFactory.SUCCESS_STATUS
+    } finally {
+      metricPublisher.timer(
+        WorkloadLauncherMetricMetadata.KUBE_COPY_FILES_DURATION,
+        Duration.ofMillis(System.currentTimeMillis() - startTimeMs),
+        MetricAttribute(MeterFilterFactory.STATUS_TAG, status),
+      )
     }
+  }
 
-    // copy this file last to indicate that the copy has completed
-    val successFileExitCode = copyFileToPod(pod, KubePodProcess.SUCCESS_FILE_NAME, "success")
+  private fun streamFilesToPod(
+    pod: Pod,
+    files: Map<String, String>,
+  ): Int {
+    val errors = ByteArrayOutputStream()
+    val command = "tar -xf - -C ${KubePodProcess.CONFIG_DIR} && touch ${KubePodProcess.CONFIG_DIR}/${KubePodProcess.SUCCESS_FILE_NAME}"
 
-    // NOTE (copied from KubePodProcess): Copying the success indicator file to the init
-    // container causes the container to immediately exit, causing the `kubectl cp` command
-    // to exit with code 137. This check ensures that an error is not thrown in this case if
-    // the init container exits successfully.
-    // TODO: Validate the above and try to avoid 137.
-    if (successFileExitCode == 137) {
-      metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_COPY_SUCCESS_OOM, 1)
-    } else if (successFileExitCode != 0) {
-      throw RuntimeException("kubectl cp failed with exit code $successFileExitCode")
-    }
-  }
+    kubernetesClient.pods()
+      .inNamespace(pod.metadata.namespace)
+      .withName(pod.metadata.name)
+      .inContainer(KubePodProcess.INIT_CONTAINER_NAME)
+      .redirectingInput()
+      .writingError(errors)
+      .exec("sh", "-c", command)
+      .use { watch ->
+        writeTarArchive(watch.input, files)
 
-  private fun makeTmpFile(
-    fileName: String,
-    contents: String,
-  ): Path {
-    return Path.of(IOs.writeFileToRandomTmpDir(fileName, contents))
+        val exitCode: Int? =
+          try {
+            watch.exitCode().get(EXEC_TIMEOUT.toSeconds(), TimeUnit.SECONDS)
+          } catch (e: ExecutionException) {
+            logger.info(e) { "Exec stream to ${pod.metadata.name} closed before reporting an exit code." }
+            null
+          } catch (e: TimeoutException) {
+            logger.info { "Timed out waiting for the exit code of the copy to ${pod.metadata.name}." }
+            null
+          }
+        if (exitCode != 0) {
+          logger.info { "Fail to copy files to ${pod.metadata.name}. ${errors.toString(StandardCharsets.UTF_8)}" }
+        }
+        return exitCode ?: UNKNOWN_EXIT_CODE
+      }
   }
 
-  private fun copyToPodProc(
-    pod: Pod,
-    fileName: String,
-    localPath: Path,
-  ): Process {
-    val containerPath = Path.of(KubePodProcess.CONFIG_DIR + "/" + fileName)
-
-    // using kubectl cp directly here, because both fabric and the official kube client APIs have
-    // several issues with copying files. See https://github.com/airbytehq/airbyte/issues/8643 for
-    // details.
-    val command =
-      """
-      kubectl cp $localPath ${pod.metadata.namespace}/${pod.metadata.name}:$containerPath -c ${KubePodProcess.INIT_CONTAINER_NAME} --retries=3
-      """.trimMargin()
+  /**
+   * Waits for the pod to report the init container as terminated before reading its exit code: the
+   * exec stream can close before the kubelet updated the pod status, and reading a status that is
+   * still running would report a successful copy as a failure.
+   */
+  private fun initContainerSucceeded(pod: Pod): Boolean {
+    val terminated =
+      try {
+        kubernetesClient.pods()
+          .inNamespace(pod.metadata.namespace)
+          .withName(pod.metadata.name)
+          .waitUntilCondition(::initTerminatedOrPodGone, INIT_TERMINATION_TIMEOUT.toSeconds(), TimeUnit.SECONDS)
+          ?.let(::initTerminatedState)
+      } catch (e: KubernetesClientTimeoutException) {
+        logger.info { "Timed out waiting for the init container of ${pod.metadata.name} to terminate." }
+        null
+      }
 
-    return Runtime.getRuntime().exec(command)
+    return terminated?.exitCode == 0
   }
 
-  private fun copyFileToPod(
-    pod: Pod,
-    fileName: String,
-    fileContents: String,
-  ): Int {
-    var tmpFilePath: Path? = null
-    var proc: Process? = null
-    try {
-      tmpFilePath = makeTmpFile(fileName, fileContents)
-      proc = copyToPodProc(pod, fileName, tmpFilePath)
+  companion object {
+    private val EXEC_TIMEOUT = Duration.ofMinutes(1)
+    private const val UNKNOWN_EXIT_CODE = -1
+    private val INIT_TERMINATION_TIMEOUT = Duration.ofMinutes(1)
 
-      val exitCode = proc.waitFor()
-      if (exitCode != 0) {
-        logger.info { "Fail to copy file $fileName to ${pod.metadata.name}." }
-        logger.info { proc.inputReader().readLines().joinToString("\n") }
+    private fun initTerminatedState(pod: Pod): ContainerStateTerminated? {
+      return pod.status?.initContainerStatuses?.firstOrNull()?.state?.terminated
+    }
+
+    /**
+     * The init container reported its termination, or it never will because the pod is gone or
+     * terminal.
+     */
+    private fun initTerminatedOrPodGone(pod: Pod?): Boolean {
+      return pod == null || initTerminatedState(pod) != null || KubePodResourceHelper.isTerminal(pod)
+    }
+
+    /**
+     * Writes the files as a tar archive and closes the stream, which signals the end of input to
+     * the remote tar.
+     */
+    fun writeTarArchive(
+      output: OutputStream,
+      files: Map<String, String>,
+    ) {
+      TarArchiveOutputStream(output).use { tar ->
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX)
+        for ((fileName, fileContents) in files) {
+          val bytes = fileContents.toByteArray(StandardCharsets.UTF_8)
+          val entry = TarArchiveEntry(fileName)
+          entry.size = bytes.size.toLong()
+          tar.putArchiveEntry(entry)
+          tar.write(bytes)
+          tar.closeArchiveEntry()
+        }
+        tar.finish()
       }
-      return exitCode
-    } catch (e: IOException) {
-      throw RuntimeException(e)
-    } catch (e: InterruptedException) {
-      throw RuntimeException(e)
-    } finally {
-      tmpFilePath?.toFile()?.delete()
-      proc?.destroy()
     }
   }
 }
@@ -21,9 +21,10 @@ import io.fabric8.kubernetes.api.model.Pod
 import io.micronaut.context.annotation.Requires
 import io.micronaut.context.env.Environment
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
 import java.time.Duration
 import java.util.UUID
-import kotlin.time.TimeSource
+import java.util.concurrent.CompletableFuture
 
 /**
  * Interface layer between domain and Kube layers.
@@ -47,7 +48,7 @@ class KubePodClient(
   override fun launchReplication(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     val sharedLabels = labeler.getSharedLabels(launcherInput.workloadId, launcherInput.mutexKey, launcherInput.labels, launcherInput.autoId)
 
     val inputWithLabels =
@@ -59,7 +60,7 @@ class KubePodClient(
 
     val injectedJavaOpts: String = featureFlagClient.stringVariation(ContainerOrchestratorJavaOpts, Connection(replicationInput.connectionId))
     val additionalEnvVars = if (injectedJavaOpts.isNotEmpty()) mapOf("JAVA_OPTS" to injectedJavaOpts) else mapOf()
-    var pod =
+    val pod =
       orchestratorPodFactory.create(
         kubeInput.orchestratorLabels,
         kubeInput.resourceReqs,
@@ -68,42 +69,37 @@ class KubePodClient(
         kubeInput.annotations,
         additionalEnvVars,
       )
+
+    return Mono.fromCallable { createPod(pod, kubeInput.kubePodInfo.name) }
+      .flatMap { created -> waitOrchestratorPodInit(created).thenReturn(created) }
+      .doOnNext { created -> copyFileToOrchestrator(kubeInput, created) }
+      .flatMap { created -> waitForOrchestratorStart(created) }
+      // We wait for the destination first because orchestrator starts destinations first.
+      .then(waitDestinationReadyOrTerminalInit(kubeInput))
+      .then(if (replicationInput.isReset) Mono.empty<Unit>() else waitSourceReadyOrTerminalInit(kubeInput))
+      .then()
+  }
+
+  private fun createPod(
+    pod: Pod,
+    podName: String,
+  ): Pod {
     try {
-      pod =
-        kubePodLauncher.create(pod)
+      return kubePodLauncher.create(pod)
     } catch (e: RuntimeException) {
       ApmTraceUtils.addExceptionToTrace(e)
       throw KubePodInitException(
-        "Failed to create pod ${kubeInput.kubePodInfo.name}.",
+        "Failed to create pod $podName.",
         e,
       )
     }
-
-    waitOrchestratorPodInit(pod)
-
-    copyFileToOrchestrator(kubeInput, pod)
-
-    waitForOrchestratorStart(pod)
-
-    // We wait for the destination first because orchestrator starts destinations first.
-    waitDestinationReadyOrTerminalInit(kubeInput)
-
-    if (!replicationInput.isReset) {
-      waitSourceReadyOrTerminalInit(kubeInput)
-    }
   }
 
   @Trace(operationName = WAIT_ORCHESTRATOR_OPERATION_NAME)
-  fun waitOrchestratorPodInit(orchestratorPod: Pod) {
-    try {
-      kubePodLauncher.waitForPodInit(orchestratorPod, ORCHESTRATOR_INIT_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Init container of orchestrator pod failed to start within allotted timeout of ${ORCHESTRATOR_INIT_TIMEOUT_VALUE.seconds} seconds. " +
-          "(${e.message})",
-        e,
-      )
+  fun waitOrchestratorPodInit(orchestratorPod: Pod): Mono<Unit> {
+    return await({ kubePodLauncher.waitForPodInit(orchestratorPod, ORCHESTRATOR_INIT_TIMEOUT_VALUE) }) { e ->
+      "Init container of orchestrator pod failed to start within allotted timeout of ${ORCHESTRATOR_INIT_TIMEOUT_VALUE.seconds} seconds. " +
+        "(${e.message})"
     }
   }
 
@@ -124,49 +120,31 @@ class KubePodClient(
   }
 
   @Trace(operationName = WAIT_ORCHESTRATOR_OPERATION_NAME)
-  fun waitForOrchestratorStart(pod: Pod) {
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, ORCHESTRATOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Main container of orchestrator pod failed to start within allotted timeout of ${ORCHESTRATOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. " +
-          "(${e.message})",
-        e,
-      )
+  fun waitForOrchestratorStart(pod: Pod): Mono<Unit> {
+    return await({ kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, ORCHESTRATOR_STARTUP_TIMEOUT_VALUE) }) { e ->
+      "Main container of orchestrator pod failed to start within allotted timeout of ${ORCHESTRATOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. " +
+        "(${e.message})"
     }
   }
 
   @Trace(operationName = WAIT_SOURCE_OPERATION_NAME)
-  fun waitSourceReadyOrTerminalInit(kubeInput: ReplicationOrchestratorKubeInput) {
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.sourceLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Source pod failed to start within allotted timeout of ${CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
-        e,
-      )
+  fun waitSourceReadyOrTerminalInit(kubeInput: ReplicationOrchestratorKubeInput): Mono<Unit> {
+    return await({ kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.sourceLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) }) { e ->
+      "Source pod failed to start within allotted timeout of ${CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})"
     }
   }
 
   @Trace(operationName = WAIT_DESTINATION_OPERATION_NAME)
-  fun waitDestinationReadyOrTerminalInit(kubeInput: ReplicationOrchestratorKubeInput) {
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.destinationLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Destination pod failed to start within allotted timeout of ${CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
-        e,
-      )
+  fun waitDestinationReadyOrTerminalInit(kubeInput: ReplicationOrchestratorKubeInput): Mono<Unit> {
+    return await({ kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.destinationLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) }) { e ->
+      "Destination pod failed to start within allotted timeout of ${CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})"
     }
   }
 
   override fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     // For check the workload id is too long to be store as a kube label thus it is not added
     val sharedLabels =
       labeler.getSharedLabels(
@@ -178,56 +156,49 @@ class KubePodClient(
 
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, checkInput, sharedLabels)
 
-    val start = TimeSource.Monotonic.markNow()
-
-    var pod =
+    val pod =
       checkPodFactory.create(
         kubeInput.connectorLabels,
         kubeInput.nodeSelectors,
         kubeInput.kubePodInfo,
         kubeInput.annotations,
       )
-    try {
-      pod = kubePodLauncher.create(pod)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Failed to create pod ${kubeInput.kubePodInfo.name}.",
-        e,
-      )
-    }
-
-    try {
-      kubePodLauncher.waitForPodInit(pod, ORCHESTRATOR_INIT_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Check pod failed to init within allotted timeout.",
-        e,
-      )
-    }
-
-    try {
-      kubePodLauncher.copyFilesToKubeConfigVolumeMain(pod, kubeInput.fileMap)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Failed to copy files to check pod ${kubeInput.kubePodInfo.name}.",
-        e,
-      )
-    }
 
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Check pod failed to start within allotted timeout.",
-        e,
-      )
-    }
+    return Mono.fromCallable { createPod(pod, kubeInput.kubePodInfo.name) }
+      .flatMap { created ->
+        await({ kubePodLauncher.waitForPodInit(created, ORCHESTRATOR_INIT_TIMEOUT_VALUE) }) { "Check pod failed to init within allotted timeout." }
+          .thenReturn(created)
+      }
+      .doOnNext { created ->
+        try {
+          kubePodLauncher.copyFilesToKubeConfigVolumeMain(created, kubeInput.fileMap)
+        } catch (e: RuntimeException) {
+          ApmTraceUtils.addExceptionToTrace(e)
+          throw KubePodInitException(
+            "Failed to copy files to check pod ${kubeInput.kubePodInfo.name}.",
+            e,
+          )
+        }
+      }
+      .flatMap { created ->
+        await({ kubePodLauncher.waitForPodReadyOrTerminalByPod(created, CONNECTOR_STARTUP_TIMEOUT_VALUE) }) { "Check pod failed to start within allotted timeout." }
+      }
+      .then()
+  }
 
-    println("ELAPSED TIME (SIDECAR): ${start.elapsedNow()}")
+  /**
+   * Adapts a wait of the launcher, the wait is only started on subscription and its failure is
+   * reported as a [KubePodInitException].
+   */
+  private fun await(
+    wait: () -> CompletableFuture<Unit>,
+    message: (Throwable) -> String,
+  ): Mono<Unit> {
+    return Mono.fromFuture { wait() }
+      .onErrorMap({ e -> e !is KubePodInitException }) { e ->
+        ApmTraceUtils.addExceptionToTrace(e)
+        KubePodInitException(message(e), e)
+      }
   }
 
   override fun deleteMutexPods(mutexKey: String): Boolean {
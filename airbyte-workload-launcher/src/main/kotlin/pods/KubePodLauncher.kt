@@ -21,8 +21,12 @@ import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import reactor.core.scheduler.Schedulers
 import java.time.Duration
 import java.util.Objects
+import java.util.Optional
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executor
 import java.util.concurrent.TimeUnit
 import java.util.function.Predicate
 
@@ -38,6 +42,7 @@ class KubePodLauncher(
   private val kubeCopyClient: KubeCopyClient,
   @Value("\${airbyte.worker.job.kube.namespace}") private val namespace: String?,
   @Named("kubernetesClientRetryPolicy") private val kubernetesClientRetryPolicy: RetryPolicy<Any>,
+  private val podStateInformer: Optional<PodStateInformer> = Optional.empty(),
 ) {
   fun create(pod: Pod): Pod {
     return runKubeCommand(
@@ -51,10 +56,18 @@ class KubePodLauncher(
     )
   }
 
+  /**
+   * The waits complete asynchronously when the pod state informer is enabled. Without it they block
+   * until the pod reaches the expected state and return a completed future.
+   */
   fun waitForPodInit(
     pod: Pod,
     waitDuration: Duration,
-  ) {
+  ): CompletableFuture<Unit> {
+    if (podStateInformer.isPresent) {
+      return awaitInformer(podStateInformer.get().initRunning(pod, waitDuration), "wait")
+    }
+
     val initializedPod =
       runKubeCommand(
         {
@@ -86,12 +99,17 @@ class KubePodLauncher(
           "Actual container state: $containerState.",
       )
     }
+    return CompletableFuture.completedFuture(Unit)
   }
 
   fun waitForPodReadyOrTerminal(
     labels: Map<String, String>,
     waitDuration: Duration,
-  ) {
+  ): CompletableFuture<Unit> {
+    if (podStateInformer.isPresent) {
+      return awaitInformer(podStateInformer.get().readyOrTerminal(labels, waitDuration), "wait")
+    }
+
     runKubeCommand(
       {
         kubernetesClient.pods()
@@ -108,12 +126,17 @@ class KubePodLauncher(
       },
       "wait",
     )
+    return CompletableFuture.completedFuture(Unit)
   }
 
   fun waitForPodReadyOrTerminalByPod(
     pod: Pod,
     waitDuration: Duration,
-  ) {
+  ): CompletableFuture<Unit> {
+    if (podStateInformer.isPresent) {
+      return awaitInformer(podStateInformer.get().readyOrTerminal(pod, waitDuration), "wait")
+    }
+
     runKubeCommand(
       {
         kubernetesClient
@@ -129,9 +152,14 @@ class KubePodLauncher(
       },
       "wait",
     )
+    return CompletableFuture.completedFuture(Unit)
   }
 
   fun podsExist(labels: Map<String, String>): Boolean {
+    if (podStateInformer.isPresent) {
+      return podStateInformer.get().listActivePods(labels).isNotEmpty()
+    }
+
     try {
       return runKubeCommand(
         {
@@ -162,10 +190,9 @@ class KubePodLauncher(
   fun deleteActivePods(labels: Map<String, String>): List<StatusDetails> {
     return runKubeCommand(
       {
+        val activePods = podStateInformer.map { it.listActivePods(labels) }.orElseGet { listActivePods(labels).list().items }
         val statuses =
-          listActivePods(labels)
-            .list()
-            .items
+          activePods
             .flatMap { p ->
               kubernetesClient.pods()
                 .inNamespace(namespace)
@@ -206,6 +233,25 @@ class KubePodLauncher(
       .withoutField(KUBECTL_PHASE_FIELD_NAME, KUBECTL_COMPLETED_VALUE) // filters out completed pods
   }
 
+  /**
+   * The informer completes its futures on its event thread, the launch steps that follow a wait
+   * (copying files, waiting on the next pod) are handed off to a worker so that they never hold it.
+   */
+  private fun awaitInformer(
+    future: CompletableFuture<Pod>,
+    commandName: String,
+  ): CompletableFuture<Unit> {
+    return future
+      .whenComplete { _, e -> if (e != null) countKubeError(commandName) }
+      .thenApplyAsync({ }, INFORMER_CONTINUATIONS)
+  }
+
+  private fun countKubeError(commandName: String) {
+    val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
+    val attributesArray = attributes.toTypedArray<MetricAttribute>()
+    metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, 1, *attributesArray)
+  }
+
   private fun <T> runKubeCommand(
     kubeCommand: () -> T,
     commandName: String,
@@ -213,14 +259,16 @@ class KubePodLauncher(
     try {
       return Failsafe.with(kubernetesClientRetryPolicy).get { -> kubeCommand() }
     } catch (e: Exception) {
-      val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
-      val attributesArray = attributes.toTypedArray<MetricAttribute>()
-      metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, 1, *attributesArray)
+      countKubeError(commandName)
 
       throw e
     }
   }
 
+  companion object {
+    private val INFORMER_CONTINUATIONS = Executor { task -> Schedulers.boundedElastic().schedule(task) }
+  }
+
   object Constants {
     // Wait why is this named like this?
     // Explanation: Kubectl displays "Completed" but the selector expects "Succeeded"
@@ -3,20 +3,24 @@ package io.airbyte.workload.launcher.pods
 import io.airbyte.persistence.job.models.ReplicationInput
 import io.airbyte.workers.models.CheckConnectionInput
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
+import reactor.core.publisher.Mono
 import java.util.UUID
 
 interface PodClient {
   fun podsExistForAutoId(autoId: UUID): Boolean
 
+  /**
+   * Launches the pods of the workload on subscription, completes once they started.
+   */
   fun launchReplication(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  )
+  ): Mono<Void>
 
   fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
-  )
+  ): Mono<Void>
 
   fun deleteMutexPods(mutexKey: String): Boolean
 }
@@ -0,0 +1,225 @@
+package io.airbyte.workload.launcher.pods
+
+import io.airbyte.workers.process.KubePodResourceHelper
+import io.airbyte.workload.launcher.pods.PodLabeler.LabelKeys.AUTO_ID
+import io.airbyte.workload.launcher.pods.PodLabeler.LabelKeys.MUTEX_KEY
+import io.airbyte.workload.launcher.pods.PodLabeler.LabelKeys.WORKLOAD_ID
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer
+import io.fabric8.kubernetes.client.informers.cache.Cache
+import io.fabric8.kubernetes.client.readiness.Readiness
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.function.Function
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Keeps a local cache of the pods started by the launcher, fed by a single watch, and resolves the
+ * pod state transitions the launch stages wait for as futures.
+ *
+ * The launcher used to open a watch (waitUntilCondition) and run a label-selector LIST per pod. With
+ * this informer, waits are completed from the shared watch and lookups are served from the cache,
+ * so the number of calls to the API server no longer grows with the number of workloads.
+ */
+@Singleton
+@Requires(property = "airbyte.workload-launcher.pod-informer.enabled", value = "true")
+class PodStateInformer(
+  private val kubernetesClient: KubernetesClient,
+  @Value("\${airbyte.worker.job.kube.namespace}") private val namespace: String?,
+  @Value("\${airbyte.workload-launcher.pod-informer.resync-period:PT5M}") private val resyncPeriod: Duration,
+) : ResourceEventHandler<Pod> {
+  private val waiters: MutableSet<Waiter> = ConcurrentHashMap.newKeySet()
+  private var informer: SharedIndexInformer<Pod>? = null
+
+  @PostConstruct
+  fun start() {
+    val podInformer =
+      kubernetesClient.pods()
+        .inNamespace(namespace)
+        .withLabel(AUTO_ID)
+        .runnableInformer(resyncPeriod.toMillis())
+    podInformer.addIndexers(INDEXERS)
+    podInformer.addEventHandler(this)
+    podInformer.run()
+    informer = podInformer
+    logger.info { "Pod state informer started for namespace $namespace" }
+  }
+
+  @PreDestroy
+  fun stop() {
+    informer?.stop()
+    waiters.forEach { it.future.cancel(false) }
+  }
+
+  /**
+   * Completes once the first init container of the pod is running. Fails if it terminated or
+   * the pod reached a terminal phase without it running.
+   */
+  fun initRunning(
+    pod: Pod,
+    timeout: Duration,
+  ): CompletableFuture<Pod> {
+    return await(mapOf(), pod, timeout) { p ->
+      val initState = p.status?.initContainerStatuses?.firstOrNull()?.state
+      when {
+        initState?.running != null -> true
+        initState?.terminated != null || KubePodResourceHelper.isTerminal(p) ->
+          throw IllegalStateException("Init container of pod ${p.metadata.name} is not running. Actual container state: $initState.")
+        else -> false
+      }
+    }
+  }
+
+  /**
+   * Completes once a pod with the given labels is ready or terminal.
+   */
+  fun readyOrTerminal(
+    labels: Map<String, String>,
+    timeout: Duration,
+  ): CompletableFuture<Pod> {
+    return await(labels, null, timeout, ::isReadyOrTerminal)
+  }
+
+  /**
+   * Completes once the given pod is ready or terminal.
+   */
+  fun readyOrTerminal(
+    pod: Pod,
+    timeout: Duration,
+  ): CompletableFuture<Pod> {
+    return await(mapOf(), pod, timeout, ::isReadyOrTerminal)
+  }
+
+  /**
+   * Completes once the given pod is terminal.
+   */
+  fun terminal(
+    pod: Pod,
+    timeout: Duration,
+  ): CompletableFuture<Pod> {
+    return await(mapOf(), pod, timeout) { p -> KubePodResourceHelper.isTerminal(p) }
+  }
+
+  /**
+   * Cached pods matching all the labels that are not in a terminal phase. The labels must include
+   * one of the indexed labels.
+   */
+  fun listActivePods(labels: Map<String, String>): List<Pod> {
+    return cachedPods(labels, null).filter { !KubePodResourceHelper.isTerminal(it) }
+  }
+
+  override fun onAdd(pod: Pod) {
+    onPodChanged(pod)
+  }
+
+  override fun onUpdate(
+    oldPod: Pod,
+    newPod: Pod,
+  ) {
+    onPodChanged(newPod)
+  }
+
+  override fun onDelete(
+    pod: Pod,
+    deletedFinalStateUnknown: Boolean,
+  ) {
+    waiters.filter { it.matches(pod) }.forEach {
+      it.future.completeExceptionally(IllegalStateException("Pod ${pod.metadata.name} was deleted."))
+    }
+  }
+
+  private fun onPodChanged(pod: Pod) {
+    waiters.filter { it.matches(pod) }.forEach { it.evaluate(pod) }
+  }
+
+  private fun await(
+    labels: Map<String, String>,
+    pod: Pod?,
+    timeout: Duration,
+    condition: (Pod) -> Boolean,
+  ): CompletableFuture<Pod> {
+    val waiter = Waiter(labels, pod?.metadata?.name, condition, CompletableFuture<Pod>())
+    waiters.add(waiter)
+    waiter.future.whenComplete { _, _ -> waiters.remove(waiter) }
+    waiter.future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+
+    // the pod may have reached the expected state before the waiter was registered
+    cachedPods(labels, pod)
+      .filter { waiter.matches(it) }
+      .forEach { waiter.evaluate(it) }
+
+    return waiter.future
+  }
+
+  private fun cachedPods(
+    labels: Map<String, String>,
+    pod: Pod?,
+  ): List<Pod> {
+    // lookups are served by key or by index, never by scanning the whole cache
+    val indexed = INDEXED_LABELS.firstOrNull { labels.containsKey(it) }
+    require(pod != null || indexed != null) { "Pod lookups must be by name or by one of the labels $INDEXED_LABELS, got ${labels.keys}" }
+
+    val indexer = informer?.indexer ?: return listOf()
+    val candidates =
+      if (pod != null) {
+        listOfNotNull(indexer.getByKey(Cache.namespaceKeyFunc(pod.metadata.namespace ?: namespace, pod.metadata.name)))
+      } else {
+        indexer.byIndex(indexed!!, labels[indexed])
+      }
+    return candidates.filter { hasLabels(it, labels) }
+  }
+
+  private class Waiter(
+    val labels: Map<String, String>,
+    val podName: String?,
+    val condition: (Pod) -> Boolean,
+    val future: CompletableFuture<Pod>,
+  ) {
+    fun matches(pod: Pod): Boolean {
+      return (podName == null || podName == pod.metadata.name) && hasLabels(pod, labels)
+    }
+
+    fun evaluate(pod: Pod) {
+      try {
+        if (condition(pod)) {
+          future.complete(pod)
+        }
+      } catch (e: Exception) {
+        future.completeExceptionally(e)
+      }
+    }
+  }
+
+  companion object {
+    // every label the launcher looks pods up by: the workload id and auto id of the waits on the
+    // connector pods, the auto id of the status check and the mutex key of the mutex enforcement
+    private val INDEXED_LABELS = listOf(WORKLOAD_ID, AUTO_ID, MUTEX_KEY)
+    private val INDEXERS: Map<String, Function<Pod, List<String>>> =
+      INDEXED_LABELS.associateWith { label ->
+        Function { pod: Pod -> listOfNotNull(pod.metadata.labels?.get(label)) }
+      }
+
+    private fun hasLabels(
+      pod: Pod,
+      labels: Map<String, String>,
+    ): Boolean {
+      val podLabels = pod.metadata.labels ?: mapOf()
+      return labels.all { (key, value) -> podLabels[key] == value }
+    }
+
+    private fun isReadyOrTerminal(pod: Pod): Boolean {
+      return Readiness.getInstance().isReady(pod) || KubePodResourceHelper.isTerminal(pod)
+    }
+  }
+}
@@ -61,6 +61,38 @@ class LogPathTest {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = [true, false])
+  fun `pipeline on stage executors writes stage and completion logs to log path on input`(testErrorCase: Boolean) {
+    val stageExecutors = StageExecutors(2, 1, 2, 1, mockk(relaxed = true))
+    val pipeline = launchPipeline(testErrorCase, Optional.of(stageExecutors))
+
+    val msgs = inputMsgs()
+
+    try {
+      msgs.parallelStream().forEach { msg ->
+        pipeline.buildPipeline(msg).block()
+      }
+    } finally {
+      stageExecutors.close()
+    }
+
+    msgs.forEach { msg ->
+      val logLines = readTestLogs(msg.logPath)
+      assert(logLines.isNotEmpty())
+      assert(logLines[0].endsWith("TEST: Stage: CLAIM. Id: ${msg.workloadId}."))
+      assert(logLines[1].endsWith("TEST: Stage: CHECK_STATUS. Id: ${msg.workloadId}."))
+      assert(logLines[2].endsWith("TEST: Stage: BUILD. Id: ${msg.workloadId}."))
+      assert(logLines[3].endsWith("TEST: Stage: MUTEX. Id: ${msg.workloadId}."))
+      assert(logLines[4].endsWith("TEST: Stage: LAUNCH. Id: ${msg.workloadId}."))
+      if (testErrorCase) {
+        assert(logLines[5].endsWith("TEST: failure. Id: ${msg.workloadId}."))
+      } else {
+        assert(logLines[5].endsWith("TEST: success. Id: ${msg.workloadId}."))
+      }
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("processClaimedMatrix")
   fun `multi-threaded claimed processor (rehydrator) writes stage and completion logs to log path on input`(
@@ -139,7 +171,10 @@ class LogPathTest {
       )
     }
 
-    fun launchPipeline(testErrorCase: Boolean) =
+    fun launchPipeline(
+      testErrorCase: Boolean,
+      stageExecutors: Optional<StageExecutors> = Optional.empty(),
+    ) =
       LaunchPipeline(
         "dataplane_id",
         TestStage(StageName.CLAIM, stageLogMsgFn),
@@ -151,6 +186,7 @@ class LogPathTest {
         failureHandler,
         metricPublisher,
         LogContextFactory(Configs.WorkerEnvironment.DOCKER),
+        stageExecutors,
       )
 
     fun readTestLogs(logPath: String): List<String> = Files.readAllLines(Path(logPath)).filter { line -> line.contains(TEST_LOG_PREFIX) }
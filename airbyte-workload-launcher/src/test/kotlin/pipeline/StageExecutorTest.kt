@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.config.WorkloadType
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import io.mockk.mockk
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import java.util.Collections
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class StageExecutorTest {
+  private val metricPublisher: CustomMetricPublisher = mockk(relaxed = true)
+  private val blocker = CountDownLatch(1)
+  private lateinit var executor: StageExecutor
+
+  @AfterEach
+  fun tearDown() {
+    blocker.countDown()
+    executor.close()
+  }
+
+  @Test
+  fun `waiting check workloads run before waiting syncs`() {
+    executor = StageExecutor(StageName.LAUNCH, 1, 10, metricPublisher)
+    val order = Collections.synchronizedList(mutableListOf<String>())
+    val done = CountDownLatch(3)
+
+    occupyTheOnlyThread()
+    executor.submit(WorkloadType.SYNC) { order.add("sync-1").also { done.countDown() } }
+    executor.submit(WorkloadType.SYNC) { order.add("sync-2").also { done.countDown() } }
+    executor.submit(WorkloadType.CHECK) { order.add("check").also { done.countDown() } }
+    assertEquals(3, executor.queueDepth())
+
+    blocker.countDown()
+
+    assertTrue(done.await(10, TimeUnit.SECONDS))
+    assertEquals(listOf("check", "sync-1", "sync-2"), order)
+  }
+
+  @Test
+  fun `submitting to a full stage blocks until a slot frees up`() {
+    executor = StageExecutor(StageName.MUTEX, 1, 1, metricPublisher)
+
+    occupyTheOnlyThread()
+    executor.submit(WorkloadType.SYNC) {}
+    val blockedSubmit = CompletableFuture.runAsync { executor.submit(WorkloadType.SYNC) {} }
+
+    Thread.sleep(200)
+    assertFalse(blockedSubmit.isDone)
+
+    blocker.countDown()
+    blockedSubmit.get(10, TimeUnit.SECONDS)
+  }
+
+  private fun occupyTheOnlyThread() {
+    val started = CountDownLatch(1)
+    executor.submit(WorkloadType.SYNC) {
+      started.countDown()
+      blocker.await()
+    }
+    assertTrue(started.await(10, TimeUnit.SECONDS))
+  }
+}
@@ -14,7 +14,11 @@ import io.airbyte.workload.launcher.pods.KubePodClient
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
 import java.util.UUID
 
 class LaunchPodStageTest {
@@ -24,14 +28,14 @@ class LaunchPodStageTest {
     val payload = SyncPayload(replInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchReplication(any(), any()) } returns Unit
+    every { launcher.launchReplication(any(), any()) } returns Mono.empty()
 
     val stage = LaunchPodStage(launcher, mockk())
     val workloadId = UUID.randomUUID().toString()
     val msg = RecordFixtures.launcherInput(workloadId)
     val io = LaunchStageIO(msg = msg, payload = payload)
 
-    val result = stage.applyStage(io)
+    val result = stage.applyStageAsync(io).block()!!
 
     verify {
       launcher.launchReplication(replInput, msg)
@@ -46,14 +50,14 @@ class LaunchPodStageTest {
     val payload = CheckPayload(checkInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchCheck(any(), any()) } returns Unit
+    every { launcher.launchCheck(any(), any()) } returns Mono.empty()
 
     val stage = LaunchPodStage(launcher, mockk())
     val workloadId = UUID.randomUUID().toString()
     val msg = RecordFixtures.launcherInput(workloadId)
     val io = LaunchStageIO(msg = msg, payload = payload)
 
-    val result = stage.applyStage(io)
+    val result = stage.applyStageAsync(io).block()!!
 
     verify {
       launcher.launchCheck(checkInput, msg)
@@ -61,4 +65,21 @@ class LaunchPodStageTest {
 
     assert(result.payload == payload)
   }
+
+  @Test
+  fun `launch completes once the pods started without blocking`() {
+    val started = Sinks.empty<Void>()
+    val launcher: KubePodClient = mockk()
+    every { launcher.launchReplication(any(), any()) } returns started.asMono()
+
+    val stage = LaunchPodStage(launcher, mockk())
+    val io = LaunchStageIO(msg = RecordFixtures.launcherInput(UUID.randomUUID().toString()), payload = SyncPayload(ReplicationInput()))
+
+    var done = false
+    stage.applyStageAsync(io).subscribe { done = true }
+    assertFalse(done)
+
+    started.tryEmitEmpty()
+    assertTrue(done)
+  }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pods
+
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.workers.process.KubePodProcess
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.fabric8.kubernetes.api.model.ContainerState
+import io.fabric8.kubernetes.api.model.ContainerStateBuilder
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException
+import io.fabric8.kubernetes.client.dsl.ExecWatch
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.function.Predicate
+
+class KubeCopyClientTest {
+  private lateinit var kubernetesClient: KubernetesClient
+  private lateinit var metricClient: MetricClient
+  private lateinit var metricPublisher: CustomMetricPublisher
+  private lateinit var execWatch: ExecWatch
+  private lateinit var stdin: ByteArrayOutputStream
+  private lateinit var kubeCopyClient: KubeCopyClient
+
+  private val pod: Pod =
+    PodBuilder()
+      .withNewMetadata().withName(POD_NAME).withNamespace(NAMESPACE).endMetadata()
+      .build()
+
+  @BeforeEach
+  fun setup() {
+    kubernetesClient = mockk()
+    metricClient = mockk(relaxed = true)
+    metricPublisher = mockk(relaxed = true)
+    execWatch = mockk(relaxed = true)
+    stdin = ByteArrayOutputStream()
+
+    every { execWatch.input } returns stdin
+    every {
+      kubernetesClient.pods()
+        .inNamespace(NAMESPACE)
+        .withName(POD_NAME)
+        .inContainer(KubePodProcess.INIT_CONTAINER_NAME)
+        .redirectingInput()
+        .writingError(any())
+        .exec(*anyVararg())
+    } returns execWatch
+
+    kubeCopyClient = KubeCopyClient(kubernetesClient, metricClient, metricPublisher)
+  }
+
+  @Test
+  fun `all files are streamed in a single tar archive`() {
+    every { execWatch.exitCode() } returns CompletableFuture.completedFuture(0)
+    val files = linkedMapOf("source_config.json" to "{\"a\":1}", "input.json" to "{}")
+
+    kubeCopyClient.copyFilesToKubeConfigVolumeMain(pod, files)
+
+    assertEquals(files, readTar(stdin.toByteArray()))
+    verify(exactly = 1) {
+      kubernetesClient.pods()
+        .inNamespace(NAMESPACE)
+        .withName(POD_NAME)
+        .inContainer(KubePodProcess.INIT_CONTAINER_NAME)
+        .redirectingInput()
+        .writingError(any())
+        .exec(*anyVararg())
+    }
+    verify { execWatch.close() }
+    verifyTimer(MeterFilterFactory.SUCCESS_STATUS)
+  }
+
+  @Test
+  fun `a failed copy throws`() {
+    every { execWatch.exitCode() } returns CompletableFuture.completedFuture(1)
+    every { kubernetesClient.pods().inNamespace(NAMESPACE).withName(POD_NAME).waitUntilCondition(any(), any(), any()) } returns
+      podWithInitState(ContainerStateBuilder().withNewTerminated().withExitCode(1).endTerminated().build())
+
+    assertThrows<RuntimeException> {
+      kubeCopyClient.copyFilesToKubeConfigVolumeMain(pod, mapOf("input.json" to "{}"))
+    }
+
+    verifyTimer(MeterFilterFactory.FAILURE_STATUS)
+  }
+
+  @Test
+  fun `the init container exiting before the exit code is reported is not a failure`() {
+    every { execWatch.exitCode() } returns CompletableFuture.failedFuture(IllegalStateException("closed"))
+    val condition = slot<Predicate<Pod>>()
+    val terminatedPod = podWithInitState(ContainerStateBuilder().withNewTerminated().withExitCode(0).endTerminated().build())
+    every {
+      kubernetesClient.pods().inNamespace(NAMESPACE).withName(POD_NAME).waitUntilCondition(capture(condition), any(), any())
+    } returns terminatedPod
+
+    kubeCopyClient.copyFilesToKubeConfigVolumeMain(pod, mapOf("input.json" to "{}"))
+
+    // a status that still reports the init container as running is waited on rather than judged
+    assertFalse(condition.captured.test(podWithInitState(ContainerStateBuilder().withNewRunning().endRunning().build())))
+    assertTrue(condition.captured.test(terminatedPod))
+    verify { metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_COPY_SUCCESS_OOM, 1) }
+    verifyTimer(MeterFilterFactory.SUCCESS_STATUS)
+  }
+
+  @Test
+  fun `an init container that never reports its termination is a failure`() {
+    every { execWatch.exitCode() } returns CompletableFuture.failedFuture(IllegalStateException("closed"))
+    every { kubernetesClient.pods().inNamespace(NAMESPACE).withName(POD_NAME).waitUntilCondition(any(), any(), any()) } throws
+      KubernetesClientTimeoutException(pod, 60L, TimeUnit.SECONDS)
+
+    assertThrows<RuntimeException> {
+      kubeCopyClient.copyFilesToKubeConfigVolumeMain(pod, mapOf("input.json" to "{}"))
+    }
+
+    verifyTimer(MeterFilterFactory.FAILURE_STATUS)
+  }
+
+  private fun podWithInitState(state: ContainerState): Pod {
+    return PodBuilder(pod)
+      .withNewStatus()
+      .withInitContainerStatuses(ContainerStatusBuilder().withState(state).build())
+      .endStatus()
+      .build()
+  }
+
+  private fun verifyTimer(status: String) {
+    verify {
+      metricPublisher.timer(
+        WorkloadLauncherMetricMetadata.KUBE_COPY_FILES_DURATION,
+        any(),
+        MetricAttribute(MeterFilterFactory.STATUS_TAG, status),
+      )
+    }
+  }
+
+  private fun readTar(bytes: ByteArray): Map<String, String> {
+    val files = linkedMapOf<String, String>()
+    TarArchiveInputStream(ByteArrayInputStream(bytes)).use { tar ->
+      var entry = tar.nextTarEntry
+      while (entry != null) {
+        files[entry.name] = String(tar.readAllBytes(), StandardCharsets.UTF_8)
+        entry = tar.nextTarEntry
+      }
+    }
+    return files
+  }
+
+  companion object {
+    private const val NAMESPACE = "jobs"
+    private const val POD_NAME = "orchestrator-repl-job-1-attempt-0"
+  }
+}
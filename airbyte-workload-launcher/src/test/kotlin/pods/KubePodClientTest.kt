@@ -31,8 +31,12 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
+import reactor.core.Exceptions
+import reactor.core.publisher.Mono
 import java.lang.RuntimeException
 import java.util.UUID
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeoutException
 
 @ExtendWith(MockKExtension::class)
 class KubePodClientTest {
@@ -118,10 +122,10 @@ class KubePodClientTest {
 
     val slot = slot<Pod>()
     every { launcher.create(capture(slot)) } answers { slot.captured }
-    every { launcher.waitForPodInit(any(), any()) } returns Unit
+    every { launcher.waitForPodInit(any(), any()) } returns CompletableFuture.completedFuture(Unit)
     every { launcher.copyFilesToKubeConfigVolumeMain(any(), any()) } returns Unit
-    every { launcher.waitForPodReadyOrTerminalByPod(any(Pod::class), any()) } returns Unit
-    every { launcher.waitForPodReadyOrTerminal(any(), any()) } returns Unit
+    every { launcher.waitForPodReadyOrTerminalByPod(any(Pod::class), any()) } returns CompletableFuture.completedFuture(Unit)
+    every { launcher.waitForPodReadyOrTerminal(any(), any()) } returns CompletableFuture.completedFuture(Unit)
   }
 
   @Test
@@ -144,7 +148,7 @@ class KubePodClientTest {
       )
     } returns orchestrator
 
-    client.launchReplication(replInput, launcherInput)
+    client.launchReplication(replInput, launcherInput).join()
 
     verify { launcher.create(orchestrator) }
 
@@ -179,7 +183,7 @@ class KubePodClientTest {
       )
     } returns orchestrator
 
-    client.launchReplication(resetInput, launcherInput)
+    client.launchReplication(resetInput, launcherInput).join()
 
     verify { launcher.waitForPodInit(orchestrator, ORCHESTRATOR_INIT_TIMEOUT_VALUE) }
 
@@ -195,7 +199,7 @@ class KubePodClientTest {
     every { labeler.getSharedLabels(any(), any(), any(), any()) } returns sharedLabels
     every { mapper.toKubeInput(workloadId, replInput, sharedLabels) } returns replKubeInput
 
-    client.launchReplication(replInput, launcherInput)
+    client.launchReplication(replInput, launcherInput).join()
 
     val inputWithLabels = replInput.setDestinationLabels(sharedLabels).setSourceLabels(sharedLabels)
 
@@ -207,7 +211,7 @@ class KubePodClientTest {
     every { launcher.create(any()) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchReplication(replInput, launcherInput)
+      client.launchReplication(replInput, launcherInput).join()
     }
   }
 
@@ -216,16 +220,27 @@ class KubePodClientTest {
     every { launcher.waitForPodInit(pod, ORCHESTRATOR_INIT_TIMEOUT_VALUE) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchReplication(replInput, launcherInput)
+      client.launchReplication(replInput, launcherInput).join()
     }
   }
 
+  @Test
+  fun `launchReplication propagates orchestrator start failure of the informer`() {
+    every { launcher.waitForPodReadyOrTerminalByPod(pod, ORCHESTRATOR_STARTUP_TIMEOUT_VALUE) } returns
+      CompletableFuture.failedFuture(TimeoutException())
+
+    assertThrows<KubePodInitException> {
+      client.launchReplication(replInput, launcherInput).join()
+    }
+    verify(exactly = 0) { launcher.waitForPodReadyOrTerminal(any(), any()) }
+  }
+
   @Test
   fun `launchReplication propagates orchestrator copy file map error`() {
     every { launcher.copyFilesToKubeConfigVolumeMain(any(), replKubeInput.fileMap) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchReplication(replInput, launcherInput)
+      client.launchReplication(replInput, launcherInput).join()
     }
   }
 
@@ -234,7 +249,7 @@ class KubePodClientTest {
     every { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchReplication(replInput, launcherInput)
+      client.launchReplication(replInput, launcherInput).join()
     }
   }
 
@@ -243,7 +258,7 @@ class KubePodClientTest {
     every { launcher.waitForPodReadyOrTerminal(replKubeInput.destinationLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchReplication(replInput, launcherInput)
+      client.launchReplication(replInput, launcherInput).join()
     }
   }
 
@@ -265,7 +280,7 @@ class KubePodClientTest {
       )
     } returns connector
 
-    client.launchCheck(checkInput, launcherInput)
+    client.launchCheck(checkInput, launcherInput).join()
 
     verify { launcher.waitForPodInit(connector, ORCHESTRATOR_INIT_TIMEOUT_VALUE) }
 
@@ -279,7 +294,7 @@ class KubePodClientTest {
     every { launcher.create(any()) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchCheck(checkInput, launcherInput)
+      client.launchCheck(checkInput, launcherInput).join()
     }
   }
 
@@ -288,7 +303,7 @@ class KubePodClientTest {
     every { launcher.waitForPodInit(pod, ORCHESTRATOR_INIT_TIMEOUT_VALUE) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchCheck(checkInput, launcherInput)
+      client.launchCheck(checkInput, launcherInput).join()
     }
   }
 
@@ -297,7 +312,7 @@ class KubePodClientTest {
     every { launcher.copyFilesToKubeConfigVolumeMain(any(), checkKubeInput.fileMap) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchCheck(checkInput, launcherInput)
+      client.launchCheck(checkInput, launcherInput).join()
     }
   }
 
@@ -306,7 +321,7 @@ class KubePodClientTest {
     every { launcher.waitForPodReadyOrTerminalByPod(pod, CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
 
     assertThrows<KubePodInitException> {
-      client.launchCheck(checkInput, launcherInput)
+      client.launchCheck(checkInput, launcherInput).join()
     }
   }
 
@@ -339,3 +354,12 @@ class KubePodClientTest {
     val launcherInput = RecordFixtures.launcherInput(workloadId = workloadId, labels = passThroughLabels)
   }
 }
+
+// KubePodInitException is not a RuntimeException, block() wraps it
+private fun Mono<Void>.join() {
+  try {
+    block()
+  } catch (e: RuntimeException) {
+    throw Exceptions.unwrap(e)
+  }
+}
@@ -6,6 +6,7 @@ import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.launcher.pods.KubeCopyClient
 import io.airbyte.workload.launcher.pods.KubePodLauncher
+import io.airbyte.workload.launcher.pods.PodStateInformer
 import io.fabric8.kubernetes.api.model.HasMetadata
 import io.fabric8.kubernetes.api.model.ObjectMeta
 import io.fabric8.kubernetes.api.model.Pod
@@ -24,12 +25,16 @@ import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
 import java.net.SocketTimeoutException
 import java.time.Duration
+import java.util.Optional
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicInteger
 
@@ -194,6 +199,38 @@ class KubePodLauncherTest {
     assertEquals(0, counter.get())
   }
 
+  @Test
+  fun `waits on the informer return its futures without blocking`() {
+    val informer: PodStateInformer = mockk()
+    val pod: Pod = mockk()
+    val ready = CompletableFuture<Pod>()
+    val failed = CompletableFuture<Pod>()
+    every { informer.readyOrTerminal(pod, any()) } returns ready
+    every { informer.initRunning(pod, any()) } returns failed
+
+    val kubePodLauncher =
+      KubePodLauncher(
+        kubernetesClient,
+        metricClient,
+        kubeCopyClient,
+        "namespace",
+        kubernetesClientRetryPolicy,
+        Optional.of(informer),
+      )
+
+    val readyWait = kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, Duration.ofSeconds(30))
+    val initWait = kubePodLauncher.waitForPodInit(pod, Duration.ofSeconds(30))
+    assertFalse(readyWait.isDone)
+    assertFalse(initWait.isDone)
+
+    ready.complete(pod)
+    failed.completeExceptionally(IllegalStateException("init failed"))
+
+    readyWait.get(10, TimeUnit.SECONDS)
+    assertTrue(assertThrows<CompletionException> { initWait.join() }.cause is IllegalStateException)
+    checkMetricSend("wait")
+  }
+
   private fun checkMetricSend(tag: String) {
     val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", tag))
     val attributesArray = attributes.toTypedArray<MetricAttribute>()
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pods
+
+import io.airbyte.workers.process.KubePodProcess
+import io.fabric8.kubernetes.api.model.ContainerStateBuilder
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertInstanceOf
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.CompletionException
+import java.util.concurrent.TimeoutException
+
+class PodStateInformerTest {
+  private lateinit var informer: PodStateInformer
+
+  @BeforeEach
+  fun setup() {
+    // events are fed directly to the handler, the informer itself is not started
+    informer = PodStateInformer(mockk(), "jobs", Duration.ofMinutes(5))
+  }
+
+  @Test
+  fun `ready or terminal completes when a pod with the labels terminates`() {
+    val labels = mapOf(PodLabeler.LabelKeys.WORKLOAD_ID to "workload-1", "step" to "read")
+    val future = informer.readyOrTerminal(labels, TIMEOUT)
+
+    informer.onAdd(pod("other", mapOf(PodLabeler.LabelKeys.WORKLOAD_ID to "workload-2", "step" to "read"), mainTerminated = true))
+    informer.onAdd(pod("source", labels, mainTerminated = false))
+    assertFalse(future.isDone)
+
+    val terminated = pod("source", labels, mainTerminated = true)
+    informer.onUpdate(pod("source", labels, mainTerminated = false), terminated)
+
+    assertEquals("source", future.join().metadata.name)
+  }
+
+  @Test
+  fun `init running completes when the init container runs`() {
+    val created = pod("orchestrator", mapOf())
+    val future = informer.initRunning(created, TIMEOUT)
+
+    informer.onUpdate(created, pod("orchestrator", mapOf(), initRunning = true))
+
+    assertTrue(future.isDone)
+    assertFalse(future.isCompletedExceptionally)
+  }
+
+  @Test
+  fun `init running fails when the init container terminated`() {
+    val created = pod("orchestrator", mapOf())
+    val future = informer.initRunning(created, TIMEOUT)
+
+    informer.onUpdate(created, pod("orchestrator", mapOf(), initTerminated = true))
+
+    val e = assertThrows<CompletionException> { future.join() }
+    assertInstanceOf(IllegalStateException::class.java, e.cause)
+  }
+
+  @Test
+  fun `waits fail when the pod is deleted`() {
+    val created = pod("check", mapOf())
+    val future = informer.readyOrTerminal(created, TIMEOUT)
+
+    informer.onDelete(created, false)
+
+    assertThrows<CompletionException> { future.join() }
+  }
+
+  @Test
+  fun `lookups by labels that are not indexed are rejected`() {
+    assertThrows<IllegalArgumentException> { informer.listActivePods(mapOf("step" to "read")) }
+    assertThrows<IllegalArgumentException> { informer.readyOrTerminal(mapOf("step" to "read"), TIMEOUT) }
+  }
+
+  @Test
+  fun `waits time out`() {
+    val future = informer.terminal(pod("check", mapOf()), Duration.ofMillis(10))
+
+    val e = assertThrows<CompletionException> { future.join() }
+    assertInstanceOf(TimeoutException::class.java, e.cause)
+  }
+
+  private fun pod(
+    name: String,
+    labels: Map<String, String>,
+    mainTerminated: Boolean = false,
+    initRunning: Boolean = false,
+    initTerminated: Boolean = false,
+  ): Pod {
+    val initState =
+      when {
+        initRunning -> ContainerStateBuilder().withNewRunning().endRunning().build()
+        initTerminated -> ContainerStateBuilder().withNewTerminated().withExitCode(1).endTerminated().build()
+        else -> ContainerStateBuilder().withNewWaiting().endWaiting().build()
+      }
+    val mainState =
+      if (mainTerminated) {
+        ContainerStateBuilder().withNewTerminated().withExitCode(0).endTerminated().build()
+      } else {
+        ContainerStateBuilder().withNewWaiting().endWaiting().build()
+      }
+
+    return PodBuilder()
+      .withNewMetadata().withName(name).withNamespace("jobs").withLabels(labels).endMetadata()
+      .withNewStatus()
+      .withInitContainerStatuses(ContainerStatusBuilder().withName(KubePodProcess.INIT_CONTAINER_NAME).withState(initState).build())
+      .withContainerStatuses(ContainerStatusBuilder().withName(KubePodProcess.MAIN_CONTAINER_NAME).withState(mainState).build())
+      .endStatus()
+      .build()
+  }
+
+  companion object {
+    private val TIMEOUT = Duration.ofMinutes(1)
+  }
+}